@@ -0,0 +1,46 @@
+package com.shubilet.api_gateway.common.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.shubilet.api_gateway.common.enums.UserType;
+
+/**
+
+    Domain: Authentication
+
+    Marks a gateway endpoint that may only be called with a valid session of the given role.
+    The {@code SessionAuthInterceptor} checks the session once before the handler runs, answers
+    the request itself when the session is missing or invalid, and hands the checked member to
+    the handler through a {@link SessionMember} parameter. On a controller class, the annotation
+    applies to every endpoint of the class that does not carry its own.
+
+    <p>
+
+        Technologies:
+
+        <ul>
+            <li>Core Java annotations</li>
+        </ul>
+
+    </p>
+
+    @see SessionMember
+
+    @author Abdullah (Mirliva) GÜNDÜZ - https://github.com/MrMilriva
+
+    @version 1.0
+*/
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface RequiresSession {
+
+    /**
+     * Role the session must belong to.
+     */
+    UserType value();
+}
@@ -0,0 +1,37 @@
+package com.shubilet.api_gateway.common.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+
+    Domain: Authentication
+
+    Marks the {@code MemberCheckMessageDTO} handler parameter that receives the result of the
+    session check made for a {@link RequiresSession} endpoint: the member's id and the session
+    attributes confirmed by the security service.
+
+    <p>
+
+        Technologies:
+
+        <ul>
+            <li>Core Java annotations</li>
+        </ul>
+
+    </p>
+
+    @see RequiresSession
+
+    @author Abdullah (Mirliva) GÜNDÜZ - https://github.com/MrMilriva
+
+    @version 1.0
+*/
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.PARAMETER)
+public @interface SessionMember {
+}
@@ -0,0 +1,60 @@
+package com.shubilet.api_gateway.common.constants;
+
+/**
+
+    Domain: Configuration
+
+    Provides centralized constants for the scheduled and time-based behavior of the gateway.
+    Property placeholders are kept here in the {@code "${property:default}"} form expected by
+    Spring scheduling annotations, so that every interval has a single, documented default.
+
+    <p>
+
+        Technologies:
+
+        <ul>
+            <li>Core Java constant management</li>
+        </ul>
+
+    </p>
+
+    @author Abdullah (Mirliva) GÜNDÜZ - https://github.com/MrMilriva
+
+    @version 1.0
+*/
+public final class AppConstants {
+    private AppConstants() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static final String REVOCATION_SYNC_FIXED_DELAY_STRING = "${app.session.token.revocation-sync-interval-ms:2000}"; // 2 seconds
+    // Tokens are only trusted locally while the revocation list is at most this old.
+    public static final String REVOCATION_MAX_STALENESS_STRING = "${app.session.token.revocation-max-staleness-ms:10000}"; // 10 seconds
+
+    // Session checks arriving within this window are sent to the security service as one batch.
+    public static final String SESSION_CHECK_BATCH_WINDOW_STRING = "${app.session.check.batch.window-ms:2}"; // 2 milliseconds
+    // Must not exceed the batch limit of the security service (256).
+    public static final String SESSION_CHECK_BATCH_MAX_SIZE_STRING = "${app.session.check.batch.max-size:64}";
+    // A check still unanswered after this long is sent on its own instead.
+    public static final String SESSION_CHECK_BATCH_TIMEOUT_STRING = "${app.session.check.batch.timeout-ms:2000}"; // 2 seconds
+
+    // Answers to session checks are kept this long for valid sessions and this long for rejected ones.
+    public static final String SESSION_CHECK_CACHE_TTL_STRING = "${app.session.check.cache.ttl-ms:2000}"; // 2 seconds
+    public static final String SESSION_CHECK_CACHE_NEGATIVE_TTL_STRING = "${app.session.check.cache.negative-ttl-ms:1000}"; // 1 second
+    public static final String SESSION_CHECK_CACHE_MAX_SIZE_STRING = "${app.session.check.cache.max-size:10000}";
+
+    // Company names fetched from the member service are kept this long, for at most this many companies.
+    public static final String COMPANY_NAME_CACHE_TTL_STRING = "${app.company.name.cache.ttl-ms:600000}"; // 10 minutes
+    public static final String COMPANY_NAME_CACHE_MAX_SIZE_STRING = "${app.company.name.cache.max-size:10000}";
+
+    // Connection pool of the RestTemplate shared by every call to the downstream services.
+    public static final String HTTP_CLIENT_MAX_TOTAL_STRING = "${app.http.client.max-total:400}";
+    // Limit per service instance, so one slow instance cannot take every pooled connection.
+    public static final String HTTP_CLIENT_MAX_PER_ROUTE_STRING = "${app.http.client.max-per-route:100}";
+    public static final String HTTP_CLIENT_CONNECT_TIMEOUT_STRING = "${app.http.client.connect-timeout-ms:2000}"; // 2 seconds
+    public static final String HTTP_CLIENT_READ_TIMEOUT_STRING = "${app.http.client.read-timeout-ms:10000}"; // 10 seconds
+    // How long a call waits for a free pooled connection before it fails.
+    public static final String HTTP_CLIENT_POOL_TIMEOUT_STRING = "${app.http.client.pool-timeout-ms:2000}"; // 2 seconds
+    // Kept below the keep-alive timeout of the services' Tomcat (60 seconds), so the pool closes idle connections first.
+    public static final String HTTP_CLIENT_IDLE_TIMEOUT_STRING = "${app.http.client.idle-timeout-ms:30000}"; // 30 seconds
+}
@@ -47,10 +47,14 @@ public class ServiceURLs {
     // Security Service URLs
     public static String SECURITY_SERVICE_CREATE_SESSION_URL = "http://security-service/api/auth/createSession";
     public static String SECURITY_SERVICE_DELETE_SESSION_URL = "http://security-service/api/auth/logout";
+    public static final String SECURITY_SERVICE_DELETE_ALL_SESSIONS_URL = "http://security-service/api/auth/logoutAll";
     public static String SECURITY_SERVICE_CHECK_SESSION_URL = "http://security-service/api/auth/check";
 
     public static String SECURITY_SERVICE_CHECK_CUSTOMER_SESSION_URL = "http://security-service/api/auth/checkCustomer";
     public static String SECURITY_SERVICE_CHECK_COMPANY_SESSION_URL = "http://security-service/api/auth/checkCompany";
     public static String SECURITY_SERVICE_CHECK_ADMIN_SESSION_URL = "http://security-service/api/auth/checkAdmin";
+    public static final String SECURITY_SERVICE_CHECK_BATCH_URL = "http://security-service/api/auth/checkBatch";
+
+    public static final String SECURITY_SERVICE_REVOCATIONS_URL = "http://security-service/api/auth/revocations";
 
 }
@@ -0,0 +1,52 @@
+package com.shubilet.api_gateway.common.enums;
+
+/**
+
+    Domain: Authentication
+
+    Defines the user roles a gateway endpoint can require from the caller's session. Each
+    constant carries the code the security service uses for the role and the name shown to
+    clients when a session of that role is missing.
+
+    <p>
+
+        Technologies:
+
+        <ul>
+            <li>Core Java enum for role representation</li>
+        </ul>
+
+    </p>
+
+    @author Abdullah (Mirliva) GÜNDÜZ - https://github.com/MrMilriva
+
+    @version 1.0
+*/
+public enum UserType {
+
+    ADMIN("ADMIN", "Admin"),
+    COMPANY("COMPANY", "Company"),
+    CUSTOMER("CUSTOMER", "Customer");
+
+    private final String code;
+    private final String displayName;
+
+    UserType(String code, String displayName) {
+        this.code = code;
+        this.displayName = displayName;
+    }
+
+    /**
+     * String code representation used by the security service.
+     */
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * Name of the role as shown in messages to clients.
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,97 @@
+package com.shubilet.api_gateway.common.util;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+
+    Domain: Concurrency
+
+    Helpers for running downstream calls of one request side by side without changing how their
+    failures surface. A call started with {@link #start} and awaited with {@link #join} throws
+    the same exception it would have thrown if it had been made directly on the request thread,
+    so the existing error handling of the gateway applies unchanged. A call whose result is no
+    longer needed is stopped with {@link #cancel}, which interrupts its thread and so closes the
+    connection it is blocked on.
+
+    <p>
+
+        Technologies:
+
+        <ul>
+            <li>Java Concurrency ({@link ExecutorService}, {@link Future})</li>
+        </ul>
+
+    </p>
+
+    @author Abdullah (Mirliva) GÜNDÜZ - https://github.com/MrMilriva
+
+    @version 1.0
+*/
+public final class FutureUtils {
+
+    private FutureUtils() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+
+        Operation: Start
+
+        Starts a call on the given executor.
+
+        @param call the call to make
+
+        @param executor the executor to run it on
+
+        @return the future result of the call
+    */
+    public static <T> Future<T> start(Callable<T> call, ExecutorService executor) {
+        return executor.submit(call);
+    }
+
+    /**
+
+        Operation: Join
+
+        Waits for a call started with {@link #start} and returns its result.
+
+        @param future the future result of the call
+
+        @return the result of the call
+
+        @throws RuntimeException the exception the call itself threw
+    */
+    public static <T> T join(Future<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Downstream call failed", e.getCause());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a downstream call", e);
+        }
+    }
+
+    /**
+
+        Operation: Cancel
+
+        Stops a call started with {@link #start} whose result is not needed, interrupting it if
+        it is still running. A call that already finished is left as it is.
+
+        @param future the future result of the call
+    */
+    public static void cancel(Future<?> future) {
+        future.cancel(true);
+    }
+}
@@ -0,0 +1,175 @@
+package com.shubilet.api_gateway.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+
+    Domain: Security
+
+    Verifies the HMAC-signed session tokens issued by the security service, so that a session
+    can be validated inside the gateway without a call to the security service. A token is the
+    Base64URL encoded payload {@code v1|userId|userType|code|issuedAt|expiresAt} followed by a dot
+    and the Base64URL encoded HMAC-SHA256 signature of that payload, signed with the secret shared
+    by both services. Timestamps are epoch milliseconds.
+
+    <p>
+
+        Technologies:
+
+        <ul>
+            <li>Java Cryptography Architecture ({@link Mac}, HMAC-SHA256)</li>
+            <li>{@link Base64} URL-safe decoding</li>
+            <li>Java Concurrency ({@link ConcurrentLinkedQueue})</li>
+        </ul>
+
+    </p>
+
+    @author Abdullah (Mirliva) GÜNDÜZ - https://github.com/MrMilriva
+
+    @version 1.0
+*/
+public final class SessionTokenCodec {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String VERSION = "v1";
+    private static final int MIN_SECRET_LENGTH = 32;
+    private static final int MAX_POOLED_MACS = 16;
+
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    /**
+     * Claims carried by a token whose signature has been verified.
+     */
+    public static final class Claims {
+        private final int userId;
+        private final String userType;
+        private final String code;
+        private final long issuedAt;
+        private final long expiresAt;
+
+        private Claims(int userId, String userType, String code, long issuedAt, long expiresAt) {
+            this.userId = userId;
+            this.userType = userType;
+            this.code = code;
+            this.issuedAt = issuedAt;
+            this.expiresAt = expiresAt;
+        }
+
+        public int getUserId() {
+            return userId;
+        }
+
+        public String getUserType() {
+            return userType;
+        }
+
+        public String getCode() {
+            return code;
+        }
+
+        public long getIssuedAt() {
+            return issuedAt;
+        }
+
+        public long getExpiresAt() {
+            return expiresAt;
+        }
+    }
+
+    private final SecretKeySpec key;
+
+    // Mac instances are not thread-safe, so a verification borrows an initialized one from a small
+    // pool shared by all request threads and gives it back afterwards.
+    private final Queue<Mac> macs = new ConcurrentLinkedQueue<>();
+
+    public SessionTokenCodec(String secret) {
+        if (secret == null || secret.length() < MIN_SECRET_LENGTH) {
+            throw new IllegalArgumentException("Session token secret must be at least " + MIN_SECRET_LENGTH + " characters long");
+        }
+
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        macs.add(newMac());
+    }
+
+    /**
+
+        Operation: Decode
+
+        Verifies the signature of a token and returns its claims. Expiration and revocation are
+        not checked here; they are left to the caller.
+
+        @param token the token to verify
+
+        @return the claims of the token, or {@code null} if the token is malformed or its signature does not match
+    */
+    public Claims decode(String token) {
+        if (token == null) {
+            return null;
+        }
+
+        int separator = token.indexOf('.');
+        if (separator <= 0 || separator == token.length() - 1) {
+            return null;
+        }
+
+        try {
+            byte[] payload = DECODER.decode(token.substring(0, separator));
+            byte[] signature = DECODER.decode(token.substring(separator + 1));
+
+            // Constant-time comparison, so the signature cannot be guessed byte by byte from response times.
+            if (!MessageDigest.isEqual(signature, sign(payload))) {
+                return null;
+            }
+
+            String[] parts = new String(payload, StandardCharsets.UTF_8).split("\\|");
+            if (parts.length != 6 || !VERSION.equals(parts[0])) {
+                return null;
+            }
+
+            return new Claims(
+                    Integer.parseInt(parts[1]),
+                    parts[2],
+                    parts[3],
+                    Long.parseLong(parts[4]),
+                    Long.parseLong(parts[5])
+            );
+        } catch (IllegalArgumentException e) {
+            // Covers invalid Base64 as well as malformed numbers.
+            return null;
+        }
+    }
+
+    private byte[] sign(byte[] payload) {
+        Mac mac = macs.poll();
+        if (mac == null) {
+            mac = newMac();
+        }
+
+        try {
+            return mac.doFinal(payload);
+        } finally {
+            // doFinal resets the Mac, so it can be reused as is; a full pool lets the extra one go.
+            if (macs.size() < MAX_POOLED_MACS) {
+                macs.offer(mac);
+            }
+        }
+    }
+
+    private Mac newMac() {
+        try {
+            Mac instance = Mac.getInstance(ALGORITHM);
+            instance.init(key);
+            return instance;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Session token verifier could not be initialized", e);
+        }
+    }
+}
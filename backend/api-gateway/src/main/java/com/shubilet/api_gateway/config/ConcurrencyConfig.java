@@ -0,0 +1,56 @@
+package com.shubilet.api_gateway.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+
+    Domain: Configuration
+
+    Provides the executor on which gateway endpoints run independent downstream calls side by
+    side. Every task gets its own virtual thread, so a call that blocks on a slow service only
+    parks a virtual thread and the number of calls in flight is bounded by the services, not by
+    a thread pool. Requests themselves are served on virtual threads as well
+    ({@code spring.threads.virtual.enabled=true}), so the blocking {@code RestTemplate} calls of
+    a handler no longer hold one of Tomcat's platform threads for their whole duration.
+
+    <p>
+
+        Only calls that do not depend on each other's result are overlapped: login, which
+        verifies credentials while the session check runs, and the expedition search, which
+        runs alongside the session check of a caller who has one. The other multi-hop endpoints
+        stay sequential on purpose. Registration must not create a member before the check
+        has ruled out an existing session. The company expedition details and the ticket list
+        need the customer and company ids returned by their first call before they can ask for
+        names.
+
+    </p>
+
+    <p>
+
+        Technologies:
+
+        <ul>
+            <li>Spring Framework Configuration</li>
+            <li>Java Concurrency (virtual threads)</li>
+        </ul>
+
+    </p>
+
+    @see com.shubilet.api_gateway.common.util.FutureUtils
+
+    @author Abdullah (Mirliva) GÜNDÜZ - https://github.com/MrMilriva
+
+    @version 1.0
+*/
+@Configuration
+public class ConcurrencyConfig {
+
+    @Bean(destroyMethod = "close")
+    public ExecutorService downstreamExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("downstream-", 0).factory());
+    }
+}
@@ -0,0 +1,45 @@
+package com.shubilet.api_gateway.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import com.shubilet.api_gateway.common.util.SessionTokenCodec;
+
+/**
+
+    Domain: Security
+
+    Enables local verification of signed session tokens. When {@code app.session.token.enabled=true},
+    session checks whose token verifies with {@code app.session.token.secret} (the secret shared
+    with the security service) are answered inside the gateway, and the revocation list is synced
+    from the security service on a schedule. Without this property every session check is sent to
+    the security service as before.
+
+    <p>
+
+        Technologies:
+
+        <ul>
+            <li>Spring Framework Configuration</li>
+            <li>Spring Scheduling ({@code @EnableScheduling})</li>
+        </ul>
+
+    </p>
+
+    @author Abdullah (Mirliva) GÜNDÜZ - https://github.com/MrMilriva
+
+    @version 1.0
+*/
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "app.session.token.enabled", havingValue = "true")
+public class SessionTokenConfig {
+
+    @Bean
+    public SessionTokenCodec sessionTokenCodec(@Value("${app.session.token.secret:}") String secret) {
+        return new SessionTokenCodec(secret);
+    }
+}
@@ -0,0 +1,55 @@
+package com.shubilet.api_gateway.config;
+
+import java.util.List;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.shubilet.api_gateway.interceptors.SessionAuthInterceptor;
+import com.shubilet.api_gateway.interceptors.SessionMemberArgumentResolver;
+
+/**
+
+    Domain: Configuration
+
+    Registers the session check of {@code @RequiresSession} endpoints and the resolver of
+    {@code @SessionMember} parameters with Spring MVC.
+
+    <p>
+
+        Technologies:
+
+        <ul>
+            <li>Spring Framework Configuration</li>
+            <li>Spring Web MVC ({@link WebMvcConfigurer})</li>
+        </ul>
+
+    </p>
+
+    @author Abdullah (Mirliva) GÜNDÜZ - https://github.com/MrMilriva
+
+    @version 1.0
+*/
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final SessionAuthInterceptor sessionAuthInterceptor;
+    private final SessionMemberArgumentResolver sessionMemberArgumentResolver;
+
+    public WebMvcConfig(SessionAuthInterceptor sessionAuthInterceptor, SessionMemberArgumentResolver sessionMemberArgumentResolver) {
+        this.sessionAuthInterceptor = sessionAuthInterceptor;
+        this.sessionMemberArgumentResolver = sessionMemberArgumentResolver;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(sessionAuthInterceptor);
+    }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(sessionMemberArgumentResolver);
+    }
+}
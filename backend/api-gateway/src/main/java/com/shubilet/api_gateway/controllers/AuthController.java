@@ -38,4 +38,7 @@ public interface AuthController {
 
     @PostMapping("/logout")
     public ResponseEntity<MessageDTO> logout(HttpSession httpSession);
+
+    @PostMapping("/logout/all")
+    public ResponseEntity<MessageDTO> logoutAll(HttpSession httpSession);
 }
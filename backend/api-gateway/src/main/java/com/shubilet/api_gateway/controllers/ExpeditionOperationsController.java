@@ -7,6 +7,7 @@ import com.shubilet.api_gateway.dataTransferObjects.external.requests.expedition
 import com.shubilet.api_gateway.dataTransferObjects.external.responses.expeditionOperations.ExpeditionSearchResultsCompanyDTO;
 import com.shubilet.api_gateway.dataTransferObjects.external.responses.expeditionOperations.ExpeditionsForCompanyDTO;
 import com.shubilet.api_gateway.dataTransferObjects.external.responses.expeditionOperations.SeatsForCustomerDTO;
+import com.shubilet.api_gateway.dataTransferObjects.internal.responses.auth.MemberCheckMessageDTO;
 import jakarta.servlet.http.HttpSession;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -17,13 +18,13 @@ public interface ExpeditionOperationsController {
     ResponseEntity<ExpeditionSearchResultsCompanyDTO> sendExpeditions(HttpSession httpSession, @RequestBody ExpeditionSearchDTO expeditionSearchDTO);
 
     @PostMapping("/create")
-    ResponseEntity<MessageDTO> createExpedition(HttpSession httpSession, ExpeditionCreationExternalDTO expeditionCreationExternalDTO);
+    ResponseEntity<MessageDTO> createExpedition(MemberCheckMessageDTO memberCheckMessageDTO, ExpeditionCreationExternalDTO expeditionCreationExternalDTO);
 
-    ResponseEntity<SeatsForCustomerDTO> sendSeats(HttpSession httpSession, @RequestBody ExpeditionIdDTO expeditionIdDTO);
+    ResponseEntity<SeatsForCustomerDTO> sendSeats(MemberCheckMessageDTO memberCheckMessageDTO, @RequestBody ExpeditionIdDTO expeditionIdDTO);
 
     @PostMapping("/company/get/all")
-    ResponseEntity<ExpeditionsForCompanyDTO> sendCompanyExpeditions(HttpSession httpSession);
+    ResponseEntity<ExpeditionsForCompanyDTO> sendCompanyExpeditions(MemberCheckMessageDTO memberCheckMessageDTO);
 
     @PostMapping("/company/get/future")
-    ResponseEntity<ExpeditionsForCompanyDTO> sendCompanyFutureExpeditions(HttpSession httpSession);
+    ResponseEntity<ExpeditionsForCompanyDTO> sendCompanyFutureExpeditions(MemberCheckMessageDTO memberCheckMessageDTO);
 }
@@ -1,6 +1,7 @@
 package com.shubilet.api_gateway.controllers.Impl;
 
 import com.shubilet.api_gateway.common.constants.ServiceURLs;
+import com.shubilet.api_gateway.common.util.FutureUtils;
 import com.shubilet.api_gateway.controllers.AuthController;
 import com.shubilet.api_gateway.dataTransferObjects.MessageDTO;
 import com.shubilet.api_gateway.dataTransferObjects.external.requests.auth.AdminRegistrationDTO;
@@ -15,6 +16,7 @@ import com.shubilet.api_gateway.dataTransferObjects.internal.responses.CookieInf
 import com.shubilet.api_gateway.dataTransferObjects.internal.responses.auth.MemberCheckMessageDTO;
 import com.shubilet.api_gateway.dataTransferObjects.internal.responses.auth.MemberSessionInfoDTO;
 import com.shubilet.api_gateway.managers.HttpSessionManager;
+import com.shubilet.api_gateway.managers.SessionCheckManager;
 import com.shubilet.api_gateway.mappers.auth.MemberSessionMapper;
 import jakarta.servlet.http.HttpSession;
 import org.slf4j.Logger;
@@ -32,6 +34,8 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 @RestController
 @RequestMapping("/api/auth")
@@ -41,13 +45,17 @@ public class AuthControllerImpl implements AuthController {
 
     private final RestTemplate restTemplate;
     private final HttpSessionManager httpSessionManager;
+    private final SessionCheckManager sessionCheckManager;
     private final MemberSessionMapper memberSessionMapper;
+    private final ExecutorService downstreamExecutor;
 
 
-    public AuthControllerImpl(RestTemplate restTemplate, MemberSessionMapper memberSessionMapper) {
+    public AuthControllerImpl(RestTemplate restTemplate, SessionCheckManager sessionCheckManager, MemberSessionMapper memberSessionMapper, ExecutorService downstreamExecutor) {
         this.restTemplate = restTemplate;
+        this.downstreamExecutor = downstreamExecutor;
         this.memberSessionMapper = memberSessionMapper;
         this.httpSessionManager = new HttpSessionManager();
+        this.sessionCheckManager = sessionCheckManager;
     }
 
     @PostMapping("/session/check")
@@ -318,12 +326,7 @@ public class AuthControllerImpl implements AuthController {
         // Send Request to Security Service for Checking Existing Session
         CookieDTO cookieDTO = httpSessionManager.fromSessionToCookieDTO(httpSession);
         HttpEntity<CookieDTO> securityServiceCheckSessionRequest = new HttpEntity<>(cookieDTO, headers);
-        ResponseEntity<MemberCheckMessageDTO> securityServiceCheckSessionResponse = restTemplate.exchange(
-                ServiceURLs.SECURITY_SERVICE_CHECK_ADMIN_SESSION_URL,
-                HttpMethod.POST,
-                securityServiceCheckSessionRequest,
-                MemberCheckMessageDTO.class
-        );
+        ResponseEntity<MemberCheckMessageDTO> securityServiceCheckSessionResponse = sessionCheckManager.checkAdminSession(securityServiceCheckSessionRequest);
 
         cookieDTO = securityServiceCheckSessionResponse.getBody().getCookie();
         httpSessionManager.updateSessionCookie(httpSession, cookieDTO);
@@ -362,12 +365,7 @@ public class AuthControllerImpl implements AuthController {
         // Send Request to Security Service for Checking Existing Session
         CookieDTO cookieDTO = httpSessionManager.fromSessionToCookieDTO(httpSession);
         HttpEntity<CookieDTO> securityServiceCheckSessionRequest = new HttpEntity<>(cookieDTO, headers);
-        ResponseEntity<MemberCheckMessageDTO> securityServiceCheckSessionResponse = restTemplate.exchange(
-                ServiceURLs.SECURITY_SERVICE_CHECK_COMPANY_SESSION_URL,
-                HttpMethod.POST,
-                securityServiceCheckSessionRequest,
-                MemberCheckMessageDTO.class
-        );
+        ResponseEntity<MemberCheckMessageDTO> securityServiceCheckSessionResponse = sessionCheckManager.checkCompanySession(securityServiceCheckSessionRequest);
 
         cookieDTO = securityServiceCheckSessionResponse.getBody().getCookie();
         httpSessionManager.updateSessionCookie(httpSession, cookieDTO);
@@ -405,12 +403,7 @@ public class AuthControllerImpl implements AuthController {
         // Send Request to Security Service for Checking Existing Session
         CookieDTO cookieDTO = httpSessionManager.fromSessionToCookieDTO(httpSession);
         HttpEntity<CookieDTO> securityServiceCheckSessionRequest = new HttpEntity<>(cookieDTO, headers);
-        ResponseEntity<MemberCheckMessageDTO> securityServiceCheckSessionResponse = restTemplate.exchange(
-                ServiceURLs.SECURITY_SERVICE_CHECK_CUSTOMER_SESSION_URL,
-                HttpMethod.POST,
-                securityServiceCheckSessionRequest,
-                MemberCheckMessageDTO.class
-        );
+        ResponseEntity<MemberCheckMessageDTO> securityServiceCheckSessionResponse = sessionCheckManager.checkCustomerSession(securityServiceCheckSessionRequest);
 
         cookieDTO = securityServiceCheckSessionResponse.getBody().getCookie();
         httpSessionManager.updateSessionCookie(httpSession, cookieDTO);
@@ -445,21 +438,37 @@ public class AuthControllerImpl implements AuthController {
         headers.set("X-Request-Id", requestId);
         headers.setContentType(MediaType.APPLICATION_JSON);
 
+        // Verify the Credentials on Member Service While the Existing Session is Checked; Cancelled if a Session Exists
+        HttpEntity<MemberCredentialsDTO> memberServiceCredentialCheckRequest = new HttpEntity<>(memberCredentialsDTO, headers);
+        Future<ResponseEntity<MemberSessionInfoDTO>> memberServiceCredentialCheck = FutureUtils.start(() -> restTemplate.exchange(
+                ServiceURLs.MEMBER_SERVICE_CREDENTIALS_CHECK_URL,
+                HttpMethod.POST,
+                memberServiceCredentialCheckRequest,
+                MemberSessionInfoDTO.class
+        ), downstreamExecutor);
+
         // Send Request to Security Service for Checking Existing Session
         CookieDTO cookieDTO = httpSessionManager.fromSessionToCookieDTO(httpSession);
         HttpEntity<CookieDTO> securityServiceCheckSessionRequest = new HttpEntity<>(cookieDTO, headers);
-        ResponseEntity<CookieInfoDTO> securityServiceCheckSessionResponse = restTemplate.exchange(
-                ServiceURLs.SECURITY_SERVICE_CHECK_SESSION_URL,
-                HttpMethod.POST,
-                securityServiceCheckSessionRequest,
-                CookieInfoDTO.class
-        );
+        ResponseEntity<CookieInfoDTO> securityServiceCheckSessionResponse;
+        try {
+            securityServiceCheckSessionResponse = restTemplate.exchange(
+                    ServiceURLs.SECURITY_SERVICE_CHECK_SESSION_URL,
+                    HttpMethod.POST,
+                    securityServiceCheckSessionRequest,
+                    CookieInfoDTO.class
+            );
+        } catch (RuntimeException e) {
+            FutureUtils.cancel(memberServiceCredentialCheck);
+            throw e;
+        }
 
         cookieDTO = securityServiceCheckSessionResponse.getBody().getCookie();
         httpSessionManager.updateSessionCookie(httpSession, cookieDTO);
 
         // There is already an Existing Session
         if (securityServiceCheckSessionResponse.getStatusCode().is2xxSuccessful()) {
+            FutureUtils.cancel(memberServiceCredentialCheck);
             return ResponseEntity
                     .status(HttpStatus.BAD_REQUEST)
                     .body(new MessageDTO("There is already an existing logged in session."));
@@ -468,19 +477,14 @@ public class AuthControllerImpl implements AuthController {
             logger.info("No user is currently logged in verified (requestId={})", requestId);
 
         } else if (securityServiceCheckSessionResponse.getStatusCode().is5xxServerError()) {
+            FutureUtils.cancel(memberServiceCredentialCheck);
             return ResponseEntity.
                     status(HttpStatus.INTERNAL_SERVER_ERROR).
                     body(new MessageDTO("Something went wrong while checking existing session."));
         }
 
-        // Send Request to Member Service For Checking User Credentials
-        HttpEntity<MemberCredentialsDTO> memberServiceCredentialCheckRequest = new HttpEntity<>(memberCredentialsDTO, headers);
-        ResponseEntity<MemberSessionInfoDTO> memberServiceCredentialCheckResponse = restTemplate.exchange(
-                ServiceURLs.MEMBER_SERVICE_CREDENTIALS_CHECK_URL,
-                HttpMethod.POST,
-                memberServiceCredentialCheckRequest,
-                MemberSessionInfoDTO.class
-        );
+        // Wait for the Credential Check on Member Service
+        ResponseEntity<MemberSessionInfoDTO> memberServiceCredentialCheckResponse = FutureUtils.join(memberServiceCredentialCheck);
 
         // User Credentials are Valid
         if (memberServiceCredentialCheckResponse.getStatusCode().is2xxSuccessful()) {
@@ -548,6 +552,8 @@ public class AuthControllerImpl implements AuthController {
                 securityServiceDeleteSessionRequest,
                 MemberCheckMessageDTO.class
         );
+        // Evicted once the session is gone, so that no check in between can cache it again.
+        sessionCheckManager.evictSession(cookieDTO);
 
         cookieDTO = securityServiceCheckDeleteSessionResponse.getBody().getCookie();
         httpSessionManager.updateSessionCookie(httpSession, cookieDTO);
@@ -572,4 +578,46 @@ public class AuthControllerImpl implements AuthController {
         }
         return ResponseEntity.status(HttpStatus.OK).body(new MessageDTO("Member Successfully Logged out."));
     }
+
+    @PostMapping("/logout/all")
+    @Override
+    public ResponseEntity<MessageDTO> logoutAll(HttpSession httpSession) {
+        String requestId = UUID.randomUUID().toString();
+        logger.info("Start Logout From All Sessions (requestId={})", requestId);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Request-Id", requestId);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        // Send Request to Security Service for Deleting Every Session of the Member
+        CookieDTO cookieDTO = httpSessionManager.fromSessionToCookieDTO(httpSession);
+        HttpEntity<CookieDTO> securityServiceDeleteAllSessionsRequest = new HttpEntity<>(cookieDTO, headers);
+        ResponseEntity<MemberCheckMessageDTO> securityServiceDeleteAllSessionsResponse = restTemplate.exchange(
+                ServiceURLs.SECURITY_SERVICE_DELETE_ALL_SESSIONS_URL,
+                HttpMethod.POST,
+                securityServiceDeleteAllSessionsRequest,
+                MemberCheckMessageDTO.class
+        );
+        sessionCheckManager.evictMember(cookieDTO.getUserType(), cookieDTO.getUserId());
+
+        cookieDTO = securityServiceDeleteAllSessionsResponse.getBody().getCookie();
+        httpSessionManager.updateSessionCookie(httpSession, cookieDTO);
+
+        // Bad Request to Security Service
+        if (securityServiceDeleteAllSessionsResponse.getStatusCode().is4xxClientError()) {
+            return ResponseEntity
+                    .status(securityServiceDeleteAllSessionsResponse.getStatusCode())
+                    .body(new MessageDTO(securityServiceDeleteAllSessionsResponse.getBody().getMessage()));
+        }
+
+        // Something Went Wrong on Security Service
+        if (securityServiceDeleteAllSessionsResponse.getStatusCode().is5xxServerError()) {
+            return ResponseEntity
+                    .status(securityServiceDeleteAllSessionsResponse.getStatusCode())
+                    .body(new MessageDTO(securityServiceDeleteAllSessionsResponse.getBody().getMessage()));
+        }
+
+        logger.info("Logout From All Sessions Successful (requestId={})", requestId);
+        return ResponseEntity.status(HttpStatus.OK).body(new MessageDTO("Member Successfully Logged out of All Sessions."));
+    }
 }
@@ -1,6 +1,10 @@
 package com.shubilet.api_gateway.controllers.Impl;
 
+import com.shubilet.api_gateway.common.annotations.RequiresSession;
+import com.shubilet.api_gateway.common.annotations.SessionMember;
 import com.shubilet.api_gateway.common.constants.ServiceURLs;
+import com.shubilet.api_gateway.common.enums.UserType;
+import com.shubilet.api_gateway.common.util.FutureUtils;
 import com.shubilet.api_gateway.controllers.ExpeditionOperationsController;
 import com.shubilet.api_gateway.dataTransferObjects.MessageDTO;
 import com.shubilet.api_gateway.dataTransferObjects.external.requests.expeditionOperations.ExpeditionCreationExternalDTO;
@@ -23,15 +27,18 @@ import com.shubilet.api_gateway.dataTransferObjects.internal.responses.expeditio
 import com.shubilet.api_gateway.dataTransferObjects.internal.responses.expeditionOperations.ExpeditionsForCustomerDTO;
 import com.shubilet.api_gateway.dataTransferObjects.internal.responses.auth.MemberCheckMessageDTO;
 import com.shubilet.api_gateway.dataTransferObjects.internal.responses.expeditionOperations.SeatsForCompanyInternalDTO;
-import com.shubilet.api_gateway.managers.HttpSessionManager;
 import com.shubilet.api_gateway.mappers.CompanyIdNameMapper;
 import com.shubilet.api_gateway.mappers.CustomerIdNameMapper;
 import com.shubilet.api_gateway.mappers.expeditionOperations.ExpeditionCreationExternalMapper;
 import com.shubilet.api_gateway.mappers.expeditionOperations.ExpeditionIdMapper;
 import com.shubilet.api_gateway.mappers.expeditionOperations.ExpeditionSearchCompanyResponseMapper;
 import com.shubilet.api_gateway.mappers.expeditionOperations.SeatsForCompanyInternalMapper;
+import com.shubilet.api_gateway.managers.CompanyNameCache;
+import com.shubilet.api_gateway.managers.HttpSessionManager;
+import com.shubilet.api_gateway.managers.SessionCheckManager;
 
 import jakarta.servlet.http.HttpSession;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpEntity;
@@ -48,31 +55,41 @@ import org.springframework.web.client.RestTemplate;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 @RestController
 @RequestMapping("/api/expedition")
 public class ExpeditionOperationsControllerImpl implements ExpeditionOperationsController {
     public final Logger logger = LoggerFactory.getLogger(ExpeditionOperationsControllerImpl.class);
     public final RestTemplate restTemplate;
-    public final HttpSessionManager httpSessionManager;
     public final ExpeditionCreationExternalMapper expeditionCreationExternalMapper;
     private final ExpeditionSearchCompanyResponseMapper expeditionSearchCompanyResponseMapper;
     private final ExpeditionIdMapper expeditionIdMapper;
     private final SeatsForCompanyInternalMapper seatsForCompanyInternalMapper;
+    private final SessionCheckManager sessionCheckManager;
+    private final HttpSessionManager httpSessionManager;
+    private final CompanyNameCache companyNameCache;
+    private final ExecutorService downstreamExecutor;
 
 
-    public ExpeditionOperationsControllerImpl(RestTemplate restTemplate, ExpeditionCreationExternalMapper expeditionCreationExternalMapper, ExpeditionSearchCompanyResponseMapper expeditionSearchCompanyResponseMapper, ExpeditionIdMapper expeditionIdMapper, SeatsForCompanyInternalMapper seatsForCompanyInternalMapper) {
+    public ExpeditionOperationsControllerImpl(RestTemplate restTemplate, ExpeditionCreationExternalMapper expeditionCreationExternalMapper, ExpeditionSearchCompanyResponseMapper expeditionSearchCompanyResponseMapper, ExpeditionIdMapper expeditionIdMapper, SeatsForCompanyInternalMapper seatsForCompanyInternalMapper,
+                                              SessionCheckManager sessionCheckManager, CompanyNameCache companyNameCache, ExecutorService downstreamExecutor) {
         this.restTemplate = restTemplate;
+        this.sessionCheckManager = sessionCheckManager;
+        this.httpSessionManager = new HttpSessionManager();
+        this.companyNameCache = companyNameCache;
+        this.downstreamExecutor = downstreamExecutor;
         this.expeditionCreationExternalMapper = expeditionCreationExternalMapper;
         this.expeditionSearchCompanyResponseMapper = expeditionSearchCompanyResponseMapper;
         this.expeditionIdMapper = expeditionIdMapper;
         this.seatsForCompanyInternalMapper = seatsForCompanyInternalMapper;
-        this.httpSessionManager = new HttpSessionManager();
     }
 
+    @RequiresSession(UserType.COMPANY)
     @PostMapping("/create")
     @Override
-    public ResponseEntity<MessageDTO> createExpedition(HttpSession httpSession, @RequestBody ExpeditionCreationExternalDTO expeditionCreationExternalDTO) {
+    public ResponseEntity<MessageDTO> createExpedition(@SessionMember MemberCheckMessageDTO memberCheckMessageDTO, @RequestBody ExpeditionCreationExternalDTO expeditionCreationExternalDTO) {
         String requestId = UUID.randomUUID().toString();
         logger.info("Start Expedition Search (requestId={})", requestId);
 
@@ -80,39 +97,9 @@ public class ExpeditionOperationsControllerImpl implements ExpeditionOperationsC
         headers.set("X-Request-Id", requestId);
         headers.setContentType(MediaType.APPLICATION_JSON);
 
-        // Send Request to Security Service for Checking Existing Session
-        CookieDTO cookieDTO = httpSessionManager.fromSessionToCookieDTO(httpSession);
-        HttpEntity<CookieDTO> securityServiceCheckSessionCompanyRequest = new HttpEntity<>(cookieDTO, headers);
-        ResponseEntity<MemberCheckMessageDTO> securityServiceCheckCompanySessionResponse = restTemplate.exchange(
-                ServiceURLs.SECURITY_SERVICE_CHECK_COMPANY_SESSION_URL,
-                HttpMethod.POST,
-                securityServiceCheckSessionCompanyRequest,
-                MemberCheckMessageDTO.class
-        );
-
-        cookieDTO = securityServiceCheckCompanySessionResponse.getBody().getCookie();
-        httpSessionManager.updateSessionCookie(httpSession, cookieDTO);
-
-        // Session Existence Clarified by Security Service
-        if (securityServiceCheckCompanySessionResponse.getStatusCode().is2xxSuccessful()) {
-            logger.info("Customer Session Exists (requestId={})", requestId);
-        }
-
-        // No User is Logged in Clarified by Security Service
-        if (securityServiceCheckCompanySessionResponse.getStatusCode().is4xxClientError()) {
-            return ResponseEntity
-                    .status(HttpStatus.BAD_REQUEST)
-                    .body(new MessageDTO("There is no Existing Customer Session."));
-        }
-
-        // Something Went Wrong on Security Service
-        if (securityServiceCheckCompanySessionResponse.getStatusCode().is5xxServerError()) {
-            return ResponseEntity.status(securityServiceCheckCompanySessionResponse.getStatusCode())
-                    .body(new MessageDTO(securityServiceCheckCompanySessionResponse.getBody().getMessage()));
-        }
         ExpeditionCreationInternalDTO expeditionCreationInternalDTO = expeditionCreationExternalMapper.toExpeditionCreationInternalDTO(
                 expeditionCreationExternalDTO,
-                securityServiceCheckCompanySessionResponse.getBody()
+                memberCheckMessageDTO
         );
         HttpEntity<ExpeditionCreationInternalDTO> expeditionServiceExpeditionCreationInternalRequest = new HttpEntity<>(expeditionCreationInternalDTO, headers);
         ResponseEntity<MessageDTO> expeditionServiceExpeditionCreationInternalResponse = restTemplate.exchange(
@@ -141,6 +128,7 @@ public class ExpeditionOperationsControllerImpl implements ExpeditionOperationsC
         return ResponseEntity.status(HttpStatus.OK).body(expeditionServiceExpeditionCreationInternalResponse.getBody());
     }
 
+    // Session is Checked in the Handler instead of through @RequiresSession, so that the Search Runs Alongside the Check
     @PostMapping("/customer/get/search/expeditions")
     @Override
     public ResponseEntity<ExpeditionSearchResultsCompanyDTO> sendExpeditions(HttpSession httpSession, @RequestBody ExpeditionSearchDTO expeditionSearchDTO) {
@@ -151,38 +139,56 @@ public class ExpeditionOperationsControllerImpl implements ExpeditionOperationsC
         headers.set("X-Request-Id", requestId);
         headers.setContentType(MediaType.APPLICATION_JSON);
 
-        // Send Request to Security Service for Checking Existing Session
+        // No Session Attributes, so No Search is Started for Anonymous Callers
         CookieDTO cookieDTO = httpSessionManager.fromSessionToCookieDTO(httpSession);
-        HttpEntity<CookieDTO> securityServiceCheckCustomerSessionRequest = new HttpEntity<>(cookieDTO, headers);
-        ResponseEntity<MemberCheckMessageDTO> securityServiceCheckCustomerSessionResponse = restTemplate.exchange(
-                ServiceURLs.SECURITY_SERVICE_CHECK_CUSTOMER_SESSION_URL,
-                HttpMethod.POST,
-                securityServiceCheckCustomerSessionRequest,
-                MemberCheckMessageDTO.class
+        if (cookieDTO.getUserId() == null || cookieDTO.getAuthCode() == null) {
+            return ResponseEntity
+                    .status(HttpStatus.UNAUTHORIZED)
+                    .body(new ExpeditionSearchResultsCompanyDTO("There is no Existing " + UserType.CUSTOMER.getDisplayName() + " Session."));
+        }
+
+        // Search Expeditions and Resolve Their Company Names While the Session is Checked; Cancelled if the Check Fails
+        Future<ResponseEntity<ExpeditionSearchResultsCompanyDTO>> expeditionSearch = FutureUtils.start(
+                () -> searchExpeditions(expeditionSearchDTO, headers, requestId),
+                downstreamExecutor
         );
 
-        cookieDTO = securityServiceCheckCustomerSessionResponse.getBody().getCookie();
-        httpSessionManager.updateSessionCookie(httpSession, cookieDTO);
+        // Check the Customer Session
+        ResponseEntity<MemberCheckMessageDTO> sessionCheckResponse;
+        try {
+            sessionCheckResponse = sessionCheckManager.checkCustomerSession(new HttpEntity<>(cookieDTO, headers));
+        } catch (RuntimeException e) {
+            FutureUtils.cancel(expeditionSearch);
+            throw e;
+        }
+        MemberCheckMessageDTO memberCheckMessageDTO = sessionCheckResponse.getBody();
 
-        // Session Existence Clarified by Security Service
-        if (securityServiceCheckCustomerSessionResponse.getStatusCode().is2xxSuccessful()) {
-            logger.info("Customer Session Exists (requestId={})", requestId);
+        if (memberCheckMessageDTO != null) {
+            httpSessionManager.updateSessionCookie(httpSession, memberCheckMessageDTO.getCookie());
         }
 
         // No User is Logged in Clarified by Security Service
-        if (securityServiceCheckCustomerSessionResponse.getStatusCode().is4xxClientError()) {
+        if (sessionCheckResponse.getStatusCode().is4xxClientError()) {
+            FutureUtils.cancel(expeditionSearch);
             return ResponseEntity
-                    .status(securityServiceCheckCustomerSessionResponse.getStatusCode())
-                    .body(new ExpeditionSearchResultsCompanyDTO("There is no Existing Customer Session."));
+                    .status(sessionCheckResponse.getStatusCode())
+                    .body(new ExpeditionSearchResultsCompanyDTO("There is no Existing " + UserType.CUSTOMER.getDisplayName() + " Session."));
         }
 
         // Something Went Wrong on Security Service
-        if (securityServiceCheckCustomerSessionResponse.getStatusCode().is5xxServerError()) {
+        if (!sessionCheckResponse.getStatusCode().is2xxSuccessful() || memberCheckMessageDTO == null) {
+            FutureUtils.cancel(expeditionSearch);
+            logger.warn("Session check failed (status={} requestId={})", sessionCheckResponse.getStatusCode(), requestId);
             return ResponseEntity
-                    .status(securityServiceCheckCustomerSessionResponse.getStatusCode())
-                    .body(new ExpeditionSearchResultsCompanyDTO(securityServiceCheckCustomerSessionResponse.getBody().getMessage()));
+                    .status(sessionCheckResponse.getStatusCode())
+                    .body(new ExpeditionSearchResultsCompanyDTO(memberCheckMessageDTO == null ? "Session check failed." : memberCheckMessageDTO.getMessage()));
         }
 
+        logger.debug("Customer Session Exists (requestId={})", requestId);
+        return FutureUtils.join(expeditionSearch);
+    }
+
+    private ResponseEntity<ExpeditionSearchResultsCompanyDTO> searchExpeditions(ExpeditionSearchDTO expeditionSearchDTO, HttpHeaders headers, String requestId) {
         HttpEntity<ExpeditionSearchDTO> expeditionServiceSearchExpeditionRequest = new HttpEntity<>(expeditionSearchDTO, headers);
         ResponseEntity<ExpeditionsForCustomerDTO> expeditionServiceSearchExpeditionResponse = restTemplate.exchange(
                 ServiceURLs.EXPEDITION_SERVICE_SEARCH_EXPEDITION_URL,
@@ -208,44 +214,39 @@ public class ExpeditionOperationsControllerImpl implements ExpeditionOperationsC
                     .body(new ExpeditionSearchResultsCompanyDTO(expeditionServiceSearchExpeditionResponse.getBody().getMessage()));
         }
 
+        // Only Companies Missing from the Cache are Fetched from Member Service
         List<CompanyIdDTO> companyIdDTOs = expeditionSearchCompanyResponseMapper.toCompanyIdDTOs(expeditionServiceSearchExpeditionResponse.getBody().getExpeditions());
+        ResponseEntity<CompanyIdNameMapDTO> companyNamesResponse = companyNameCache.getCompanyNames(companyIdDTOs, headers);
 
-        HttpEntity<List<CompanyIdDTO>> memberServiceGetCompanyNamesRequest = new HttpEntity<>(companyIdDTOs, headers);
-        ResponseEntity<CompanyIdNameMapDTO> memberServiceGetCompanyNamesResponse = restTemplate.exchange(
-                ServiceURLs.MEMBER_SERVICE_GET_COMPANY_NAMES_URL,
-                HttpMethod.POST,
-                memberServiceGetCompanyNamesRequest,
-                CompanyIdNameMapDTO.class
-        );
-
-        if (memberServiceGetCompanyNamesResponse.getStatusCode().is2xxSuccessful()) {
+        if (companyNamesResponse.getStatusCode().is2xxSuccessful()) {
             logger.info("Company Names Successfully Retrieved (requestId={})", requestId);
 
-        } else if (memberServiceGetCompanyNamesResponse.getStatusCode().is4xxClientError()) {
+        } else if (companyNamesResponse.getStatusCode().is4xxClientError()) {
             logger.warn("Bad Request for Member Service (requestId={})", requestId);
             return ResponseEntity
-                    .status(memberServiceGetCompanyNamesResponse.getStatusCode())
-                    .body(new ExpeditionSearchResultsCompanyDTO(memberServiceGetCompanyNamesResponse.getBody().getMessage()));
+                    .status(companyNamesResponse.getStatusCode())
+                    .body(new ExpeditionSearchResultsCompanyDTO(companyNamesResponse.getBody().getMessage()));
 
-        } else if (memberServiceGetCompanyNamesResponse.getStatusCode().is5xxServerError()) {
+        } else if (companyNamesResponse.getStatusCode().is5xxServerError()) {
             logger.warn("Internal Server Error of Member Service (requestId={})", requestId);
             return ResponseEntity
-                    .status(memberServiceGetCompanyNamesResponse.getStatusCode())
-                    .body(new ExpeditionSearchResultsCompanyDTO(memberServiceGetCompanyNamesResponse.getBody().getMessage()));
+                    .status(companyNamesResponse.getStatusCode())
+                    .body(new ExpeditionSearchResultsCompanyDTO(companyNamesResponse.getBody().getMessage()));
         }
 
 
         List<ExpeditionSearchResultCustomerDTO> expeditionSearchResults = CompanyIdNameMapper.toExpeditionSearchResultsDTO(
                 expeditionServiceSearchExpeditionResponse.getBody(),
-                memberServiceGetCompanyNamesResponse.getBody()
+                companyNamesResponse.getBody()
         );
         return ResponseEntity.status(HttpStatus.OK).body(new ExpeditionSearchResultsCompanyDTO("Success", expeditionSearchResults));
     }
 
 
+    @RequiresSession(UserType.CUSTOMER)
     @PostMapping("/customer/get/search/seats")
     @Override
-    public ResponseEntity<SeatsForCustomerDTO> sendSeats(HttpSession httpSession, @RequestBody ExpeditionIdDTO expeditionIdDTO) {
+    public ResponseEntity<SeatsForCustomerDTO> sendSeats(@SessionMember MemberCheckMessageDTO memberCheckMessageDTO, @RequestBody ExpeditionIdDTO expeditionIdDTO) {
         String requestId = UUID.randomUUID().toString();
         logger.info("Start Expedition Search (requestId={})", requestId);
 
@@ -253,38 +254,6 @@ public class ExpeditionOperationsControllerImpl implements ExpeditionOperationsC
         headers.set("X-Request-Id", requestId);
         headers.setContentType(MediaType.APPLICATION_JSON);
 
-        // Send Request to Security Service for Checking Existing Session
-        CookieDTO cookieDTO = httpSessionManager.fromSessionToCookieDTO(httpSession);
-        HttpEntity<CookieDTO> securityServiceCheckCustomerSessionRequest = new HttpEntity<>(cookieDTO, headers);
-        ResponseEntity<MemberCheckMessageDTO> securityServiceCheckCustomerSessionResponse = restTemplate.exchange(
-                ServiceURLs.SECURITY_SERVICE_CHECK_CUSTOMER_SESSION_URL,
-                HttpMethod.POST,
-                securityServiceCheckCustomerSessionRequest,
-                MemberCheckMessageDTO.class
-        );
-
-        cookieDTO = securityServiceCheckCustomerSessionResponse.getBody().getCookie();
-        httpSessionManager.updateSessionCookie(httpSession, cookieDTO);
-
-        // Session Existence Clarified by Security Service
-        if (securityServiceCheckCustomerSessionResponse.getStatusCode().is2xxSuccessful()) {
-            logger.info("Customer Session Exists (requestId={})", requestId);
-        }
-
-        // No User is Logged in Clarified by Security Service
-        if (securityServiceCheckCustomerSessionResponse.getStatusCode().is4xxClientError()) {
-            return ResponseEntity
-                    .status(securityServiceCheckCustomerSessionResponse.getStatusCode())
-                    .body(new SeatsForCustomerDTO("There is no Existing Customer Session."));
-        }
-
-        // Something Went Wrong on Security Service
-        if (securityServiceCheckCustomerSessionResponse.getStatusCode().is5xxServerError()) {
-            return ResponseEntity
-                    .status(securityServiceCheckCustomerSessionResponse.getStatusCode())
-                    .body(new SeatsForCustomerDTO(securityServiceCheckCustomerSessionResponse.getBody().getMessage()));
-        }
-
         HttpEntity<ExpeditionIdDTO> expeditionServiceSearchSeatRequest = new HttpEntity<>(expeditionIdDTO, headers);
         ResponseEntity<SeatsForCustomerDTO> expeditionServiceSeatExpeditionResponse = restTemplate.exchange(
                 ServiceURLs.EXPEDITION_SERVICE_SEARCH_SEAT_URL,
@@ -314,9 +283,10 @@ public class ExpeditionOperationsControllerImpl implements ExpeditionOperationsC
     }
 
 
+    @RequiresSession(UserType.COMPANY)
     @PostMapping("/company/get/all")
     @Override
-    public ResponseEntity<ExpeditionsForCompanyDTO> sendCompanyExpeditions(HttpSession httpSession) {
+    public ResponseEntity<ExpeditionsForCompanyDTO> sendCompanyExpeditions(@SessionMember MemberCheckMessageDTO memberCheckMessageDTO) {
         String requestId = UUID.randomUUID().toString();
         logger.info("Start Getting Company Expeditions (requestId={})", requestId);
 
@@ -324,36 +294,7 @@ public class ExpeditionOperationsControllerImpl implements ExpeditionOperationsC
         headers.set("X-Request-Id", requestId);
         headers.setContentType(MediaType.APPLICATION_JSON);
 
-        // Send Request to Security Service for Checking Existing Session
-        CookieDTO cookieDTO = httpSessionManager.fromSessionToCookieDTO(httpSession);
-        HttpEntity<CookieDTO> securityServiceCheckSessionCompanyRequest = new HttpEntity<>(cookieDTO, headers);
-        ResponseEntity<MemberCheckMessageDTO> securityServiceCheckCompanySessionResponse = restTemplate.exchange(
-                ServiceURLs.SECURITY_SERVICE_CHECK_COMPANY_SESSION_URL,
-                HttpMethod.POST,
-                securityServiceCheckSessionCompanyRequest,
-                MemberCheckMessageDTO.class
-        );
-
-        // Session Existence Clarified by Security Service
-        if (securityServiceCheckCompanySessionResponse.getStatusCode().is2xxSuccessful()) {
-            logger.info("Company Session Exists (requestId={})", requestId);
-        }
-
-        // No User is Logged in Clarified by Security Service
-        if (securityServiceCheckCompanySessionResponse.getStatusCode().is4xxClientError()) {
-            return ResponseEntity
-                    .status(HttpStatus.BAD_REQUEST)
-                    .body(new ExpeditionsForCompanyDTO(securityServiceCheckCompanySessionResponse.getBody().getMessage()));
-        }
-
-        // Something Went Wrong on Security Service
-        if (securityServiceCheckCompanySessionResponse.getStatusCode().is5xxServerError()) {
-            return ResponseEntity
-                    .status(securityServiceCheckCompanySessionResponse.getStatusCode())
-                    .body(new ExpeditionsForCompanyDTO(securityServiceCheckCompanySessionResponse.getBody().getMessage()));
-        }
-
-        CompanyIdDTO companyIdDTO = new CompanyIdDTO(securityServiceCheckCompanySessionResponse.getBody().getUserId());
+        CompanyIdDTO companyIdDTO = new CompanyIdDTO(memberCheckMessageDTO.getUserId());
         HttpEntity<CompanyIdDTO> expeditionServiceGetCompanyExpeditionsRequest = new HttpEntity<>(companyIdDTO, headers);
         ResponseEntity<ExpeditionsForCompanyDTO> expeditionServiceGetCompanyExpeditionsResponse = restTemplate.exchange(
                 ServiceURLs.EXPEDITION_SERVICE_GET_COMPANY_EXPEDITIONS_ALL_URL,
@@ -380,9 +321,10 @@ public class ExpeditionOperationsControllerImpl implements ExpeditionOperationsC
         return ResponseEntity.status(HttpStatus.OK).body(expeditionServiceGetCompanyExpeditionsResponse.getBody());
     }
 
+    @RequiresSession(UserType.COMPANY)
     @PostMapping("/company/get/futures")
     @Override
-    public ResponseEntity<ExpeditionsForCompanyDTO> sendCompanyFutureExpeditions(HttpSession httpSession) {
+    public ResponseEntity<ExpeditionsForCompanyDTO> sendCompanyFutureExpeditions(@SessionMember MemberCheckMessageDTO memberCheckMessageDTO) {
         String requestId = UUID.randomUUID().toString();
         logger.info("Start Getting Company Future Expeditions (requestId={})", requestId);
 
@@ -390,36 +332,7 @@ public class ExpeditionOperationsControllerImpl implements ExpeditionOperationsC
         headers.set("X-Request-Id", requestId);
         headers.setContentType(MediaType.APPLICATION_JSON);
 
-        // Send Request to Security Service for Checking Existing Session
-        CookieDTO cookieDTO = httpSessionManager.fromSessionToCookieDTO(httpSession);
-        HttpEntity<CookieDTO> securityServiceCheckSessionCompanyRequest = new HttpEntity<>(cookieDTO, headers);
-        ResponseEntity<MemberCheckMessageDTO> securityServiceCheckCompanySessionResponse = restTemplate.exchange(
-                ServiceURLs.SECURITY_SERVICE_CHECK_COMPANY_SESSION_URL,
-                HttpMethod.POST,
-                securityServiceCheckSessionCompanyRequest,
-                MemberCheckMessageDTO.class
-        );
-
-        // Session Existence Clarified by Security Service
-        if (securityServiceCheckCompanySessionResponse.getStatusCode().is2xxSuccessful()) {
-            logger.info("Company Session Exists (requestId={})", requestId);
-        }
-
-        // No User is Logged in Clarified by Security Service
-        if (securityServiceCheckCompanySessionResponse.getStatusCode().is4xxClientError()) {
-            return ResponseEntity
-                    .status(HttpStatus.BAD_REQUEST)
-                    .body(new ExpeditionsForCompanyDTO(securityServiceCheckCompanySessionResponse.getBody().getMessage()));
-        }
-
-        // Something Went Wrong on Security Service
-        if (securityServiceCheckCompanySessionResponse.getStatusCode().is5xxServerError()) {
-            return ResponseEntity
-                    .status(securityServiceCheckCompanySessionResponse.getStatusCode())
-                    .body(new ExpeditionsForCompanyDTO(securityServiceCheckCompanySessionResponse.getBody().getMessage()));
-        }
-
-        CompanyIdDTO companyIdDTO = new CompanyIdDTO(securityServiceCheckCompanySessionResponse.getBody().getUserId());
+        CompanyIdDTO companyIdDTO = new CompanyIdDTO(memberCheckMessageDTO.getUserId());
         HttpEntity<CompanyIdDTO> expeditionServiceGetCompanyFutureExpeditionsRequest = new HttpEntity<>(companyIdDTO, headers);
         ResponseEntity<ExpeditionsForCompanyDTO> expeditionServiceGetCompanyFutureExpeditionsResponse = restTemplate.exchange(
                 ServiceURLs.EXPEDITION_SERVICE_GET_COMPANY_EXPEDITIONS_FUTURE_URL,
@@ -446,8 +359,9 @@ public class ExpeditionOperationsControllerImpl implements ExpeditionOperationsC
         return ResponseEntity.status(HttpStatus.OK).body(expeditionServiceGetCompanyFutureExpeditionsResponse.getBody());
     }   
 
+    @RequiresSession(UserType.COMPANY)
     @PostMapping("/company/get/detail")
-    public ResponseEntity<SeatsForCompanyExternalDTO> sendCompanyExpeditionDetails(HttpSession httpSession, @RequestBody ExpeditionIdDTO expeditionIdDTO) {
+    public ResponseEntity<SeatsForCompanyExternalDTO> sendCompanyExpeditionDetails(@SessionMember MemberCheckMessageDTO memberCheckMessageDTO, @RequestBody ExpeditionIdDTO expeditionIdDTO) {
         String requestId = UUID.randomUUID().toString();
         logger.info("Start Getting Company Expedition Details (requestId={})", requestId);
 
@@ -455,37 +369,6 @@ public class ExpeditionOperationsControllerImpl implements ExpeditionOperationsC
         headers.set("X-Request-Id", requestId);
         headers.setContentType(MediaType.APPLICATION_JSON);
 
-        // Send Request to Security Service for Checking Existing Session
-        CookieDTO cookieDTO = httpSessionManager.fromSessionToCookieDTO(httpSession);
-        HttpEntity<CookieDTO> securityServiceCheckSessionCompanyRequest = new HttpEntity<>(cookieDTO, headers);
-        ResponseEntity<MemberCheckMessageDTO> securityServiceCheckCompanySessionResponse = restTemplate.exchange(
-                ServiceURLs.SECURITY_SERVICE_CHECK_COMPANY_SESSION_URL,
-                HttpMethod.POST,
-                securityServiceCheckSessionCompanyRequest,
-                MemberCheckMessageDTO.class
-        );
-
-        // Session Existence Clarified by Security Service
-        if (securityServiceCheckCompanySessionResponse.getStatusCode().is2xxSuccessful()) {
-            logger.info("Company Session Exists (requestId={})", requestId);
-        }
-
-        // No User is Logged in Clarified by Security Service
-        if (securityServiceCheckCompanySessionResponse.getStatusCode().is4xxClientError()) {
-            return ResponseEntity
-                    .status(HttpStatus.BAD_REQUEST)
-                    .body(new SeatsForCompanyExternalDTO(securityServiceCheckCompanySessionResponse.getBody().getMessage()));
-        }
-
-        // Something Went Wrong on Security Service
-        if (securityServiceCheckCompanySessionResponse.getStatusCode().is5xxServerError()) {
-            return ResponseEntity
-                    .status(securityServiceCheckCompanySessionResponse.getStatusCode())
-                    .body(new SeatsForCompanyExternalDTO(securityServiceCheckCompanySessionResponse.getBody().getMessage()));
-        }
-        MemberCheckMessageDTO memberCheckMessageDTO = securityServiceCheckCompanySessionResponse.getBody();
-        httpSessionManager.updateSessionCookie(httpSession, memberCheckMessageDTO.getCookie());
-
         ExpeditionViewForCompanyByIdInternalDTO expeditionViewForCompanyByIdInternalDTO = expeditionIdMapper.toExpeditionViewForCompanyByIdInternalDTO(expeditionIdDTO, memberCheckMessageDTO);
         HttpEntity<ExpeditionViewForCompanyByIdInternalDTO> expeditionServiceGetCompanyExpeditionDetailsRequest = new HttpEntity<>(expeditionViewForCompanyByIdInternalDTO, headers);
         ResponseEntity<SeatsForCompanyInternalDTO> expeditionServiceGetCompanyExpeditionDetailsResponse = restTemplate.exchange(
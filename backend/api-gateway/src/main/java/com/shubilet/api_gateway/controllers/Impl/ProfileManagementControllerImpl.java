@@ -1,6 +1,9 @@
 package com.shubilet.api_gateway.controllers.Impl;
 
+import com.shubilet.api_gateway.common.annotations.RequiresSession;
+import com.shubilet.api_gateway.common.annotations.SessionMember;
 import com.shubilet.api_gateway.common.constants.ServiceURLs;
+import com.shubilet.api_gateway.common.enums.UserType;
 import com.shubilet.api_gateway.controllers.ProfileManagementController;
 import com.shubilet.api_gateway.dataTransferObjects.MessageDTO;
 import com.shubilet.api_gateway.dataTransferObjects.external.requests.profileManagement.CardCreationExternalDTO;
@@ -20,16 +23,13 @@ import com.shubilet.api_gateway.dataTransferObjects.internal.requests.profileMan
 import com.shubilet.api_gateway.dataTransferObjects.internal.requests.profileManagement.FavoriteCompanyAdditionInternalDTO;
 import com.shubilet.api_gateway.dataTransferObjects.internal.requests.profileManagement.FavoriteCompanyDeletionInternalDTO;
 import com.shubilet.api_gateway.dataTransferObjects.internal.requests.profileManagement.MemberAttributeChangeInternalDTO;
-import com.shubilet.api_gateway.dataTransferObjects.internal.CookieDTO;
 import com.shubilet.api_gateway.dataTransferObjects.internal.responses.auth.MemberCheckMessageDTO;
-import com.shubilet.api_gateway.managers.HttpSessionManager;
 import com.shubilet.api_gateway.mappers.CookieMapper;
 import com.shubilet.api_gateway.mappers.profileManagement.CardCreationExternalMapper;
 import com.shubilet.api_gateway.mappers.profileManagement.CardDeletionExternalMapper;
 import com.shubilet.api_gateway.mappers.profileManagement.FavoriteCompanyAdditionExternalMapper;
 import com.shubilet.api_gateway.mappers.profileManagement.FavoriteCompanyDeletionExternalMapper;
 import com.shubilet.api_gateway.mappers.profileManagement.MemberAttributeChangeExternalMapper;
-import jakarta.servlet.http.HttpSession;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
@@ -52,7 +52,6 @@ public class ProfileManagementControllerImpl implements ProfileManagementControl
 
     private static final Logger logger = LoggerFactory.getLogger(ProfileManagementControllerImpl.class);
     private final RestTemplate restTemplate;
-    private final HttpSessionManager httpSessionManager;
     private final CookieMapper cookieMapper;
     private final MemberAttributeChangeExternalMapper memberAttributeChangeExternalMapper;
     private final FavoriteCompanyAdditionExternalMapper favoriteCompanyAdditionExternalMapper;
@@ -74,12 +73,12 @@ public class ProfileManagementControllerImpl implements ProfileManagementControl
         this.favoriteCompanyDeletionExternalMapper = favoriteCompanyDeletionExternalMapper;
         this.cardCreationExternalMapper = cardCreationExternalMapper;
         this.cardDeletionExternalMapper = cardDeletionExternalMapper;
-        this.httpSessionManager = new HttpSessionManager();
     }
 
+    @RequiresSession(UserType.CUSTOMER)
     @PostMapping("/customer/edit/name")
     @Override
-    public ResponseEntity<MessageDTO> customerEditName(HttpSession httpSession, @RequestBody MemberAttributeChangeExternalDTO memberAttributeChangeExternalDTO) {
+    public ResponseEntity<MessageDTO> customerEditName(@SessionMember MemberCheckMessageDTO memberCheckMessageDTO, @RequestBody MemberAttributeChangeExternalDTO memberAttributeChangeExternalDTO) {
         String requestId = UUID.randomUUID().toString();
         logger.info("Start Login (requestId={})", requestId);
 
@@ -87,39 +86,6 @@ public class ProfileManagementControllerImpl implements ProfileManagementControl
         headers.set("X-Request-Id", requestId);
         headers.setContentType(MediaType.APPLICATION_JSON);
 
-        // Send Request to Security Service for Checking Existing Session
-        CookieDTO cookieDTO = httpSessionManager.fromSessionToCookieDTO(httpSession);
-        HttpEntity<CookieDTO> securityServiceCheckSessionCustomerRequest = new HttpEntity<>(cookieDTO, headers);
-        ResponseEntity<MemberCheckMessageDTO> securityServiceCheckCustomerSessionResponse = restTemplate.exchange(
-                ServiceURLs.SECURITY_SERVICE_CHECK_CUSTOMER_SESSION_URL,
-                HttpMethod.POST,
-                securityServiceCheckSessionCustomerRequest,
-                MemberCheckMessageDTO.class
-        );
-
-        cookieDTO = securityServiceCheckCustomerSessionResponse.getBody().getCookie();
-        httpSessionManager.updateSessionCookie(httpSession, cookieDTO);
-
-        // There is already an Existing Session
-        if (securityServiceCheckCustomerSessionResponse.getStatusCode().is2xxSuccessful()) {
-            logger.info("Customer Session Exists (requestId={})", requestId);
-        }
-
-        // No User is Logged in Clarified by Security Service
-        if (securityServiceCheckCustomerSessionResponse.getStatusCode().is4xxClientError()) {
-            return ResponseEntity
-                    .status(securityServiceCheckCustomerSessionResponse.getStatusCode())
-                    .body(new MessageDTO("There is no Existing Customer Session."));
-        }
-
-        // Something Went Wrong on Security Service
-        if (securityServiceCheckCustomerSessionResponse.getStatusCode().is5xxServerError()) {
-            return ResponseEntity
-                    .status(securityServiceCheckCustomerSessionResponse.getStatusCode())
-                    .body(new MessageDTO(securityServiceCheckCustomerSessionResponse.getBody().getMessage()));
-        }
-
-        MemberCheckMessageDTO memberCheckMessageDTO = securityServiceCheckCustomerSessionResponse.getBody();
         MemberAttributeChangeInternalDTO memberAttributeChangeInternalDTO = memberAttributeChangeExternalMapper.toMemberAttributeChangeInternalDTO(memberAttributeChangeExternalDTO, memberCheckMessageDTO);
 
         HttpEntity<MemberAttributeChangeInternalDTO> memberServiceCustomerProfileEditNameRequest = new HttpEntity<>(memberAttributeChangeInternalDTO, headers);
@@ -150,9 +116,10 @@ public class ProfileManagementControllerImpl implements ProfileManagementControl
         return ResponseEntity.status(HttpStatus.OK).body(new MessageDTO("Customer Name Successfully Updated"));
     }
 
+    @RequiresSession(UserType.CUSTOMER)
     @PostMapping("/customer/edit/surname")
     @Override
-    public ResponseEntity<MessageDTO> customerEditSurname(HttpSession httpSession, @RequestBody MemberAttributeChangeExternalDTO memberAttributeChangeExternalDTO) {
+    public ResponseEntity<MessageDTO> customerEditSurname(@SessionMember MemberCheckMessageDTO memberCheckMessageDTO, @RequestBody MemberAttributeChangeExternalDTO memberAttributeChangeExternalDTO) {
         String requestId = UUID.randomUUID().toString();
         logger.info("Start Login (requestId={})", requestId);
 
@@ -160,36 +127,6 @@ public class ProfileManagementControllerImpl implements ProfileManagementControl
         headers.set("X-Request-Id", requestId);
         headers.setContentType(MediaType.APPLICATION_JSON);
 
-        // Send Request to Security Service for Checking Existing Session
-        CookieDTO cookieDTO = httpSessionManager.fromSessionToCookieDTO(httpSession);
-        HttpEntity<CookieDTO> securityServiceCheckSessionCustomerRequest = new HttpEntity<>(cookieDTO, headers);
-        ResponseEntity<MemberCheckMessageDTO> securityServiceCheckCustomerSessionResponse = restTemplate.exchange(
-                ServiceURLs.SECURITY_SERVICE_CHECK_CUSTOMER_SESSION_URL,
-                HttpMethod.POST,
-                securityServiceCheckSessionCustomerRequest,
-                MemberCheckMessageDTO.class
-        );
-
-        // There is already an Existing Session
-        if (securityServiceCheckCustomerSessionResponse.getStatusCode().is2xxSuccessful()) {
-            logger.info("Customer Session Exists (requestId={})", requestId);
-        }
-
-        // No User is Logged in Clarified by Security Service
-        if (securityServiceCheckCustomerSessionResponse.getStatusCode().is4xxClientError()) {
-            return ResponseEntity
-                    .status(securityServiceCheckCustomerSessionResponse.getStatusCode())
-                    .body(new MessageDTO("There is no Existing Customer Session."));
-        }
-
-        // Something Went Wrong on Security Service
-        if (securityServiceCheckCustomerSessionResponse.getStatusCode().is5xxServerError()) {
-            return ResponseEntity
-                    .status(securityServiceCheckCustomerSessionResponse.getStatusCode())
-                    .body(new MessageDTO(securityServiceCheckCustomerSessionResponse.getBody().getMessage()));
-        }
-
-        MemberCheckMessageDTO memberCheckMessageDTO = securityServiceCheckCustomerSessionResponse.getBody();
         MemberAttributeChangeInternalDTO memberAttributeChangeInternalDTO = memberAttributeChangeExternalMapper.toMemberAttributeChangeInternalDTO(memberAttributeChangeExternalDTO, memberCheckMessageDTO);
 
         HttpEntity<MemberAttributeChangeInternalDTO> memberServiceCustomerProfileEditNameRequest = new HttpEntity<>(memberAttributeChangeInternalDTO, headers);
@@ -217,9 +154,10 @@ public class ProfileManagementControllerImpl implements ProfileManagementControl
         return ResponseEntity.status(HttpStatus.OK).body(new MessageDTO("Customer Surname Successfully Updated"));
     }
 
+    @RequiresSession(UserType.CUSTOMER)
     @PostMapping("/customer/edit/gender")
     @Override
-    public ResponseEntity<MessageDTO> customerEditGender(HttpSession httpSession, @RequestBody MemberAttributeChangeExternalDTO memberAttributeChangeExternalDTO) {
+    public ResponseEntity<MessageDTO> customerEditGender(@SessionMember MemberCheckMessageDTO memberCheckMessageDTO, @RequestBody MemberAttributeChangeExternalDTO memberAttributeChangeExternalDTO) {
         String requestId = UUID.randomUUID().toString();
         logger.info("Start Login (requestId={})", requestId);
 
@@ -227,36 +165,6 @@ public class ProfileManagementControllerImpl implements ProfileManagementControl
         headers.set("X-Request-Id", requestId);
         headers.setContentType(MediaType.APPLICATION_JSON);
 
-        // Send Request to Security Service for Checking Existing Session
-        CookieDTO cookieDTO = httpSessionManager.fromSessionToCookieDTO(httpSession);
-        HttpEntity<CookieDTO> securityServiceCheckSessionCustomerRequest = new HttpEntity<>(cookieDTO, headers);
-        ResponseEntity<MemberCheckMessageDTO> securityServiceCheckCustomerSessionResponse = restTemplate.exchange(
-                ServiceURLs.SECURITY_SERVICE_CHECK_CUSTOMER_SESSION_URL,
-                HttpMethod.POST,
-                securityServiceCheckSessionCustomerRequest,
-                MemberCheckMessageDTO.class
-        );
-
-        // There is already an Existing Session
-        if (securityServiceCheckCustomerSessionResponse.getStatusCode().is2xxSuccessful()) {
-            logger.info("Customer Session Exists (requestId={})", requestId);
-        }
-
-        // No User is Logged in Clarified by Security Service
-        if (securityServiceCheckCustomerSessionResponse.getStatusCode().is4xxClientError()) {
-            return ResponseEntity
-                    .status(HttpStatus.BAD_REQUEST)
-                    .body(new MessageDTO("There is no Existing Customer Session."));
-        }
-
-        // Something Went Wrong on Security Service
-        if (securityServiceCheckCustomerSessionResponse.getStatusCode().is5xxServerError()) {
-            return ResponseEntity
-                    .status(securityServiceCheckCustomerSessionResponse.getStatusCode())
-                    .body(new MessageDTO(securityServiceCheckCustomerSessionResponse.getBody().getMessage()));
-        }
-
-        MemberCheckMessageDTO memberCheckMessageDTO = securityServiceCheckCustomerSessionResponse.getBody();
         MemberAttributeChangeInternalDTO memberAttributeChangeInternalDTO = memberAttributeChangeExternalMapper.toMemberAttributeChangeInternalDTO(memberAttributeChangeExternalDTO, memberCheckMessageDTO);
 
         HttpEntity<MemberAttributeChangeInternalDTO> memberServiceCustomerProfileEditNameRequest = new HttpEntity<>(memberAttributeChangeInternalDTO, headers);
@@ -286,9 +194,10 @@ public class ProfileManagementControllerImpl implements ProfileManagementControl
         return ResponseEntity.status(HttpStatus.OK).body(new MessageDTO("Customer Gender Successfully Updated"));
     }
 
+    @RequiresSession(UserType.CUSTOMER)
     @PostMapping("/customer/edit/email")
     @Override
-    public ResponseEntity<MessageDTO> customerEditEmail(HttpSession httpSession, @RequestBody MemberAttributeChangeExternalDTO memberAttributeChangeExternalDTO) {
+    public ResponseEntity<MessageDTO> customerEditEmail(@SessionMember MemberCheckMessageDTO memberCheckMessageDTO, @RequestBody MemberAttributeChangeExternalDTO memberAttributeChangeExternalDTO) {
         String requestId = UUID.randomUUID().toString();
         logger.info("Start Login (requestId={})", requestId);
 
@@ -296,36 +205,6 @@ public class ProfileManagementControllerImpl implements ProfileManagementControl
         headers.set("X-Request-Id", requestId);
         headers.setContentType(MediaType.APPLICATION_JSON);
 
-        // Send Request to Security Service for Checking Existing Session
-        CookieDTO cookieDTO = httpSessionManager.fromSessionToCookieDTO(httpSession);
-        HttpEntity<CookieDTO> securityServiceCheckSessionCustomerRequest = new HttpEntity<>(cookieDTO, headers);
-        ResponseEntity<MemberCheckMessageDTO> securityServiceCheckCustomerSessionResponse = restTemplate.exchange(
-                ServiceURLs.SECURITY_SERVICE_CHECK_CUSTOMER_SESSION_URL,
-                HttpMethod.POST,
-                securityServiceCheckSessionCustomerRequest,
-                MemberCheckMessageDTO.class
-        );
-
-        // There is already an Existing Session
-        if (securityServiceCheckCustomerSessionResponse.getStatusCode().is2xxSuccessful()) {
-            logger.info("Customer Session Exists (requestId={})", requestId);
-        }
-
-        // No User is Logged in Clarified by Security Service
-        if (securityServiceCheckCustomerSessionResponse.getStatusCode().is4xxClientError()) {
-            return ResponseEntity
-                    .status(securityServiceCheckCustomerSessionResponse.getStatusCode())
-                    .body(new MessageDTO("There is no Existing Customer Session."));
-        }
-
-        // Something Went Wrong on Security Service
-        if (securityServiceCheckCustomerSessionResponse.getStatusCode().is5xxServerError()) {
-            return ResponseEntity
-                    .status(securityServiceCheckCustomerSessionResponse.getStatusCode())
-                    .body(new MessageDTO(securityServiceCheckCustomerSessionResponse.getBody().getMessage()));
-        }
-
-        MemberCheckMessageDTO memberCheckMessageDTO = securityServiceCheckCustomerSessionResponse.getBody();
         MemberAttributeChangeInternalDTO memberAttributeChangeInternalDTO = memberAttributeChangeExternalMapper.toMemberAttributeChangeInternalDTO(memberAttributeChangeExternalDTO, memberCheckMessageDTO);
 
         HttpEntity<MemberAttributeChangeInternalDTO> memberServiceCustomerProfileEditNameRequest = new HttpEntity<>(memberAttributeChangeInternalDTO, headers);
@@ -355,9 +234,10 @@ public class ProfileManagementControllerImpl implements ProfileManagementControl
         return ResponseEntity.status(HttpStatus.OK).body(new MessageDTO("Customer Email Successfully Updated"));
     }
 
+    @RequiresSession(UserType.CUSTOMER)
     @PostMapping("/customer/edit/password")
     @Override
-    public ResponseEntity<MessageDTO> customerEditPassword(HttpSession httpSession, @RequestBody MemberAttributeChangeExternalDTO memberAttributeChangeExternalDTO) {
+    public ResponseEntity<MessageDTO> customerEditPassword(@SessionMember MemberCheckMessageDTO memberCheckMessageDTO, @RequestBody MemberAttributeChangeExternalDTO memberAttributeChangeExternalDTO) {
         String requestId = UUID.randomUUID().toString();
         logger.info("Start Login (requestId={})", requestId);
 
@@ -365,34 +245,6 @@ public class ProfileManagementControllerImpl implements ProfileManagementControl
         headers.set("X-Request-Id", requestId);
         headers.setContentType(MediaType.APPLICATION_JSON);
 
-        // Send Request to Security Service for Checking Existing Session
-        CookieDTO cookieDTO = httpSessionManager.fromSessionToCookieDTO(httpSession);
-        HttpEntity<CookieDTO> securityServiceCheckSessionCustomerRequest = new HttpEntity<>(cookieDTO, headers);
-        ResponseEntity<MemberCheckMessageDTO> securityServiceCheckCustomerSessionResponse = restTemplate.exchange(
-                ServiceURLs.SECURITY_SERVICE_CHECK_CUSTOMER_SESSION_URL,
-                HttpMethod.POST,
-                securityServiceCheckSessionCustomerRequest,
-                MemberCheckMessageDTO.class
-        );
-
-        // There is already an Existing Session
-        if (securityServiceCheckCustomerSessionResponse.getStatusCode().is2xxSuccessful()) {
-            logger.info("Customer Session Exists (requestId={})", requestId);
-        }
-
-        // No User is Logged in Clarified by Security Service
-        if (securityServiceCheckCustomerSessionResponse.getStatusCode().is4xxClientError()) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new MessageDTO("There is no Existing Customer Session."));
-        }
-
-        // Something Went Wrong on Security Service
-        if (securityServiceCheckCustomerSessionResponse.getStatusCode().is5xxServerError()) {
-            return ResponseEntity
-                    .status(securityServiceCheckCustomerSessionResponse.getStatusCode())
-                    .body(new MessageDTO(securityServiceCheckCustomerSessionResponse.getBody().getMessage()));
-        }
-
-        MemberCheckMessageDTO memberCheckMessageDTO = securityServiceCheckCustomerSessionResponse.getBody();
         MemberAttributeChangeInternalDTO memberAttributeChangeInternalDTO = memberAttributeChangeExternalMapper.toMemberAttributeChangeInternalDTO(memberAttributeChangeExternalDTO, memberCheckMessageDTO);
 
         HttpEntity<MemberAttributeChangeInternalDTO> memberServiceCustomerProfileEditNameRequest = new HttpEntity<>(memberAttributeChangeInternalDTO, headers);
@@ -422,9 +274,10 @@ public class ProfileManagementControllerImpl implements ProfileManagementControl
         return ResponseEntity.status(HttpStatus.OK).body(new MessageDTO("Customer Password Successfully Updated"));
     }
 
+    @RequiresSession(UserType.CUSTOMER)
     @PostMapping("/customer/edit/favoriteCompany/add")
     @Override
-    public ResponseEntity<MessageDTO> addFavoriteCompany(HttpSession httpSession, FavoriteCompanyAdditionExternalDTO favoriteCompanyAdditionExternalDTO) {
+    public ResponseEntity<MessageDTO> addFavoriteCompany(@SessionMember MemberCheckMessageDTO memberCheckMessageDTO, FavoriteCompanyAdditionExternalDTO favoriteCompanyAdditionExternalDTO) {
         String requestId = UUID.randomUUID().toString();
         logger.info("Start Expedition Search (requestId={})", requestId);
 
@@ -432,33 +285,6 @@ public class ProfileManagementControllerImpl implements ProfileManagementControl
         headers.set("X-Request-Id", requestId);
         headers.setContentType(MediaType.APPLICATION_JSON);
 
-        // Send Request to Security Service for Checking Existing Session
-        CookieDTO cookieDTO = httpSessionManager.fromSessionToCookieDTO(httpSession);
-        HttpEntity<CookieDTO> securityServiceCheckSessionCustomerRequest = new HttpEntity<>(cookieDTO, headers);
-        ResponseEntity<MemberCheckMessageDTO> securityServiceCheckCustomerSessionResponse = restTemplate.exchange(
-                ServiceURLs.SECURITY_SERVICE_CHECK_CUSTOMER_SESSION_URL,
-                HttpMethod.POST,
-                securityServiceCheckSessionCustomerRequest,
-                MemberCheckMessageDTO.class
-        );
-
-        // Session Existence Clarified by Security Service
-        if (securityServiceCheckCustomerSessionResponse.getStatusCode().is2xxSuccessful()) {
-            logger.info("Customer Session Exists (requestId={})", requestId);
-        }
-
-        // No User is Logged in Clarified by Security Service
-        if (securityServiceCheckCustomerSessionResponse.getStatusCode().is4xxClientError()) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new MessageDTO("There is no Existing Customer Session."));
-        }
-
-        MemberCheckMessageDTO memberCheckMessageDTO = securityServiceCheckCustomerSessionResponse.getBody();
-        // Something Went Wrong on Security Service
-        if (securityServiceCheckCustomerSessionResponse.getStatusCode().is5xxServerError()) {
-            return ResponseEntity
-                    .status(securityServiceCheckCustomerSessionResponse.getStatusCode())
-                    .body(new MessageDTO(securityServiceCheckCustomerSessionResponse.getBody().getMessage()));
-        }
         FavoriteCompanyAdditionInternalDTO favoriteCompanyAdditionInternalDTO = favoriteCompanyAdditionExternalMapper
                 .toFavoriteCompanyAdditionInternalDTO(favoriteCompanyAdditionExternalDTO, memberCheckMessageDTO);
 
@@ -487,9 +313,10 @@ public class ProfileManagementControllerImpl implements ProfileManagementControl
         return ResponseEntity.status(HttpStatus.OK).body(new MessageDTO("Success"));
     }
 
+    @RequiresSession(UserType.CUSTOMER)
     @PostMapping("/customer/edit/favoriteCompany/delete")
     @Override
-    public ResponseEntity<MessageDTO> deleteFavoriteCompany(HttpSession httpSession, FavoriteCompanyDeletionExternalDTO favoriteCompanyDeletionExternalDTO) {
+    public ResponseEntity<MessageDTO> deleteFavoriteCompany(@SessionMember MemberCheckMessageDTO memberCheckMessageDTO, FavoriteCompanyDeletionExternalDTO favoriteCompanyDeletionExternalDTO) {
         String requestId = UUID.randomUUID().toString();
         logger.info("Start Expedition Search (requestId={})", requestId);
 
@@ -497,35 +324,6 @@ public class ProfileManagementControllerImpl implements ProfileManagementControl
         headers.set("X-Request-Id", requestId);
         headers.setContentType(MediaType.APPLICATION_JSON);
 
-        // Send Request to Security Service for Checking Existing Session
-        CookieDTO cookieDTO = httpSessionManager.fromSessionToCookieDTO(httpSession);
-        HttpEntity<CookieDTO> securityServiceCheckSessionCustomerRequest = new HttpEntity<>(cookieDTO, headers);
-        ResponseEntity<MemberCheckMessageDTO> securityServiceCheckCustomerSessionResponse = restTemplate.exchange(
-                ServiceURLs.SECURITY_SERVICE_CHECK_CUSTOMER_SESSION_URL,
-                HttpMethod.POST,
-                securityServiceCheckSessionCustomerRequest,
-                MemberCheckMessageDTO.class
-        );
-
-        // Session Existence Clarified by Security Service
-        if (securityServiceCheckCustomerSessionResponse.getStatusCode().is2xxSuccessful()) {
-            logger.info("Customer Session Exists (requestId={})", requestId);
-        }
-
-        // No User is Logged in Clarified by Security Service
-        if (securityServiceCheckCustomerSessionResponse.getStatusCode().is4xxClientError()) {
-            return ResponseEntity
-                    .status(securityServiceCheckCustomerSessionResponse.getStatusCode())
-                    .body(new MessageDTO("There is no Existing Customer Session."));
-        }
-
-        MemberCheckMessageDTO memberCheckMessageDTO = securityServiceCheckCustomerSessionResponse.getBody();
-        // Something Went Wrong on Security Service
-        if (securityServiceCheckCustomerSessionResponse.getStatusCode().is5xxServerError()) {
-            return ResponseEntity
-                    .status(securityServiceCheckCustomerSessionResponse.getStatusCode())
-                    .body(new MessageDTO(securityServiceCheckCustomerSessionResponse.getBody().getMessage()));
-        }
         FavoriteCompanyDeletionInternalDTO favoriteCompanyDeletionInternalDTO = favoriteCompanyDeletionExternalMapper
                 .toFavoriteCompanyDeletionInternalDTO(favoriteCompanyDeletionExternalDTO, memberCheckMessageDTO);
 
@@ -556,9 +354,10 @@ public class ProfileManagementControllerImpl implements ProfileManagementControl
         return ResponseEntity.status(HttpStatus.OK).body(new MessageDTO("Success"));
     }
 
+    @RequiresSession(UserType.CUSTOMER)
     @PostMapping("/customer/edit/card/add")
     @Override
-    public ResponseEntity<MessageDTO> addCard(HttpSession httpSession, @RequestBody CardCreationExternalDTO cardCreationExternalDTO) {
+    public ResponseEntity<MessageDTO> addCard(@SessionMember MemberCheckMessageDTO memberCheckMessageDTO, @RequestBody CardCreationExternalDTO cardCreationExternalDTO) {
         String requestId = UUID.randomUUID().toString();
         logger.info("Start Expedition Search (requestId={})", requestId);
 
@@ -566,28 +365,7 @@ public class ProfileManagementControllerImpl implements ProfileManagementControl
         headers.set("X-Request-Id", requestId);
         headers.setContentType(MediaType.APPLICATION_JSON);
 
-        // Send Request to Security Service for Checking Existing Session
-        CookieDTO cookieDTO = httpSessionManager.fromSessionToCookieDTO(httpSession);
-        HttpEntity<CookieDTO> securityServiceCheckSessionCustomerRequest = new HttpEntity<>(cookieDTO, headers);
-        ResponseEntity<MemberCheckMessageDTO> securityServiceCheckCustomerSessionResponse = restTemplate.exchange(
-                ServiceURLs.SECURITY_SERVICE_CHECK_CUSTOMER_SESSION_URL,
-                HttpMethod.POST,
-                securityServiceCheckSessionCustomerRequest,
-                MemberCheckMessageDTO.class
-        );
-
-        // Session Existence Clarified by Security Service
-        if (securityServiceCheckCustomerSessionResponse.getStatusCode().is2xxSuccessful()) {
-            logger.info("Customer Session Exists (requestId={})", requestId);
-        } else if (securityServiceCheckCustomerSessionResponse.getStatusCode().is4xxClientError()) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new MessageDTO("There is no Existing Customer Session."));
-        } else if (securityServiceCheckCustomerSessionResponse.getStatusCode().is5xxServerError()) {
-            return ResponseEntity
-                    .status(securityServiceCheckCustomerSessionResponse.getStatusCode())
-                    .body(new MessageDTO(securityServiceCheckCustomerSessionResponse.getBody().getMessage()));
-        }
-
-        CardCreationInternalDTO cardCreationInternalDTO = cardCreationExternalMapper.toCardCreationInternalDTO(cardCreationExternalDTO, securityServiceCheckCustomerSessionResponse.getBody());
+        CardCreationInternalDTO cardCreationInternalDTO = cardCreationExternalMapper.toCardCreationInternalDTO(cardCreationExternalDTO, memberCheckMessageDTO);
 
         HttpEntity<CardCreationInternalDTO> memberServiceCardCreationRequest = new HttpEntity<>(cardCreationInternalDTO, headers);
         ResponseEntity<MessageDTO> memberServiceCardCreationResponse = restTemplate.exchange(
@@ -614,9 +392,10 @@ public class ProfileManagementControllerImpl implements ProfileManagementControl
         return ResponseEntity.status(HttpStatus.OK).body(memberServiceCardCreationResponse.getBody());
     }
 
+    @RequiresSession(UserType.CUSTOMER)
     @PostMapping("/customer/edit/card/delete")
     @Override
-    public ResponseEntity<MessageDTO> deleteCard(HttpSession httpSession, @RequestBody CardDeletionExternalDTO cardDeletionExternalDTO) {
+    public ResponseEntity<MessageDTO> deleteCard(@SessionMember MemberCheckMessageDTO memberCheckMessageDTO, @RequestBody CardDeletionExternalDTO cardDeletionExternalDTO) {
         String requestId = UUID.randomUUID().toString();
         logger.info("Start Expedition Search (requestId={})", requestId);
 
@@ -624,28 +403,7 @@ public class ProfileManagementControllerImpl implements ProfileManagementControl
         headers.set("X-Request-Id", requestId);
         headers.setContentType(MediaType.APPLICATION_JSON);
 
-        // Send Request to Security Service for Checking Existing Session
-        CookieDTO cookieDTO = httpSessionManager.fromSessionToCookieDTO(httpSession);
-        HttpEntity<CookieDTO> securityServiceCheckSessionCustomerRequest = new HttpEntity<>(cookieDTO, headers);
-        ResponseEntity<MemberCheckMessageDTO> securityServiceCheckCustomerSessionResponse = restTemplate.exchange(
-                ServiceURLs.SECURITY_SERVICE_CHECK_CUSTOMER_SESSION_URL,
-                HttpMethod.POST,
-                securityServiceCheckSessionCustomerRequest,
-                MemberCheckMessageDTO.class
-        );
-
-        // Session Existence Clarified by Security Service
-        if (securityServiceCheckCustomerSessionResponse.getStatusCode().is2xxSuccessful()) {
-            logger.info("Customer Session Exists (requestId={})", requestId);
-        } else if (securityServiceCheckCustomerSessionResponse.getStatusCode().is4xxClientError()) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new MessageDTO("There is no Existing Customer Session."));
-        } else if (securityServiceCheckCustomerSessionResponse.getStatusCode().is5xxServerError()) {
-            return ResponseEntity
-                    .status(securityServiceCheckCustomerSessionResponse.getStatusCode())
-                    .body(new MessageDTO(securityServiceCheckCustomerSessionResponse.getBody().getMessage()));
-        }
-
-        CardDeletionInternalDTO cardDeletionInternalDTO = cardDeletionExternalMapper.toCardDeletionInternalDTO(cardDeletionExternalDTO, securityServiceCheckCustomerSessionResponse.getBody());
+        CardDeletionInternalDTO cardDeletionInternalDTO = cardDeletionExternalMapper.toCardDeletionInternalDTO(cardDeletionExternalDTO, memberCheckMessageDTO);
 
         HttpEntity<CardDeletionInternalDTO> memberServiceCardCreationRequest = new HttpEntity<>(cardDeletionInternalDTO, headers);
         ResponseEntity<MessageDTO> memberServiceCardCreationResponse = restTemplate.exchange(
@@ -673,9 +431,10 @@ public class ProfileManagementControllerImpl implements ProfileManagementControl
     }
 
 
+    @RequiresSession(UserType.CUSTOMER)
     @PostMapping("/customer/get")
     @Override
-    public ResponseEntity<CustomerProfileDTO> sendCustomerProfile(HttpSession httpSession) {
+    public ResponseEntity<CustomerProfileDTO> sendCustomerProfile(@SessionMember MemberCheckMessageDTO memberCheckMessageDTO) {
         String requestId = UUID.randomUUID().toString();
         logger.info("Start Getting Customer Profile (requestId={})", requestId);
 
@@ -683,36 +442,6 @@ public class ProfileManagementControllerImpl implements ProfileManagementControl
         headers.set("X-Request-Id", requestId);
         headers.setContentType(MediaType.APPLICATION_JSON);
 
-        // Send Request to Security Service for Checking Existing Session
-        CookieDTO cookieDTO = httpSessionManager.fromSessionToCookieDTO(httpSession);
-        HttpEntity<CookieDTO> securityServiceCheckSessionCustomerRequest = new HttpEntity<>(cookieDTO, headers);
-        ResponseEntity<MemberCheckMessageDTO> securityServiceCheckCustomerSessionResponse = restTemplate.exchange(
-                ServiceURLs.SECURITY_SERVICE_CHECK_CUSTOMER_SESSION_URL,
-                HttpMethod.POST,
-                securityServiceCheckSessionCustomerRequest,
-                MemberCheckMessageDTO.class
-        );
-
-        // There is already an Existing Session
-        if (securityServiceCheckCustomerSessionResponse.getStatusCode().is2xxSuccessful()) {
-            logger.info("Customer Session Exists (requestId={})", requestId);
-        }
-
-        // No User is Logged in Clarified by Security Service
-        if (securityServiceCheckCustomerSessionResponse.getStatusCode().is4xxClientError()) {
-            return ResponseEntity
-                    .status(securityServiceCheckCustomerSessionResponse.getStatusCode())
-                    .body(null);
-        }
-
-        // Something Went Wrong on Security Service
-        if (securityServiceCheckCustomerSessionResponse.getStatusCode().is5xxServerError()) {
-            return ResponseEntity
-                    .status(securityServiceCheckCustomerSessionResponse.getStatusCode())
-                    .body(null);
-        }
-
-        MemberCheckMessageDTO memberCheckMessageDTO = securityServiceCheckCustomerSessionResponse.getBody();
         CustomerIdDTO customerIdDTO = cookieMapper.toCustomerIdDTO(memberCheckMessageDTO.getCookie());
 
         HttpEntity<CustomerIdDTO> memberServiceGetCustomerProfileRequest = new HttpEntity<>(customerIdDTO, headers);
@@ -740,9 +469,10 @@ public class ProfileManagementControllerImpl implements ProfileManagementControl
         return ResponseEntity.status(HttpStatus.OK).body(memberServiceGetCustomerProfileResponse.getBody());
     }
 
+    @RequiresSession(UserType.COMPANY)
     @PostMapping("/company/get")
     @Override
-    public ResponseEntity<CompanyProfileDTO> sendCompanyProfile(HttpSession httpSession) {
+    public ResponseEntity<CompanyProfileDTO> sendCompanyProfile(@SessionMember MemberCheckMessageDTO memberCheckMessageDTO) {
         String requestId = UUID.randomUUID().toString();
         logger.info("Start Getting Company Profile (requestId={})", requestId);
 
@@ -750,36 +480,6 @@ public class ProfileManagementControllerImpl implements ProfileManagementControl
         headers.set("X-Request-Id", requestId);
         headers.setContentType(MediaType.APPLICATION_JSON);
 
-        // Send Request to Security Service for Checking Existing Session
-        CookieDTO cookieDTO = httpSessionManager.fromSessionToCookieDTO(httpSession);
-        HttpEntity<CookieDTO> securityServiceCheckSessionCompanyRequest = new HttpEntity<>(cookieDTO, headers);
-        ResponseEntity<MemberCheckMessageDTO> securityServiceCheckCompanySessionResponse = restTemplate.exchange(
-                ServiceURLs.SECURITY_SERVICE_CHECK_COMPANY_SESSION_URL,
-                HttpMethod.POST,
-                securityServiceCheckSessionCompanyRequest,
-                MemberCheckMessageDTO.class
-        );
-
-        // There is already an Existing Session
-        if (securityServiceCheckCompanySessionResponse.getStatusCode().is2xxSuccessful()) {
-            logger.info("Company Session Exists (requestId={})", requestId);
-        }
-
-        // No User is Logged in Clarified by Security Service
-        if (securityServiceCheckCompanySessionResponse.getStatusCode().is4xxClientError()) {
-            return ResponseEntity
-                    .status(securityServiceCheckCompanySessionResponse.getStatusCode())
-                    .body(null);
-        }
-
-        // Something Went Wrong on Security Service
-        if (securityServiceCheckCompanySessionResponse.getStatusCode().is5xxServerError()) {
-            return ResponseEntity
-                    .status(securityServiceCheckCompanySessionResponse.getStatusCode())
-                    .body(null);
-        }
-
-        MemberCheckMessageDTO memberCheckMessageDTO = securityServiceCheckCompanySessionResponse.getBody();
         CompanyIdDTO companyIdDTO = cookieMapper.toCompanyIdDTO(memberCheckMessageDTO.getCookie());
 
         HttpEntity<CompanyIdDTO> memberServiceGetCompanyProfileRequest = new HttpEntity<>(companyIdDTO, headers);
@@ -807,9 +507,10 @@ public class ProfileManagementControllerImpl implements ProfileManagementControl
         return ResponseEntity.status(HttpStatus.OK).body(memberServiceGetCompanyProfileResponse.getBody());
     }
 
+    @RequiresSession(UserType.ADMIN)
     @PostMapping("/admin/get")
     @Override
-    public ResponseEntity<AdminProfileDTO> sendAdminProfile(HttpSession httpSession) {
+    public ResponseEntity<AdminProfileDTO> sendAdminProfile(@SessionMember MemberCheckMessageDTO memberCheckMessageDTO) {
         String requestId = UUID.randomUUID().toString();
         logger.info("Start Getting Admin Profile (requestId={})", requestId);
 
@@ -817,36 +518,6 @@ public class ProfileManagementControllerImpl implements ProfileManagementControl
         headers.set("X-Request-Id", requestId);
         headers.setContentType(MediaType.APPLICATION_JSON);
 
-        // Send Request to Security Service for Checking Existing Session
-        CookieDTO cookieDTO = httpSessionManager.fromSessionToCookieDTO(httpSession);
-        HttpEntity<CookieDTO> securityServiceCheckSessionAdminRequest = new HttpEntity<>(cookieDTO, headers);
-        ResponseEntity<MemberCheckMessageDTO> securityServiceCheckAdminSessionResponse = restTemplate.exchange(
-                ServiceURLs.SECURITY_SERVICE_CHECK_ADMIN_SESSION_URL,
-                HttpMethod.POST,
-                securityServiceCheckSessionAdminRequest,
-                MemberCheckMessageDTO.class
-        );
-
-        // There is already an Existing Session
-        if (securityServiceCheckAdminSessionResponse.getStatusCode().is2xxSuccessful()) {
-            logger.info("Admin Session Exists (requestId={})", requestId);
-        }
-
-        // No User is Logged in Clarified by Security Service
-        if (securityServiceCheckAdminSessionResponse.getStatusCode().is4xxClientError()) {
-            return ResponseEntity
-                    .status(securityServiceCheckAdminSessionResponse.getStatusCode())
-                    .body(null);
-        }
-
-        // Something Went Wrong on Security Service
-        if (securityServiceCheckAdminSessionResponse.getStatusCode().is5xxServerError()) {
-            return ResponseEntity
-                    .status(securityServiceCheckAdminSessionResponse.getStatusCode())
-                    .body(null);
-        }
-
-        MemberCheckMessageDTO memberCheckMessageDTO = securityServiceCheckAdminSessionResponse.getBody();
         AdminIdDTO adminIdDTO = cookieMapper.toAdminIdDTO(memberCheckMessageDTO.getCookie());
 
         HttpEntity<AdminIdDTO> memberServiceGetAdminProfileRequest = new HttpEntity<>(adminIdDTO, headers);
@@ -874,9 +545,10 @@ public class ProfileManagementControllerImpl implements ProfileManagementControl
         return ResponseEntity.status(HttpStatus.OK).body(memberServiceGetAdminProfileResponse.getBody());
     }
 
+    @RequiresSession(UserType.CUSTOMER)
     @PostMapping("/customer/get/cards")
     @Override
-    public ResponseEntity<CardsDTO> sendCustomerCards(HttpSession httpSession) {
+    public ResponseEntity<CardsDTO> sendCustomerCards(@SessionMember MemberCheckMessageDTO memberCheckMessageDTO) {
         String requestId = UUID.randomUUID().toString();
         logger.info("Start Getting Customer Cards (requestId={})", requestId);
 
@@ -884,36 +556,6 @@ public class ProfileManagementControllerImpl implements ProfileManagementControl
         headers.set("X-Request-Id", requestId);
         headers.setContentType(MediaType.APPLICATION_JSON);
 
-        // Send Request to Security Service for Checking Existing Session
-        CookieDTO cookieDTO = httpSessionManager.fromSessionToCookieDTO(httpSession);
-        HttpEntity<CookieDTO> securityServiceCheckSessionCustomerRequest = new HttpEntity<>(cookieDTO, headers);
-        ResponseEntity<MemberCheckMessageDTO> securityServiceCheckCustomerSessionResponse = restTemplate.exchange(
-                ServiceURLs.SECURITY_SERVICE_CHECK_CUSTOMER_SESSION_URL,
-                HttpMethod.POST,
-                securityServiceCheckSessionCustomerRequest,
-                MemberCheckMessageDTO.class
-        );
-
-        // There is already an Existing Session
-        if (securityServiceCheckCustomerSessionResponse.getStatusCode().is2xxSuccessful()) {
-            logger.info("Customer Session Exists (requestId={})", requestId);
-        }
-
-        // No User is Logged in Clarified by Security Service
-        if (securityServiceCheckCustomerSessionResponse.getStatusCode().is4xxClientError()) {
-            return ResponseEntity
-                    .status(securityServiceCheckCustomerSessionResponse.getStatusCode())
-                    .body(new CardsDTO(securityServiceCheckCustomerSessionResponse.getBody().getMessage()));
-        }
-
-        // Something Went Wrong on Security Service
-        if (securityServiceCheckCustomerSessionResponse.getStatusCode().is5xxServerError()) {
-            return ResponseEntity
-                    .status(securityServiceCheckCustomerSessionResponse.getStatusCode())
-                    .body(new CardsDTO(securityServiceCheckCustomerSessionResponse.getBody().getMessage()));
-        }
-
-        MemberCheckMessageDTO memberCheckMessageDTO = securityServiceCheckCustomerSessionResponse.getBody();
         CustomerIdDTO customerIdDTO = cookieMapper.toCustomerIdDTO(memberCheckMessageDTO.getCookie());
 
         HttpEntity<CustomerIdDTO> expeditionServiceGetCustomerCardsRequest = new HttpEntity<>(customerIdDTO, headers);
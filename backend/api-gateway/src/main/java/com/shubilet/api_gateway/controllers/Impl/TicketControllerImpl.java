@@ -1,6 +1,9 @@
 package com.shubilet.api_gateway.controllers.Impl;
 
+import com.shubilet.api_gateway.common.annotations.RequiresSession;
+import com.shubilet.api_gateway.common.annotations.SessionMember;
 import com.shubilet.api_gateway.common.constants.ServiceURLs;
+import com.shubilet.api_gateway.common.enums.UserType;
 import com.shubilet.api_gateway.controllers.TicketController;
 import com.shubilet.api_gateway.dataTransferObjects.external.requests.expeditionOperations.BuyTicketExternalDTO;
 import com.shubilet.api_gateway.dataTransferObjects.external.responses.ticket.TicketExternalDTO;
@@ -13,13 +16,12 @@ import com.shubilet.api_gateway.dataTransferObjects.internal.responses.expeditio
 import com.shubilet.api_gateway.dataTransferObjects.internal.responses.ticket.TicketInfoDTO;
 import com.shubilet.api_gateway.dataTransferObjects.internal.responses.auth.MemberCheckMessageDTO;
 import com.shubilet.api_gateway.dataTransferObjects.internal.responses.ticket.TicketsInternalDTO;
-import com.shubilet.api_gateway.managers.HttpSessionManager;
+import com.shubilet.api_gateway.managers.CompanyNameCache;
 import com.shubilet.api_gateway.mappers.CookieMapper;
 import com.shubilet.api_gateway.mappers.auth.MemberCheckMessageMapper;
 import com.shubilet.api_gateway.mappers.ticket.BuyTicketExternalMapper;
 import com.shubilet.api_gateway.mappers.CompanyIdNameMapper;
 import com.shubilet.api_gateway.mappers.ticket.TicketsInternalMapper;
-import jakarta.servlet.http.HttpSession;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
@@ -30,6 +32,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.client.RestTemplate;
@@ -42,24 +45,25 @@ import java.util.UUID;
 public class TicketControllerImpl implements TicketController {
     private final Logger logger = LoggerFactory.getLogger(TicketControllerImpl.class);
     private final RestTemplate restTemplate;
-    private final HttpSessionManager httpSessionManager;
     private final CookieMapper cookieMapper;
     private final BuyTicketExternalMapper buyTicketExternalMapper;
     private final TicketsInternalMapper ticketsInternalMapper;
+    private final CompanyNameCache companyNameCache;
 
     public TicketControllerImpl(RestTemplate restTemplate, MemberCheckMessageMapper memberCheckMessageMapper,
                                 CookieMapper cookieMapper, BuyTicketExternalMapper buyTicketExternalMapper,
-                                TicketsInternalMapper ticketsInternalMapper) {
+                                TicketsInternalMapper ticketsInternalMapper, CompanyNameCache companyNameCache) {
         this.restTemplate = restTemplate;
+        this.companyNameCache = companyNameCache;
         this.cookieMapper = cookieMapper;
         this.buyTicketExternalMapper = buyTicketExternalMapper;
         this.ticketsInternalMapper = ticketsInternalMapper;
-        this.httpSessionManager = new HttpSessionManager();
 
     }
 
+    @RequiresSession(UserType.CUSTOMER)
     @PostMapping("/get/customer")
-    public ResponseEntity<TicketsExternalDTO> sendTicketDetailsForCustomer(HttpSession httpSession) {
+    public ResponseEntity<TicketsExternalDTO> sendTicketDetailsForCustomer(@SessionMember MemberCheckMessageDTO memberCheckMessageDTO) {
         String requestId = UUID.randomUUID().toString();
         logger.info("Start Expedition Search (requestId={})", requestId);
 
@@ -67,37 +71,7 @@ public class TicketControllerImpl implements TicketController {
         headers.set("X-Request-Id", requestId);
         headers.setContentType(MediaType.APPLICATION_JSON);
 
-        // Send Request to Security Service for Checking Existing Session
-        CookieDTO cookieDTO = httpSessionManager.fromSessionToCookieDTO(httpSession);
-        HttpEntity<CookieDTO> securityServiceCheckCustomerSessionRequest = new HttpEntity<>(cookieDTO, headers);
-        ResponseEntity<MemberCheckMessageDTO> securityServiceCheckCustomerSessionResponse = restTemplate.exchange(
-                ServiceURLs.SECURITY_SERVICE_CHECK_CUSTOMER_SESSION_URL,
-                HttpMethod.POST,
-                securityServiceCheckCustomerSessionRequest,
-                MemberCheckMessageDTO.class);
-
-        cookieDTO = securityServiceCheckCustomerSessionResponse.getBody().getCookie();
-        httpSessionManager.updateSessionCookie(httpSession, cookieDTO);
-
-        // Session Existence Clarified by Security Service
-        if (securityServiceCheckCustomerSessionResponse.getStatusCode().is2xxSuccessful()) {
-            logger.info("Customer Session Exists (requestId={})", requestId);
-        }
-
-        // No User is Logged in Clarified by Security Service
-        if (securityServiceCheckCustomerSessionResponse.getStatusCode().is4xxClientError()) {
-            return ResponseEntity
-                    .status(securityServiceCheckCustomerSessionResponse.getStatusCode())
-                    .body(new TicketsExternalDTO("There is no Existing Customer Session."));
-        }
-
-        // Something Went Wrong on Security Service
-        if (securityServiceCheckCustomerSessionResponse.getStatusCode().is5xxServerError()) {
-            return ResponseEntity
-                    .status(securityServiceCheckCustomerSessionResponse.getStatusCode())
-                    .body(new TicketsExternalDTO(securityServiceCheckCustomerSessionResponse.getBody().getMessage()));
-        }
-
+        CookieDTO cookieDTO = memberCheckMessageDTO.getCookie();
         CustomerIdDTO customerIdDTO = cookieMapper.toCustomerIdDTO(cookieDTO);
         HttpEntity<CustomerIdDTO> expeditionServiceGetTicketsRequest = new HttpEntity<>(customerIdDTO, headers);
         ResponseEntity<TicketsInternalDTO> expeditionServiceGetTicketsResponse = restTemplate.exchange(
@@ -126,12 +100,8 @@ public class TicketControllerImpl implements TicketController {
         List<CompanyIdDTO> companyIdDTOs = ticketsInternalMapper
                 .toCompanyIdDTOs(expeditionServiceGetTicketsResponse.getBody().getTickets());
 
-        HttpEntity<List<CompanyIdDTO>> memberServiceGetCompanyNamesRequest = new HttpEntity<>(companyIdDTOs, headers);
-        ResponseEntity<CompanyIdNameMapDTO> memberServiceGetCompanyNamesResponse = restTemplate.exchange(
-                ServiceURLs.MEMBER_SERVICE_GET_COMPANY_NAMES_URL,
-                HttpMethod.POST,
-                memberServiceGetCompanyNamesRequest,
-                CompanyIdNameMapDTO.class);
+        // Only Companies Missing from the Cache are Fetched from Member Service
+        ResponseEntity<CompanyIdNameMapDTO> memberServiceGetCompanyNamesResponse = companyNameCache.getCompanyNames(companyIdDTOs, headers);
 
         if (memberServiceGetCompanyNamesResponse.getStatusCode().is2xxSuccessful()) {
             logger.info("Company Names Successfully Retrieved (requestId={})", requestId);
@@ -155,9 +125,12 @@ public class TicketControllerImpl implements TicketController {
         return ResponseEntity.status(HttpStatus.OK).body(new TicketsExternalDTO("Success", ticketGetResults));
     }
 
+    @RequiresSession(UserType.CUSTOMER)
     @PostMapping("/buy")
     @Override
-    public ResponseEntity<TicketInfoDTO> buyTicketForCustomer(HttpSession httpSession, @RequestBody BuyTicketExternalDTO buyTicketExternalDTO) {
+    public ResponseEntity<TicketInfoDTO> buyTicketForCustomer(@SessionMember MemberCheckMessageDTO memberCheckMessageDTO,
+                                                              @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+                                                              @RequestBody BuyTicketExternalDTO buyTicketExternalDTO) {
         String requestId = UUID.randomUUID().toString();
         logger.info("Start Expedition Search (requestId={})", requestId);
 
@@ -165,35 +138,14 @@ public class TicketControllerImpl implements TicketController {
         headers.set("X-Request-Id", requestId);
         headers.setContentType(MediaType.APPLICATION_JSON);
 
-        // Send Request to Security Service for Checking Existing Session
-        CookieDTO cookieDTO = httpSessionManager.fromSessionToCookieDTO(httpSession);
-        HttpEntity<CookieDTO> securityServiceCheckSessionCustomerRequest = new HttpEntity<>(cookieDTO, headers);
-        ResponseEntity<MemberCheckMessageDTO> securityServiceCheckCustomerSessionResponse = restTemplate.exchange(
-                ServiceURLs.SECURITY_SERVICE_CHECK_CUSTOMER_SESSION_URL,
-                HttpMethod.POST,
-                securityServiceCheckSessionCustomerRequest,
-                MemberCheckMessageDTO.class);
-
-        // Session Existence Clarified by Security Service
-        if (securityServiceCheckCustomerSessionResponse.getStatusCode().is2xxSuccessful()) {
-            logger.info("Customer Session Exists (requestId={})", requestId);
-        }
-
-        // No User is Logged in Clarified by Security Service
-        if (securityServiceCheckCustomerSessionResponse.getStatusCode().is4xxClientError()) {
-            return ResponseEntity.status(securityServiceCheckCustomerSessionResponse.getStatusCode())
-                    .body(new TicketInfoDTO(securityServiceCheckCustomerSessionResponse.getBody().getMessage()));
-        }
-
-        // Something Went Wrong on Security Service
-        if (securityServiceCheckCustomerSessionResponse.getStatusCode().is5xxServerError()) {
-            return ResponseEntity.status(securityServiceCheckCustomerSessionResponse.getStatusCode())
-                    .body(new TicketInfoDTO(securityServiceCheckCustomerSessionResponse.getBody().getMessage()));
-        }
-
         BuyTicketInternalDTO buyTicketInternalDTO = buyTicketExternalMapper.toBuyTicketInternalDTO(
                 buyTicketExternalDTO,
-                securityServiceCheckCustomerSessionResponse.getBody());
+                memberCheckMessageDTO);
+
+        // Forward the client's Idempotency-Key so that retried purchases are charged only once
+        if (idempotencyKey != null) {
+            headers.set("Idempotency-Key", idempotencyKey);
+        }
 
         HttpEntity<BuyTicketInternalDTO> expeditionServiceTicketBuyRequest = new HttpEntity<>(buyTicketInternalDTO,
                 headers);
@@ -215,7 +167,7 @@ public class TicketControllerImpl implements TicketController {
 
         // Something Went Wrong on Expedition Service
         if (expeditionServiceTicketBuyResponse.getStatusCode().is5xxServerError()) {
-            return ResponseEntity.status(securityServiceCheckCustomerSessionResponse.getStatusCode())
+            return ResponseEntity.status(expeditionServiceTicketBuyResponse.getStatusCode())
                     .body(expeditionServiceTicketBuyResponse.getBody());
         }
 
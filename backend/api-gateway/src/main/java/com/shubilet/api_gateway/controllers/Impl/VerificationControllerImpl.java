@@ -1,6 +1,9 @@
 package com.shubilet.api_gateway.controllers.Impl;
 
+import com.shubilet.api_gateway.common.annotations.RequiresSession;
+import com.shubilet.api_gateway.common.annotations.SessionMember;
 import com.shubilet.api_gateway.common.constants.ServiceURLs;
+import com.shubilet.api_gateway.common.enums.UserType;
 import com.shubilet.api_gateway.controllers.VerificationController;
 import com.shubilet.api_gateway.dataTransferObjects.external.responses.verification.UnverifiedAdminsDTO;
 import com.shubilet.api_gateway.dataTransferObjects.external.responses.verification.UnverifiedCompaniesDTO;
@@ -12,12 +15,10 @@ import com.shubilet.api_gateway.dataTransferObjects.internal.CookieDTO;
 import com.shubilet.api_gateway.dataTransferObjects.internal.requests.AdminIdDTO;
 import com.shubilet.api_gateway.dataTransferObjects.internal.requests.verification.AdminVerificationInternalDTO;
 import com.shubilet.api_gateway.dataTransferObjects.internal.responses.auth.MemberCheckMessageDTO;
-import com.shubilet.api_gateway.managers.HttpSessionManager;
 import com.shubilet.api_gateway.mappers.CookieMapper;
 import com.shubilet.api_gateway.mappers.verification.AdminVerificationExternalMapper;
 import com.shubilet.api_gateway.mappers.verification.CompanyVerificationExternalMapper;
 
-import jakarta.servlet.http.HttpSession;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpEntity;
@@ -38,7 +39,6 @@ import java.util.UUID;
 public class VerificationControllerImpl implements VerificationController {
     private final Logger logger = LoggerFactory.getLogger(VerificationControllerImpl.class);
     private final RestTemplate restTemplate;
-    private final HttpSessionManager httpSessionManager;
     private final CookieMapper cookieMapper;
     private final CompanyVerificationExternalMapper companyVerificationExternalMapper;
     private final AdminVerificationExternalMapper adminVerificationExternalMapper;
@@ -50,12 +50,12 @@ public class VerificationControllerImpl implements VerificationController {
         this.cookieMapper = cookieMapper;
         this.companyVerificationExternalMapper = companyVerificationExternalMapper;
         this.adminVerificationExternalMapper = adminVerificationExternalMapper;
-        this.httpSessionManager = new HttpSessionManager();
     }
 
 
+    @RequiresSession(UserType.ADMIN)
     @PostMapping("/verify/company")
-    public ResponseEntity<MessageDTO> verifyCompany(HttpSession httpSession, @RequestBody CompanyVerificationExternalDTO companyVerificationExternalDTO) {
+    public ResponseEntity<MessageDTO> verifyCompany(@SessionMember MemberCheckMessageDTO memberCheckMessageDTO, @RequestBody CompanyVerificationExternalDTO companyVerificationExternalDTO) {
         String requestId = UUID.randomUUID().toString();
         logger.info("Start Company Verification (requestId={})", requestId);
 
@@ -63,37 +63,9 @@ public class VerificationControllerImpl implements VerificationController {
         headers.set("X-Request-Id", requestId);
         headers.setContentType(MediaType.APPLICATION_JSON);
 
-        // Send Request to Security Service for Checking Existing Session
-        CookieDTO cookieDTO = httpSessionManager.fromSessionToCookieDTO(httpSession);
-        HttpEntity<CookieDTO> securityServiceCheckSessionCustomerRequest = new HttpEntity<>(cookieDTO, headers);
-        ResponseEntity<MemberCheckMessageDTO> securityServiceCheckCustomerSessionResponse = restTemplate.exchange(
-                ServiceURLs.SECURITY_SERVICE_CHECK_ADMIN_SESSION_URL,
-                HttpMethod.POST,
-                securityServiceCheckSessionCustomerRequest,
-                MemberCheckMessageDTO.class
-        );
-
-        // There is already an Existing Session
-        if (securityServiceCheckCustomerSessionResponse.getStatusCode().is2xxSuccessful()) {
-            logger.info("Customer Session Exists (requestId={})", requestId);
-        }
-
-        // No User is Logged in Clarified by Security Service
-        if (securityServiceCheckCustomerSessionResponse.getStatusCode().is4xxClientError()) {
-            return ResponseEntity
-                    .status(securityServiceCheckCustomerSessionResponse.getStatusCode())
-                    .body(new MessageDTO("There is no Existing Admin Session."));
-        }
-
-        // Something Went Wrong on Security Service
-        if (securityServiceCheckCustomerSessionResponse.getStatusCode().is5xxServerError()) {
-            return ResponseEntity
-                    .status(securityServiceCheckCustomerSessionResponse.getStatusCode())
-                    .body(new MessageDTO(securityServiceCheckCustomerSessionResponse.getBody().getMessage()));
-        }
         CompanyVerificationInternalDTO companyVerificationInternalDTO = companyVerificationExternalMapper.toCompanyVerificationInternalDTO(
                 companyVerificationExternalDTO,
-                securityServiceCheckCustomerSessionResponse.getBody()
+                memberCheckMessageDTO
         );
 
         HttpEntity<CompanyVerificationInternalDTO> memberServiceCompanyVerificationRequest = new HttpEntity<>(companyVerificationInternalDTO, headers);
@@ -120,8 +92,9 @@ public class VerificationControllerImpl implements VerificationController {
         return ResponseEntity.ok().body(memberServiceCompanyVerificationResponse.getBody());
     }
 
+    @RequiresSession(UserType.ADMIN)
     @PostMapping("/verify/admin")
-    public ResponseEntity<MessageDTO> verifyAdmin(HttpSession httpSession, @RequestBody AdminVerificationExternalDTO adminVerificationExternalDTO) {
+    public ResponseEntity<MessageDTO> verifyAdmin(@SessionMember MemberCheckMessageDTO memberCheckMessageDTO, @RequestBody AdminVerificationExternalDTO adminVerificationExternalDTO) {
         String requestId = UUID.randomUUID().toString();
         logger.info("Start Admin Verification (requestId={})", requestId);
 
@@ -129,38 +102,9 @@ public class VerificationControllerImpl implements VerificationController {
         headers.set("X-Request-Id", requestId);
         headers.setContentType(MediaType.APPLICATION_JSON);
 
-        // Send Request to Security Service for Checking Existing Session
-        CookieDTO cookieDTO = httpSessionManager.fromSessionToCookieDTO(httpSession);
-        HttpEntity<CookieDTO> securityServiceCheckSessionAdminRequest = new HttpEntity<>(cookieDTO, headers);
-        ResponseEntity<MemberCheckMessageDTO> securityServiceCheckAdminSessionResponse = restTemplate.exchange(
-                ServiceURLs.SECURITY_SERVICE_CHECK_ADMIN_SESSION_URL,
-                HttpMethod.POST,
-                securityServiceCheckSessionAdminRequest,
-                MemberCheckMessageDTO.class
-        );
-
-        // There is already an Existing Session
-        if (securityServiceCheckAdminSessionResponse.getStatusCode().is2xxSuccessful()) {
-            logger.info("Customer Session Exists (requestId={})", requestId);
-        }
-
-        // No User is Logged in Clarified by Security Service
-        if (securityServiceCheckAdminSessionResponse.getStatusCode().is4xxClientError()) {
-            return ResponseEntity
-                    .status(securityServiceCheckAdminSessionResponse.getStatusCode())
-                    .body(new MessageDTO("There is no Existing Admin Session."));
-        }
-
-        // Something Went Wrong on Security Service
-        if (securityServiceCheckAdminSessionResponse.getStatusCode().is5xxServerError()) {
-            return ResponseEntity
-                    .status(securityServiceCheckAdminSessionResponse.getStatusCode())
-                    .body(new MessageDTO(securityServiceCheckAdminSessionResponse.getBody().getMessage()));
-        }
-
         AdminVerificationInternalDTO adminVerificationInternalDTO = adminVerificationExternalMapper.toAdminVerificationInternalDTO(
                 adminVerificationExternalDTO,
-                securityServiceCheckAdminSessionResponse.getBody()
+                memberCheckMessageDTO
         );
 
         HttpEntity<AdminVerificationInternalDTO> memberServiceAdminVerificationRequest = new HttpEntity<>(adminVerificationInternalDTO, headers);
@@ -186,8 +130,9 @@ public class VerificationControllerImpl implements VerificationController {
         return ResponseEntity.ok().body(memberServiceAdminVerificationResponse.getBody());
     }
 
+    @RequiresSession(UserType.ADMIN)
     @PostMapping("/get/unverified/companies")
-    public ResponseEntity<UnverifiedCompaniesDTO> sendUnverifiedCompanies(HttpSession httpSession) {
+    public ResponseEntity<UnverifiedCompaniesDTO> sendUnverifiedCompanies(@SessionMember MemberCheckMessageDTO memberCheckMessageDTO) {
         String requestId = UUID.randomUUID().toString();
         logger.info("Start Sending Unverified Companies (requestId={})", requestId);
 
@@ -195,30 +140,7 @@ public class VerificationControllerImpl implements VerificationController {
         headers.set("X-Request-Id", requestId);
         headers.setContentType(MediaType.APPLICATION_JSON);
 
-        // Send Request to Security Service for Checking Existing Session
-        CookieDTO cookieDTO = httpSessionManager.fromSessionToCookieDTO(httpSession);
-        HttpEntity<CookieDTO> securityServiceCheckSessionAdminRequest = new HttpEntity<>(cookieDTO, headers);
-        ResponseEntity<MemberCheckMessageDTO> securityServiceCheckAdminSessionResponse = restTemplate.exchange(
-                ServiceURLs.SECURITY_SERVICE_CHECK_ADMIN_SESSION_URL,
-                HttpMethod.POST,
-                securityServiceCheckSessionAdminRequest,
-                MemberCheckMessageDTO.class
-        );
-
-        // There is already an Existing Session
-        if (securityServiceCheckAdminSessionResponse.getStatusCode().is2xxSuccessful()) {
-            logger.info("Admin Session Exists (requestId={})", requestId);
-        }
-        else if (securityServiceCheckAdminSessionResponse.getStatusCode().is4xxClientError()) {
-            return ResponseEntity
-                    .status(securityServiceCheckAdminSessionResponse.getStatusCode())
-                    .body(new UnverifiedCompaniesDTO("There is no Existing Admin Session."));
-        } else if (securityServiceCheckAdminSessionResponse.getStatusCode().is5xxServerError()) {
-            return ResponseEntity
-                    .status(securityServiceCheckAdminSessionResponse.getStatusCode())
-                    .body(new UnverifiedCompaniesDTO(securityServiceCheckAdminSessionResponse.getBody().getMessage()));
-        }
-
+        CookieDTO cookieDTO = memberCheckMessageDTO.getCookie();
         AdminIdDTO adminIdDTO = cookieMapper.toAdminIdDTO(cookieDTO);
         logger.info("AdminIdDTO: {}", adminIdDTO.getAdminId());
         HttpEntity<AdminIdDTO> memberServiceUnverifiedCompaniesRequest = new HttpEntity<>(adminIdDTO, headers);
@@ -246,8 +168,9 @@ public class VerificationControllerImpl implements VerificationController {
         return ResponseEntity.ok().body(memberServiceUnverifiedCompaniesResponse.getBody());
     }
     
+    @RequiresSession(UserType.ADMIN)
     @PostMapping("/get/unverified/admins")
-    public ResponseEntity<UnverifiedAdminsDTO> sendUnverifiedAdmins(HttpSession httpSession) {
+    public ResponseEntity<UnverifiedAdminsDTO> sendUnverifiedAdmins(@SessionMember MemberCheckMessageDTO memberCheckMessageDTO) {
         String requestId = UUID.randomUUID().toString();
         logger.info("Start Sending Unverified Admins (requestId={})", requestId);
 
@@ -255,29 +178,7 @@ public class VerificationControllerImpl implements VerificationController {
         headers.set("X-Request-Id", requestId);
         headers.setContentType(MediaType.APPLICATION_JSON);
 
-        // Send Request to Security Service for Checking Existing Session
-        CookieDTO cookieDTO = httpSessionManager.fromSessionToCookieDTO(httpSession);
-        HttpEntity<CookieDTO> securityServiceCheckSessionAdminRequest = new HttpEntity<>(cookieDTO, headers);
-        ResponseEntity<MemberCheckMessageDTO> securityServiceCheckAdminSessionResponse = restTemplate.exchange(
-                ServiceURLs.SECURITY_SERVICE_CHECK_ADMIN_SESSION_URL,
-                HttpMethod.POST,
-                securityServiceCheckSessionAdminRequest,
-                MemberCheckMessageDTO.class
-        );
-
-        // There is already an Existing Session
-        if (securityServiceCheckAdminSessionResponse.getStatusCode().is2xxSuccessful()) {
-            logger.info("Admin Session Exists (requestId={})", requestId);
-        } else if (securityServiceCheckAdminSessionResponse.getStatusCode().is4xxClientError()) {
-            return ResponseEntity
-                    .status(securityServiceCheckAdminSessionResponse.getStatusCode())
-                    .body(new UnverifiedAdminsDTO("There is no Existing Admin Session."));
-        } else if (securityServiceCheckAdminSessionResponse.getStatusCode().is5xxServerError()) {
-            return ResponseEntity
-                    .status(securityServiceCheckAdminSessionResponse.getStatusCode())
-                    .body(new UnverifiedAdminsDTO(securityServiceCheckAdminSessionResponse.getBody().getMessage()));
-        }
-
+        CookieDTO cookieDTO = memberCheckMessageDTO.getCookie();
         AdminIdDTO adminIdDTO = cookieMapper.toAdminIdDTO(cookieDTO);
         logger.info("AdminIdDTO: {}", adminIdDTO.getAdminId());
         HttpEntity<AdminIdDTO> memberServiceUnverifiedAdminsRequest = new HttpEntity<>(adminIdDTO, headers);
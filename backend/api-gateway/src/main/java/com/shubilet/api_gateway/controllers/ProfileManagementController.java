@@ -11,48 +11,48 @@ import com.shubilet.api_gateway.dataTransferObjects.external.responses.profileMa
 import com.shubilet.api_gateway.dataTransferObjects.external.responses.profileManagement.CompanyProfileDTO;
 import com.shubilet.api_gateway.dataTransferObjects.external.responses.profileManagement.CustomerProfileDTO;
 
-import jakarta.servlet.http.HttpSession;
+import com.shubilet.api_gateway.dataTransferObjects.internal.responses.auth.MemberCheckMessageDTO;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 
 public interface ProfileManagementController {
     @PostMapping("/customer/edit/name")
-    ResponseEntity<MessageDTO> customerEditName(HttpSession httpSession, @RequestBody MemberAttributeChangeExternalDTO memberAttributeChangeExternalDTO);
+    ResponseEntity<MessageDTO> customerEditName(MemberCheckMessageDTO memberCheckMessageDTO, @RequestBody MemberAttributeChangeExternalDTO memberAttributeChangeExternalDTO);
 
     @PostMapping("/customer/edit/surname")
-    ResponseEntity<MessageDTO> customerEditSurname(HttpSession httpSession, @RequestBody MemberAttributeChangeExternalDTO memberAttributeChangeExternalDTO);
+    ResponseEntity<MessageDTO> customerEditSurname(MemberCheckMessageDTO memberCheckMessageDTO, @RequestBody MemberAttributeChangeExternalDTO memberAttributeChangeExternalDTO);
 
     @PostMapping("/customer/edit/gender")
-    ResponseEntity<MessageDTO> customerEditGender(HttpSession httpSession, @RequestBody MemberAttributeChangeExternalDTO memberAttributeChangeExternalDTO);
+    ResponseEntity<MessageDTO> customerEditGender(MemberCheckMessageDTO memberCheckMessageDTO, @RequestBody MemberAttributeChangeExternalDTO memberAttributeChangeExternalDTO);
 
     @PostMapping("/customer/edit/email")
-    ResponseEntity<MessageDTO> customerEditEmail(HttpSession httpSession, @RequestBody MemberAttributeChangeExternalDTO memberAttributeChangeExternalDTO);
+    ResponseEntity<MessageDTO> customerEditEmail(MemberCheckMessageDTO memberCheckMessageDTO, @RequestBody MemberAttributeChangeExternalDTO memberAttributeChangeExternalDTO);
 
     @PostMapping("/customer/edit/password")
-    ResponseEntity<MessageDTO> customerEditPassword(HttpSession httpSession, @RequestBody MemberAttributeChangeExternalDTO memberAttributeChangeExternalDTO);
+    ResponseEntity<MessageDTO> customerEditPassword(MemberCheckMessageDTO memberCheckMessageDTO, @RequestBody MemberAttributeChangeExternalDTO memberAttributeChangeExternalDTO);
 
     @PostMapping("/customer/edit/favoriteCompany/add")
-    ResponseEntity<MessageDTO> addFavoriteCompany(HttpSession httpSession, FavoriteCompanyAdditionExternalDTO favoriteCompanyAdditionExternalDTO);
+    ResponseEntity<MessageDTO> addFavoriteCompany(MemberCheckMessageDTO memberCheckMessageDTO, FavoriteCompanyAdditionExternalDTO favoriteCompanyAdditionExternalDTO);
 
     @PostMapping("/customer/edit/favoriteCompany/delete")
-    ResponseEntity<MessageDTO> deleteFavoriteCompany(HttpSession httpSession, FavoriteCompanyDeletionExternalDTO favoriteCompanyDeletionExternalDTO);
+    ResponseEntity<MessageDTO> deleteFavoriteCompany(MemberCheckMessageDTO memberCheckMessageDTO, FavoriteCompanyDeletionExternalDTO favoriteCompanyDeletionExternalDTO);
 
     @PostMapping("/customer/edit/card/add")
-    ResponseEntity<MessageDTO> addCard(HttpSession httpSession, @RequestBody CardCreationExternalDTO cardCreationExternalDTO);
+    ResponseEntity<MessageDTO> addCard(MemberCheckMessageDTO memberCheckMessageDTO, @RequestBody CardCreationExternalDTO cardCreationExternalDTO);
 
     @PostMapping("/customer/edit/card/delete")
-    ResponseEntity<MessageDTO> deleteCard(HttpSession httpSession, @RequestBody CardDeletionExternalDTO cardDeletionExternalDTO);
+    ResponseEntity<MessageDTO> deleteCard(MemberCheckMessageDTO memberCheckMessageDTO, @RequestBody CardDeletionExternalDTO cardDeletionExternalDTO);
 
     @PostMapping("/customer/get")
-    ResponseEntity<CustomerProfileDTO> sendCustomerProfile(HttpSession httpSession);
+    ResponseEntity<CustomerProfileDTO> sendCustomerProfile(MemberCheckMessageDTO memberCheckMessageDTO);
 
     @PostMapping("/company/get")
-    ResponseEntity<CompanyProfileDTO> sendCompanyProfile(HttpSession httpSession);
+    ResponseEntity<CompanyProfileDTO> sendCompanyProfile(MemberCheckMessageDTO memberCheckMessageDTO);
 
     @PostMapping("admin/get")
-    ResponseEntity<AdminProfileDTO> sendAdminProfile(HttpSession httpSession);
+    ResponseEntity<AdminProfileDTO> sendAdminProfile(MemberCheckMessageDTO memberCheckMessageDTO);
 
     @PostMapping("/customer/get/cards")
-    ResponseEntity<CardsDTO> sendCustomerCards(HttpSession httpSession);
+    ResponseEntity<CardsDTO> sendCustomerCards(MemberCheckMessageDTO memberCheckMessageDTO);
 }
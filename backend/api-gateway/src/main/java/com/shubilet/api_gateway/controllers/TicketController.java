@@ -3,13 +3,13 @@ package com.shubilet.api_gateway.controllers;
 import com.shubilet.api_gateway.dataTransferObjects.external.requests.expeditionOperations.BuyTicketExternalDTO;
 import com.shubilet.api_gateway.dataTransferObjects.external.responses.ticket.TicketsExternalDTO;
 import com.shubilet.api_gateway.dataTransferObjects.internal.responses.ticket.TicketInfoDTO;
-import jakarta.servlet.http.HttpSession;
+import com.shubilet.api_gateway.dataTransferObjects.internal.responses.auth.MemberCheckMessageDTO;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 
 public interface TicketController {
-    public ResponseEntity<TicketsExternalDTO> sendTicketDetailsForCustomer(HttpSession httpSession);
+    public ResponseEntity<TicketsExternalDTO> sendTicketDetailsForCustomer(MemberCheckMessageDTO memberCheckMessageDTO);
 
     @PostMapping("/buy")
-    ResponseEntity<TicketInfoDTO> buyTicketForCustomer(HttpSession httpSession, BuyTicketExternalDTO buyTicketExternalDTO);
+    ResponseEntity<TicketInfoDTO> buyTicketForCustomer(MemberCheckMessageDTO memberCheckMessageDTO, String idempotencyKey, BuyTicketExternalDTO buyTicketExternalDTO);
 }
@@ -6,6 +6,8 @@ public class CookieDTO {
     private String userId;
     private String userType;
     private String authCode;
+    // Signed session token, only issued when the token mode is enabled.
+    private String token;
 
     public CookieDTO() {
 
@@ -17,6 +19,13 @@ public class CookieDTO {
         this.authCode = authCode;
     }
 
+    public CookieDTO(String userId, String userType, String authCode, String token) {
+        this.userId = userId;
+        this.userType = userType;
+        this.authCode = authCode;
+        this.token = token;
+    }
+
     public String getUserId() {
         return userId;
     }
@@ -38,6 +47,14 @@ public class CookieDTO {
         this.authCode = authCode;
     }
 
+    public String getToken() {
+        return token;
+    }
+
+    public void setToken(String token) {
+        this.token = token;
+    }
+
     public String getAttribute(String key) {
         if(key.equals(SessionKeys.USER_ID)) {
             return getUserId();
@@ -45,6 +62,8 @@ public class CookieDTO {
             return getUserType();
         } else if(key.equals(SessionKeys.AUTH_CODE)) {
             return getAuthCode();
+        } else if(key.equals(SessionKeys.TOKEN)) {
+            return getToken();
         } else {
             throw new IllegalArgumentException("Invalid session key: " + key);
         }
@@ -64,6 +83,9 @@ public class CookieDTO {
         } else if(key.equals(SessionKeys.AUTH_CODE)) {
             setAuthCode(value);
             return;
+        } else if(key.equals(SessionKeys.TOKEN)) {
+            setToken(value);
+            return;
         }
 
         throw new IllegalArgumentException("Invalid session key: " + key);
@@ -79,6 +101,9 @@ public class CookieDTO {
         } else if(key.equals(SessionKeys.AUTH_CODE)) {
             setAuthCode(null);
             return;
+        } else if(key.equals(SessionKeys.TOKEN)) {
+            setToken(null);
+            return;
         }
 
         throw new IllegalArgumentException("Invalid session key: " + key);
@@ -0,0 +1,23 @@
+package com.shubilet.api_gateway.dataTransferObjects.internal.requests.auth;
+
+import java.util.List;
+
+public class SessionCheckBatchDTO {
+
+    private List<SessionCheckDTO> checks;
+
+    public SessionCheckBatchDTO() {
+    }
+
+    public SessionCheckBatchDTO(List<SessionCheckDTO> checks) {
+        this.checks = checks;
+    }
+
+    public List<SessionCheckDTO> getChecks() {
+        return checks;
+    }
+
+    public void setChecks(List<SessionCheckDTO> checks) {
+        this.checks = checks;
+    }
+}
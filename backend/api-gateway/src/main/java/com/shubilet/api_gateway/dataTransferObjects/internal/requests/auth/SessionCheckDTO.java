@@ -0,0 +1,33 @@
+package com.shubilet.api_gateway.dataTransferObjects.internal.requests.auth;
+
+import com.shubilet.api_gateway.dataTransferObjects.internal.CookieDTO;
+
+public class SessionCheckDTO {
+
+    private CookieDTO cookie;
+    private String userType;
+
+    public SessionCheckDTO() {
+    }
+
+    public SessionCheckDTO(CookieDTO cookie, String userType) {
+        this.cookie = cookie;
+        this.userType = userType;
+    }
+
+    public CookieDTO getCookie() {
+        return cookie;
+    }
+
+    public void setCookie(CookieDTO cookie) {
+        this.cookie = cookie;
+    }
+
+    public String getUserType() {
+        return userType;
+    }
+
+    public void setUserType(String userType) {
+        this.userType = userType;
+    }
+}
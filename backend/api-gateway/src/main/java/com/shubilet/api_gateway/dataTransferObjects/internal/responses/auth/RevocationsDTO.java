@@ -0,0 +1,53 @@
+package com.shubilet.api_gateway.dataTransferObjects.internal.responses.auth;
+
+import java.util.List;
+
+public class RevocationsDTO {
+    private String epoch;
+    private long cursor;
+    private long validAfter;
+    private List<RevokedSessionDTO> revoked;
+
+    public RevocationsDTO() {
+
+    }
+
+    public RevocationsDTO(String epoch, long cursor, long validAfter, List<RevokedSessionDTO> revoked) {
+        this.epoch = epoch;
+        this.cursor = cursor;
+        this.validAfter = validAfter;
+        this.revoked = revoked;
+    }
+
+    public String getEpoch() {
+        return epoch;
+    }
+
+    public void setEpoch(String epoch) {
+        this.epoch = epoch;
+    }
+
+    public long getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(long cursor) {
+        this.cursor = cursor;
+    }
+
+    public long getValidAfter() {
+        return validAfter;
+    }
+
+    public void setValidAfter(long validAfter) {
+        this.validAfter = validAfter;
+    }
+
+    public List<RevokedSessionDTO> getRevoked() {
+        return revoked;
+    }
+
+    public void setRevoked(List<RevokedSessionDTO> revoked) {
+        this.revoked = revoked;
+    }
+}
@@ -0,0 +1,31 @@
+package com.shubilet.api_gateway.dataTransferObjects.internal.responses.auth;
+
+public class RevokedSessionDTO {
+    private String code;
+    private long expiresAt;
+
+    public RevokedSessionDTO() {
+
+    }
+
+    public RevokedSessionDTO(String code, long expiresAt) {
+        this.code = code;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    public long getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(long expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
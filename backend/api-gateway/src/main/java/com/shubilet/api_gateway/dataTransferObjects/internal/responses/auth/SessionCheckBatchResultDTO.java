@@ -0,0 +1,23 @@
+package com.shubilet.api_gateway.dataTransferObjects.internal.responses.auth;
+
+import java.util.List;
+
+public class SessionCheckBatchResultDTO {
+    private List<SessionCheckResultDTO> results;
+
+    public SessionCheckBatchResultDTO() {
+
+    }
+
+    public SessionCheckBatchResultDTO(List<SessionCheckResultDTO> results) {
+        this.results = results;
+    }
+
+    public List<SessionCheckResultDTO> getResults() {
+        return results;
+    }
+
+    public void setResults(List<SessionCheckResultDTO> results) {
+        this.results = results;
+    }
+}
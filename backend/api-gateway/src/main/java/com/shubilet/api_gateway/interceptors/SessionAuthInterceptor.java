@@ -0,0 +1,148 @@
+package com.shubilet.api_gateway.interceptors;
+
+import java.io.IOException;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shubilet.api_gateway.common.annotations.RequiresSession;
+import com.shubilet.api_gateway.common.annotations.SessionMember;
+import com.shubilet.api_gateway.dataTransferObjects.MessageDTO;
+import com.shubilet.api_gateway.dataTransferObjects.internal.CookieDTO;
+import com.shubilet.api_gateway.dataTransferObjects.internal.responses.auth.MemberCheckMessageDTO;
+import com.shubilet.api_gateway.managers.HttpSessionManager;
+import com.shubilet.api_gateway.managers.SessionCheckManager;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+
+/**
+
+    Domain: Authentication
+
+    Performs the session check of every endpoint marked with {@link RequiresSession}, once per
+    request and before the handler runs, instead of in each handler:
+
+    <ul>
+        <li>the session attributes are read from the HTTP session and checked for the required
+        role through the {@link SessionCheckManager}, so the check is answered from a signed
+        token, the session check cache, or a batched call to the security service whenever
+        possible</li>
+        <li>the HTTP session is updated with the attributes returned by the check, which clears
+        them when the session is no longer valid</li>
+        <li>a rejected session is answered with the status of the check and a {@link MessageDTO}
+        saying that there is no session of the required role; a failure of the security service
+        is answered with its status and message</li>
+        <li>a valid session is stored on the request, where the {@link SessionMemberArgumentResolver}
+        hands it to the handler's {@link SessionMember} parameter</li>
+    </ul>
+
+    Endpoints without the annotation pass through untouched.
+
+    <p>
+
+        Technologies:
+
+        <ul>
+            <li>Spring Web MVC ({@link HandlerInterceptor})</li>
+            <li>Jackson ({@link ObjectMapper}) for error responses</li>
+        </ul>
+
+    </p>
+
+    @see RequiresSession
+
+    @see SessionMemberArgumentResolver
+
+    @author Abdullah (Mirliva) GÜNDÜZ - https://github.com/MrMilriva
+
+    @version 1.0
+*/
+@Component
+public class SessionAuthInterceptor implements HandlerInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionAuthInterceptor.class);
+
+    /**
+     * Request attribute holding the {@link MemberCheckMessageDTO} of a checked session.
+     */
+    public static final String SESSION_MEMBER_ATTRIBUTE = SessionAuthInterceptor.class.getName() + ".sessionMember";
+
+    private final SessionCheckManager sessionCheckManager;
+    private final HttpSessionManager httpSessionManager;
+    private final ObjectMapper objectMapper;
+
+    public SessionAuthInterceptor(SessionCheckManager sessionCheckManager, ObjectMapper objectMapper) {
+        this.sessionCheckManager = sessionCheckManager;
+        this.httpSessionManager = new HttpSessionManager();
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+
+        RequiresSession requiresSession = handlerMethod.getMethodAnnotation(RequiresSession.class);
+        if (requiresSession == null) {
+            requiresSession = handlerMethod.getBeanType().getAnnotation(RequiresSession.class);
+        }
+        if (requiresSession == null) {
+            return true;
+        }
+
+        String requestId = UUID.randomUUID().toString();
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Request-Id", requestId);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        HttpSession httpSession = request.getSession();
+        CookieDTO cookieDTO = httpSessionManager.fromSessionToCookieDTO(httpSession);
+        ResponseEntity<MemberCheckMessageDTO> checkResponse = sessionCheckManager.checkSession(
+                requiresSession.value(),
+                new HttpEntity<>(cookieDTO, headers)
+        );
+        MemberCheckMessageDTO memberCheckMessageDTO = checkResponse.getBody();
+
+        if (memberCheckMessageDTO != null) {
+            httpSessionManager.updateSessionCookie(httpSession, memberCheckMessageDTO.getCookie());
+        }
+
+        // Session Existence Clarified by Security Service
+        if (checkResponse.getStatusCode().is2xxSuccessful() && memberCheckMessageDTO != null) {
+            logger.debug("{} Session Exists (requestId={})", requiresSession.value().getDisplayName(), requestId);
+            request.setAttribute(SESSION_MEMBER_ATTRIBUTE, memberCheckMessageDTO);
+            return true;
+        }
+
+        // No User is Logged in Clarified by Security Service
+        if (checkResponse.getStatusCode().is4xxClientError()) {
+            writeMessage(response, checkResponse.getStatusCode().value(),
+                    "There is no Existing " + requiresSession.value().getDisplayName() + " Session.");
+            return false;
+        }
+
+        // Something Went Wrong on Security Service
+        logger.warn("Session check failed (status={} requestId={})", checkResponse.getStatusCode(), requestId);
+        writeMessage(response, checkResponse.getStatusCode().value(),
+                memberCheckMessageDTO == null ? "Session check failed." : memberCheckMessageDTO.getMessage());
+        return false;
+    }
+
+    private void writeMessage(HttpServletResponse response, int status, String message) throws IOException {
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new MessageDTO(message));
+    }
+}
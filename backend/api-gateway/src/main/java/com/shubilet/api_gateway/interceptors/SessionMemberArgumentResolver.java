@@ -0,0 +1,57 @@
+package com.shubilet.api_gateway.interceptors;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import com.shubilet.api_gateway.common.annotations.SessionMember;
+import com.shubilet.api_gateway.dataTransferObjects.internal.responses.auth.MemberCheckMessageDTO;
+
+/**
+
+    Domain: Authentication
+
+    Resolves handler parameters marked with {@link SessionMember} to the session checked by the
+    {@link SessionAuthInterceptor} for the current request.
+
+    <p>
+
+        Technologies:
+
+        <ul>
+            <li>Spring Web MVC ({@link HandlerMethodArgumentResolver})</li>
+        </ul>
+
+    </p>
+
+    @see SessionAuthInterceptor
+
+    @author Abdullah (Mirliva) GÜNDÜZ - https://github.com/MrMilriva
+
+    @version 1.0
+*/
+@Component
+public class SessionMemberArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(SessionMember.class)
+                && MemberCheckMessageDTO.class.isAssignableFrom(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Object sessionMember = webRequest.getAttribute(SessionAuthInterceptor.SESSION_MEMBER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (sessionMember == null) {
+            // A handler asked for a member without @RequiresSession guarding it.
+            throw new IllegalStateException("No checked session for " + parameter.getExecutable().getName()
+                    + "; is the endpoint annotated with @RequiresSession?");
+        }
+        return sessionMember;
+    }
+}
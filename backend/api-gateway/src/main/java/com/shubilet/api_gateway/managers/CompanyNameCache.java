@@ -0,0 +1,174 @@
+package com.shubilet.api_gateway.managers;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import com.shubilet.api_gateway.common.constants.AppConstants;
+import com.shubilet.api_gateway.common.constants.ServiceURLs;
+import com.shubilet.api_gateway.dataTransferObjects.internal.requests.CompanyIdDTO;
+import com.shubilet.api_gateway.dataTransferObjects.internal.responses.expeditionOperations.CompanyIdNameMapDTO;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+
+    Domain: Company
+
+    Resolves company ids to company names for the results the gateway shows to customers,
+    keeping every name it has fetched from the member service for
+    {@code app.company.name.cache.ttl-ms} (10 minutes by default). Only the ids that are not
+    kept are sent to the member service, and a lookup whose ids are all kept is answered
+    without a call. Company names cannot be changed through the gateway, so the TTL only bounds
+    how long a name changed elsewhere is still shown.
+
+    The cache holds at most {@code app.company.name.cache.max-size} names; when it is full,
+    expired names are dropped first and the whole cache is cleared if that is not enough.
+
+    <p>
+
+        Technologies:
+
+        <ul>
+            <li>Spring Component</li>
+            <li>Spring Web ({@link RestTemplate})</li>
+            <li>Java Concurrency ({@link ConcurrentHashMap})</li>
+            <li>Micrometer ({@code gateway.company.name.cache.*} meters)</li>
+        </ul>
+
+    </p>
+
+    @author Abdullah (Mirliva) GÜNDÜZ - https://github.com/MrMilriva
+
+    @version 1.0
+*/
+@Component
+public class CompanyNameCache {
+
+    private record Entry(String name, long expiresAt) {
+    }
+
+    private final RestTemplate restTemplate;
+    private final long ttlMillis;
+    private final int maxSize;
+
+    private final Map<Integer, Entry> entries = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public CompanyNameCache(
+            RestTemplate restTemplate,
+            MeterRegistry meterRegistry,
+            @Value(AppConstants.COMPANY_NAME_CACHE_TTL_STRING) long ttlMillis,
+            @Value(AppConstants.COMPANY_NAME_CACHE_MAX_SIZE_STRING) int maxSize
+    ) {
+        this.restTemplate = restTemplate;
+        this.ttlMillis = ttlMillis;
+        this.maxSize = maxSize;
+
+        this.hits = Counter.builder("gateway.company.name.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("gateway.company.name.cache.requests").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("gateway.company.name.cache.size", entries, Map::size).register(meterRegistry);
+    }
+
+    /**
+
+        Operation: Lookup
+
+        Returns the names of the given companies, fetching the ones that are not kept from the
+        member service.
+
+        @param companyIdDTOs the ids of the companies, repeated ids are looked up once
+
+        @param headers the headers of the request to the member service
+
+        @return the names of the companies that exist, in the shape of the member service's
+        response; or the error response of the member service if it could not answer and none
+        of the names was kept
+    */
+    public ResponseEntity<CompanyIdNameMapDTO> getCompanyNames(List<CompanyIdDTO> companyIdDTOs, HttpHeaders headers) {
+        HashMap<Integer, String> companies = new HashMap<>();
+        Set<Integer> missingIds = new LinkedHashSet<>();
+        long now = System.currentTimeMillis();
+
+        for (CompanyIdDTO companyIdDTO : companyIdDTOs) {
+            int companyId = companyIdDTO.getCompanyId();
+            if (companies.containsKey(companyId) || missingIds.contains(companyId)) {
+                continue;
+            }
+
+            Entry entry = entries.get(companyId);
+            if (entry != null && entry.expiresAt() > now) {
+                hits.increment();
+                companies.put(companyId, entry.name());
+            }
+            else {
+                misses.increment();
+                missingIds.add(companyId);
+            }
+        }
+
+        if (missingIds.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.OK).body(new CompanyIdNameMapDTO(companies, "Successfully Retrieved Company Names"));
+        }
+
+        List<CompanyIdDTO> missingIdDTOs = new ArrayList<>(missingIds.size());
+        for (int companyId : missingIds) {
+            missingIdDTOs.add(new CompanyIdDTO(companyId));
+        }
+
+        ResponseEntity<CompanyIdNameMapDTO> memberServiceGetCompanyNamesResponse = restTemplate.exchange(
+                ServiceURLs.MEMBER_SERVICE_GET_COMPANY_NAMES_URL,
+                HttpMethod.POST,
+                new HttpEntity<>(missingIdDTOs, headers),
+                CompanyIdNameMapDTO.class
+        );
+
+        // The member service answers 404 when none of the missing companies exist, which is no error while other names are kept.
+        if (!memberServiceGetCompanyNamesResponse.getStatusCode().is2xxSuccessful()) {
+            if (memberServiceGetCompanyNamesResponse.getStatusCode().is4xxClientError() && !companies.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.OK).body(new CompanyIdNameMapDTO(companies, "Successfully Retrieved Company Names"));
+            }
+            return memberServiceGetCompanyNamesResponse;
+        }
+
+        CompanyIdNameMapDTO body = memberServiceGetCompanyNamesResponse.getBody();
+        if (body != null && body.getCompanies() != null) {
+            store(body.getCompanies());
+            companies.putAll(body.getCompanies());
+        }
+        return ResponseEntity.status(HttpStatus.OK).body(new CompanyIdNameMapDTO(companies, "Successfully Retrieved Company Names"));
+    }
+
+    private void store(Map<Integer, String> fetched) {
+        long now = System.currentTimeMillis();
+        if (entries.size() + fetched.size() > maxSize) {
+            entries.values().removeIf(entry -> entry.expiresAt() <= now);
+            if (entries.size() + fetched.size() > maxSize) {
+                entries.clear();
+            }
+        }
+
+        fetched.forEach((companyId, name) -> {
+            if (companyId != null && name != null) {
+                entries.put(companyId, new Entry(name, now + ttlMillis));
+            }
+        });
+    }
+}
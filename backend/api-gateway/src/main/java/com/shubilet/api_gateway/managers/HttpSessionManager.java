@@ -13,7 +13,8 @@ public class HttpSessionManager {
         String userId = httpSession.getAttribute("userId") ==  null ? null : httpSession.getAttribute("userId").toString();
         String userType = httpSession.getAttribute("userType") ==  null ? null : httpSession.getAttribute("userType").toString();
         String authCode = httpSession.getAttribute("authCode") ==  null ? null : httpSession.getAttribute("authCode").toString();
-        return new CookieDTO(userId, userType, authCode);
+        String token = httpSession.getAttribute("token") ==  null ? null : httpSession.getAttribute("token").toString();
+        return new CookieDTO(userId, userType, authCode, token);
     }
 
     public void updateSessionCookie(HttpSession httpSession, CookieDTO cookieDTO) {
@@ -21,11 +22,13 @@ public class HttpSessionManager {
             httpSession.setAttribute("userId", null);
             httpSession.setAttribute("userType", null);
             httpSession.setAttribute("authCode", null);
+            httpSession.setAttribute("token", null);
             return;
         }
         httpSession.setAttribute("userId", cookieDTO.getUserId());
         httpSession.setAttribute("userType", cookieDTO.getUserType());
         httpSession.setAttribute("authCode", cookieDTO.getAuthCode());
+        httpSession.setAttribute("token", cookieDTO.getToken());
     }
 }
 
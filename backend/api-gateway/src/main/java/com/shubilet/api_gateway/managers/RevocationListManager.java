@@ -0,0 +1,230 @@
+package com.shubilet.api_gateway.managers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import com.shubilet.api_gateway.common.constants.AppConstants;
+import com.shubilet.api_gateway.common.constants.ServiceURLs;
+import com.shubilet.api_gateway.dataTransferObjects.internal.responses.auth.RevocationsDTO;
+import com.shubilet.api_gateway.dataTransferObjects.internal.responses.auth.RevokedSessionDTO;
+
+/**
+
+    Domain: Session
+
+    Keeps a local copy of the security service's revocation list, so that signed session tokens
+    of terminated sessions are rejected without asking the security service. The revoked session
+    codes are held in a set, fronted by a Bloom filter: almost every lookup is for a session that
+    was never revoked, and the filter answers those with a few bit reads instead of a lookup in
+    the set. Only the rare possible hits are confirmed against the set. Because a Bloom filter cannot
+    forget, it is rebuilt from the set whenever expired entries are dropped.
+
+    The list is synced incrementally on a schedule. {@link #isFresh()} reports whether the last
+    sync is recent enough for tokens to be trusted; when it is not, callers must fall back to the
+    security service.
+
+    <p>
+
+        Technologies:
+
+        <ul>
+            <li>Spring Component</li>
+            <li>Spring Scheduling</li>
+            <li>Spring Web ({@link RestTemplate})</li>
+            <li>Java Concurrency ({@link ConcurrentHashMap}, {@link AtomicLongArray})</li>
+        </ul>
+
+    </p>
+
+    @author Abdullah (Mirliva) GÜNDÜZ - https://github.com/MrMilriva
+
+    @version 1.0
+*/
+@Component
+@ConditionalOnProperty(name = "app.session.token.enabled", havingValue = "true")
+public class RevocationListManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(RevocationListManager.class);
+
+    // 2^16 bits (8 KB) with 4 probes keep false positives below 1% up to several thousand revocations.
+    private static final int BLOOM_BITS = 1 << 16;
+    private static final int BLOOM_PROBES = 4;
+
+    private static final int MAX_PAGES_PER_SYNC = 16;
+
+    private static final class BloomFilter {
+        private final AtomicLongArray words = new AtomicLongArray(BLOOM_BITS / Long.SIZE);
+
+        private void add(String value) {
+            int h1 = value.hashCode();
+            int h2 = mix(h1);
+            for (int i = 0; i < BLOOM_PROBES; i++) {
+                int bit = (h1 + i * h2) & (BLOOM_BITS - 1);
+                long mask = 1L << bit;
+                int index = bit >>> 6;
+                long word;
+                do {
+                    word = words.get(index);
+                } while ((word & mask) == 0 && !words.compareAndSet(index, word, word | mask));
+            }
+        }
+
+        private boolean mightContain(String value) {
+            int h1 = value.hashCode();
+            int h2 = mix(h1);
+            for (int i = 0; i < BLOOM_PROBES; i++) {
+                int bit = (h1 + i * h2) & (BLOOM_BITS - 1);
+                if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // Second, independent hash derived from the first (murmur3 finalizer); forced odd so probes never repeat.
+        private static int mix(int h) {
+            h ^= h >>> 16;
+            h *= 0x85ebca6b;
+            h ^= h >>> 13;
+            h *= 0xc2b2ae35;
+            h ^= h >>> 16;
+            return h | 1;
+        }
+    }
+
+    private final RestTemplate restTemplate;
+    private final long maxStalenessMillis;
+
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private volatile BloomFilter bloomFilter = new BloomFilter();
+
+    private volatile String epoch;
+    private volatile long cursor = 0L;
+    private volatile long validAfter = Long.MAX_VALUE;
+    private volatile long lastSyncAt = 0L;
+
+    public RevocationListManager(RestTemplate restTemplate, @Value(AppConstants.REVOCATION_MAX_STALENESS_STRING) long maxStalenessMillis) {
+        this.restTemplate = restTemplate;
+        this.maxStalenessMillis = maxStalenessMillis;
+    }
+
+    /**
+     * Returns whether the session with the given code has been revoked.
+     */
+    public boolean isRevoked(String code) {
+        return bloomFilter.mightContain(code) && revoked.containsKey(code);
+    }
+
+    /**
+     * Returns whether the list was synced recently enough for tokens to be trusted locally.
+     */
+    public boolean isFresh() {
+        return System.currentTimeMillis() - lastSyncAt <= maxStalenessMillis;
+    }
+
+    /**
+     * Returns the instant before which issued tokens must not be trusted locally.
+     */
+    public long getValidAfter() {
+        return validAfter;
+    }
+
+    /**
+
+        Operation: Sync
+
+        Reads the revocations recorded since the last sync and adds them to the local list. When
+        the security service reports a new epoch, it has restarted and renumbered its list, so the
+        list is read again from the beginning. Expired entries are dropped afterwards. The list only
+        counts as fresh once a sync has read up to an empty page; a sync stopped by the page limit
+        leaves it stale, so tokens are checked remotely until the backlog is read.
+    */
+    @Scheduled(fixedDelayString = AppConstants.REVOCATION_SYNC_FIXED_DELAY_STRING)
+    public void sync() {
+        String requestId = UUID.randomUUID().toString();
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Request-Id", requestId);
+
+        try {
+            boolean caughtUp = false;
+            for (int page = 0; page < MAX_PAGES_PER_SYNC; page++) {
+                ResponseEntity<RevocationsDTO> response = restTemplate.exchange(
+                        ServiceURLs.SECURITY_SERVICE_REVOCATIONS_URL + "?cursor=" + cursor,
+                        HttpMethod.GET,
+                        new HttpEntity<>(headers),
+                        RevocationsDTO.class
+                );
+
+                RevocationsDTO body = response.getBody();
+                if (!response.getStatusCode().is2xxSuccessful() || body == null) {
+                    logger.warn("Revocation list sync failed (status={} requestId={})", response.getStatusCode(), requestId);
+                    return;
+                }
+
+                if (!Objects.equals(epoch, body.getEpoch())) {
+                    boolean restarted = epoch != null;
+                    epoch = body.getEpoch();
+                    if (restarted && cursor != 0L) {
+                        logger.info("Security service restarted, re-reading revocation list (requestId={})", requestId);
+                        cursor = 0L;
+                        continue;
+                    }
+                }
+
+                List<RevokedSessionDTO> entries = body.getRevoked();
+                if (entries != null) {
+                    for (RevokedSessionDTO entry : entries) {
+                        revoked.put(entry.getCode(), entry.getExpiresAt());
+                        bloomFilter.add(entry.getCode());
+                    }
+                }
+
+                cursor = body.getCursor();
+                validAfter = body.getValidAfter();
+
+                if (entries == null || entries.isEmpty()) {
+                    caughtUp = true;
+                    break;
+                }
+            }
+
+            // Revocations may still be unread when the page limit stops the loop, so the list only counts as fresh once it has caught up.
+            if (caughtUp) {
+                lastSyncAt = System.currentTimeMillis();
+            } else {
+                logger.warn("Revocation list sync stopped after {} pages before catching up (requestId={})", MAX_PAGES_PER_SYNC, requestId);
+            }
+            pruneExpired();
+        } catch (RuntimeException e) {
+            // Not fatal: tokens stop being trusted once the list gets stale, and checks go to the security service.
+            logger.warn("Revocation list sync failed (requestId={}): {}", requestId, e.getMessage());
+        }
+    }
+
+    private void pruneExpired() {
+        long now = System.currentTimeMillis();
+        if (!revoked.values().removeIf(expiresAt -> expiresAt <= now)) {
+            return;
+        }
+
+        BloomFilter rebuilt = new BloomFilter();
+        revoked.keySet().forEach(rebuilt::add);
+        bloomFilter = rebuilt;
+    }
+}
@@ -0,0 +1,214 @@
+package com.shubilet.api_gateway.managers;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.shubilet.api_gateway.common.constants.AppConstants;
+import com.shubilet.api_gateway.dataTransferObjects.internal.CookieDTO;
+import com.shubilet.api_gateway.dataTransferObjects.internal.responses.auth.MemberCheckMessageDTO;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+
+    Domain: Session
+
+    Keeps the answers of the security service to role-scoped session checks for a short time, so
+    that the several checks made for one page view, and the checks of the requests that follow
+    it, are answered by the gateway itself. Entries are keyed by the role the endpoint requires
+    and the session attributes of the caller (user id, user type, and auth code):
+
+    <ul>
+        <li>valid sessions are kept for {@code app.session.check.cache.ttl-ms} (2 seconds by default)</li>
+        <li>rejected sessions, including requests without a session, are kept for
+        {@code app.session.check.cache.negative-ttl-ms} (1 second by default)</li>
+        <li>server errors are never kept</li>
+    </ul>
+
+    Logging out through this gateway removes the entries of the session, or of every session of
+    the member. A session ended elsewhere can still be accepted here until its entry expires, so
+    the TTL bounds how long a revoked session stays usable; when the signed token mode is enabled,
+    sessions on the revocation list are rejected from the cache at once. The cache holds at most
+    {@code app.session.check.cache.max-size} entries; when it is full, expired entries are dropped
+    first and the whole cache is cleared if that is not enough. Enabled by default; disabled with
+    {@code app.session.check.cache.enabled=false}.
+
+    <p>
+
+        Technologies:
+
+        <ul>
+            <li>Spring Component</li>
+            <li>Java Concurrency ({@link ConcurrentHashMap})</li>
+            <li>Micrometer ({@code gateway.session.check.cache.*} meters)</li>
+        </ul>
+
+    </p>
+
+    @see SessionCheckManager
+
+    @author Abdullah (Mirliva) GÜNDÜZ - https://github.com/MrMilriva
+
+    @version 1.0
+*/
+@Component
+@ConditionalOnProperty(name = "app.session.check.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class SessionCheckCache {
+
+    private record Key(String requiredUserType, String userId, String userType, String authCode) {
+    }
+
+    private record Entry(int status, CookieDTO cookie, String message, int userId, long expiresAt) {
+    }
+
+    private final long ttlMillis;
+    private final long negativeTtlMillis;
+    private final int maxSize;
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public SessionCheckCache(
+            MeterRegistry meterRegistry,
+            @Value(AppConstants.SESSION_CHECK_CACHE_TTL_STRING) long ttlMillis,
+            @Value(AppConstants.SESSION_CHECK_CACHE_NEGATIVE_TTL_STRING) long negativeTtlMillis,
+            @Value(AppConstants.SESSION_CHECK_CACHE_MAX_SIZE_STRING) int maxSize
+    ) {
+        this.ttlMillis = ttlMillis;
+        this.negativeTtlMillis = negativeTtlMillis;
+        this.maxSize = maxSize;
+
+        this.hits = Counter.builder("gateway.session.check.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("gateway.session.check.cache.requests").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("gateway.session.check.cache.size", entries, Map::size).register(meterRegistry);
+    }
+
+    /**
+
+        Operation: Lookup
+
+        Returns the kept answer to a session check, if there is one that has not expired.
+
+        @param requiredUserType the user type the endpoint requires
+
+        @param cookieDTO the session attributes of the caller
+
+        @return a copy of the kept response, or {@code null} if the check has to be made
+    */
+    public ResponseEntity<MemberCheckMessageDTO> get(String requiredUserType, CookieDTO cookieDTO) {
+        Key key = keyOf(requiredUserType, cookieDTO);
+        Entry entry = entries.get(key);
+
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.expiresAt() <= System.currentTimeMillis()) {
+            entries.remove(key, entry);
+            misses.increment();
+            return null;
+        }
+
+        hits.increment();
+        // Callers may change the returned cookie, so every hit gets its own copy.
+        CookieDTO cookie = entry.cookie() == null ? null : new CookieDTO(
+                entry.cookie().getUserId(),
+                entry.cookie().getUserType(),
+                entry.cookie().getAuthCode(),
+                entry.cookie().getToken()
+        );
+        return ResponseEntity.status(entry.status()).body(new MemberCheckMessageDTO(cookie, entry.message(), entry.userId()));
+    }
+
+    /**
+
+        Operation: Store
+
+        Keeps the answer of the security service to a session check. Only successful and client
+        error answers are kept.
+
+        @param requiredUserType the user type the endpoint requires
+
+        @param cookieDTO the session attributes that were checked
+
+        @param response the answer of the security service
+    */
+    public void put(String requiredUserType, CookieDTO cookieDTO, ResponseEntity<MemberCheckMessageDTO> response) {
+        MemberCheckMessageDTO body = response.getBody();
+        if (body == null) {
+            return;
+        }
+
+        long ttl;
+        if (response.getStatusCode().is2xxSuccessful()) {
+            ttl = ttlMillis;
+        }
+        else if (response.getStatusCode().is4xxClientError()) {
+            ttl = negativeTtlMillis;
+        }
+        else {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        if (entries.size() >= maxSize) {
+            entries.values().removeIf(entry -> entry.expiresAt() <= now);
+            if (entries.size() >= maxSize) {
+                entries.clear();
+            }
+        }
+
+        CookieDTO cookie = body.getCookie() == null ? null : new CookieDTO(
+                body.getCookie().getUserId(),
+                body.getCookie().getUserType(),
+                body.getCookie().getAuthCode(),
+                body.getCookie().getToken()
+        );
+        entries.put(keyOf(requiredUserType, cookieDTO), new Entry(response.getStatusCode().value(), cookie, body.getMessage(), body.getUserId(), now + ttl));
+    }
+
+    /**
+
+        Operation: Evict
+
+        Removes the entries of one session, for every required user type.
+
+        @param cookieDTO the session attributes of the session that ended
+    */
+    public void evictSession(CookieDTO cookieDTO) {
+        if (cookieDTO == null) {
+            return;
+        }
+        entries.keySet().removeIf(key -> key.authCode() != null && key.authCode().equals(cookieDTO.getAuthCode()));
+    }
+
+    /**
+
+        Operation: Evict
+
+        Removes the entries of every session of a member.
+
+        @param userType the user type of the member
+
+        @param userId the id of the member
+    */
+    public void evictMember(String userType, String userId) {
+        if (userType == null || userId == null) {
+            return;
+        }
+        entries.keySet().removeIf(key -> userType.equals(key.userType()) && userId.equals(key.userId()));
+    }
+
+    private static Key keyOf(String requiredUserType, CookieDTO cookieDTO) {
+        return new Key(requiredUserType, cookieDTO.getUserId(), cookieDTO.getUserType(), cookieDTO.getAuthCode());
+    }
+}
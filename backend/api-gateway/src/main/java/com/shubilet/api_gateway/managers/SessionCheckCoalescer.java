@@ -0,0 +1,229 @@
+package com.shubilet.api_gateway.managers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import com.shubilet.api_gateway.common.constants.AppConstants;
+import com.shubilet.api_gateway.common.constants.ServiceURLs;
+import com.shubilet.api_gateway.dataTransferObjects.internal.CookieDTO;
+import com.shubilet.api_gateway.dataTransferObjects.internal.requests.auth.SessionCheckBatchDTO;
+import com.shubilet.api_gateway.dataTransferObjects.internal.requests.auth.SessionCheckDTO;
+import com.shubilet.api_gateway.dataTransferObjects.internal.responses.auth.MemberCheckMessageDTO;
+import com.shubilet.api_gateway.dataTransferObjects.internal.responses.auth.SessionCheckBatchResultDTO;
+import com.shubilet.api_gateway.dataTransferObjects.internal.responses.auth.SessionCheckResultDTO;
+
+/**
+
+    Domain: Session
+
+    Groups the role-scoped session checks of concurrent requests into batches, so that the
+    security service answers them with one {@code /api/auth/checkBatch} call and one session
+    lookup instead of one call per request. The first check to arrive opens a short window;
+    every check that arrives before it closes, up to the batch size, is sent together, and a
+    full batch is sent at once without waiting for the window. Each caller blocks until the
+    result of its own check arrives, which has the same status and body as the single check
+    endpoint would have returned.
+
+    When a batch fails or a result does not arrive in time, {@link #check} returns {@code null}
+    and the caller sends the check on its own, so batching never turns into a rejected session.
+    Enabled by default; disabled with {@code app.session.check.batch.enabled=false}.
+
+    <p>
+
+        Technologies:
+
+        <ul>
+            <li>Spring Component</li>
+            <li>Spring Web ({@link RestTemplate})</li>
+            <li>Java Concurrency ({@link CompletableFuture}, {@link ScheduledExecutorService}, virtual threads)</li>
+        </ul>
+
+    </p>
+
+    @see SessionCheckManager
+
+    @author Abdullah (Mirliva) GÜNDÜZ - https://github.com/MrMilriva
+
+    @version 1.0
+*/
+@Component
+@ConditionalOnProperty(name = "app.session.check.batch.enabled", havingValue = "true", matchIfMissing = true)
+public class SessionCheckCoalescer implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionCheckCoalescer.class);
+
+    private static final class PendingCheck {
+        private final SessionCheckDTO check;
+        private final CompletableFuture<ResponseEntity<MemberCheckMessageDTO>> result = new CompletableFuture<>();
+
+        private PendingCheck(SessionCheckDTO check) {
+            this.check = check;
+        }
+    }
+
+    private final RestTemplate restTemplate;
+    private final long windowMillis;
+    private final int maxBatchSize;
+    private final long timeoutMillis;
+
+    private final Queue<PendingCheck> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    // Only opens and closes windows; the batch calls themselves run on virtual threads.
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "session-check-coalescer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    public SessionCheckCoalescer(
+            RestTemplate restTemplate,
+            @Value(AppConstants.SESSION_CHECK_BATCH_WINDOW_STRING) long windowMillis,
+            @Value(AppConstants.SESSION_CHECK_BATCH_MAX_SIZE_STRING) int maxBatchSize,
+            @Value(AppConstants.SESSION_CHECK_BATCH_TIMEOUT_STRING) long timeoutMillis
+    ) {
+        this.restTemplate = restTemplate;
+        this.windowMillis = windowMillis;
+        this.maxBatchSize = maxBatchSize;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+
+        Operation: Check
+
+        Adds a session check to the current batch and waits for its result.
+
+        @param userType the user type the session must belong to
+
+        @param cookieDTO the session attributes to check
+
+        @return the response of the security service for this check, or {@code null} if the check has to be sent on its own
+    */
+    public ResponseEntity<MemberCheckMessageDTO> check(String userType, CookieDTO cookieDTO) {
+        PendingCheck pendingCheck = new PendingCheck(new SessionCheckDTO(cookieDTO, userType));
+        pending.add(pendingCheck);
+
+        if (pendingCount.incrementAndGet() >= maxBatchSize) {
+            timer.execute(this::flush);
+        }
+        else if (flushScheduled.compareAndSet(false, true)) {
+            timer.schedule(this::flush, windowMillis, TimeUnit.MILLISECONDS);
+        }
+
+        try {
+            return pendingCheck.result.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | TimeoutException e) {
+            logger.debug("Batched session check unavailable, checking session on its own: {}", e.toString());
+            return null;
+        }
+    }
+
+    /**
+
+        Operation: Flush
+
+        Takes every pending check, up to the batch size per batch, and hands each batch to a
+        sender. Runs on the timer thread only, so batches are cut one at a time.
+    */
+    private void flush() {
+        flushScheduled.set(false);
+
+        while (true) {
+            List<PendingCheck> batch = new ArrayList<>(maxBatchSize);
+            PendingCheck pendingCheck;
+            while (batch.size() < maxBatchSize && (pendingCheck = pending.poll()) != null) {
+                batch.add(pendingCheck);
+            }
+
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            pendingCount.addAndGet(-batch.size());
+            senders.execute(() -> send(batch));
+
+            if (batch.size() < maxBatchSize) {
+                return;
+            }
+        }
+    }
+
+    private void send(List<PendingCheck> batch) {
+        String requestId = UUID.randomUUID().toString();
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Request-Id", requestId);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        List<SessionCheckDTO> checks = new ArrayList<>(batch.size());
+        for (PendingCheck pendingCheck : batch) {
+            checks.add(pendingCheck.check);
+        }
+
+        try {
+            ResponseEntity<SessionCheckBatchResultDTO> response = restTemplate.exchange(
+                    ServiceURLs.SECURITY_SERVICE_CHECK_BATCH_URL,
+                    HttpMethod.POST,
+                    new HttpEntity<>(new SessionCheckBatchDTO(checks), headers),
+                    SessionCheckBatchResultDTO.class
+            );
+
+            SessionCheckBatchResultDTO body = response.getBody();
+            if (!response.getStatusCode().is2xxSuccessful() || body == null || body.getResults() == null
+                    || body.getResults().size() != batch.size()) {
+                throw new IllegalStateException("Unexpected batch session check response (status=" + response.getStatusCode() + ")");
+            }
+
+            List<SessionCheckResultDTO> results = body.getResults();
+            for (int i = 0; i < batch.size(); i++) {
+                SessionCheckResultDTO result = results.get(i);
+                batch.get(i).result.complete(ResponseEntity
+                        .status(result.getStatus())
+                        .body(new MemberCheckMessageDTO(result.getCookie(), result.getMessage(), result.getUserId())));
+            }
+
+            logger.debug("Batched session check completed for {} sessions (requestId={})", batch.size(), requestId);
+        } catch (RuntimeException e) {
+            logger.warn("Batched session check failed for {} sessions (requestId={}): {}", batch.size(), requestId, e.getMessage());
+            for (PendingCheck pendingCheck : batch) {
+                pendingCheck.result.completeExceptionally(e);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        timer.shutdownNow();
+        senders.shutdownNow();
+    }
+}
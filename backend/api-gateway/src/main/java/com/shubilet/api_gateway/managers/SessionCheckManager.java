@@ -0,0 +1,237 @@
+package com.shubilet.api_gateway.managers;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import com.shubilet.api_gateway.common.constants.ServiceURLs;
+import com.shubilet.api_gateway.common.enums.UserType;
+import com.shubilet.api_gateway.common.util.SessionTokenCodec;
+import com.shubilet.api_gateway.dataTransferObjects.internal.CookieDTO;
+import com.shubilet.api_gateway.dataTransferObjects.internal.responses.auth.MemberCheckMessageDTO;
+
+/**
+
+    Domain: Session
+
+    Performs the role-scoped session checks (admin, company, customer) that guard the gateway's
+    authenticated endpoints. When the signed token mode is enabled, a check is answered locally
+    if the session's token has a valid signature, matches the session attributes and the
+    required user type, has not expired, and is not on the revocation list; the response then
+    has the same shape as the security service's. Every other case, including a stale
+    revocation list, is sent to the security service, which remains the authority for rejecting
+    sessions and clearing their attributes. Without token mode every check is sent to the
+    security service.
+
+    Other checks are answered from the {@link SessionCheckCache} when caching is enabled and the
+    same session was checked for the same role a moment ago. Checks sent to the security service
+    go through the {@link SessionCheckCoalescer} when batching is enabled, so that the checks of
+    concurrent requests share one call; a check the coalescer cannot answer is sent on its own.
+
+    <p>
+
+        Technologies:
+
+        <ul>
+            <li>Spring Component</li>
+            <li>Spring Web ({@link RestTemplate})</li>
+        </ul>
+
+    </p>
+
+    @see SessionTokenCodec
+
+    @see RevocationListManager
+
+    @see SessionCheckCoalescer
+
+    @see SessionCheckCache
+
+    @author Abdullah (Mirliva) GÜNDÜZ - https://github.com/MrMilriva
+
+    @version 1.0
+*/
+@Component
+public class SessionCheckManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionCheckManager.class);
+
+    private static final String ADMIN = UserType.ADMIN.getCode();
+    private static final String COMPANY = UserType.COMPANY.getCode();
+    private static final String CUSTOMER = UserType.CUSTOMER.getCode();
+
+    private final RestTemplate restTemplate;
+    // Both are null unless the signed token mode is enabled.
+    private final SessionTokenCodec sessionTokenCodec;
+    private final RevocationListManager revocationListManager;
+    // Null when session check batching is disabled.
+    private final SessionCheckCoalescer sessionCheckCoalescer;
+    // Null when session check caching is disabled.
+    private final SessionCheckCache sessionCheckCache;
+
+    public SessionCheckManager(
+            RestTemplate restTemplate,
+            ObjectProvider<SessionTokenCodec> sessionTokenCodec,
+            ObjectProvider<RevocationListManager> revocationListManager,
+            ObjectProvider<SessionCheckCoalescer> sessionCheckCoalescer,
+            ObjectProvider<SessionCheckCache> sessionCheckCache
+    ) {
+        this.restTemplate = restTemplate;
+        this.sessionTokenCodec = sessionTokenCodec.getIfAvailable();
+        this.revocationListManager = revocationListManager.getIfAvailable();
+        this.sessionCheckCoalescer = sessionCheckCoalescer.getIfAvailable();
+        this.sessionCheckCache = sessionCheckCache.getIfAvailable();
+    }
+
+    /**
+
+        Operation: Check
+
+        Checks that the session belongs to a member of the given role.
+
+        @param userType the role the endpoint requires
+
+        @param request the session attributes to check, with the request headers
+
+        @return the response of the check, in the shape of the security service's
+    */
+    public ResponseEntity<MemberCheckMessageDTO> checkSession(UserType userType, HttpEntity<CookieDTO> request) {
+        return switch (userType) {
+            case ADMIN -> checkAdminSession(request);
+            case COMPANY -> checkCompanySession(request);
+            case CUSTOMER -> checkCustomerSession(request);
+        };
+    }
+
+    public ResponseEntity<MemberCheckMessageDTO> checkAdminSession(HttpEntity<CookieDTO> request) {
+        return check(ADMIN, ServiceURLs.SECURITY_SERVICE_CHECK_ADMIN_SESSION_URL, request);
+    }
+
+    public ResponseEntity<MemberCheckMessageDTO> checkCompanySession(HttpEntity<CookieDTO> request) {
+        return check(COMPANY, ServiceURLs.SECURITY_SERVICE_CHECK_COMPANY_SESSION_URL, request);
+    }
+
+    public ResponseEntity<MemberCheckMessageDTO> checkCustomerSession(HttpEntity<CookieDTO> request) {
+        return check(CUSTOMER, ServiceURLs.SECURITY_SERVICE_CHECK_CUSTOMER_SESSION_URL, request);
+    }
+
+    /**
+
+        Operation: Evict
+
+        Forgets the cached checks of a session that has just been ended through this gateway.
+
+        @param cookieDTO the session attributes of the session
+    */
+    public void evictSession(CookieDTO cookieDTO) {
+        if (sessionCheckCache != null) {
+            sessionCheckCache.evictSession(cookieDTO);
+        }
+    }
+
+    /**
+
+        Operation: Evict
+
+        Forgets the cached checks of every session of a member who has just logged out of all sessions.
+
+        @param userType the user type of the member
+
+        @param userId the id of the member
+    */
+    public void evictMember(String userType, String userId) {
+        if (sessionCheckCache != null) {
+            sessionCheckCache.evictMember(userType, userId);
+        }
+    }
+
+    private ResponseEntity<MemberCheckMessageDTO> check(String userType, String url, HttpEntity<CookieDTO> request) {
+        CookieDTO cookieDTO = request.getBody();
+
+        ResponseEntity<MemberCheckMessageDTO> localResponse = checkLocally(userType, cookieDTO);
+        if (localResponse != null) {
+            return localResponse;
+        }
+
+        if (sessionCheckCache != null && cookieDTO != null) {
+            ResponseEntity<MemberCheckMessageDTO> cachedResponse = sessionCheckCache.get(userType, cookieDTO);
+            if (cachedResponse != null && !isKnownRevoked(cachedResponse, cookieDTO)) {
+                return cachedResponse;
+            }
+        }
+
+        ResponseEntity<MemberCheckMessageDTO> response = checkRemotely(userType, url, request);
+
+        if (sessionCheckCache != null && cookieDTO != null) {
+            sessionCheckCache.put(userType, cookieDTO, response);
+        }
+        return response;
+    }
+
+    private ResponseEntity<MemberCheckMessageDTO> checkRemotely(String userType, String url, HttpEntity<CookieDTO> request) {
+        if (sessionCheckCoalescer != null && request.getBody() != null) {
+            ResponseEntity<MemberCheckMessageDTO> batchedResponse = sessionCheckCoalescer.check(userType, request.getBody());
+            if (batchedResponse != null) {
+                return batchedResponse;
+            }
+        }
+
+        return restTemplate.exchange(url, HttpMethod.POST, request, MemberCheckMessageDTO.class);
+    }
+
+    // A cached valid session that has been revoked since is checked remotely again.
+    private boolean isKnownRevoked(ResponseEntity<MemberCheckMessageDTO> cachedResponse, CookieDTO cookieDTO) {
+        return revocationListManager != null
+                && cachedResponse.getStatusCode().is2xxSuccessful()
+                && cookieDTO.getAuthCode() != null
+                && revocationListManager.isRevoked(cookieDTO.getAuthCode());
+    }
+
+    /**
+
+        Operation: Verify Token
+
+        Validates the session from its signed token alone.
+
+        @param userType the user type the endpoint requires
+
+        @param cookieDTO the session attributes, including the token
+
+        @return a successful check response, or {@code null} if the session cannot be confirmed locally
+    */
+    private ResponseEntity<MemberCheckMessageDTO> checkLocally(String userType, CookieDTO cookieDTO) {
+        if (sessionTokenCodec == null || revocationListManager == null || cookieDTO == null || cookieDTO.getToken() == null) {
+            return null;
+        }
+
+        if (!revocationListManager.isFresh()) {
+            logger.debug("Revocation list is stale, checking session remotely");
+            return null;
+        }
+
+        SessionTokenCodec.Claims claims = sessionTokenCodec.decode(cookieDTO.getToken());
+        if (claims == null) {
+            return null;
+        }
+
+        if (!userType.equals(claims.getUserType())
+                || !String.valueOf(claims.getUserId()).equals(cookieDTO.getUserId())
+                || !claims.getCode().equals(cookieDTO.getAuthCode())) {
+            return null;
+        }
+
+        if (claims.getExpiresAt() <= System.currentTimeMillis()
+                || claims.getIssuedAt() < revocationListManager.getValidAfter()
+                || revocationListManager.isRevoked(claims.getCode())) {
+            return null;
+        }
+
+        return ResponseEntity.status(HttpStatus.OK).body(new MemberCheckMessageDTO(cookieDTO, "Session is valid.", claims.getUserId()));
+    }
+}
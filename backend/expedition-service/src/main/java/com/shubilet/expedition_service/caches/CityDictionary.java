@@ -0,0 +1,128 @@
+package com.shubilet.expedition_service.caches;
+
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.shubilet.expedition_service.models.City;
+import com.shubilet.expedition_service.repositories.CityRepository;
+
+/****
+
+    Domain: City
+
+    Keeps an immutable, in-memory dictionary of all cities so that city names and identifiers can
+    be resolved without a database round trip. Cities are seeded once at startup and are never
+    updated, which makes them safe to cache for the lifetime of the process; the dictionary is
+    rebuilt as a whole on {@link #reload()} when cities are added, and readers always see either
+    the old or the new snapshot.
+
+    Lookups by name are normalised: surrounding and repeated whitespace, letter case and
+    diacritics are ignored, so {@code "  el kelaa des sraghna"} resolves to the canonical
+    {@code "El Kelâa des Sraghna"}. Reverse lookups use a plain array indexed by city id.
+
+    <p>
+
+        Technologies:
+
+        <ul>
+            <li>Spring Component</li>
+            <li>Spring Data JPA (initial and explicit reloads only)</li>
+            <li>Core Java ({@link Normalizer})</li>
+        </ul>
+
+    </p>
+
+    @author Abdullah (Mirliva) GÜNDÜZ - https://github.com/MrMilriva
+
+    @version 1.0
+*/
+@Component
+public class CityDictionary {
+
+    private record Snapshot(Map<String, Integer> idsByName, String[] namesById) {}
+
+    private final CityRepository cityRepository;
+
+    private volatile Snapshot snapshot;
+
+    public CityDictionary(CityRepository cityRepository) {
+        this.cityRepository = cityRepository;
+    }
+
+    /**
+     * Rebuilds the dictionary from the cities table and returns the number of loaded cities.
+     */
+    public synchronized int reload() {
+        List<City> cities = cityRepository.findAll();
+
+        int maxId = 0;
+        for (City city : cities) {
+            maxId = Math.max(maxId, city.getId());
+        }
+
+        Map<String, Integer> idsByName = new HashMap<>(cities.size() * 2);
+        String[] namesById = new String[maxId + 1];
+        for (City city : cities) {
+            idsByName.put(normalize(city.getName()), city.getId());
+            namesById[city.getId()] = city.getName();
+        }
+
+        snapshot = new Snapshot(Map.copyOf(idsByName), namesById);
+        return cities.size();
+    }
+
+    /**
+     * Resolves a city name to its identifier, or {@code -1} if no such city exists.
+     */
+    public int idOf(String name) {
+        if (name == null) {
+            return -1;
+        }
+        Integer id = current().idsByName().get(normalize(name));
+        return (id != null) ? id : -1;
+    }
+
+    /**
+     * Checks whether a city with the given name exists.
+     */
+    public boolean contains(String name) {
+        return idOf(name) != -1;
+    }
+
+    /**
+     * Resolves a city identifier to its canonical name, or {@code null} if no such city exists.
+     */
+    public String nameOf(Integer id) {
+        String[] namesById = current().namesById();
+        if (id == null || id < 0 || id >= namesById.length) {
+            return null;
+        }
+        return namesById[id];
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            // First use before the startup load finished.
+            synchronized (this) {
+                if (snapshot == null) {
+                    reload();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private static String normalize(String name) {
+        String collapsed = name.trim().replaceAll("\\s+", " ");
+        return Normalizer.normalize(collapsed, Normalizer.Form.NFD)
+            .replaceAll("\\p{M}", "")
+            .toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,253 @@
+package com.shubilet.expedition_service.caches;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.shubilet.expedition_service.dataTransferObjects.responses.forRepositories.ExpeditionForCustomerRepoDTO;
+import com.shubilet.expedition_service.dataTransferObjects.responses.forRepositories.ExpeditionIndexRepoDTO;
+import com.shubilet.expedition_service.models.Expedition;
+
+/****
+
+    Domain: Search
+
+    Keeps an in-process index of upcoming expeditions keyed by departure city, arrival city and
+    departure day (UTC), so that customer route searches are answered without a database round
+    trip. Every route/day bucket stores its expeditions as parallel primitive arrays ordered by
+    departure time, and buckets are replaced copy-on-write, so readers never lock and never see
+    a half-applied change.
+
+    The index is kept current by expedition creation and committed bookings on this instance,
+    and is rebuilt from the database at a slow interval, from a projection of the indexed
+    columns only, to reconcile changes made by other instances and drop departed days. Until the first build completes the index reports
+    itself as not ready and callers are expected to fall back to the database.
+
+    <p>
+
+        Technologies:
+
+        <ul>
+            <li>Spring Component</li>
+            <li>Java Concurrency ({@link ConcurrentHashMap})</li>
+        </ul>
+
+    </p>
+
+    @author Abdullah (Mirliva) GÜNDÜZ - https://github.com/MrMilriva
+
+    @version 1.0
+*/
+@Component
+public class ExpeditionSearchIndex {
+
+    private static final long SECONDS_PER_DAY = 86400L;
+
+    private record RouteDay(int departureCityId, int arrivalCityId, long epochDay) {}
+
+    private record Snapshot(Map<RouteDay, Bucket> buckets, Map<Integer, RouteDay> routeDays) {}
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * Tells whether the index has been built at least once and can serve searches.
+     */
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * Replaces the whole index with the given expedition summaries.
+     */
+    public void rebuild(List<ExpeditionIndexRepoDTO> entries) {
+        Snapshot rebuilt = new Snapshot(new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        for (ExpeditionIndexRepoDTO entry : entries) {
+            put(rebuilt, entry);
+        }
+        // Local events applied while rebuilding may be lost here; the next rebuild restores them.
+        snapshot = rebuilt;
+    }
+
+    /**
+     * Adds a newly created expedition, or replaces its summary if already indexed.
+     */
+    public void put(Expedition expedition) {
+        Snapshot current = snapshot;
+        if (current != null) {
+            put(current, new ExpeditionIndexRepoDTO(
+                expedition.getId(),
+                expedition.getDepartureCityId(),
+                expedition.getArrivalCityId(),
+                expedition.getDateAndTime(),
+                expedition.getPrice(),
+                expedition.getDuration(),
+                expedition.getCompanyId(),
+                expedition.getCapacity(),
+                expedition.getNumberOfBookedSeats()
+            ));
+        }
+    }
+
+    /**
+     * Records one booked seat of the given expedition; full expeditions drop out of searches.
+     */
+    public void recordBooking(int expeditionId) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+
+        RouteDay routeDay = current.routeDays().get(expeditionId);
+        if (routeDay != null) {
+            current.buckets().computeIfPresent(routeDay, (key, bucket) -> bucket.withBooking(expeditionId));
+        }
+    }
+
+    /**
+     * Returns the expeditions of the given route and day that still have free seats, ordered by departure.
+     */
+    public List<ExpeditionForCustomerRepoDTO> search(
+        int departureCityId,
+        int arrivalCityId,
+        long epochDay
+    ) {
+        Snapshot current = snapshot;
+        Bucket bucket = (current != null)
+            ? current.buckets().get(new RouteDay(departureCityId, arrivalCityId, epochDay))
+            : null;
+
+        if (bucket == null) {
+            return List.of();
+        }
+        return bucket.toRepoDTOs(departureCityId, arrivalCityId);
+    }
+
+    private static void put(Snapshot target, ExpeditionIndexRepoDTO entry) {
+        RouteDay routeDay = new RouteDay(
+            entry.getDepartureCityId(),
+            entry.getArrivalCityId(),
+            Math.floorDiv(entry.getDateAndTime().getEpochSecond(), SECONDS_PER_DAY)
+        );
+
+        target.routeDays().put(entry.getExpeditionId(), routeDay);
+        target.buckets().compute(routeDay, (key, bucket) ->
+            (bucket == null ? Bucket.EMPTY : bucket).with(entry)
+        );
+    }
+
+    /**
+     * Immutable, departure-ordered expedition summaries of one route and day.
+     */
+    private static final class Bucket {
+
+        static final Bucket EMPTY = new Bucket(new int[0], new long[0], new long[0], new int[0], new int[0], new int[0]);
+
+        final int[] ids;
+        final long[] departures;
+        final long[] priceCents;
+        final int[] durations;
+        final int[] companyIds;
+        final int[] freeSeats;
+
+        Bucket(int[] ids, long[] departures, long[] priceCents, int[] durations, int[] companyIds, int[] freeSeats) {
+            this.ids = ids;
+            this.departures = departures;
+            this.priceCents = priceCents;
+            this.durations = durations;
+            this.companyIds = companyIds;
+            this.freeSeats = freeSeats;
+        }
+
+        Bucket with(ExpeditionIndexRepoDTO entry) {
+            Bucket base = without(entry.getExpeditionId());
+            long departure = entry.getDateAndTime().getEpochSecond();
+
+            int n = base.ids.length;
+            int at = 0;
+            while (at < n && base.departures[at] <= departure) {
+                at++;
+            }
+
+            Bucket next = new Bucket(
+                new int[n + 1], new long[n + 1], new long[n + 1],
+                new int[n + 1], new int[n + 1], new int[n + 1]
+            );
+            base.copyTo(next, 0, 0, at);
+            base.copyTo(next, at, at + 1, n - at);
+
+            next.ids[at] = entry.getExpeditionId();
+            next.departures[at] = departure;
+            next.priceCents[at] = entry.getPrice().movePointRight(2).longValue();
+            next.durations[at] = (entry.getDuration() != null) ? entry.getDuration() : 0;
+            next.companyIds[at] = entry.getCompanyId();
+            next.freeSeats[at] = entry.getFreeSeats();
+            return next;
+        }
+
+        Bucket withBooking(int expeditionId) {
+            int at = indexOf(expeditionId);
+            if (at < 0) {
+                return this;
+            }
+
+            int[] seats = Arrays.copyOf(freeSeats, freeSeats.length);
+            seats[at] = Math.max(0, seats[at] - 1);
+            return new Bucket(ids, departures, priceCents, durations, companyIds, seats);
+        }
+
+        List<ExpeditionForCustomerRepoDTO> toRepoDTOs(int departureCityId, int arrivalCityId) {
+            List<ExpeditionForCustomerRepoDTO> result = new ArrayList<>(ids.length);
+            for (int i = 0; i < ids.length; i++) {
+                if (freeSeats[i] > 0) {
+                    result.add(new ExpeditionForCustomerRepoDTO(
+                        ids[i],
+                        departureCityId,
+                        arrivalCityId,
+                        Instant.ofEpochSecond(departures[i]),
+                        BigDecimal.valueOf(priceCents[i], 2),
+                        durations[i],
+                        companyIds[i]
+                    ));
+                }
+            }
+            return result;
+        }
+
+        private Bucket without(int expeditionId) {
+            int at = indexOf(expeditionId);
+            if (at < 0) {
+                return this;
+            }
+
+            int n = ids.length - 1;
+            Bucket next = new Bucket(new int[n], new long[n], new long[n], new int[n], new int[n], new int[n]);
+            copyTo(next, 0, 0, at);
+            copyTo(next, at + 1, at, n - at);
+            return next;
+        }
+
+        private int indexOf(int expeditionId) {
+            for (int i = 0; i < ids.length; i++) {
+                if (ids[i] == expeditionId) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private void copyTo(Bucket target, int from, int to, int length) {
+            System.arraycopy(ids, from, target.ids, to, length);
+            System.arraycopy(departures, from, target.departures, to, length);
+            System.arraycopy(priceCents, from, target.priceCents, to, length);
+            System.arraycopy(durations, from, target.durations, to, length);
+            System.arraycopy(companyIds, from, target.companyIds, to, length);
+            System.arraycopy(freeSeats, from, target.freeSeats, to, length);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.shubilet.expedition_service.caches;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.shubilet.expedition_service.common.constants.AppConstants;
+import com.shubilet.expedition_service.dataTransferObjects.responses.middle.TicketInfoDTO;
+
+/****
+
+    Domain: Reservation
+
+    Keeps the responses of recently completed ticket purchases by idempotency key, in front of
+    the {@code idempotency_keys} table. A retried purchase that hits this cache is answered
+    immediately, without touching the database or the payment service.
+
+    The cache only ever holds completed purchases, and the table remains the source of truth:
+    entries expire together with their keys, and once {@link AppConstants#IDEMPOTENCY_CACHE_MAX_ENTRIES}
+    is reached new entries are simply not cached, so retries for them fall back to the table.
+
+    <p>
+
+        Technologies:
+
+        <ul>
+            <li>Spring Component</li>
+            <li>Java Concurrency ({@link ConcurrentHashMap})</li>
+        </ul>
+
+    </p>
+
+    @author Abdullah (Mirliva) GÜNDÜZ - https://github.com/MrMilriva
+
+    @version 1.0
+*/
+@Component
+public class IdempotencyCache {
+
+    private record Entry(int customerId, TicketInfoDTO ticketInfo, Instant expiresAt) {}
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the stored response for the given key and customer, or {@code null} if there is none.
+     */
+    public TicketInfoDTO get(String key, int customerId) {
+        Entry entry = entries.get(key);
+        if (entry == null || entry.customerId() != customerId || entry.expiresAt().isBefore(Instant.now())) {
+            return null;
+        }
+        return entry.ticketInfo();
+    }
+
+    /**
+     * Stores the response of a completed purchase.
+     */
+    public void put(String key, int customerId, TicketInfoDTO ticketInfo) {
+        if (entries.size() >= AppConstants.IDEMPOTENCY_CACHE_MAX_ENTRIES) {
+            evictExpired();
+            if (entries.size() >= AppConstants.IDEMPOTENCY_CACHE_MAX_ENTRIES) {
+                return;
+            }
+        }
+        entries.put(key, new Entry(customerId, ticketInfo, Instant.now().plus(AppConstants.IDEMPOTENCY_KEY_TTL)));
+    }
+
+    /**
+     * Drops expired entries and returns how many were removed.
+     */
+    public int evictExpired() {
+        Instant now = Instant.now();
+        int before = entries.size();
+        entries.values().removeIf(entry -> entry.expiresAt().isBefore(now));
+        return before - entries.size();
+    }
+}
@@ -0,0 +1,160 @@
+package com.shubilet.expedition_service.clients;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import com.shubilet.expedition_service.common.constants.AppConstants;
+import com.shubilet.expedition_service.common.constants.ServiceURLs;
+import com.shubilet.expedition_service.dataTransferObjects.internal.requests.CustomerIdRequestDTO;
+import com.shubilet.expedition_service.dataTransferObjects.internal.requests.PaymentRefundRequestDTO;
+import com.shubilet.expedition_service.dataTransferObjects.internal.requests.TicketPaymentRequestDTO;
+import com.shubilet.expedition_service.dataTransferObjects.internal.responses.CardSummaryDTO;
+import com.shubilet.expedition_service.dataTransferObjects.internal.responses.TicketPaymentResponseDTO;
+import com.shubilet.expedition_service.dataTransferObjects.responses.message.MessageDTO;
+
+/****
+
+    Domain: Payment
+
+    Wraps every call this service makes to the payment service and puts a deadline on each of
+    them. Calls run on virtual threads, so a slow payment service parks a cheap virtual thread
+    instead of pinning a request thread, and a call that misses its deadline is interrupted,
+    which closes its socket, rather than being left to run on in the background.
+
+    Responses are returned as they are, including non-2xx ones (the shared {@link RestTemplate}
+    never throws on error statuses); a missed deadline surfaces as a {@link TimeoutException}.
+
+    <p>
+
+        Technologies:
+
+        <ul>
+            <li>Spring Component</li>
+            <li>Spring RestTemplate</li>
+            <li>Java Virtual Threads</li>
+        </ul>
+
+    </p>
+
+    @author Abdullah (Mirliva) GÜNDÜZ - https://github.com/MrMilriva
+
+    @version 1.0
+*/
+@Component
+public class PaymentServiceClient {
+
+    private final RestTemplate restTemplate;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public PaymentServiceClient(RestTemplate restTemplate) {
+        this.restTemplate = restTemplate;
+    }
+
+    /**
+     * Charges the given card; the payment service also rejects cards that are inactive or not owned by the customer.
+     * Calls repeated with the same request identifier return the original payment instead of charging again.
+     */
+    public ResponseEntity<TicketPaymentResponseDTO> makePayment(
+        TicketPaymentRequestDTO paymentRequest,
+        String requestId
+    ) throws TimeoutException {
+        HttpHeaders headers = jsonHeaders();
+        headers.set("X-Request-Id", requestId);
+
+        HttpEntity<TicketPaymentRequestDTO> request = new HttpEntity<>(paymentRequest, headers);
+
+        return call(() -> restTemplate.exchange(
+            ServiceURLs.PAYMENT_SERVICE_MAKE_PAYMENT,
+            HttpMethod.POST,
+            request,
+            TicketPaymentResponseDTO.class
+        ), AppConstants.PAYMENT_CALL_TIMEOUT);
+    }
+
+    /**
+     * Looks up the payment taken under the given request identifier without charging.
+     * Answers 404 when no payment was taken for it.
+     */
+    public ResponseEntity<TicketPaymentResponseDTO> findPayment(String requestId, int customerId) throws TimeoutException {
+        HttpHeaders headers = jsonHeaders();
+        headers.set("X-Request-Id", requestId);
+
+        HttpEntity<CustomerIdRequestDTO> request = new HttpEntity<>(new CustomerIdRequestDTO(customerId), headers);
+
+        return call(() -> restTemplate.exchange(
+            ServiceURLs.PAYMENT_SERVICE_LOOKUP_PAYMENT,
+            HttpMethod.POST,
+            request,
+            TicketPaymentResponseDTO.class
+        ), AppConstants.PAYMENT_CALL_TIMEOUT);
+    }
+
+    /**
+     * Gives back a payment; refunding an already refunded payment succeeds as well.
+     */
+    public ResponseEntity<MessageDTO> refundPayment(int paymentId, int customerId) throws TimeoutException {
+        HttpEntity<PaymentRefundRequestDTO> request = new HttpEntity<>(new PaymentRefundRequestDTO(paymentId, customerId), jsonHeaders());
+
+        return call(() -> restTemplate.exchange(
+            ServiceURLs.PAYMENT_SERVICE_REFUND_PAYMENT,
+            HttpMethod.POST,
+            request,
+            MessageDTO.class
+        ), AppConstants.PAYMENT_CALL_TIMEOUT);
+    }
+
+    /**
+     * Lists the cards registered by the given customer.
+     */
+    public ResponseEntity<List<CardSummaryDTO>> getCustomerCards(int customerId) throws TimeoutException {
+        HttpEntity<CustomerIdRequestDTO> request = new HttpEntity<>(new CustomerIdRequestDTO(customerId), jsonHeaders());
+
+        return call(() -> restTemplate.exchange(
+            ServiceURLs.PAYMENT_SERVICE_CUSTOMER_CARDS,
+            HttpMethod.POST,
+            request,
+            new ParameterizedTypeReference<List<CardSummaryDTO>>() {}
+        ), AppConstants.CARD_LOOKUP_TIMEOUT);
+    }
+
+    private <T> T call(Callable<T> exchange, Duration timeout) throws TimeoutException {
+        Future<T> future = executor.submit(exchange);
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw e;
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for payment service", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Payment service call failed", e.getCause());
+        }
+    }
+
+    private static HttpHeaders jsonHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return headers;
+    }
+}
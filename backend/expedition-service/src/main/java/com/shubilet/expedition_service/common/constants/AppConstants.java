@@ -1,5 +1,7 @@
 package com.shubilet.expedition_service.common.constants;
 
+import java.time.Duration;
+
 /**
 
     Domain: Configuration
@@ -36,5 +38,44 @@ public final class AppConstants {
     public static final int MAX_PAGE_SIZE = 100;
 
     public static final String ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+    public static final int PNR_BLOCK_SIZE = 100;
+
+    public static final Duration SEAT_HOLD_DURATION = Duration.ofMinutes(10);
+
+    public static final Duration PAYMENT_CALL_TIMEOUT = Duration.ofSeconds(5);
+    public static final Duration CARD_LOOKUP_TIMEOUT = Duration.ofSeconds(3);
+
+    public static final int IDEMPOTENCY_KEY_MAX_LENGTH = 64;
+    public static final Duration IDEMPOTENCY_KEY_TTL = Duration.ofHours(24);
+    public static final int IDEMPOTENCY_CACHE_MAX_ENTRIES = 10_000;
+
+    public static final Duration RESERVATION_RECOVERY_DELAY = Duration.ofMinutes(1);
+    public static final Duration RESERVATION_RETRY_BASE_DELAY = Duration.ofSeconds(30);
+    public static final int RESERVATION_RELAY_BATCH_SIZE = 50;
+
+    public static final String SEAT_HOLD_FIXED_DELAY_STRING = "${app.sweeper.seat-hold.cleanup-interval-ms:30000}"; // 30 seconds
+    public static final String SEAT_HOLD_INITIAL_DELAY_STRING = "${app.sweeper.seat-hold.initial-delay-ms:30000}";  // 30 seconds
+
+    // Local creations and bookings update the index directly; the rebuild only reconciles other instances' changes.
+    public static final String SEARCH_INDEX_FIXED_DELAY_STRING = "${app.sweeper.search-index.refresh-interval-ms:300000}"; // 5 minutes
+    public static final String SEARCH_INDEX_INITIAL_DELAY_STRING = "${app.sweeper.search-index.initial-delay-ms:0}";     // at startup
+
+    public static final String IDEMPOTENCY_FIXED_DELAY_STRING = "${app.sweeper.idempotency.cleanup-interval-ms:600000}"; // 10 minutes
+    public static final String IDEMPOTENCY_INITIAL_DELAY_STRING = "${app.sweeper.idempotency.initial-delay-ms:60000}";   // 1 minute
+
+    public static final String RESERVATION_RELAY_FIXED_DELAY_STRING = "${app.sweeper.reservation-relay.interval-ms:15000}"; // 15 seconds
+    public static final String RESERVATION_RELAY_INITIAL_DELAY_STRING = "${app.sweeper.reservation-relay.initial-delay-ms:30000}"; // 30 seconds
+
+    // Connection pool of the RestTemplate used for calls to the other services.
+    public static final String HTTP_CLIENT_MAX_TOTAL_STRING = "${app.http.client.max-total:200}";
+    // Limit per service instance, so one slow instance cannot take every pooled connection.
+    public static final String HTTP_CLIENT_MAX_PER_ROUTE_STRING = "${app.http.client.max-per-route:50}";
+    public static final String HTTP_CLIENT_CONNECT_TIMEOUT_STRING = "${app.http.client.connect-timeout-ms:2000}"; // 2 seconds
+    public static final String HTTP_CLIENT_READ_TIMEOUT_STRING = "${app.http.client.read-timeout-ms:10000}"; // 10 seconds
+    // How long a call waits for a free pooled connection before it fails.
+    public static final String HTTP_CLIENT_POOL_TIMEOUT_STRING = "${app.http.client.pool-timeout-ms:2000}"; // 2 seconds
+    // Kept below the keep-alive timeout of the services' Tomcat (60 seconds), so the pool closes idle connections first.
+    public static final String HTTP_CLIENT_IDLE_TIMEOUT_STRING = "${app.http.client.idle-timeout-ms:30000}"; // 30 seconds
+    public static final String HTTP_CLIENT_POOL_REPORT_FIXED_DELAY_STRING = "${app.http.client.pool-report-interval-ms:60000}"; // 1 minute
     
 }
\ No newline at end of file
@@ -10,5 +10,7 @@ public class ServiceURLs {
     public static final String PAYMENT_SERVICE_CUSTOMER_CARDS = PAYMENT_SERVICE_URL + "/cards/customer";
     public static final String PAYMENT_SERVICE_CHECK_ACTIVATE = PAYMENT_SERVICE_URL + "/cards/check-active";
     public static final String PAYMENT_SERVICE_MAKE_PAYMENT = PAYMENT_SERVICE_URL + "/payment";
+    public static final String PAYMENT_SERVICE_REFUND_PAYMENT = PAYMENT_SERVICE_URL + "/payment/refund";
+    public static final String PAYMENT_SERVICE_LOOKUP_PAYMENT = PAYMENT_SERVICE_URL + "/payment/lookup";
     
 }
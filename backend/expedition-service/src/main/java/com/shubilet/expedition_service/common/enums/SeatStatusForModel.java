@@ -2,6 +2,7 @@ package com.shubilet.expedition_service.common.enums;
 
 public enum SeatStatusForModel {
         AVAILABLE("Available"),
+        HELD("Held"),
         RESERVED("Reserved");
 
         private final String displayName;
@@ -2,15 +2,16 @@ package com.shubilet.expedition_service.common.enums.forReservation;
 
 import org.springframework.http.HttpStatus;
 
-public enum ExpeditionStatus {
-    NOT_FOUND(false, HttpStatus.NOT_FOUND, "EXPEDITION_NOT_FOUND"),
-    NOT_VALID(false, HttpStatus.BAD_REQUEST, "EXPEDITION_NOT_VALID"),
+public enum BookingStatus {
+    EXPEDITION_NOT_FOUND(false, HttpStatus.NOT_FOUND, "EXPEDITION_NOT_FOUND"),
+    SEAT_NOT_FOUND(false, HttpStatus.NOT_FOUND, "SEAT_NOT_EXISTS"),
     INVALID_TIME(false, HttpStatus.BAD_REQUEST, "EXPEDITION_INVALID_TIME"),
-    ALREADY_BOOKED(false, HttpStatus.CONFLICT, "EXPEDITION_ALREADY_BOOKED"),
-    SUCCESS(true, HttpStatus.OK, "EXPEDITION_SUCCESS");
+    SEAT_ALREADY_BOOKED(false, HttpStatus.CONFLICT, "SEAT_ALREADY_BOOKED"),
+    SEAT_ON_HOLD(false, HttpStatus.CONFLICT, "SEAT_ON_HOLD"),
+    EXPEDITION_FULL(false, HttpStatus.CONFLICT, "EXPEDITION_ALREADY_BOOKED"),
+    SUCCESS(true, HttpStatus.OK, "BOOKING_SUCCESS");
 
-
-    // Is this session usable in the system?
+    // Can the booking go on?
     private final boolean valid;
 
     // Which HTTP status should the API respond with?
@@ -19,7 +20,7 @@ public enum ExpeditionStatus {
     // Message or error key for client / i18n / ErrorMessages
     private final String messageKey;
 
-    ExpeditionStatus(boolean valid, HttpStatus httpStatus, String messageKey) {
+    BookingStatus(boolean valid, HttpStatus httpStatus, String messageKey) {
         this.valid = valid;
         this.httpStatus = httpStatus;
         this.messageKey = messageKey;
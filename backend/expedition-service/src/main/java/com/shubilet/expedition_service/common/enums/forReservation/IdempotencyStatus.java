@@ -0,0 +1,12 @@
+package com.shubilet.expedition_service.common.enums.forReservation;
+
+public enum IdempotencyStatus {
+    // The key was claimed by this request; the purchase may proceed.
+    NEW,
+    // Another request with the same key has not finished (or its payment outcome is unknown).
+    IN_PROGRESS,
+    // A ticket was already issued under this key.
+    COMPLETED,
+    // The key was used by a different customer.
+    KEY_MISMATCH
+}
@@ -0,0 +1,14 @@
+package com.shubilet.expedition_service.common.enums.forReservation;
+
+public enum ReservationState {
+    // Seat held, payment requested; the outcome of the charge is not known yet.
+    PAYMENT_PENDING,
+    // Paid, seat booked and ticket issued. Final.
+    CONFIRMED,
+    // The payment service refused the charge; the hold was released. Final.
+    FAILED,
+    // Charged, but the seat could not be booked; the money has to be given back.
+    REFUND_PENDING,
+    // The charge was refunded. Final.
+    REFUNDED
+}
@@ -2,6 +2,7 @@ package com.shubilet.expedition_service.common.util;
 
 import java.util.List;
 
+import com.shubilet.expedition_service.caches.CityDictionary;
 import com.shubilet.expedition_service.dataTransferObjects.responses.base.ExpeditionForCompanyDTO;
 import com.shubilet.expedition_service.dataTransferObjects.responses.base.ExpeditionForCustomerDTO;
 import com.shubilet.expedition_service.dataTransferObjects.responses.base.SeatForCompanyDTO;
@@ -32,6 +33,7 @@ import com.shubilet.expedition_service.dataTransferObjects.responses.forReposito
             <li>Convert expedition repository projections to company/customer response DTOs</li>
             <li>Convert seat repository projections to company/customer seat DTOs</li>
             <li>Convert ticket repository projections to ticket response DTOs</li>
+            <li>Resolve city identifiers to names through the {@link CityDictionary}</li>
             <li>Normalize date-time fields into separate date and time strings</li>
             <li>Provide list-level mapping helpers using Java Stream API</li>
             <li>Ensure null-safety and default value assignment for all fields</li>
@@ -72,7 +74,7 @@ public class DTOMapperUtils {
         throw new IllegalStateException("Utility class");
     }
 
-    public static ExpeditionForCompanyDTO toExpeditionForCompanyDTO(ExpeditionForCompanyRepoDTO repoDTO) {
+    public static ExpeditionForCompanyDTO toExpeditionForCompanyDTO(ExpeditionForCompanyRepoDTO repoDTO, CityDictionary cities) {
         int expeditionId = 0;
         String departureCity = "";
         String arrivalCity = "";
@@ -86,8 +88,8 @@ public class DTOMapperUtils {
 
         if (repoDTO != null) {
             expeditionId = (repoDTO.getExpeditionId() != null) ? repoDTO.getExpeditionId() : 0;
-            departureCity = (repoDTO.getDepartureCity() != null) ? repoDTO.getDepartureCity() : "";
-            arrivalCity = (repoDTO.getArrivalCity() != null) ? repoDTO.getArrivalCity() : "";
+            departureCity = (cities.nameOf(repoDTO.getDepartureCityId()) != null) ? cities.nameOf(repoDTO.getDepartureCityId()) : "";
+            arrivalCity = (cities.nameOf(repoDTO.getArrivalCityId()) != null) ? cities.nameOf(repoDTO.getArrivalCityId()) : "";
 
             if (repoDTO.getDateAndTime() != null) {
                 String[] dateTimeParts = repoDTO.getDateAndTime().toString().split("T");
@@ -116,13 +118,13 @@ public class DTOMapperUtils {
         );
     }
 
-    public static List<ExpeditionForCompanyDTO> toExpeditionForCompanyDTO(List<ExpeditionForCompanyRepoDTO> repoDTOs) {
+    public static List<ExpeditionForCompanyDTO> toExpeditionForCompanyDTO(List<ExpeditionForCompanyRepoDTO> repoDTOs, CityDictionary cities) {
         return repoDTOs.stream()
-                .map(DTOMapperUtils::toExpeditionForCompanyDTO)
+                .map(repoDTO -> toExpeditionForCompanyDTO(repoDTO, cities))
                 .toList();
     }
 
-    public static ExpeditionForCustomerDTO toExpeditionForCustomerDTO(ExpeditionForCustomerRepoDTO repoDTO) {
+    public static ExpeditionForCustomerDTO toExpeditionForCustomerDTO(ExpeditionForCustomerRepoDTO repoDTO, CityDictionary cities) {
         int expeditionId = 0;
         String departureCity = "";
         String arrivalCity = "";
@@ -134,8 +136,8 @@ public class DTOMapperUtils {
 
         if (repoDTO != null) {
             expeditionId = (repoDTO.getExpeditionId() != null) ? repoDTO.getExpeditionId() : 0;
-            departureCity = (repoDTO.getDepartureCity() != null) ? repoDTO.getDepartureCity() : "";
-            arrivalCity = (repoDTO.getArrivalCity() != null) ? repoDTO.getArrivalCity() : "";
+            departureCity = (cities.nameOf(repoDTO.getDepartureCityId()) != null) ? cities.nameOf(repoDTO.getDepartureCityId()) : "";
+            arrivalCity = (cities.nameOf(repoDTO.getArrivalCityId()) != null) ? cities.nameOf(repoDTO.getArrivalCityId()) : "";
 
             if (repoDTO.getDateAndTime() != null) {
                 String[] dateTimeParts = repoDTO.getDateAndTime().toString().split("T");
@@ -160,9 +162,9 @@ public class DTOMapperUtils {
         );
     }
 
-    public static List<ExpeditionForCustomerDTO> toExpeditionForCustomerDTO(List<ExpeditionForCustomerRepoDTO> repoDTOs) {
+    public static List<ExpeditionForCustomerDTO> toExpeditionForCustomerDTO(List<ExpeditionForCustomerRepoDTO> repoDTOs, CityDictionary cities) {
         return repoDTOs.stream()
-                .map(DTOMapperUtils::toExpeditionForCustomerDTO)
+                .map(repoDTO -> toExpeditionForCustomerDTO(repoDTO, cities))
                 .toList();
     }
 
@@ -196,7 +198,7 @@ public class DTOMapperUtils {
                 .toList();
     }
 
-    public static TicketDTO toTicketDTO(TicketRepoDTO repoDTO) {
+    public static TicketDTO toTicketDTO(TicketRepoDTO repoDTO, CityDictionary cities) {
         String PNR = "";
         int seatNo = 0;
         int expeditionId = 0;
@@ -212,8 +214,8 @@ public class DTOMapperUtils {
             seatNo = (repoDTO.getSeatNo() != null) ? repoDTO.getSeatNo() : 0;
             expeditionId = (repoDTO.getExpeditionId() != null) ? repoDTO.getExpeditionId() : 0;
             companyId = (repoDTO.getCompanyId() != null) ? repoDTO.getCompanyId() : 0;
-            departureCity = (repoDTO.getDepartureCity() != null) ? repoDTO.getDepartureCity() : "";
-            arrivalCity = (repoDTO.getArrivalCity() != null) ? repoDTO.getArrivalCity() : "";
+            departureCity = (cities.nameOf(repoDTO.getDepartureCityId()) != null) ? cities.nameOf(repoDTO.getDepartureCityId()) : "";
+            arrivalCity = (cities.nameOf(repoDTO.getArrivalCityId()) != null) ? cities.nameOf(repoDTO.getArrivalCityId()) : "";
 
             if (repoDTO.getDateAndTime() != null) {
                 String[] dateTimeParts = repoDTO.getDateAndTime().toString().split("T");
@@ -237,9 +239,9 @@ public class DTOMapperUtils {
         );
     }
 
-    public static List<TicketDTO> toTicketDTO(List<TicketRepoDTO> repoDTOs) {
+    public static List<TicketDTO> toTicketDTO(List<TicketRepoDTO> repoDTOs, CityDictionary cities) {
         return repoDTOs.stream()
-                .map(DTOMapperUtils::toTicketDTO)
+                .map(repoDTO -> toTicketDTO(repoDTO, cities))
                 .toList();
     }
 
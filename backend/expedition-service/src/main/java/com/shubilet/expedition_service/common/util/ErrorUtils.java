@@ -85,6 +85,11 @@ public class ErrorUtils {
         return caster(message, 409);
     }
 
+    public <T> ResponseEntity<T> onHold(String entityName) {
+        String message = entityName + ErrorMessages.ON_HOLD;
+        return caster(message, 409);
+    }
+
     public <T> ResponseEntity<T> dateInPastError() {
         String message = ErrorMessages.DATE_IN_PAST_ERROR;
         return caster(message, 400);
@@ -7,9 +7,13 @@ import com.shubilet.expedition_service.common.constants.AppConstants;
     Domain: Utility
 
     Provides a simple utility for generating unique Passenger Name Record (PNR) codes used to
-    identify tickets within the system. This class generates a fixed-length alphanumeric code
-    by randomly selecting characters from a predefined alphabet constant. It is intended to be
-    used during ticket creation workflows to produce human-readable, compact identifiers.
+    identify tickets within the system. Each PNR is derived from a database sequence value,
+    which is passed through a fixed permutation of the whole 6-character PNR space and then
+    written in the predefined alphabet. Distinct sequence values therefore always give distinct
+    PNRs, while consecutive tickets still receive unrelated-looking codes.
+
+    The permutation is a four-round Feistel network over two base-{@code 36^3} halves; since
+    {@code 36^3 * 36^3 = 36^6}, it maps the PNR space exactly onto itself without collisions.
 
     <p>
 
@@ -23,20 +27,61 @@ import com.shubilet.expedition_service.common.constants.AppConstants;
 
     @author Abdullah (Mirliva) GÜNDÜZ - https://github.com/MrMilriva
 
-    @version 1.0
+    @version 2.0
 */
 public class PNRGenerator {
-    
-    public static String generatePNR() {
-        StringBuilder pnr = new StringBuilder();
+
+    public static final int PNR_LENGTH = 6;
+
+    private static final int HALF_SPACE = 36 * 36 * 36;
+
+    public static final long PNR_SPACE = (long) HALF_SPACE * HALF_SPACE;
+
+    private static final long[] ROUND_KEYS = {
+        0x5DEECE66DL, 0x2545F4914F6CDD1DL, 0x9E3779B97F4A7C15L, 0xBF58476D1CE4E5B9L
+    };
+
+    private PNRGenerator() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Maps a sequence value in {@code [0, 36^6)} to its PNR.
+     */
+    public static String fromSequenceValue(long value) {
+        if (value < 0 || value >= PNR_SPACE) {
+            throw new IllegalArgumentException("PNR sequence value out of range: " + value);
+        }
+
+        int left = (int) (value / HALF_SPACE);
+        int right = (int) (value % HALF_SPACE);
+
+        for (long key : ROUND_KEYS) {
+            int next = (int) ((left + round(right, key)) % HALF_SPACE);
+            left = right;
+            right = next;
+        }
+
+        long scrambled = (long) left * HALF_SPACE + right;
+
         String characters = AppConstants.ALPHABET;
-        int length = 6;
-        for (int i = 0; i < length; i++) {
-            int index = (int) (Math.random() * characters.length());
-            pnr.append(characters.charAt(index));
+        char[] pnr = new char[PNR_LENGTH];
+        for (int i = PNR_LENGTH - 1; i >= 0; i--) {
+            pnr[i] = characters.charAt((int) (scrambled % characters.length()));
+            scrambled /= characters.length();
         }
-        return pnr.toString();
+        return new String(pnr);
     }
+
+    private static int round(int half, long key) {
+        long x = (half + 1) * key;
+        x ^= x >>> 31;
+        x *= 0x94D049BB133111EBL;
+        x ^= x >>> 29;
+        return (int) Math.floorMod(x, (long) HALF_SPACE);
+    }
+
 }
+
 // Mirliva says: This PNR is unique.
-// Just like everyone else.
\ No newline at end of file
+// Now it can prove it.
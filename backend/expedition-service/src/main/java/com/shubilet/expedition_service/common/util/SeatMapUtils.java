@@ -0,0 +1,127 @@
+package com.shubilet.expedition_service.common.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import com.shubilet.expedition_service.common.enums.SeatStatusForModel;
+import com.shubilet.expedition_service.dataTransferObjects.responses.forRepositories.SeatForCompanyRepoDTO;
+import com.shubilet.expedition_service.dataTransferObjects.responses.forRepositories.SeatForCustomerRepoDTO;
+
+/****
+
+    Domain: Seating
+
+    Provides helpers for the compact seat occupancy bitmap stored on every expedition. Seat
+    {@code n} (1-based) is represented by bit {@code n - 1}, numbered from the least significant
+    bit of the first byte, which is the same numbering used by PostgreSQL {@code set_bit} and
+    {@code get_bit} on {@code bytea}. A set bit means the seat is booked.
+
+    Seat rows are only materialised while a seat is held or once it is booked, so full seat
+    maps are expanded here from the bitmap and the few existing rows instead of being read
+    from one row per seat.
+
+    <p>
+
+        Technologies:
+
+        <ul>
+            <li>Core Java</li>
+        </ul>
+
+    </p>
+
+    @author Abdullah (Mirliva) GÜNDÜZ - https://github.com/MrMilriva
+
+    @version 1.0
+*/
+public final class SeatMapUtils {
+
+    private SeatMapUtils() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Creates an empty occupancy bitmap large enough for the given capacity.
+     */
+    public static byte[] emptySeatMap(int capacity) {
+        return new byte[(capacity + 7) / 8];
+    }
+
+    /**
+     * Checks whether the given 1-based seat number is marked as booked.
+     */
+    public static boolean isBooked(byte[] seatMap, int seatNo) {
+        int bit = seatNo - 1;
+        if (seatMap == null || bit < 0 || (bit >> 3) >= seatMap.length) {
+            return false;
+        }
+        return (seatMap[bit >> 3] & (1 << (bit & 7))) != 0;
+    }
+
+    /**
+     * Marks the given 1-based seat number as booked.
+     */
+    public static void markBooked(byte[] seatMap, int seatNo) {
+        int bit = seatNo - 1;
+        seatMap[bit >> 3] |= (byte) (1 << (bit & 7));
+    }
+
+    /**
+     * Expands an occupancy bitmap and the currently held seat numbers into a customer seat map.
+     */
+    public static List<SeatForCustomerRepoDTO> toCustomerSeats(
+        int expeditionId,
+        int capacity,
+        byte[] seatMap,
+        Collection<Integer> heldSeatNos
+    ) {
+        boolean[] held = new boolean[capacity + 1];
+        for (Integer seatNo : heldSeatNos) {
+            if (seatNo != null && seatNo >= 1 && seatNo <= capacity) {
+                held[seatNo] = true;
+            }
+        }
+
+        List<SeatForCustomerRepoDTO> seats = new ArrayList<>(capacity);
+        for (int seatNo = 1; seatNo <= capacity; seatNo++) {
+            SeatStatusForModel status = SeatStatusForModel.AVAILABLE;
+            if (isBooked(seatMap, seatNo)) {
+                status = SeatStatusForModel.RESERVED;
+            }
+            else if (held[seatNo]) {
+                status = SeatStatusForModel.HELD;
+            }
+            seats.add(new SeatForCustomerRepoDTO(expeditionId, seatNo, status));
+        }
+        return seats;
+    }
+
+    /**
+     * Fills the gaps between materialised seat rows with virtual available seats.
+     */
+    public static List<SeatForCompanyRepoDTO> toCompanySeats(
+        int expeditionId,
+        int capacity,
+        List<SeatForCompanyRepoDTO> occupiedSeats
+    ) {
+        SeatForCompanyRepoDTO[] bySeatNo = new SeatForCompanyRepoDTO[capacity + 1];
+        for (SeatForCompanyRepoDTO seat : occupiedSeats) {
+            Integer seatNo = seat.getSeatNo();
+            if (seatNo != null && seatNo >= 1 && seatNo <= capacity) {
+                bySeatNo[seatNo] = seat;
+            }
+        }
+
+        List<SeatForCompanyRepoDTO> seats = new ArrayList<>(capacity);
+        for (int seatNo = 1; seatNo <= capacity; seatNo++) {
+            SeatForCompanyRepoDTO seat = bySeatNo[seatNo];
+            if (seat == null) {
+                // Never held nor booked, so no row was ever created for it.
+                seat = new SeatForCompanyRepoDTO(null, expeditionId, seatNo, null, SeatStatusForModel.AVAILABLE);
+            }
+            seats.add(seat);
+        }
+        return seats;
+    }
+}
@@ -1,21 +1,105 @@
 package com.shubilet.expedition_service.config;
 
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.client.loadbalancer.LoadBalanced;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.ResponseErrorHandler;
 import org.springframework.web.client.RestTemplate;
 
+import com.shubilet.expedition_service.common.constants.AppConstants;
+
 import java.io.IOException;
 
+/**
+
+    Domain: Configuration
+
+    Provides the {@link RestTemplate} through which this service calls the member and payment
+    services. Calls go through a pool of kept-alive connections, so a call does not pay for a
+    new TCP connection every time, and every call is bounded:
+
+    <ul>
+        <li>at most {@code app.http.client.max-per-route} connections per service instance and
+        {@code app.http.client.max-total} in all</li>
+        <li>{@code app.http.client.connect-timeout-ms} to open a connection and
+        {@code app.http.client.read-timeout-ms} to wait for response data</li>
+        <li>{@code app.http.client.pool-timeout-ms} to wait for a free connection when the limit
+        of the instance is reached</li>
+    </ul>
+
+    Connections idle for longer than {@code app.http.client.idle-timeout-ms} are closed in the
+    background. The utilisation of the pool is reported by the {@link ConnectionPoolReporter}.
+
+    <p>
+
+        Technologies:
+
+        <ul>
+            <li>Spring Framework Configuration</li>
+            <li>Apache HttpClient 5 (pooled connections)</li>
+        </ul>
+
+    </p>
+
+    @author Abdullah (Mirliva) GÜNDÜZ - https://github.com/MrMilriva
+
+    @version 1.0
+*/
 @Configuration
 public class RestTemplateConfig {
 
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager httpClientConnectionManager(
+            @Value(AppConstants.HTTP_CLIENT_MAX_TOTAL_STRING) int maxTotal,
+            @Value(AppConstants.HTTP_CLIENT_MAX_PER_ROUTE_STRING) int maxPerRoute,
+            @Value(AppConstants.HTTP_CLIENT_CONNECT_TIMEOUT_STRING) long connectTimeoutMillis,
+            @Value(AppConstants.HTTP_CLIENT_READ_TIMEOUT_STRING) long readTimeoutMillis
+    ) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                        // A connection the service may have closed meanwhile is checked before it is reused.
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient httpClient(
+            PoolingHttpClientConnectionManager httpClientConnectionManager,
+            @Value(AppConstants.HTTP_CLIENT_POOL_TIMEOUT_STRING) long poolTimeoutMillis,
+            @Value(AppConstants.HTTP_CLIENT_READ_TIMEOUT_STRING) long readTimeoutMillis,
+            @Value(AppConstants.HTTP_CLIENT_IDLE_TIMEOUT_STRING) long idleTimeoutMillis
+    ) {
+        return HttpClients.custom()
+                .setConnectionManager(httpClientConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolTimeoutMillis))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(idleTimeoutMillis))
+                .build();
+    }
+
     @Bean
     @LoadBalanced
-    public RestTemplate restTemplate() {
-        RestTemplate restTemplate = new RestTemplate();
+    public RestTemplate restTemplate(CloseableHttpClient httpClient) {
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
 
         // Override default error handling
         restTemplate.setErrorHandler(new ResponseErrorHandler() {
@@ -0,0 +1,78 @@
+package com.shubilet.expedition_service.controllers;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.shubilet.expedition_service.controllers.Impl.CityControllerImpl;
+import com.shubilet.expedition_service.dataTransferObjects.responses.message.MessageDTO;
+
+/****
+
+    Domain: City
+
+    Declares the REST API contract for city maintenance operations under the {@code /api/cities} resource.
+    Cities are served from an in-memory dictionary loaded at startup; this interface exposes the operation
+    used to refresh that dictionary after cities have been added to the database.
+
+    <p>
+
+        Technologies:
+
+        <ul>
+            <li>Spring Web</li>
+        </ul>
+
+    </p>
+
+    @author Abdullah (Mirliva) GÜNDÜZ - https://github.com/MrMilriva
+
+    @see CityControllerImpl
+
+    @version 1.0
+*/
+@RestController
+@RequestMapping("/api/cities")
+public interface CityController {
+
+    /****
+
+        Operation: Reload
+
+        Defines the contract for rebuilding the in-memory city dictionary from the database. Implementations
+        replace the dictionary atomically and return a standardized {@link MessageDTO} reporting how many
+        cities were loaded.
+
+        <p>
+
+            Usage:
+
+            <pre>
+
+                POST /api/cities/reload
+
+                Response:
+                {
+                    "message": "City dictionary reloaded with 52 cities."
+                }
+
+            </pre>
+        </p>
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>{@link MessageDTO} as the standardized response wrapper conveying operation status</li>
+                <li>{@link ResponseEntity} for HTTP-level response abstraction</li>
+            </ul>
+
+        </p>
+
+        @return a response entity containing a {@link MessageDTO} describing the result of the reload
+    */
+    @PostMapping("/reload")
+    public ResponseEntity<MessageDTO> reloadCities();
+}
@@ -0,0 +1,75 @@
+package com.shubilet.expedition_service.controllers.Impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.shubilet.expedition_service.controllers.CityController;
+import com.shubilet.expedition_service.dataTransferObjects.responses.message.MessageDTO;
+import com.shubilet.expedition_service.services.CityService;
+
+/****
+
+    Domain: City
+
+    Provides the REST endpoint for refreshing the in-memory city dictionary. City lookups made by expedition
+    creation, customer search and DTO mapping are served from that dictionary, so cities inserted into the
+    database after startup only become visible once it has been reloaded through this controller.
+
+    <p>
+
+        Technologies:
+
+        <ul>
+            <li>Spring Web</li>
+            <li>SLF4J</li>
+        </ul>
+
+    </p>
+
+    @author Abdullah (Mirliva) GÜNDÜZ - https://github.com/MrMilriva
+
+    @version 1.0
+*/
+@RestController
+@RequestMapping("/api/cities")
+public class CityControllerImpl implements CityController {
+    private static final Logger logger = LoggerFactory.getLogger(CityControllerImpl.class);
+
+    private final CityService cityService;
+
+    public CityControllerImpl(CityService cityService) {
+        this.cityService = cityService;
+    }
+
+    /****
+
+        Operation: Reload
+
+        Rebuilds the in-memory city dictionary from the database and reports how many cities it now holds.
+        The previous dictionary keeps serving lookups until the new one is fully built.
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>{@link CityService} for reloading the city dictionary</li>
+                <li>{@link Logger} for audit logging</li>
+            </ul>
+
+        </p>
+
+        @return a response entity containing a {@link MessageDTO} with the number of loaded cities
+    */
+    @PostMapping("/reload")
+    public ResponseEntity<MessageDTO> reloadCities() {
+        int loaded = cityService.reloadCities();
+
+        logger.info("City dictionary reloaded with {} cities.", loaded);
+        return ResponseEntity.ok(new MessageDTO("City dictionary reloaded with " + loaded + " cities."));
+    }
+}
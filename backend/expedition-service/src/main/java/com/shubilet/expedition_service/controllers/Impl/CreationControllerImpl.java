@@ -17,7 +17,6 @@ import com.shubilet.expedition_service.dataTransferObjects.requests.ExpeditionCr
 import com.shubilet.expedition_service.dataTransferObjects.responses.message.MessageDTO;
 import com.shubilet.expedition_service.services.CityService;
 import com.shubilet.expedition_service.services.ExpeditionService;
-import com.shubilet.expedition_service.services.SeatService;
 
 
 
@@ -53,16 +52,13 @@ public class CreationControllerImpl implements CreationController {
 
     private final CityService cityService;
     private final ExpeditionService expeditionService;
-    private final SeatService seatService;
 
     public CreationControllerImpl(
         CityService cityService,
-        ExpeditionService expeditionService,
-        SeatService seatService
+        ExpeditionService expeditionService
     ) {
         this.cityService = cityService;
         this.expeditionService = expeditionService;
-        this.seatService = seatService;
     }
     
     /****
@@ -71,9 +67,10 @@ public class CreationControllerImpl implements CreationController {
 
         Handles the creation of a new expedition by validating the incoming {@link ExpeditionCreationDTO} request and
         enforcing business rules such as city consistency, date and price format correctness, capacity limits, and
-        company authorization. Upon successful validation, delegates expedition persistence to the expedition service
-        and triggers seat generation based on the defined capacity. Returns a success message when the expedition and
-        its seats are created successfully, or an error response when validation or creation fails.
+        company authorization. Upon successful validation, delegates expedition persistence to the expedition service.
+        Seats are not materialised up front; they are tracked by the occupancy bitmap of the expedition and only get a
+        row once held or booked. Returns a success message when the expedition is created successfully, or an error
+        response when validation or creation fails.
 
         <p>
 
@@ -86,7 +83,6 @@ public class CreationControllerImpl implements CreationController {
                 <li>{@link ValidationUtils} for numeric and date format validation</li>
                 <li>{@link CityService} for validating departure and arrival city existence</li>
                 <li>{@link ExpeditionService} for expedition persistence</li>
-                <li>{@link SeatService} for automatic seat generation</li>
                 <li>{@link Logger} for audit and diagnostic logging</li>
             </ul>
 
@@ -157,7 +153,7 @@ public class CreationControllerImpl implements CreationController {
         }
 
         //STEP 2: Spesific validations
-        if(StringUtils.nullSafeEquals(arrivalCity, departureCity)) {
+        if(StringUtils.nullSafeEquals(arrivalCity, departureCity) || cityService.isSameCity(arrivalCity, departureCity)) {
             logger.error("Arrival city and Departure city are the same: {}", arrivalCity);
             return errorUtils.sameCityError();
         }
@@ -199,8 +195,6 @@ public class CreationControllerImpl implements CreationController {
             return errorUtils.criticalError();
         }
 
-        seatService.generateSeats(expeditionId, capacity);
-
         logger.info("Expedition created successfully with Id: {}", expeditionId);
         return ResponseEntity.ok(new MessageDTO("Expedition created successfully."));
     }
@@ -3,6 +3,7 @@ package com.shubilet.expedition_service.controllers.Impl;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeoutException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -10,36 +11,38 @@ import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.client.HttpStatusCodeException;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
-
-import com.shubilet.expedition_service.common.constants.ServiceURLs;
-import com.shubilet.expedition_service.common.enums.forReservation.ExpeditionStatus;
-import com.shubilet.expedition_service.common.enums.forReservation.SeatStatus;
+import org.springframework.http.HttpStatus;
+
+import com.shubilet.expedition_service.caches.IdempotencyCache;
+import com.shubilet.expedition_service.clients.PaymentServiceClient;
+import com.shubilet.expedition_service.common.constants.AppConstants;
+import com.shubilet.expedition_service.common.enums.forReservation.BookingStatus;
+import com.shubilet.expedition_service.common.enums.forReservation.ReservationState;
 import com.shubilet.expedition_service.common.util.ErrorUtils;
 import com.shubilet.expedition_service.common.util.StringUtils;
 import com.shubilet.expedition_service.controllers.RezervationController;
-import com.shubilet.expedition_service.dataTransferObjects.internal.requests.CardIdDTORequest;
-import com.shubilet.expedition_service.dataTransferObjects.internal.requests.CustomerIdRequestDTO;
 import com.shubilet.expedition_service.dataTransferObjects.internal.requests.TicketPaymentRequestDTO;
 import com.shubilet.expedition_service.dataTransferObjects.internal.responses.CardSummaryDTO;
 import com.shubilet.expedition_service.dataTransferObjects.internal.responses.TicketPaymentResponseDTO;
 import com.shubilet.expedition_service.dataTransferObjects.requests.BuyTicketDTO;
 import com.shubilet.expedition_service.dataTransferObjects.requests.CustomerIdDTO;
+import com.shubilet.expedition_service.dataTransferObjects.requests.SeatHoldDTO;
 import com.shubilet.expedition_service.dataTransferObjects.responses.base.CardDTO;
 import com.shubilet.expedition_service.dataTransferObjects.responses.base.TicketDTO;
 import com.shubilet.expedition_service.dataTransferObjects.responses.complex.CardsDTO;
+import com.shubilet.expedition_service.dataTransferObjects.responses.forServices.BookingResultDTO;
+import com.shubilet.expedition_service.dataTransferObjects.responses.forServices.IdempotencyResultDTO;
+import com.shubilet.expedition_service.dataTransferObjects.responses.forServices.ReservationResultDTO;
+import com.shubilet.expedition_service.dataTransferObjects.responses.message.MessageDTO;
 import com.shubilet.expedition_service.dataTransferObjects.responses.middle.TicketInfoDTO;
-import com.shubilet.expedition_service.services.ExpeditionService;
-import com.shubilet.expedition_service.services.SeatService;
+import com.shubilet.expedition_service.services.BookingService;
+import com.shubilet.expedition_service.services.IdempotencyService;
+import com.shubilet.expedition_service.services.ReservationSagaService;
 import com.shubilet.expedition_service.services.TicketService;
+import com.shubilet.expedition_service.sweeper.ReservationRelay;
 
 /****
 
@@ -60,6 +63,7 @@ import com.shubilet.expedition_service.services.TicketService;
             <li>Spring Web</li>
             <li>SLF4J</li>
             <li>Spring RestTemplate</li>
+            <li>Java Virtual Threads (via {@link PaymentServiceClient})</li>
         </ul>
 
     </p>
@@ -74,31 +78,48 @@ public class ReservationControllerImpl implements RezervationController {
 
     private static final Logger logger = LoggerFactory.getLogger(ReservationControllerImpl.class); 
 
-    private final ExpeditionService expeditionService;
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private final BookingService bookingService;
+    private final ReservationSagaService reservationSagaService;
     private final TicketService ticketService;
-    private final SeatService seatService;
-    private final RestTemplate restTemplate;
+    private final IdempotencyService idempotencyService;
+    private final IdempotencyCache idempotencyCache;
+    private final PaymentServiceClient paymentServiceClient;
 
     public ReservationControllerImpl(
-        ExpeditionService expeditionService,
+        BookingService bookingService,
+        ReservationSagaService reservationSagaService,
         TicketService ticketService,
-        SeatService seatService,
-        RestTemplate restTemplate
+        IdempotencyService idempotencyService,
+        IdempotencyCache idempotencyCache,
+        PaymentServiceClient paymentServiceClient
     ) {
-        this.expeditionService = expeditionService;
+        this.bookingService = bookingService;
+        this.reservationSagaService = reservationSagaService;
         this.ticketService = ticketService;
-        this.seatService = seatService;
-        this.restTemplate = restTemplate;
+        this.idempotencyService = idempotencyService;
+        this.idempotencyCache = idempotencyCache;
+        this.paymentServiceClient = paymentServiceClient;
     }
 
     /****
 
         Operation: BuyTicket
 
-        Processes a ticket purchase request by validating the {@link BuyTicketDTO} payload, verifying expedition and seat
-        availability, and ensuring the selected payment card is active via an external payment service call. If validations
-        pass, calculates the payable amount, performs the payment transaction, books the requested seat, updates expedition
-        capacity state, and generates a ticket PNR to retrieve full ticket details. Returns a {@link TicketInfoDTO} containing
+        Processes a ticket purchase request by validating the {@link BuyTicketDTO} payload and placing a short-lived hold on
+        the requested seat, so that no other customer can pay for it in the meantime. The hold is committed together with a
+        {@code PAYMENT_PENDING} reservation, which makes the purchase a saga: whatever this request does not finish is
+        finished by the {@link ReservationRelay}. While the hold is in place, performs the payment transaction via the
+        external payment service, outside of any database transaction; the payment service rejects inactive or foreign cards
+        as part of the same call, and the call is abandoned after {@link AppConstants#PAYMENT_CALL_TIMEOUT}. Then books the
+        seat, issues the ticket and confirms the reservation in a single local transaction. A refused payment fails the
+        reservation and releases the hold; a paid reservation whose seat cannot be booked is queued for refund; a payment
+        with an unknown outcome is left to the relay, which repeats it under the same request identifier.
+        When the client sends an {@code Idempotency-Key} header, the key is claimed before the seat is held and the issued PNR is
+        stored under it; a retry with the same key is answered with the stored ticket from {@link IdempotencyCache} or the
+        {@code idempotency_keys} table without calling the payment service again, while a retry that races the first attempt is
+        refused with a conflict. Keys of purchases that failed before any charge are released so the purchase can be retried. Returns a {@link TicketInfoDTO} containing
         the booked {@link TicketDTO} and a success message, or an error response when any validation, payment, or booking step fails.
 
         <p>
@@ -108,32 +129,36 @@ public class ReservationControllerImpl implements RezervationController {
             <ul>
                 <li>{@link BuyTicketDTO} for customerId, expeditionId, seatNo, and cardId inputs</li>
                 <li>{@link ErrorUtils} for building standardized {@link TicketInfoDTO}-based error responses</li>
-                <li>{@link ExpeditionService} for expedition existence, reservability checks, pricing lookup, and seat booking updates</li>
-                <li>{@link SeatService} for seat existence checks, reservability checks, seat booking, and seatId resolution</li>
-                <li>{@link SeatStatus} and {@link ExpeditionStatus} for domain-level reservability outcomes</li>
-                <li>{@link RestTemplate} for communicating with external payment service endpoints</li>
-                <li>{@link ServiceURLs} for payment service endpoint locations</li>
-                <li>{@link HttpHeaders}, {@link HttpEntity}, {@link MediaType}, and {@link HttpMethod} for HTTP request construction</li>
-                <li>{@link UUID} for generating an idempotency/correlation request identifier</li>
-                <li>{@link CardIdDTORequest} for card activation check requests</li>
+                <li>{@link ReservationSagaService} for opening, confirming, failing, and refunding reservations</li>
+                <li>{@link BookingResultDTO} and {@link BookingStatus} for typed hold and booking outcomes</li>
+                <li>{@link ReservationResultDTO} and {@link ReservationState} for the outcome of the confirmation step</li>
+                <li>{@link IdempotencyService} and {@link IdempotencyResultDTO} for claiming, completing, and releasing idempotency keys</li>
+                <li>{@link IdempotencyCache} for replaying recently completed purchases from memory</li>
+                <li>{@link PaymentServiceClient} for time-bounded payment service calls</li>
+                <li>{@link UUID} for generating the reservation's request identifier, also sent to the payment service</li>
                 <li>{@link TicketPaymentRequestDTO} and {@link TicketPaymentResponseDTO} for payment execution</li>
-                <li>{@link HttpStatusCodeException} for handling downstream HTTP error responses</li>
-                <li>{@link TicketService} for ticket generation and ticket detail retrieval</li>
+                <li>{@link TimeoutException} for payment calls that miss their deadline</li>
+                <li>{@link TicketService} for ticket detail retrieval</li>
                 <li>{@link TicketDTO} and {@link TicketInfoDTO} for ticket detail transport and response wrapping</li>
-                <li>{@link StringUtils} for blank checks on generated PNR</li>
+                <li>{@link StringUtils} for blank checks on payment messages and the issued PNR</li>
                 <li>{@link Logger} for audit and diagnostic logging</li>
             </ul>
 
         </p>
 
+        @param idempotencyKey the optional client-supplied key identifying retries of the same purchase
+
         @param buyTicketDTO the purchase request containing customerId, expeditionId, seatNo, and cardId
 
         @return a response entity containing a {@link TicketInfoDTO} with booked ticket details and a business message,
         or an error response when the request is invalid, the seat/expedition cannot be reserved, the card is inactive,
-        payment fails, or ticket generation cannot be completed
+        payment fails, ticket generation cannot be completed, or a purchase with the same key is still in progress
     */
     @PostMapping("/buy_ticket")
-    public ResponseEntity<TicketInfoDTO> buyTicket(@RequestBody BuyTicketDTO buyTicketDTO) {
+    public ResponseEntity<TicketInfoDTO> buyTicket(
+        @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+        @RequestBody BuyTicketDTO buyTicketDTO
+    ) {
         ErrorUtils errorUtils = new ErrorUtils(ErrorUtils.ConversionType.TICKET_INFO_DTO);
 
         //STEP 1: Classic validation
@@ -166,186 +191,301 @@ public class ReservationControllerImpl implements RezervationController {
             logger.error("Invalid Card ID: {}", cardId);
             return errorUtils.isInvalidFormat(String.valueOf(cardId));
         }
+
+        if(idempotencyKey != null
+            && (StringUtils.isNullOrBlank(idempotencyKey) || idempotencyKey.length() > AppConstants.IDEMPOTENCY_KEY_MAX_LENGTH)) {
+            logger.error("Invalid Idempotency-Key. Customer ID: {}", customerId);
+            return errorUtils.isInvalidFormat(IDEMPOTENCY_KEY_HEADER);
+        }
         //STEP 2: Spesific validation
+        // A retried request is answered with the outcome of the first one instead of being charged again.
+        if(idempotencyKey != null) {
+            TicketInfoDTO cached = idempotencyCache.get(idempotencyKey, customerId);
+            if(cached != null) {
+                logger.info("Replaying ticket purchase from cache. Idempotency-Key: {}, Customer ID: {}", idempotencyKey, customerId);
+                return ResponseEntity.ok(cached);
+            }
 
-        if(!expeditionService.expeditionExists(expeditionId)) {
-            logger.error("Expedition not found: {}", expeditionId);
-            return errorUtils.notFound("Expedition ID: " + expeditionId);
+            IdempotencyResultDTO claim = idempotencyService.begin(idempotencyKey, customerId);
+            switch (claim.getStatus()) {
+                case COMPLETED:
+                    logger.info("Replaying ticket purchase. Idempotency-Key: {}, Customer ID: {}, PNR: {}",
+                        idempotencyKey, customerId, claim.getPNR());
+                    TicketInfoDTO replayed = new TicketInfoDTO(ticketService.getTicketDetails(claim.getPNR()), "Ticket booked successfully.");
+                    idempotencyCache.put(idempotencyKey, customerId, replayed);
+                    return ResponseEntity.ok(replayed);
+                case IN_PROGRESS:
+                    logger.warn("Ticket purchase already in progress. Idempotency-Key: {}, Customer ID: {}", idempotencyKey, customerId);
+                    return errorUtils.customError(ResponseEntity.status(HttpStatus.CONFLICT).build(),
+                        "A purchase with this Idempotency-Key is already in progress.");
+                case KEY_MISMATCH:
+                    logger.error("Idempotency-Key belongs to another customer. Customer ID: {}", customerId);
+                    return errorUtils.isInvalidFormat(IDEMPOTENCY_KEY_HEADER);
+                default:
+                    break;
+            }
         }
 
-        if(!seatService.seatExist(expeditionId, seatNo)) {
-            logger.error("Seat not found. Expedition ID: {}, Seat No: {}", expeditionId, seatNo);
-            return errorUtils.notFound("Seat No: " + seatNo + " for Expedition ID: " + expeditionId);
+        // The seat is held before any money moves, so only one customer can be charged for it.
+        // The reservation is recorded in the same commit; from here on the relay finishes whatever this request does not.
+        String requestId = UUID.randomUUID().toString();
+        BookingResultDTO hold = reservationSagaService.open(expeditionId, customerId, seatNo, cardId, requestId, idempotencyKey);
+
+        if(hold.getStatus() != BookingStatus.SUCCESS) {
+            releaseIdempotencyKey(idempotencyKey);
+            return bookingFailed(errorUtils, hold.getStatus(), expeditionId, seatNo);
         }
 
-        SeatStatus seatStatus = seatService.canBeReserved(expeditionId, seatNo);
-        ExpeditionStatus expeditionStatus = expeditionService.canBeReserved(expeditionId);
+        //STEP 3: Logical processing
+        int amount = hold.getPrice().intValue();
 
-        if(seatStatus != SeatStatus.SUCCESS) {
-            if(seatStatus == SeatStatus.NOT_FOUND) {
-                logger.error("Seat does not exist. Expedition ID: {}, Seat No: {}", expeditionId, seatNo);
-                return errorUtils.notFound("Seat No: " + seatNo + " for Expedition ID: " + expeditionId);
-            }
+        //START: Payment Service communication - Make Payment
+        // Card activity and ownership are checked by the payment service as part of the charge,
+        // so there is no separate card check round trip before it.
+        TicketPaymentRequestDTO paymentRequest = new TicketPaymentRequestDTO(cardId, String.valueOf(amount), customerId);
 
-            if(seatStatus == SeatStatus.ALREADY_BOOKED) {
-                logger.error("Seat already booked. Expedition ID: {}, Seat No: {}", expeditionId, seatNo);
-                return errorUtils.alreadyBooked("Seat No: " + seatNo + " for Expedition ID: " + expeditionId);
-            }
+        int paymentId;
 
-            logger.error("Failed to book seat. Expedition ID: {}, Seat No: {}, Status: {}", expeditionId, seatNo, seatStatus);
-            return errorUtils.criticalError();
-        }
+        try {
+            ResponseEntity<TicketPaymentResponseDTO> paymentResponse =
+                paymentServiceClient.makePayment(paymentRequest, requestId);
 
-        if(expeditionStatus != ExpeditionStatus.SUCCESS) {
-            if(expeditionStatus == ExpeditionStatus.NOT_FOUND) {
-                logger.error("Expedition does not exist: {}", expeditionId);
-                return errorUtils.notFound("Expedition ID: " + expeditionId);
+            TicketPaymentResponseDTO body = paymentResponse.getBody();
+
+            if (paymentResponse.getStatusCode().is4xxClientError()) {
+                // Only a refusal (inactive or foreign card, ...) is final; the hold is released right away.
+                logger.error("Payment refused. Expedition ID: {}, Customer ID: {}, Seat No: {}, Card ID: {}, Status: {}",
+                    expeditionId, customerId, seatNo, cardId, paymentResponse.getStatusCode());
+                reservationSagaService.fail(requestId);
+
+                if (body != null && !StringUtils.isNullOrBlank(body.getMessage())) {
+                    return errorUtils.customError(paymentResponse, body.getMessage());
+                }
+                return errorUtils.customError(paymentResponse, "Payment failed");
             }
 
-            if(expeditionStatus == ExpeditionStatus.INVALID_TIME) {
-                logger.error("Cannot book seat for past expedition time: {}", expeditionId);
-                return errorUtils.isInvalidFormat("Cannot book seat for past expedition time.");
+            if (!paymentResponse.getStatusCode().is2xxSuccessful()) {
+                // A server error may come after the charge was committed. The reservation stays
+                // pending, and the relay repeats the charge under the same request ID to settle it.
+                logger.error("Payment failed, outcome unknown. Request ID: {}, Expedition ID: {}, Customer ID: {}, Seat No: {}, Status: {}",
+                    requestId, expeditionId, customerId, seatNo, paymentResponse.getStatusCode());
+                return errorUtils.customError(paymentResponse, "Payment failed");
             }
 
-            if(expeditionStatus == ExpeditionStatus.ALREADY_BOOKED) {
-                logger.error("No available seats in expedition: {}", expeditionId);
-                return errorUtils.alreadyBooked("Expedition ID: " + expeditionId);
+            if (body == null || body.getPaymentId() <= 0) {
+                // Accepted but unreadable; the relay repeats the request and gets the payment back.
+                logger.error("Payment response is missing the payment ID. Request ID: {}, Expedition ID: {}, Customer ID: {}, Seat No: {}",
+                    requestId, expeditionId, customerId, seatNo);
+                return errorUtils.criticalError();
             }
 
-            logger.error("Failed to update expedition after booking seat. Expedition ID: {}, Status: {}", expeditionId, expeditionStatus);
+            paymentId = body.getPaymentId();
+            logger.info("Payment successful. Payment ID: {}, Expedition ID: {}, Customer ID: {}, Seat No: {}",
+                paymentId, expeditionId, customerId, seatNo
+            );
+        } catch (TimeoutException ex) {
+            // The charge may or may not have gone through. The hold and the reservation stay
+            // in place, and the relay settles the payment once the payment service answers.
+            logger.error("Payment timed out, outcome unknown. Request ID: {}, Expedition ID: {}, Customer ID: {}, Seat No: {}",
+                requestId, expeditionId, customerId, seatNo);
+            return errorUtils.customError(ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).build(), "Payment timed out");
+        } catch (Exception ex) {
+            // A dropped connection can also come after the charge was committed; left to the relay as well.
+            logger.error("Payment unexpected error, outcome unknown. Request ID: {}, Expedition ID: {}, Customer ID: {}, Seat No: {}",
+                requestId, expeditionId, customerId, seatNo, ex);
             return errorUtils.criticalError();
         }
+        //END: Payment Service communication - Make Payment
 
-        // START: Payment Service communication - Card Active Check
-        String requestId = UUID.randomUUID().toString();
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("X-Request-Id", requestId);
-        headers.setContentType(MediaType.APPLICATION_JSON);
+        // Seat booking, ticket and idempotency record are committed together.
+        ReservationResultDTO reservation = reservationSagaService.confirm(requestId, paymentId);
 
-        HttpEntity<CardIdDTORequest> cardRequest = new HttpEntity<>(new CardIdDTORequest(cardId), headers);
+        if(reservation.getState() == ReservationState.PAYMENT_PENDING) {
+            logger.error("Payment taken but booking failed, refund queued. Payment ID: {}, Expedition ID: {}, Seat No: {}",
+                paymentId, expeditionId, seatNo);
+            reservationSagaService.requestRefund(requestId, paymentId);
+            return bookingFailed(errorUtils, reservation.getBookingStatus(), expeditionId, seatNo);
+        }
 
-        boolean isCardActive;
+        if(reservation.getState() != ReservationState.CONFIRMED || StringUtils.isNullOrBlank(reservation.getPNR())) {
+            logger.error("Reservation was settled elsewhere. Request ID: {}, State: {}", requestId, reservation.getState());
+            return errorUtils.criticalError();
+        }
 
-        try {
-            // IMPORTANT: Boolean.class not String.class
-            ResponseEntity<String> cardResponse = restTemplate.exchange(
-                ServiceURLs.PAYMENT_SERVICE_CHECK_ACTIVATE,
-                HttpMethod.POST,
-                cardRequest,
-                String.class
-            );
+        TicketDTO ticketDTO = ticketService.getTicketDetails(reservation.getPNR());
+        TicketInfoDTO ticketInfoDTO = new TicketInfoDTO(ticketDTO, "Ticket booked successfully.");
 
-            // If 2xx, body will be "true"/"false" (JSON boolean converted to string)
-            if (!cardResponse.getStatusCode().is2xxSuccessful()) {
-                // Normally won't reach here (RestTemplate throws exception on 4xx),
-                // but still safe to check.
-                return errorUtils.criticalError();
-            }
+        if(idempotencyKey != null) {
+            idempotencyCache.put(idempotencyKey, customerId, ticketInfoDTO);
+        }
 
-            String body = cardResponse.getBody(); // "true" veya "false"
-            isCardActive = Boolean.parseBoolean(body);
+        return ResponseEntity.ok(ticketInfoDTO);
+    }
 
-        } catch (HttpStatusCodeException ex) {
-            // Falls here when 4xx/5xx occurs and body is usually {"message":"..."}
-            String errorBody = ex.getResponseBodyAsString();
+    private void releaseIdempotencyKey(String idempotencyKey) {
+        if(idempotencyKey != null) {
+            idempotencyService.release(idempotencyKey);
+        }
+    }
 
-            // Here you have two options:
-            // A) Directly consider "card not active" and proceed
-            // B) Parse the message from the body and return it to the user
+    /****
 
-            // Simple and robust:
-            logger.error("Card active check failed. status={}, body={}", ex.getStatusCode(), errorBody);
-            return errorUtils.cardNotActive();
+        Operation: HoldSeat
 
-        } catch (Exception ex) {
-            logger.error("Card active check unexpected error", ex);
+        Places a short-lived hold on a seat for the given customer ahead of payment. Validates the {@link SeatHoldDTO}
+        payload and delegates to the booking service, which grants the hold atomically only if the expedition is still
+        bookable and the seat is neither booked nor held by another customer. A customer asking again for a seat they
+        already hold gets the hold refreshed. Holds expire after {@link AppConstants#SEAT_HOLD_DURATION} and are released
+        by the seat hold reaper.
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>{@link SeatHoldDTO} for customerId, expeditionId, and seatNo inputs</li>
+                <li>{@link ErrorUtils} for building standardized {@link MessageDTO}-based error responses</li>
+                <li>{@link BookingService} for placing the hold</li>
+                <li>{@link BookingStatus} for typed hold outcomes</li>
+                <li>{@link Logger} for audit and diagnostic logging</li>
+            </ul>
+
+        </p>
+
+        @param seatHoldDTO the request payload containing customerId, expeditionId, and seatNo
+
+        @return a response entity containing a {@link MessageDTO} confirming the hold, or an error response when the
+        request is invalid or the seat cannot be held
+    */
+    @PostMapping("/hold_seat")
+    public ResponseEntity<MessageDTO> holdSeat(@RequestBody SeatHoldDTO seatHoldDTO) {
+        ErrorUtils errorUtils = new ErrorUtils(ErrorUtils.ConversionType.MESSAGE_DTO);
+
+        //STEP 1: Classic validation
+        if(seatHoldDTO == null) {
+            logger.error("SeatHoldDTO is null");
             return errorUtils.criticalError();
         }
 
-        if (!isCardActive) {
-            logger.error("Card is not active. Card ID: {}", cardId);
-            return errorUtils.cardNotActive();
+        int customerId = seatHoldDTO.getCustomerId();
+        int expeditionId = seatHoldDTO.getExpeditionId();
+        int seatNo = seatHoldDTO.getSeatNo();
+
+        if(customerId <= 0) {
+            logger.error("Invalid Customer ID: {}", customerId);
+            return errorUtils.isInvalidFormat(String.valueOf(customerId));
         }
 
-        logger.info("Card is active. Card ID: {}", cardId);
+        if(expeditionId <= 0) {
+            logger.error("Invalid Expedition ID: {}", expeditionId);
+            return errorUtils.isInvalidFormat(String.valueOf(expeditionId));
+        }
 
-        // END: Payment Service communication - Card Active Check
+        if(seatNo <= 0) {
+            logger.error("Invalid Seat Number: {}", seatNo);
+            return errorUtils.isInvalidFormat(String.valueOf(seatNo));
+        }
 
-        //STEP 3: Logical processing
-        int amount = expeditionService.getExpeditionPrice(expeditionId);
+        //STEP 2: Business logic
+        BookingResultDTO hold = bookingService.holdSeat(expeditionId, customerId, seatNo);
 
-        //START: Payment Service communication - Make Payment
-        HttpEntity<TicketPaymentRequestDTO> paymentRequest = new HttpEntity<>(
-            new TicketPaymentRequestDTO(cardId, String.valueOf(amount), customerId),
-            headers
-        );
+        if(hold.getStatus() != BookingStatus.SUCCESS) {
+            return bookingFailed(errorUtils, hold.getStatus(), expeditionId, seatNo);
+        }
 
-        int paymentId;
+        logger.info("Seat held. Expedition ID: {}, Seat No: {}, Customer ID: {}", expeditionId, seatNo, customerId);
+        return ResponseEntity.ok(new MessageDTO("Seat held successfully."));
+    }
 
-        try {
-            ResponseEntity<TicketPaymentResponseDTO> paymentResponse = restTemplate.exchange(
-                ServiceURLs.PAYMENT_SERVICE_MAKE_PAYMENT,
-                HttpMethod.POST,
-                paymentRequest,
-                TicketPaymentResponseDTO.class
-            );
+    /****
 
-            if (!paymentResponse.getStatusCode().is2xxSuccessful()) {
-                logger.error("Payment failed (non-2xx). Expedition ID: {}, Customer ID: {}, Seat No: {}, Status: {}",
-                    expeditionId, customerId, seatNo, paymentResponse.getStatusCode());
-                return errorUtils.criticalError();
-            }
+        Operation: ReleaseHold
 
-            TicketPaymentResponseDTO body = paymentResponse.getBody();
-            if (body == null) {
-                logger.error("Payment response body is null. Expedition ID: {}, Customer ID: {}, Seat No: {}",
-                    expeditionId, customerId, seatNo);
-                return errorUtils.criticalError();
-            }
+        Releases the hold that a customer has on a seat, returning the seat to the available pool before the hold
+        expires. Only a hold owned by the requesting customer is released; booked seats and seats held by other
+        customers are left untouched.
 
-            paymentId = body.getPaymentId();
-            if (paymentId <= 0) {
-                logger.error("PaymentId is missing/invalid. Expedition ID: {}, Customer ID: {}, Seat No: {}, paymentId: {}",
-                    expeditionId, customerId, seatNo, paymentId);
-                return errorUtils.criticalError();
-            }
+        <p>
 
-            logger.info("Payment successful. Payment ID: {}, Expedition ID: {}, Customer ID: {}, Seat No: {}",
-                paymentId, expeditionId, customerId, seatNo
-            );
-        }catch (HttpStatusCodeException ex) {
-            logger.error("Payment failed. Expedition ID: {}, Customer ID: {}, Seat No: {}, Status: {}, Body: {}",
-                expeditionId, customerId, seatNo, ex.getStatusCode(), ex.getResponseBodyAsString());
+            Uses:
 
-            ResponseEntity<Object> dummy = ResponseEntity.status(ex.getStatusCode()).build();
-            return errorUtils.customError(dummy, "Payment failed");
-        } catch (Exception ex) {
-            logger.error("Payment unexpected error", ex);
+            <ul>
+                <li>{@link SeatHoldDTO} for customerId, expeditionId, and seatNo inputs</li>
+                <li>{@link ErrorUtils} for building standardized {@link MessageDTO}-based error responses</li>
+                <li>{@link BookingService} for releasing the hold</li>
+                <li>{@link Logger} for audit and diagnostic logging</li>
+            </ul>
+
+        </p>
+
+        @param seatHoldDTO the request payload containing customerId, expeditionId, and seatNo
+
+        @return a response entity containing a {@link MessageDTO} confirming the release, or an error response when
+        the request is invalid or the customer holds no such seat
+    */
+    @PostMapping("/release_hold")
+    public ResponseEntity<MessageDTO> releaseHold(@RequestBody SeatHoldDTO seatHoldDTO) {
+        ErrorUtils errorUtils = new ErrorUtils(ErrorUtils.ConversionType.MESSAGE_DTO);
+
+        //STEP 1: Classic validation
+        if(seatHoldDTO == null) {
+            logger.error("SeatHoldDTO is null");
             return errorUtils.criticalError();
         }
-        //END: Payment Service communication - Make Payment
-        
-        int seatId = seatService.bookSeat(expeditionId, customerId, seatNo);
-        if(seatId == -1) {
-            logger.error("Failed to book seat. Expedition ID: {}, Seat No: {}", expeditionId, seatNo);
-            return errorUtils.criticalError();
+
+        int customerId = seatHoldDTO.getCustomerId();
+        int expeditionId = seatHoldDTO.getExpeditionId();
+        int seatNo = seatHoldDTO.getSeatNo();
+
+        if(customerId <= 0) {
+            logger.error("Invalid Customer ID: {}", customerId);
+            return errorUtils.isInvalidFormat(String.valueOf(customerId));
         }
 
-        boolean expeditionSuccess = expeditionService.bookSeat(expeditionId);
-        if(!expeditionSuccess) {
-            logger.error("Failed to update expedition after booking seat. Expedition ID: {}", expeditionId);
-            return errorUtils.criticalError();
+        if(expeditionId <= 0) {
+            logger.error("Invalid Expedition ID: {}", expeditionId);
+            return errorUtils.isInvalidFormat(String.valueOf(expeditionId));
         }
 
-        String ticketPNR = ticketService.generateTicket(paymentId, seatId, customerId);
-        if(StringUtils.isNullOrBlank(ticketPNR)) {
-            logger.error("Failed to create ticket. Expedition ID: {}, Seat No: {}", expeditionId, seatNo);
-            return errorUtils.criticalError();
+        if(seatNo <= 0) {
+            logger.error("Invalid Seat Number: {}", seatNo);
+            return errorUtils.isInvalidFormat(String.valueOf(seatNo));
         }
 
-        TicketDTO ticketDTO = ticketService.getTicketDetails(ticketPNR);
+        //STEP 2: Business logic
+        if(!bookingService.releaseHold(expeditionId, customerId, seatNo)) {
+            logger.info("No hold to release. Expedition ID: {}, Seat No: {}, Customer ID: {}", expeditionId, seatNo, customerId);
+            return errorUtils.notFound("Seat hold");
+        }
 
-        return ResponseEntity.ok(new TicketInfoDTO(ticketDTO, "Ticket booked successfully."));
+        logger.info("Seat hold released. Expedition ID: {}, Seat No: {}, Customer ID: {}", expeditionId, seatNo, customerId);
+        return ResponseEntity.ok(new MessageDTO("Seat hold released successfully."));
+    }
+
+    private <T> ResponseEntity<T> bookingFailed(ErrorUtils errorUtils, BookingStatus status, int expeditionId, int seatNo) {
+        switch (status) {
+            case EXPEDITION_NOT_FOUND:
+                logger.error("Expedition does not exist: {}", expeditionId);
+                return errorUtils.notFound("Expedition ID: " + expeditionId);
+            case SEAT_NOT_FOUND:
+                logger.error("Seat does not exist. Expedition ID: {}, Seat No: {}", expeditionId, seatNo);
+                return errorUtils.notFound("Seat No: " + seatNo + " for Expedition ID: " + expeditionId);
+            case INVALID_TIME:
+                logger.error("Cannot book seat for past expedition time: {}", expeditionId);
+                return errorUtils.isInvalidFormat("Cannot book seat for past expedition time.");
+            case SEAT_ALREADY_BOOKED:
+                logger.error("Seat already booked. Expedition ID: {}, Seat No: {}", expeditionId, seatNo);
+                return errorUtils.alreadyBooked("Seat No: " + seatNo + " for Expedition ID: " + expeditionId);
+            case SEAT_ON_HOLD:
+                logger.error("Seat is on hold by another customer. Expedition ID: {}, Seat No: {}", expeditionId, seatNo);
+                return errorUtils.onHold("Seat No: " + seatNo + " for Expedition ID: " + expeditionId);
+            case EXPEDITION_FULL:
+                logger.error("No available seats in expedition: {}", expeditionId);
+                return errorUtils.alreadyBooked("Expedition ID: " + expeditionId);
+            default:
+                logger.error("Failed to book seat. Expedition ID: {}, Seat No: {}, Status: {}", expeditionId, seatNo, status);
+                return errorUtils.criticalError();
+        }
     }
 
     /****
@@ -365,15 +505,12 @@ public class ReservationControllerImpl implements RezervationController {
             <ul>
                 <li>{@link CustomerIdDTO} for customer identifier input</li>
                 <li>{@link ErrorUtils} for building standardized {@link CardsDTO}-based error responses</li>
-                <li>{@link RestTemplate} for communicating with external payment service endpoints</li>
-                <li>{@link ServiceURLs} for payment service endpoint locations</li>
-                <li>{@link HttpHeaders}, {@link HttpEntity}, {@link MediaType}, and {@link HttpMethod} for HTTP request construction</li>
-                <li>{@link CustomerIdRequestDTO} as the payment-service request payload</li>
+                <li>{@link PaymentServiceClient} for the time-bounded payment service card lookup</li>
                 <li>{@link CardSummaryDTO} as the payment-service response payload</li>
                 <li>{@link CardDTO} as the mapped card representation returned by this service</li>
                 <li>{@link CardsDTO} as the response wrapper containing the card list</li>
                 <li>{@link Arrays} and {@link List} for mapping and collection handling</li>
-                <li>{@link HttpStatusCodeException} for handling downstream HTTP error responses</li>
+                <li>{@link TimeoutException} for a card lookup that misses {@link AppConstants#CARD_LOOKUP_TIMEOUT}</li>
                 <li>{@link Logger} for audit and diagnostic logging</li>
             </ul>
 
@@ -408,18 +545,13 @@ public class ReservationControllerImpl implements RezervationController {
 
         // STEP 3: Business Logic (Payment-Service call)
         try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
+            ResponseEntity<List<CardSummaryDTO>> response = paymentServiceClient.getCustomerCards(customerId);
 
-            HttpEntity<CustomerIdRequestDTO> request =
-                new HttpEntity<>(new CustomerIdRequestDTO(customerId), headers);
-
-            ResponseEntity<List<CardSummaryDTO>> response = restTemplate.exchange(
-                ServiceURLs.PAYMENT_SERVICE_CUSTOMER_CARDS,
-                HttpMethod.POST,
-                request,
-                new ParameterizedTypeReference<List<CardSummaryDTO>>() {}
-            );
+            if (!response.getStatusCode().is2xxSuccessful()) {
+                logger.error("Payment-service error while fetching cards. customerId={}, status={}",
+                    customerId, response.getStatusCode());
+                return errorUtils.customError(response, "Cards could not be fetched");
+            }
 
             List<CardSummaryDTO> body = response.getBody();
 
@@ -441,19 +573,9 @@ public class ReservationControllerImpl implements RezervationController {
             logger.info("Cards found for customerId={}", customerId);
             return ResponseEntity.ok(new CardsDTO("Cards found", cards));
 
-        } catch (HttpStatusCodeException ex) {
-            // Payment-service 4xx/5xx
-            logger.error(
-                "Payment-service error while fetching cards. customerId={}, status={}, body={}",
-                customerId,
-                ex.getStatusCode(),
-                ex.getResponseBodyAsString()
-            );
-
-            ResponseEntity<Object> dummy =
-                ResponseEntity.status(ex.getStatusCode()).build();
-
-            return errorUtils.customError(dummy, "Cards could not be fetched");
+        } catch (TimeoutException ex) {
+            logger.error("Payment-service timed out while fetching cards. customerId={}", customerId);
+            return errorUtils.customError(ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).build(), "Cards could not be fetched");
 
         } catch (Exception ex) {
             logger.error("Unexpected error while fetching cards", ex);
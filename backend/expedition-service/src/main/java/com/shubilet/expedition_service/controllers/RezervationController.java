@@ -8,9 +8,11 @@ import org.springframework.web.bind.annotation.RestController;
 import com.shubilet.expedition_service.controllers.Impl.ReservationControllerImpl;
 import com.shubilet.expedition_service.dataTransferObjects.requests.BuyTicketDTO;
 import com.shubilet.expedition_service.dataTransferObjects.requests.CustomerIdDTO;
+import com.shubilet.expedition_service.dataTransferObjects.requests.SeatHoldDTO;
 import com.shubilet.expedition_service.dataTransferObjects.responses.base.CardDTO;
 import com.shubilet.expedition_service.dataTransferObjects.responses.base.TicketDTO;
 import com.shubilet.expedition_service.dataTransferObjects.responses.complex.CardsDTO;
+import com.shubilet.expedition_service.dataTransferObjects.responses.message.MessageDTO;
 import com.shubilet.expedition_service.dataTransferObjects.responses.middle.TicketInfoDTO;
 
 /****
@@ -18,7 +20,8 @@ import com.shubilet.expedition_service.dataTransferObjects.responses.middle.Tick
     Domain: Reservation
 
     Declares the REST API contract for reservation-related operations under the {@code /api/reservation} resource.
-    This interface defines endpoints for purchasing tickets and retrieving customer payment card information.
+    This interface defines endpoints for holding seats, purchasing tickets, and retrieving customer payment card
+    information.
     Implementations are responsible for orchestrating validation, availability checks, payment coordination,
     ticket generation, and integration with external payment services, while returning standardized DTO-based
     responses suitable for client consumption.
@@ -51,6 +54,8 @@ public interface RezervationController {
         seat, and payment card information encapsulated in {@link BuyTicketDTO}. Implementations are responsible for
         validating input data, checking expedition and seat availability, coordinating payment processing, booking
         the seat, generating a ticket identifier (PNR), and returning detailed ticket information upon success.
+        Requests carrying the same optional {@code Idempotency-Key} must charge the customer at most once and be
+        answered with the ticket issued for the first of them.
 
         <p>
 
@@ -59,6 +64,7 @@ public interface RezervationController {
             <pre>
 
                 POST /api/reservation/buy_ticket
+                Idempotency-Key: 7f1c2a9e-3b4d-4e5f-8a6b-0c1d2e3f4a5b   (optional)
 
                 Request Body:
                 {
@@ -100,12 +106,14 @@ public interface RezervationController {
 
         </p>
 
+        @param idempotencyKey the optional client-supplied key identifying retries of the same purchase
+
         @param buyTicketDTO the ticket purchase request containing customerId, expeditionId, seatNo, and cardId
 
         @return a response entity containing a {@link TicketInfoDTO} with ticket details and operation status
     */
     @PostMapping("/buy_ticket")
-    public ResponseEntity<TicketInfoDTO> buyTicket(BuyTicketDTO buyTicketDTO);
+    public ResponseEntity<TicketInfoDTO> buyTicket(String idempotencyKey, BuyTicketDTO buyTicketDTO);
 
     /****
 
@@ -164,4 +172,105 @@ public interface RezervationController {
     */
     @PostMapping("/view_cards")
     public ResponseEntity<CardsDTO> viewCards(CustomerIdDTO customerIdDTO);
+
+    /****
+
+        Operation: HoldSeat
+
+        Defines the contract for placing a short-lived hold on a seat ahead of payment, identified by the customer,
+        expedition, and seat number encapsulated in {@link SeatHoldDTO}. Implementations are responsible for granting
+        the hold atomically, refusing seats that are booked or held by another customer, and letting the hold expire
+        automatically if the purchase is not completed.
+
+        <p>
+
+            Usage:
+
+            <pre>
+
+                POST /api/reservation/hold_seat
+
+                Request Body:
+                {
+                    "customerId": 12,
+                    "expeditionId": 45,
+                    "seatNo": 8
+                }
+
+                Response:
+                {
+                    "message": "Seat held successfully."
+                }
+
+            </pre>
+        </p>
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>{@link SeatHoldDTO} as the request payload carrying the seat to hold</li>
+                <li>{@link MessageDTO} as the response wrapper containing a business message</li>
+                <li>{@link ResponseEntity} for HTTP-level response abstraction</li>
+            </ul>
+
+        </p>
+
+        @param seatHoldDTO the hold request containing customerId, expeditionId, and seatNo
+
+        @return a response entity containing a {@link MessageDTO} with the operation status
+    */
+    @PostMapping("/hold_seat")
+    public ResponseEntity<MessageDTO> holdSeat(SeatHoldDTO seatHoldDTO);
+
+    /****
+
+        Operation: ReleaseHold
+
+        Defines the contract for releasing a seat hold before it expires, identified by the customer, expedition,
+        and seat number encapsulated in {@link SeatHoldDTO}. Implementations must only release a hold owned by the
+        requesting customer.
+
+        <p>
+
+            Usage:
+
+            <pre>
+
+                POST /api/reservation/release_hold
+
+                Request Body:
+                {
+                    "customerId": 12,
+                    "expeditionId": 45,
+                    "seatNo": 8
+                }
+
+                Response:
+                {
+                    "message": "Seat hold released successfully."
+                }
+
+            </pre>
+        </p>
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>{@link SeatHoldDTO} as the request payload carrying the seat to release</li>
+                <li>{@link MessageDTO} as the response wrapper containing a business message</li>
+                <li>{@link ResponseEntity} for HTTP-level response abstraction</li>
+            </ul>
+
+        </p>
+
+        @param seatHoldDTO the release request containing customerId, expeditionId, and seatNo
+
+        @return a response entity containing a {@link MessageDTO} with the operation status
+    */
+    @PostMapping("/release_hold")
+    public ResponseEntity<MessageDTO> releaseHold(SeatHoldDTO seatHoldDTO);
 }
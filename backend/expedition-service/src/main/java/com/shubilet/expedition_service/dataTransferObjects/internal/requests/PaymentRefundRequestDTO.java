@@ -0,0 +1,22 @@
+package com.shubilet.expedition_service.dataTransferObjects.internal.requests;
+
+import java.io.Serializable;
+
+public class PaymentRefundRequestDTO implements Serializable {
+
+    private Integer paymentId;
+    private Integer customerId;
+
+    public PaymentRefundRequestDTO() {}
+
+    public PaymentRefundRequestDTO(Integer paymentId, Integer customerId) {
+        this.paymentId = paymentId;
+        this.customerId = customerId;
+    }
+
+    public Integer getPaymentId() { return paymentId; }
+    public void setPaymentId(Integer paymentId) { this.paymentId = paymentId; }
+
+    public Integer getCustomerId() { return customerId; }
+    public void setCustomerId(Integer customerId) { this.customerId = customerId; }
+}
@@ -0,0 +1,38 @@
+package com.shubilet.expedition_service.dataTransferObjects.requests;
+
+public class SeatHoldDTO {
+    private int customerId;
+    private int expeditionId;
+    private int seatNo;
+
+    public SeatHoldDTO() {
+
+    }
+
+    public SeatHoldDTO(int customerId, int expeditionId, int seatNo) {
+        this.customerId = customerId;
+        this.expeditionId = expeditionId;
+        this.seatNo = seatNo;
+    }
+
+    public int getCustomerId() {
+        return customerId;
+    }
+    public void setCustomerId(int customerId) {
+        this.customerId = customerId;
+    }
+
+    public int getExpeditionId() {
+        return expeditionId;
+    }
+    public void setExpeditionId(int expeditionId) {
+        this.expeditionId = expeditionId;
+    }
+
+    public int getSeatNo() {
+        return seatNo;
+    }
+    public void setSeatNo(int seatNo) {
+        this.seatNo = seatNo;
+    }
+}
@@ -0,0 +1,93 @@
+package com.shubilet.expedition_service.dataTransferObjects.responses.forRepositories;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import com.shubilet.expedition_service.common.enums.SeatStatusForModel;
+
+public class BookingAvailabilityRepoDTO {
+    private Integer seatId;
+    private SeatStatusForModel seatStatus;
+    private Integer seatCustomerId;
+    private Instant holdExpiresAt;
+    private Instant dateAndTime;
+    private Integer capacity;
+    private Integer numberOfBookedSeats;
+    private BigDecimal price;
+
+    public BookingAvailabilityRepoDTO(
+        Integer seatId,
+        SeatStatusForModel seatStatus,
+        Integer seatCustomerId,
+        Instant holdExpiresAt,
+        Instant dateAndTime,
+        Integer capacity,
+        Integer numberOfBookedSeats,
+        BigDecimal price
+    ) {
+        this.seatId = seatId;
+        this.seatStatus = seatStatus;
+        this.seatCustomerId = seatCustomerId;
+        this.holdExpiresAt = holdExpiresAt;
+        this.dateAndTime = dateAndTime;
+        this.capacity = capacity;
+        this.numberOfBookedSeats = numberOfBookedSeats;
+        this.price = price;
+    }
+
+    public Integer getSeatId() {
+        return seatId;
+    }
+    public void setSeatId(Integer seatId) {
+        this.seatId = seatId;
+    }
+
+    public SeatStatusForModel getSeatStatus() {
+        return seatStatus;
+    }
+    public void setSeatStatus(SeatStatusForModel seatStatus) {
+        this.seatStatus = seatStatus;
+    }
+
+    public Integer getSeatCustomerId() {
+        return seatCustomerId;
+    }
+    public void setSeatCustomerId(Integer seatCustomerId) {
+        this.seatCustomerId = seatCustomerId;
+    }
+
+    public Instant getHoldExpiresAt() {
+        return holdExpiresAt;
+    }
+    public void setHoldExpiresAt(Instant holdExpiresAt) {
+        this.holdExpiresAt = holdExpiresAt;
+    }
+
+    public Instant getDateAndTime() {
+        return dateAndTime;
+    }
+    public void setDateAndTime(Instant dateAndTime) {
+        this.dateAndTime = dateAndTime;
+    }
+
+    public Integer getCapacity() {
+        return capacity;
+    }
+    public void setCapacity(Integer capacity) {
+        this.capacity = capacity;
+    }
+
+    public Integer getNumberOfBookedSeats() {
+        return numberOfBookedSeats;
+    }
+    public void setNumberOfBookedSeats(Integer numberOfBookedSeats) {
+        this.numberOfBookedSeats = numberOfBookedSeats;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+}
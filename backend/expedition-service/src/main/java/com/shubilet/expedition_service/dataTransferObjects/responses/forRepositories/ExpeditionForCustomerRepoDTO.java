@@ -5,8 +5,8 @@ import java.time.Instant;
 
 public class ExpeditionForCustomerRepoDTO {
     private Integer expeditionId;
-    private String departureCity;
-    private String arrivalCity;
+    private Integer departureCityId;
+    private Integer arrivalCityId;
     private Instant dateAndTime;
     private BigDecimal price;
     private Integer duration;
@@ -14,16 +14,16 @@ public class ExpeditionForCustomerRepoDTO {
 
     public ExpeditionForCustomerRepoDTO(
         Integer expeditionId,
-        String departureCity,
-        String arrivalCity,
+        Integer departureCityId,
+        Integer arrivalCityId,
         Instant dateAndTime,
         BigDecimal price,
         Integer duration,
         Integer companyId
     ) {
         this.expeditionId = expeditionId;
-        this.departureCity = departureCity;
-        this.arrivalCity = arrivalCity;
+        this.departureCityId = departureCityId;
+        this.arrivalCityId = arrivalCityId;
         this.dateAndTime = dateAndTime;
         this.price = price;
         this.duration = duration;
@@ -38,18 +38,18 @@ public class ExpeditionForCustomerRepoDTO {
         this.expeditionId = expeditionId;
     }
 
-    public String getDepartureCity() {
-        return departureCity;
+    public Integer getDepartureCityId() {
+        return departureCityId;
     }
-    public void setDepartureCity(String departureCity) {
-        this.departureCity = departureCity;
+    public void setDepartureCityId(Integer departureCityId) {
+        this.departureCityId = departureCityId;
     }
 
-    public String getArrivalCity() {
-        return arrivalCity;
+    public Integer getArrivalCityId() {
+        return arrivalCityId;
     }
-    public void setArrivalCity(String arrivalCity) {
-        this.arrivalCity = arrivalCity;
+    public void setArrivalCityId(Integer arrivalCityId) {
+        this.arrivalCityId = arrivalCityId;
     }
 
     public Instant getDateAndTime() {
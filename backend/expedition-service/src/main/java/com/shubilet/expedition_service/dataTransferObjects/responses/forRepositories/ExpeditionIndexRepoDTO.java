@@ -0,0 +1,93 @@
+package com.shubilet.expedition_service.dataTransferObjects.responses.forRepositories;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+public class ExpeditionIndexRepoDTO {
+    private Integer expeditionId;
+    private Integer departureCityId;
+    private Integer arrivalCityId;
+    private Instant dateAndTime;
+    private BigDecimal price;
+    private Integer duration;
+    private Integer companyId;
+    private Integer freeSeats;
+
+    public ExpeditionIndexRepoDTO(
+        Integer expeditionId,
+        Integer departureCityId,
+        Integer arrivalCityId,
+        Instant dateAndTime,
+        BigDecimal price,
+        Integer duration,
+        Integer companyId,
+        Integer capacity,
+        Integer numberOfBookedSeats
+    ) {
+        this.expeditionId = expeditionId;
+        this.departureCityId = departureCityId;
+        this.arrivalCityId = arrivalCityId;
+        this.dateAndTime = dateAndTime;
+        this.price = price;
+        this.duration = duration;
+        this.companyId = companyId;
+        this.freeSeats = capacity - numberOfBookedSeats;
+    }
+
+    // Getters and Setters
+    public Integer getExpeditionId() {
+        return expeditionId;
+    }
+    public void setExpeditionId(Integer expeditionId) {
+        this.expeditionId = expeditionId;
+    }
+
+    public Integer getDepartureCityId() {
+        return departureCityId;
+    }
+    public void setDepartureCityId(Integer departureCityId) {
+        this.departureCityId = departureCityId;
+    }
+
+    public Integer getArrivalCityId() {
+        return arrivalCityId;
+    }
+    public void setArrivalCityId(Integer arrivalCityId) {
+        this.arrivalCityId = arrivalCityId;
+    }
+
+    public Instant getDateAndTime() {
+        return dateAndTime;
+    }
+    public void setDateAndTime(Instant dateAndTime) {
+        this.dateAndTime = dateAndTime;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+
+    public Integer getDuration() {
+        return duration;
+    }
+    public void setDuration(Integer duration) {
+        this.duration = duration;
+    }
+
+    public Integer getCompanyId() {
+        return companyId;
+    }
+    public void setCompanyId(Integer companyId) {
+        this.companyId = companyId;
+    }
+
+    public Integer getFreeSeats() {
+        return freeSeats;
+    }
+    public void setFreeSeats(Integer freeSeats) {
+        this.freeSeats = freeSeats;
+    }
+}
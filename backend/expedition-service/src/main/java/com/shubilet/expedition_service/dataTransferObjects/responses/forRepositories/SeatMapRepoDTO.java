@@ -0,0 +1,38 @@
+package com.shubilet.expedition_service.dataTransferObjects.responses.forRepositories;
+
+public class SeatMapRepoDTO {
+    private Integer expeditionId;
+    private Integer capacity;
+    private byte[] bookedSeats;
+
+    public SeatMapRepoDTO(
+        Integer expeditionId,
+        Integer capacity,
+        byte[] bookedSeats
+    ) {
+        this.expeditionId = expeditionId;
+        this.capacity = capacity;
+        this.bookedSeats = bookedSeats;
+    }
+
+    public Integer getExpeditionId() {
+        return expeditionId;
+    }
+    public void setExpeditionId(Integer expeditionId) {
+        this.expeditionId = expeditionId;
+    }
+
+    public Integer getCapacity() {
+        return capacity;
+    }
+    public void setCapacity(Integer capacity) {
+        this.capacity = capacity;
+    }
+
+    public byte[] getBookedSeats() {
+        return bookedSeats;
+    }
+    public void setBookedSeats(byte[] bookedSeats) {
+        this.bookedSeats = bookedSeats;
+    }
+}
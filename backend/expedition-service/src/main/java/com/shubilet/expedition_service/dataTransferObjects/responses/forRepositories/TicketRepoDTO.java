@@ -7,8 +7,8 @@ public class TicketRepoDTO {
     private Integer seatNo;
     private Integer expeditionId;
     private Integer companyId;
-    private String departureCity;
-    private String arrivalCity;
+    private Integer departureCityId;
+    private Integer arrivalCityId;
     private Instant dateAndTime;
     private Integer duration;
 
@@ -17,8 +17,8 @@ public class TicketRepoDTO {
         Integer seatNo,
         Integer expeditionId,
         Integer companyId,
-        String departureCity,
-        String arrivalCity,
+        Integer departureCityId,
+        Integer arrivalCityId,
         Instant dateAndTime,
         int duration
     ) {
@@ -26,8 +26,8 @@ public class TicketRepoDTO {
         this.seatNo = seatNo;
         this.expeditionId = expeditionId;
         this.companyId = companyId;
-        this.departureCity = departureCity;
-        this.arrivalCity = arrivalCity;
+        this.departureCityId = departureCityId;
+        this.arrivalCityId = arrivalCityId;
         this.dateAndTime = dateAndTime;
         this.duration = duration;
     }
@@ -60,18 +60,18 @@ public class TicketRepoDTO {
         this.companyId = companyId;
     }
 
-    public String getDepartureCity() {
-        return departureCity;
+    public Integer getDepartureCityId() {
+        return departureCityId;
     }
-    public void setDepartureCity(String departureCity) {
-        this.departureCity = departureCity;
+    public void setDepartureCityId(Integer departureCityId) {
+        this.departureCityId = departureCityId;
     }
 
-    public String getArrivalCity() {
-        return arrivalCity;
+    public Integer getArrivalCityId() {
+        return arrivalCityId;
     }
-    public void setArrivalCity(String arrivalCity) {
-        this.arrivalCity = arrivalCity;
+    public void setArrivalCityId(Integer arrivalCityId) {
+        this.arrivalCityId = arrivalCityId;
     }
 
     public Instant getDateAndTime() {
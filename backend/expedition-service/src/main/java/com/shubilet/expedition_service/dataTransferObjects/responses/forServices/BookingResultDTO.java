@@ -0,0 +1,60 @@
+package com.shubilet.expedition_service.dataTransferObjects.responses.forServices;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import com.shubilet.expedition_service.common.enums.forReservation.BookingStatus;
+
+public class BookingResultDTO {
+    private BookingStatus status;
+    private int seatId;
+    private BigDecimal price;
+    private Instant holdExpiresAt;
+
+    public BookingResultDTO(BookingStatus status) {
+        this.status = status;
+        this.seatId = -1;
+        this.price = BigDecimal.ZERO;
+    }
+
+    public BookingResultDTO(BookingStatus status, int seatId, BigDecimal price) {
+        this.status = status;
+        this.seatId = seatId;
+        this.price = price;
+    }
+
+    public BookingResultDTO(BookingStatus status, int seatId, BigDecimal price, Instant holdExpiresAt) {
+        this.status = status;
+        this.seatId = seatId;
+        this.price = price;
+        this.holdExpiresAt = holdExpiresAt;
+    }
+
+    public BookingStatus getStatus() {
+        return status;
+    }
+    public void setStatus(BookingStatus status) {
+        this.status = status;
+    }
+
+    public int getSeatId() {
+        return seatId;
+    }
+    public void setSeatId(int seatId) {
+        this.seatId = seatId;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+
+    public Instant getHoldExpiresAt() {
+        return holdExpiresAt;
+    }
+    public void setHoldExpiresAt(Instant holdExpiresAt) {
+        this.holdExpiresAt = holdExpiresAt;
+    }
+}
@@ -0,0 +1,32 @@
+package com.shubilet.expedition_service.dataTransferObjects.responses.forServices;
+
+import com.shubilet.expedition_service.common.enums.forReservation.IdempotencyStatus;
+
+public class IdempotencyResultDTO {
+    private IdempotencyStatus status;
+    private String PNR;
+
+    public IdempotencyResultDTO(IdempotencyStatus status) {
+        this.status = status;
+        this.PNR = null;
+    }
+
+    public IdempotencyResultDTO(IdempotencyStatus status, String PNR) {
+        this.status = status;
+        this.PNR = PNR;
+    }
+
+    public IdempotencyStatus getStatus() {
+        return status;
+    }
+    public void setStatus(IdempotencyStatus status) {
+        this.status = status;
+    }
+
+    public String getPNR() {
+        return PNR;
+    }
+    public void setPNR(String PNR) {
+        this.PNR = PNR;
+    }
+}
@@ -0,0 +1,43 @@
+package com.shubilet.expedition_service.dataTransferObjects.responses.forServices;
+
+import com.shubilet.expedition_service.common.enums.forReservation.BookingStatus;
+import com.shubilet.expedition_service.common.enums.forReservation.ReservationState;
+
+public class ReservationResultDTO {
+    private ReservationState state;
+    private BookingStatus bookingStatus;
+    private String PNR;
+
+    public ReservationResultDTO(ReservationState state, BookingStatus bookingStatus) {
+        this.state = state;
+        this.bookingStatus = bookingStatus;
+        this.PNR = null;
+    }
+
+    public ReservationResultDTO(ReservationState state, BookingStatus bookingStatus, String PNR) {
+        this.state = state;
+        this.bookingStatus = bookingStatus;
+        this.PNR = PNR;
+    }
+
+    public ReservationState getState() {
+        return state;
+    }
+    public void setState(ReservationState state) {
+        this.state = state;
+    }
+
+    public BookingStatus getBookingStatus() {
+        return bookingStatus;
+    }
+    public void setBookingStatus(BookingStatus bookingStatus) {
+        this.bookingStatus = bookingStatus;
+    }
+
+    public String getPNR() {
+        return PNR;
+    }
+    public void setPNR(String PNR) {
+        this.PNR = PNR;
+    }
+}
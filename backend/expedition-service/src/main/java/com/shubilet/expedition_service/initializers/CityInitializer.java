@@ -7,6 +7,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 
+import com.shubilet.expedition_service.caches.CityDictionary;
 import com.shubilet.expedition_service.models.City;
 import com.shubilet.expedition_service.repositories.CityRepository;
 
@@ -16,10 +17,12 @@ public class CityInitializer implements CommandLineRunner{
     private static final Logger logger = LoggerFactory.getLogger(CityInitializer.class);
 
     private final CityRepository cityRepository;
+    private final CityDictionary cityDictionary;
 
     // Constructor injection (if needed later)
-    public CityInitializer(CityRepository cityRepository) {
+    public CityInitializer(CityRepository cityRepository, CityDictionary cityDictionary) {
         this.cityRepository = cityRepository;
+        this.cityDictionary = cityDictionary;
     }
 
     /**
@@ -92,5 +95,8 @@ public class CityInitializer implements CommandLineRunner{
                 logger.info("Initialized city: {}", cityName);
             }
         }
+
+        int loaded = cityDictionary.reload();
+        logger.info("City dictionary loaded with {} cities.", loaded);
     }
 }
@@ -0,0 +1,30 @@
+package com.shubilet.expedition_service.initializers;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+import com.shubilet.expedition_service.repositories.TicketRepository;
+
+@Component
+public class PNRSequenceInitializer implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(PNRSequenceInitializer.class);
+
+    private final TicketRepository ticketRepository;
+
+    public PNRSequenceInitializer(TicketRepository ticketRepository) {
+        this.ticketRepository = ticketRepository;
+    }
+
+    /**
+     * Makes sure the sequence PNRs are allocated from exists; databases initialised
+     * before it was added to the init script only get the tables from Hibernate.
+     */
+    @Override
+    public void run(String... args) throws Exception {
+        ticketRepository.createPNRSequence();
+        logger.info("PNR sequence is ready.");
+    }
+}
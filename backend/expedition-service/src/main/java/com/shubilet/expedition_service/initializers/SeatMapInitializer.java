@@ -0,0 +1,59 @@
+package com.shubilet.expedition_service.initializers;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.shubilet.expedition_service.common.util.SeatMapUtils;
+import com.shubilet.expedition_service.models.Expedition;
+import com.shubilet.expedition_service.repositories.ExpeditionRepository;
+import com.shubilet.expedition_service.repositories.SeatRepository;
+
+@Component
+public class SeatMapInitializer implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeatMapInitializer.class);
+
+    private final ExpeditionRepository expeditionRepository;
+    private final SeatRepository seatRepository;
+
+    public SeatMapInitializer(
+        ExpeditionRepository expeditionRepository,
+        SeatRepository seatRepository
+    ) {
+        this.expeditionRepository = expeditionRepository;
+        this.seatRepository = seatRepository;
+    }
+
+    /**
+     * Migrates expeditions created under the one-row-per-seat model: builds their
+     * occupancy bitmap from the booked seat rows, then drops the untouched seat rows.
+     */
+    @Override
+    @Transactional
+    public void run(String... args) throws Exception {
+        List<Expedition> expeditions = expeditionRepository.findAllWithoutSeatMap();
+
+        for (Expedition expedition : expeditions) {
+            byte[] seatMap = SeatMapUtils.emptySeatMap(expedition.getCapacity());
+            for (Integer seatNo : seatRepository.findBookedSeatNos(expedition.getId())) {
+                SeatMapUtils.markBooked(seatMap, seatNo);
+            }
+            expedition.setBookedSeats(seatMap);
+        }
+
+        if (!expeditions.isEmpty()) {
+            expeditionRepository.saveAll(expeditions);
+            logger.info("Built seat maps for {} expeditions.", expeditions.size());
+        }
+
+        int deleted = seatRepository.deleteUnoccupiedSeats();
+        if (deleted > 0) {
+            logger.info("Removed {} unoccupied seat rows.", deleted);
+        }
+    }
+}
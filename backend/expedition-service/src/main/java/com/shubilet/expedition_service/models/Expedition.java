@@ -5,6 +5,7 @@ import jakarta.persistence.Table;
 import jakarta.persistence.Id;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Column;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
@@ -12,6 +13,8 @@ import java.io.Serializable;
 import java.math.BigDecimal;
 import java.time.Instant;
 
+import com.shubilet.expedition_service.common.util.SeatMapUtils;
+
 /**
  * Represents a travel expedition (e.g., bus or train trip)
  * between two cities, managed by a company.
@@ -26,7 +29,8 @@ public class Expedition implements Serializable {
     // Primary Key
     // ------------------------
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "expeditions_id_seq")
+    @SequenceGenerator(name = "expeditions_id_seq", sequenceName = "expeditions_id_seq", allocationSize = 1)
     private Integer id;
 
     // ------------------------
@@ -68,6 +72,10 @@ public class Expedition implements Serializable {
     @Column(name = "company_id", nullable = false, updatable = false)
     private Integer companyId;
 
+    // One bit per seat, set once the seat is booked; see SeatMapUtils
+    @Column(name = "booked_seats", nullable = true, updatable = true)
+    private byte[] bookedSeats;
+
     // ------------------------
     // Constructors
     // ------------------------
@@ -92,6 +100,7 @@ public class Expedition implements Serializable {
         this.numberOfBookedSeats = 0;
         this.profit = BigDecimal.ZERO;
         this.companyId = companyId;
+        this.bookedSeats = SeatMapUtils.emptySeatMap(capacity);
     }
 
     public Expedition(
@@ -114,6 +123,7 @@ public class Expedition implements Serializable {
         this.numberOfBookedSeats = numberOfBookedSeats;
         this.profit = profit;
         this.companyId = companyId;
+        this.bookedSeats = SeatMapUtils.emptySeatMap(capacity);
     }
 
     // ------------------------
@@ -189,6 +199,13 @@ public class Expedition implements Serializable {
         this.companyId = companyId;
     }
 
+    public byte[] getBookedSeats() {
+        return bookedSeats;
+    }
+    public void setBookedSeats(byte[] bookedSeats) {
+        this.bookedSeats = bookedSeats;
+    }
+
     // ------------------------
     // Equality & HashCode
     // ------------------------
@@ -0,0 +1,81 @@
+package com.shubilet.expedition_service.models;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * Records the outcome of a ticket purchase under a client-supplied idempotency key.
+ * A key without a PNR belongs to a purchase that is still in progress (or whose payment outcome is unknown).
+ */
+@Entity
+@Table(name = "idempotency_keys")
+public class IdempotencyKey implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    // ------------------------
+    // Primary Key
+    // ------------------------
+    @Id
+    @NotBlank
+    @Column(name = "idempotency_key", nullable = false, updatable = false, length = 64)
+    private String key;
+
+    // ------------------------
+    // Fields
+    // ------------------------
+    @NotNull
+    @Column(name = "customer_id", nullable = false, updatable = false)
+    private Integer customerId;
+
+    @Column(name = "pnr", nullable = true, updatable = true, length = 6)
+    private String PNR;
+
+    @NotNull
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    // ------------------------
+    // Constructors
+    // ------------------------
+    public IdempotencyKey() {
+    }
+
+    // ------------------------
+    // Getters and Setters
+    // ------------------------
+
+    public String getKey() {
+        return key;
+    }
+    public void setKey(String key) {
+        this.key = key;
+    }
+
+    public Integer getCustomerId() {
+        return customerId;
+    }
+    public void setCustomerId(Integer customerId) {
+        this.customerId = customerId;
+    }
+
+    public String getPNR() {
+        return PNR;
+    }
+    public void setPNR(String PNR) {
+        this.PNR = PNR;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,256 @@
+package com.shubilet.expedition_service.models;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import com.shubilet.expedition_service.common.enums.forReservation.ReservationState;
+
+/**
+ * Represents one ticket purchase as it moves through payment, booking and, if needed, refund.
+ * Rows are the outbox of the purchase saga: whatever the request path leaves unfinished is picked up by the relay.
+ */
+@Entity
+@Table(name = "reservations")
+public class Reservation implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    // ------------------------
+    // Primary Key
+    // ------------------------
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservations_id_seq")
+    @SequenceGenerator(name = "reservations_id_seq", sequenceName = "reservations_id_seq", allocationSize = 1)
+    private Integer id;
+
+    // ------------------------
+    // Fields
+    // ------------------------
+    @NotBlank
+    @Column(name = "request_id", nullable = false, updatable = false, unique = true, length = 64)
+    private String requestId;
+
+    @Column(name = "idempotency_key", nullable = true, updatable = false, length = 64)
+    private String idempotencyKey;
+
+    @NotNull
+    @Column(name = "customer_id", nullable = false, updatable = false)
+    private Integer customerId;
+
+    @NotNull
+    @Column(name = "expedition_id", nullable = false, updatable = false)
+    private Integer expeditionId;
+
+    @NotNull
+    @Column(name = "seat_no", nullable = false, updatable = false)
+    private Integer seatNo;
+
+    @Column(name = "seat_id", nullable = true, updatable = false)
+    private Integer seatId;
+
+    @Column(name = "hold_expires_at", nullable = true, updatable = false)
+    private Instant holdExpiresAt;
+
+    @NotNull
+    @Column(name = "card_id", nullable = false, updatable = false)
+    private Integer cardId;
+
+    @NotNull
+    @Column(name = "amount", nullable = false, updatable = false, precision = 10, scale = 2)
+    private BigDecimal amount;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "state", nullable = false, length = 20)
+    private ReservationState state;
+
+    @Column(name = "payment_id", nullable = true)
+    private Integer paymentId;
+
+    @Column(name = "pnr", nullable = true, length = 6)
+    private String PNR;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @NotNull
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @NotNull
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @NotNull
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    // ------------------------
+    // Constructors
+    // ------------------------
+    public Reservation() {
+    }
+
+    public Reservation(
+        String requestId,
+        String idempotencyKey,
+        Integer customerId,
+        Integer expeditionId,
+        Integer seatNo,
+        Integer seatId,
+        Instant holdExpiresAt,
+        Integer cardId,
+        BigDecimal amount,
+        Instant createdAt,
+        Instant nextAttemptAt
+    ) {
+        this.requestId = requestId;
+        this.idempotencyKey = idempotencyKey;
+        this.customerId = customerId;
+        this.expeditionId = expeditionId;
+        this.seatNo = seatNo;
+        this.seatId = seatId;
+        this.holdExpiresAt = holdExpiresAt;
+        this.cardId = cardId;
+        this.amount = amount;
+        this.state = ReservationState.PAYMENT_PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = nextAttemptAt;
+        this.createdAt = createdAt;
+        this.updatedAt = createdAt;
+    }
+
+    // ------------------------
+    // Getters and Setters
+    // ------------------------
+    public Integer getId() {
+        return id;
+    }
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public String getRequestId() {
+        return requestId;
+    }
+    public void setRequestId(String requestId) {
+        this.requestId = requestId;
+    }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+    public void setIdempotencyKey(String idempotencyKey) {
+        this.idempotencyKey = idempotencyKey;
+    }
+
+    public Integer getCustomerId() {
+        return customerId;
+    }
+    public void setCustomerId(Integer customerId) {
+        this.customerId = customerId;
+    }
+
+    public Integer getExpeditionId() {
+        return expeditionId;
+    }
+    public void setExpeditionId(Integer expeditionId) {
+        this.expeditionId = expeditionId;
+    }
+
+    public Integer getSeatNo() {
+        return seatNo;
+    }
+    public void setSeatNo(Integer seatNo) {
+        this.seatNo = seatNo;
+    }
+
+    public Integer getSeatId() {
+        return seatId;
+    }
+    public void setSeatId(Integer seatId) {
+        this.seatId = seatId;
+    }
+
+    public Instant getHoldExpiresAt() {
+        return holdExpiresAt;
+    }
+    public void setHoldExpiresAt(Instant holdExpiresAt) {
+        this.holdExpiresAt = holdExpiresAt;
+    }
+
+    public Integer getCardId() {
+        return cardId;
+    }
+    public void setCardId(Integer cardId) {
+        this.cardId = cardId;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public ReservationState getState() {
+        return state;
+    }
+    public void setState(ReservationState state) {
+        this.state = state;
+    }
+
+    public Integer getPaymentId() {
+        return paymentId;
+    }
+    public void setPaymentId(Integer paymentId) {
+        this.paymentId = paymentId;
+    }
+
+    public String getPNR() {
+        return PNR;
+    }
+    public void setPNR(String PNR) {
+        this.PNR = PNR;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public Instant getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+    public void setNextAttemptAt(Instant nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
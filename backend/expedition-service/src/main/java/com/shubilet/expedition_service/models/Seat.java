@@ -8,11 +8,13 @@ import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Column;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 
 import java.io.Serializable;
+import java.time.Instant;
 
 import com.shubilet.expedition_service.common.enums.SeatStatusForModel;
 
@@ -30,7 +32,8 @@ public class Seat implements Serializable {
     // Primary Key
     // ------------------------
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seats_id_seq")
+    @SequenceGenerator(name = "seats_id_seq", sequenceName = "seats_id_seq", allocationSize = 1)
     private Integer id;
 
     // ------------------------
@@ -53,6 +56,9 @@ public class Seat implements Serializable {
     @Column(name = "status", nullable = false, updatable = true)
     private SeatStatusForModel status;
 
+    @Column(name = "hold_expires_at", nullable = true, updatable = true)
+    private Instant holdExpiresAt;
+
     // ------------------------
     // Constructors
     // ------------------------
@@ -112,7 +118,19 @@ public class Seat implements Serializable {
     public void setStatus(SeatStatusForModel status) {
         this.status = status;
     }
+    public boolean isHeld() {
+        return this.status == SeatStatusForModel.HELD;
+    }
+
+    public Instant getHoldExpiresAt() {
+        return holdExpiresAt;
+    }
+    public void setHoldExpiresAt(Instant holdExpiresAt) {
+        this.holdExpiresAt = holdExpiresAt;
+    }
+
     public void setBooked(boolean booked) {
+        this.holdExpiresAt = null;
         if (booked) {
             this.status = SeatStatusForModel.RESERVED;
         } else {
@@ -158,6 +176,7 @@ public class Seat implements Serializable {
                 ", seatNo=" + seatNo +
                 ", customerId=" + customerId +
                 ", status=" + status.getDisplayName() +
+                ", holdExpiresAt=" + holdExpiresAt +
                 '}';
     }
 }
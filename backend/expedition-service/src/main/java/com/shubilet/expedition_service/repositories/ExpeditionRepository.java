@@ -4,14 +4,20 @@ import java.util.List;
 import java.time.Instant;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.shubilet.expedition_service.caches.CityDictionary;
+import com.shubilet.expedition_service.dataTransferObjects.responses.forRepositories.BookingAvailabilityRepoDTO;
 import com.shubilet.expedition_service.dataTransferObjects.responses.forRepositories.ExpeditionForCompanyRepoDTO;
 import com.shubilet.expedition_service.dataTransferObjects.responses.forRepositories.ExpeditionForCustomerRepoDTO;
+import com.shubilet.expedition_service.dataTransferObjects.responses.forRepositories.ExpeditionIndexRepoDTO;
+import com.shubilet.expedition_service.dataTransferObjects.responses.forRepositories.SeatMapRepoDTO;
 import com.shubilet.expedition_service.models.City;
 import com.shubilet.expedition_service.models.Expedition;
+import com.shubilet.expedition_service.models.Seat;
 
 
 @Repository
@@ -22,10 +28,10 @@ public interface ExpeditionRepository extends JpaRepository<Expedition, Integer>
         Operation: FindAllByCompanyId
 
         Retrieves all expeditions belonging to the specified company, ordered by
-        their scheduled date and time in ascending order. This method performs
-        a join between {@link Expedition} and {@link City} entities to resolve
-        human-readable departure and arrival city names and maps the result
-        directly into {@link ExpeditionForCompanyRepoDTO} projection objects.
+        their scheduled date and time in ascending order. Departure and arrival
+        cities are returned as identifiers and resolved to names in memory by the
+        {@link CityDictionary}, so no join with {@link City} is needed; the result
+        is mapped directly into {@link ExpeditionForCompanyRepoDTO} projection objects.
 
         The query is optimized for read-only, company-scoped expedition listing
         use cases such as dashboards, reporting, and management views, and avoids
@@ -48,7 +54,7 @@ public interface ExpeditionRepository extends JpaRepository<Expedition, Integer>
 
             <ul>
                 <li>{@link Expedition} as the primary JPA entity</li>
-                <li>{@link City} for resolving departure and arrival city names</li>
+                <li>{@link CityDictionary} for resolving departure and arrival city names</li>
                 <li>{@link ExpeditionForCompanyRepoDTO} as a projection DTO</li>
                 <li>{@link Query} for custom JPQL constructor expression</li>
                 <li>{@link Param} for named parameter binding</li>
@@ -65,8 +71,8 @@ public interface ExpeditionRepository extends JpaRepository<Expedition, Integer>
     @Query("""
     SELECT new com.shubilet.expedition_service.dataTransferObjects.responses.forRepositories.ExpeditionForCompanyRepoDTO(
             e.id,
-            dc.name,
-            ac.name,
+            e.departureCityId,
+            e.arrivalCityId,
             e.dateAndTime,
             e.price,
             e.duration,
@@ -75,10 +81,6 @@ public interface ExpeditionRepository extends JpaRepository<Expedition, Integer>
             e.profit
         )
         FROM Expedition e
-            JOIN City dc 
-                ON e.departureCityId = dc.id
-                    JOIN City ac 
-                        ON e.arrivalCityId = ac.id
         WHERE e.companyId = :companyId
         ORDER BY e.dateAndTime ASC
     """)
@@ -90,8 +92,8 @@ public interface ExpeditionRepository extends JpaRepository<Expedition, Integer>
 
         Retrieves all upcoming expeditions belonging to the specified company whose
         scheduled date and time is greater than or equal to the provided reference
-        instant. This method joins {@link Expedition} with {@link City} entities to
-        resolve departure and arrival city names and maps the result set directly
+        instant. Departure and arrival cities are returned as identifiers, to be
+        resolved by the {@link CityDictionary}, and the result set is mapped directly
         into {@link ExpeditionForCompanyRepoDTO} projection objects.
 
         The query is designed for company dashboards and operational views where
@@ -118,7 +120,7 @@ public interface ExpeditionRepository extends JpaRepository<Expedition, Integer>
 
             <ul>
                 <li>{@link Expedition} as the primary JPA entity</li>
-                <li>{@link City} for resolving departure and arrival city names</li>
+                <li>{@link CityDictionary} for resolving departure and arrival city names</li>
                 <li>{@link ExpeditionForCompanyRepoDTO} as a projection DTO</li>
                 <li>{@link Instant} for temporal filtering of future expeditions</li>
                 <li>{@link Query} for custom JPQL constructor expression</li>
@@ -138,8 +140,8 @@ public interface ExpeditionRepository extends JpaRepository<Expedition, Integer>
     @Query("""
         SELECT new com.shubilet.expedition_service.dataTransferObjects.responses.forRepositories.ExpeditionForCompanyRepoDTO(
             e.id,
-            dc.name,
-            ac.name,
+            e.departureCityId,
+            e.arrivalCityId,
             e.dateAndTime,
             e.price,
             e.duration,
@@ -148,12 +150,8 @@ public interface ExpeditionRepository extends JpaRepository<Expedition, Integer>
             e.profit
         )
         FROM Expedition e
-            JOIN City dc 
-                ON e.departureCityId = dc.id
-                    JOIN City ac 
-                        ON e.arrivalCityId = ac.id
-                            WHERE e.companyId = :companyId
-                                AND e.dateAndTime >= :now
+        WHERE e.companyId = :companyId
+            AND e.dateAndTime >= :now
         ORDER BY e.dateAndTime ASC
     """)
     List<ExpeditionForCompanyRepoDTO> findUpcomingExpeditions(
@@ -171,9 +169,9 @@ public interface ExpeditionRepository extends JpaRepository<Expedition, Integer>
         capacity) and whose scheduled date and time fall within the provided start
         and end instants of the target day.
 
-        The query resolves human-readable city names by joining {@link Expedition}
-        with {@link City} entities and maps results directly into
-        {@link ExpeditionForCustomerRepoDTO} projection objects, optimized for
+        The query returns city identifiers, resolved to names by the
+        {@link CityDictionary} without joining {@link City}, and maps results directly
+        into {@link ExpeditionForCustomerRepoDTO} projection objects, optimized for
         customer-facing expedition search scenarios.
 
         <p>
@@ -198,7 +196,7 @@ public interface ExpeditionRepository extends JpaRepository<Expedition, Integer>
 
             <ul>
                 <li>{@link Expedition} as the primary JPA entity</li>
-                <li>{@link City} for resolving departure and arrival city names</li>
+                <li>{@link CityDictionary} for resolving departure and arrival city names</li>
                 <li>{@link ExpeditionForCustomerRepoDTO} as a projection DTO</li>
                 <li>{@link Instant} for date-based filtering</li>
                 <li>{@link Query} for custom JPQL constructor expression</li>
@@ -222,17 +220,15 @@ public interface ExpeditionRepository extends JpaRepository<Expedition, Integer>
     @Query("""
     SELECT new com.shubilet.expedition_service.dataTransferObjects.responses.forRepositories.ExpeditionForCustomerRepoDTO(
             e.id,
-            dc.name,
-            ac.name,
+            e.departureCityId,
+            e.arrivalCityId,
             e.dateAndTime,
             e.price,
             e.duration,
             e.companyId
         )
-        FROM Expedition e, City dc, City ac
-        WHERE e.departureCityId = dc.id
-            AND e.arrivalCityId = ac.id
-            AND e.departureCityId = :departureCityId
+        FROM Expedition e
+        WHERE e.departureCityId = :departureCityId
             AND e.arrivalCityId = :arrivalCityId
             AND e.dateAndTime >= :startOfDay
             AND e.dateAndTime < :endOfDay
@@ -252,9 +248,10 @@ public interface ExpeditionRepository extends JpaRepository<Expedition, Integer>
 
         Retrieves all expeditions belonging to a specific company that are scheduled
         within the given date range. The method filters expeditions by the provided
-        start and end instants (typically representing a single day), resolves
-        departure and arrival city names via {@link City} joins, and maps results
-        directly into {@link ExpeditionForCompanyRepoDTO} projection objects.
+        start and end instants (typically representing a single day), returns
+        departure and arrival city identifiers for the {@link CityDictionary} to
+        resolve, and maps results directly into {@link ExpeditionForCompanyRepoDTO}
+        projection objects.
 
         This query is intended for company-side views where expeditions need to be
         listed for a particular date, including detailed business metrics such as
@@ -281,7 +278,7 @@ public interface ExpeditionRepository extends JpaRepository<Expedition, Integer>
 
             <ul>
                 <li>{@link Expedition} as the primary JPA entity</li>
-                <li>{@link City} for resolving departure and arrival city names</li>
+                <li>{@link CityDictionary} for resolving departure and arrival city names</li>
                 <li>{@link ExpeditionForCompanyRepoDTO} as a projection DTO</li>
                 <li>{@link Instant} for date-range filtering</li>
                 <li>{@link Query} for custom JPQL constructor expression</li>
@@ -303,8 +300,8 @@ public interface ExpeditionRepository extends JpaRepository<Expedition, Integer>
     @Query("""
         SELECT new com.shubilet.expedition_service.dataTransferObjects.responses.forRepositories.ExpeditionForCompanyRepoDTO(
             e.id,
-            dc.name,
-            ac.name,
+            e.departureCityId,
+            e.arrivalCityId,
             e.dateAndTime,
             e.price,
             e.duration,
@@ -313,13 +310,9 @@ public interface ExpeditionRepository extends JpaRepository<Expedition, Integer>
             e.profit
         )
         FROM Expedition e
-            JOIN City dc 
-                ON e.departureCityId = dc.id
-                    JOIN City ac 
-                        ON e.arrivalCityId = ac.id
-                            WHERE e.dateAndTime >= :startOfDay
-                                AND e.dateAndTime < :endOfDay
-                                AND e.companyId = :companyId
+        WHERE e.dateAndTime >= :startOfDay
+            AND e.dateAndTime < :endOfDay
+            AND e.companyId = :companyId
         ORDER BY e.dateAndTime ASC
     """)
     List<ExpeditionForCompanyRepoDTO> findAllByInstantAndCompanyId(
@@ -388,4 +381,344 @@ public interface ExpeditionRepository extends JpaRepository<Expedition, Integer>
         @Param("expeditionId") int expeditionId, 
         @Param("now") Instant now
     );
-}
\ No newline at end of file
+
+    /***
+
+        Operation: FindBookingAvailability
+
+        Retrieves, in a single round trip, everything the reservation flow needs to decide
+        whether a seat can be booked: the seat identifier, status and current hold together
+        with the departure time, capacity, booked-seat counter and price of its expedition. The
+        {@link Seat} side is left-joined because seat rows only exist while a seat is held or
+        booked; a missing seat row within the capacity means the seat is free.
+
+        This read never decides a booking on its own; the authoritative decision is taken
+        by the conditional statements {@link SeatRepository#holdSeat(int, int, int, Instant, Instant)},
+        {@link SeatRepository#claimSeat(int, int, int)} and {@link #incrementBookedSeats(int, int, Instant)}.
+        It is used to fetch the ticket price and to explain why one of them did not match.
+
+        <p>
+
+            Usage:
+
+            <pre>
+                BookingAvailabilityRepoDTO availability =
+                    expeditionRepository.findBookingAvailability(
+                        expeditionId,
+                        seatNo
+                    );
+            </pre>
+
+        </p>
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>{@link Expedition} as the primary JPA entity</li>
+                <li>{@link Seat} for the requested seat state</li>
+                <li>{@link BookingAvailabilityRepoDTO} as a projection DTO</li>
+                <li>{@link Query} for custom JPQL constructor expression</li>
+                <li>{@link Param} for named parameter binding</li>
+            </ul>
+
+        </p>
+
+        @param expeditionId the identifier of the expedition
+
+        @param seatNo the seat number within the expedition
+
+        @return a {@link BookingAvailabilityRepoDTO} describing the seat and its expedition,
+        or {@code null} if the expedition does not exist
+    */
+    @Query("""
+        SELECT new com.shubilet.expedition_service.dataTransferObjects.responses.forRepositories.BookingAvailabilityRepoDTO(
+            s.id,
+            s.status,
+            s.customerId,
+            s.holdExpiresAt,
+            e.dateAndTime,
+            e.capacity,
+            e.numberOfBookedSeats,
+            e.price
+        )
+        FROM Expedition e
+            LEFT JOIN Seat s
+                ON s.expeditionId = e.id
+                    AND s.seatNo = :seatNo
+        WHERE e.id = :expeditionId
+    """)
+    BookingAvailabilityRepoDTO findBookingAvailability(
+        @Param("expeditionId") int expeditionId,
+        @Param("seatNo") int seatNo
+    );
+
+    /***
+
+        Operation: IncrementBookedSeats
+
+        Atomically increments the booked-seat counter of an expedition, adds one ticket price to
+        its profit and marks the seat as booked in the occupancy bitmap. The update only applies
+        while the expedition still has free capacity, has not departed yet and the seat bit is
+        still clear, so the capacity check and the counter change cannot be interleaved by a
+        concurrent booking.
+
+        This method must be invoked inside an active transaction, together with the seat
+        claim it accounts for.
+
+        <p>
+
+            Usage:
+
+            <pre>
+                int updated =
+                    expeditionRepository.incrementBookedSeats(
+                        expeditionId,
+                        seatNo,
+                        Instant.now()
+                    );
+            </pre>
+
+        </p>
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>Native SQL conditional update with {@code set_bit} on the seat bitmap</li>
+                <li>{@link Modifying} for update execution</li>
+                <li>{@link Param} for named parameter binding</li>
+            </ul>
+
+        </p>
+
+        @param expeditionId the identifier of the expedition being booked
+
+        @param seatNo the number of the seat being booked
+
+        @param now the reference instant used to reject departed expeditions
+
+        @return the number of updated rows; {@code 1} on success, {@code 0} if the expedition
+        is missing, full, already departed or the seat is already marked as booked
+    */
+    @Modifying
+    @Query(
+        value = """
+            UPDATE expeditions
+            SET number_of_booked_seats = number_of_booked_seats + 1,
+                profit = profit + price,
+                booked_seats = set_bit(booked_seats, :seatNo - 1, 1)
+            WHERE id = :expeditionId
+                AND capacity > number_of_booked_seats
+                AND date_and_time >= :now
+                AND get_bit(booked_seats, :seatNo - 1) = 0
+            """,
+        nativeQuery = true
+    )
+    int incrementBookedSeats(
+        @Param("expeditionId") int expeditionId,
+        @Param("seatNo") int seatNo,
+        @Param("now") Instant now
+    );
+
+    /***
+
+        Operation: FindSeatMap
+
+        Retrieves the capacity and the occupancy bitmap of an expedition that is still open for
+        booking, that is an expedition which has not departed and still has free capacity. The
+        bitmap holds one bit per seat, so the whole booked-seat state of an expedition is read
+        from a single row instead of one row per seat.
+
+        <p>
+
+            Usage:
+
+            <pre>
+                SeatMapRepoDTO seatMap =
+                    expeditionRepository.findSeatMap(
+                        expeditionId,
+                        Instant.now()
+                    );
+            </pre>
+
+        </p>
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>{@link Expedition} as the primary JPA entity</li>
+                <li>{@link SeatMapRepoDTO} as a projection DTO</li>
+                <li>{@link Query} for custom JPQL constructor expression</li>
+                <li>{@link Param} for named parameter binding</li>
+            </ul>
+
+        </p>
+
+        @param expeditionId the identifier of the expedition
+
+        @param now the reference instant used to filter out departed expeditions
+
+        @return a {@link SeatMapRepoDTO} for the expedition, or {@code null} if it does not exist,
+        has departed or is fully booked
+    */
+    @Query("""
+        SELECT new com.shubilet.expedition_service.dataTransferObjects.responses.forRepositories.SeatMapRepoDTO(
+            e.id,
+            e.capacity,
+            e.bookedSeats
+        )
+        FROM Expedition e
+        WHERE e.id = :expeditionId
+            AND e.dateAndTime >= :now
+            AND e.capacity > e.numberOfBookedSeats
+    """)
+    SeatMapRepoDTO findSeatMap(
+        @Param("expeditionId") int expeditionId,
+        @Param("now") Instant now
+    );
+
+    /***
+
+        Operation: FindSeatMapByCompanyId
+
+        Retrieves the capacity and the occupancy bitmap of an expedition owned by the given
+        company, regardless of its departure time or occupancy. Used by company views, which
+        need the full seat map of past and fully booked expeditions as well.
+
+        <p>
+
+            Usage:
+
+            <pre>
+                SeatMapRepoDTO seatMap =
+                    expeditionRepository.findSeatMapByCompanyId(
+                        expeditionId,
+                        companyId
+                    );
+            </pre>
+
+        </p>
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>{@link Expedition} as the primary JPA entity</li>
+                <li>{@link SeatMapRepoDTO} as a projection DTO</li>
+                <li>{@link Query} for custom JPQL constructor expression</li>
+                <li>{@link Param} for named parameter binding</li>
+            </ul>
+
+        </p>
+
+        @param expeditionId the identifier of the expedition
+
+        @param companyId the identifier of the company owning the expedition
+
+        @return a {@link SeatMapRepoDTO} for the expedition, or {@code null} if it does not exist
+        or is not owned by the company
+    */
+    @Query("""
+        SELECT new com.shubilet.expedition_service.dataTransferObjects.responses.forRepositories.SeatMapRepoDTO(
+            e.id,
+            e.capacity,
+            e.bookedSeats
+        )
+        FROM Expedition e
+        WHERE e.id = :expeditionId
+            AND e.companyId = :companyId
+    """)
+    SeatMapRepoDTO findSeatMapByCompanyId(
+        @Param("expeditionId") int expeditionId,
+        @Param("companyId") int companyId
+    );
+
+    /***
+
+        Operation: FindAllWithoutSeatMap
+
+        Retrieves the expeditions that were created before the occupancy bitmap existed and
+        therefore have none yet. Used once at startup to backfill their bitmaps from their
+        booked seat rows.
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>{@link Expedition} as the primary JPA entity</li>
+                <li>{@link Query} for custom JPQL selection</li>
+            </ul>
+
+        </p>
+
+        @return every expedition whose occupancy bitmap is missing
+    */
+    @Query("""
+        SELECT e
+        FROM Expedition e
+        WHERE e.bookedSeats IS NULL
+    """)
+    List<Expedition> findAllWithoutSeatMap();
+
+    /***
+
+        Operation: FindAllDepartingFrom
+
+        Retrieves the indexed columns of every expedition whose departure is at or after the given
+        instant. Used to (re)build the in-memory route search index, which only needs the days
+        customers can still search for; selecting a projection keeps the seat maps and the other
+        entity state out of the rebuild.
+
+        <p>
+
+            Usage:
+
+            <pre>
+                List&lt;ExpeditionIndexRepoDTO&gt; entries =
+                    expeditionRepository.findIndexEntriesDepartingFrom(startOfToday);
+            </pre>
+
+        </p>
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>{@link Expedition} as the primary JPA entity</li>
+                <li>{@link ExpeditionIndexRepoDTO} as the projection of the indexed columns</li>
+                <li>{@link Instant} for date-based filtering</li>
+                <li>{@link Query} for custom JPQL selection</li>
+                <li>{@link Param} for named parameter binding</li>
+            </ul>
+
+        </p>
+
+        @param from the earliest departure instant to include
+
+        @return the index entries of every expedition departing at or after the given instant
+    */
+    @Query("""
+        SELECT new com.shubilet.expedition_service.dataTransferObjects.responses.forRepositories.ExpeditionIndexRepoDTO(
+            e.id,
+            e.departureCityId,
+            e.arrivalCityId,
+            e.dateAndTime,
+            e.price,
+            e.duration,
+            e.companyId,
+            e.capacity,
+            e.numberOfBookedSeats
+        )
+        FROM Expedition e
+        WHERE e.dateAndTime >= :from
+    """)
+    List<ExpeditionIndexRepoDTO> findIndexEntriesDepartingFrom(@Param("from") Instant from);
+}
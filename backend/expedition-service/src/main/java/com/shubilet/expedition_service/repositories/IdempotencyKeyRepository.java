@@ -0,0 +1,196 @@
+package com.shubilet.expedition_service.repositories;
+
+import java.time.Instant;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.shubilet.expedition_service.models.IdempotencyKey;
+
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, String> {
+
+    /***
+
+        Operation: Claim
+
+        Registers the given idempotency key for a new purchase of the given customer. The key is
+        inserted with {@code ON CONFLICT DO NOTHING}, so when two retries of the same request race,
+        exactly one of them claims the key and the other one sees an existing record.
+
+        <p>
+
+            Usage:
+
+            <pre>
+                boolean claimed =
+                    idempotencyKeyRepository.claim(key, customerId, Instant.now()) == 1;
+            </pre>
+
+        </p>
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>Native SQL {@code INSERT ... ON CONFLICT DO NOTHING}</li>
+                <li>{@link Param} for named parameter binding</li>
+                <li>{@link Modifying} for insert execution</li>
+            </ul>
+
+        </p>
+
+        @param key the client-supplied idempotency key
+
+        @param customerId the identifier of the purchasing customer
+
+        @param now the creation instant of the record
+
+        @return {@code 1} if the key was claimed, {@code 0} if it already existed
+    */
+    @Modifying
+    @Transactional
+    @Query(
+        value = """
+            INSERT INTO idempotency_keys (idempotency_key, customer_id, created_at)
+            VALUES (:key, :customerId, :now)
+            ON CONFLICT (idempotency_key) DO NOTHING
+            """,
+        nativeQuery = true
+    )
+    int claim(
+            @Param("key") String key,
+            @Param("customerId") int customerId,
+            @Param("now") Instant now
+    );
+
+    /***
+
+        Operation: Complete
+
+        Stores the PNR of the ticket issued under the given idempotency key, so that retries of
+        the same request are answered with that ticket.
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>Native SQL update on the {@code idempotency_keys} table</li>
+                <li>{@link Param} for named parameter binding</li>
+                <li>{@link Modifying} for update execution</li>
+            </ul>
+
+        </p>
+
+        @param key the idempotency key of the completed purchase
+
+        @param PNR the PNR of the issued ticket
+
+        @return the number of updated records
+    */
+    @Modifying
+    @Transactional
+    @Query(
+        value = """
+            UPDATE idempotency_keys
+            SET pnr = :pnr
+            WHERE idempotency_key = :key
+            """,
+        nativeQuery = true
+    )
+    int complete(
+            @Param("key") String key,
+            @Param("pnr") String PNR
+    );
+
+    /***
+
+        Operation: Release
+
+        Removes the given idempotency key while its purchase has not issued a ticket, so that the
+        client can retry a purchase that failed without charging the customer. Completed keys are
+        never removed by this method.
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>Native SQL delete on the {@code idempotency_keys} table</li>
+                <li>{@link Param} for named parameter binding</li>
+                <li>{@link Modifying} for delete execution</li>
+            </ul>
+
+        </p>
+
+        @param key the idempotency key of the failed purchase
+
+        @return the number of deleted records
+    */
+    @Modifying
+    @Transactional
+    @Query(
+        value = """
+            DELETE FROM idempotency_keys
+            WHERE idempotency_key = :key
+                AND pnr IS NULL
+            """,
+        nativeQuery = true
+    )
+    int release(@Param("key") String key);
+
+    /***
+
+        Operation: DeleteExpired
+
+        Deletes completed keys created before {@code completedBefore} and unfinished keys created
+        before {@code pendingBefore} in one statement. Unfinished keys are kept as long as a seat
+        hold lives, and beyond that for as long as their reservation is still being charged or
+        refunded by the relay: a retry with a purged key would start a second, separately
+        charged purchase.
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>Native SQL delete on the {@code idempotency_keys} table</li>
+                <li>{@link Param} for named parameter binding</li>
+                <li>{@link Modifying} for delete execution</li>
+            </ul>
+
+        </p>
+
+        @param completedBefore the expiry threshold for completed keys
+
+        @param pendingBefore the expiry threshold for unfinished keys
+
+        @return the number of deleted records
+    */
+    @Modifying
+    @Transactional
+    @Query(
+        value = """
+            DELETE FROM idempotency_keys k
+            WHERE ((k.pnr IS NOT NULL AND k.created_at < :completedBefore)
+                    OR (k.pnr IS NULL AND k.created_at < :pendingBefore))
+                AND NOT EXISTS (
+                    SELECT 1
+                    FROM reservations r
+                    WHERE r.idempotency_key = k.idempotency_key
+                        AND r.state IN ('PAYMENT_PENDING', 'REFUND_PENDING')
+                )
+            """,
+        nativeQuery = true
+    )
+    int deleteExpired(
+            @Param("completedBefore") Instant completedBefore,
+            @Param("pendingBefore") Instant pendingBefore
+    );
+}
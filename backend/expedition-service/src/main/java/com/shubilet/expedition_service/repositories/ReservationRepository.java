@@ -0,0 +1,314 @@
+package com.shubilet.expedition_service.repositories;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.shubilet.expedition_service.common.enums.forReservation.ReservationState;
+import com.shubilet.expedition_service.models.Reservation;
+
+@Repository
+public interface ReservationRepository extends JpaRepository<Reservation, Integer> {
+
+    /**
+     * Returns the reservation created for the given request identifier, if any.
+     */
+    Optional<Reservation> findByRequestId(String requestId);
+
+    /***
+
+        Operation: MarkConfirmed
+
+        Moves a reservation from {@link ReservationState#PAYMENT_PENDING} to
+        {@link ReservationState#CONFIRMED} and records its payment. The state check makes the
+        transition happen at most once: when the request path and the relay race on the same
+        reservation, the second update waits for the first one's row lock and then matches nothing.
+
+        This method must be invoked inside the transaction that books the seat and issues the ticket.
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>Native SQL conditional update on the {@code reservations} table</li>
+                <li>{@link Param} for named parameter binding</li>
+                <li>{@link Modifying} for update execution</li>
+            </ul>
+
+        </p>
+
+        @param requestId the request identifier of the reservation
+
+        @param paymentId the identifier of the payment taken for it
+
+        @param now the instant of the transition
+
+        @return {@code 1} if the reservation was confirmed, {@code 0} if it was no longer pending
+    */
+    @Modifying
+    @Query(
+        value = """
+            UPDATE reservations
+            SET state = 'CONFIRMED',
+                payment_id = :paymentId,
+                updated_at = :now
+            WHERE request_id = :requestId
+                AND state = 'PAYMENT_PENDING'
+            """,
+        nativeQuery = true
+    )
+    int markConfirmed(
+            @Param("requestId") String requestId,
+            @Param("paymentId") int paymentId,
+            @Param("now") Instant now
+    );
+
+    /***
+
+        Operation: SetPNR
+
+        Stores the PNR of the ticket issued for a confirmed reservation.
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>Native SQL update on the {@code reservations} table</li>
+                <li>{@link Param} for named parameter binding</li>
+                <li>{@link Modifying} for update execution</li>
+            </ul>
+
+        </p>
+
+        @param requestId the request identifier of the reservation
+
+        @param PNR the PNR of the issued ticket
+
+        @return the number of updated records
+    */
+    @Modifying
+    @Query(
+        value = """
+            UPDATE reservations
+            SET pnr = :pnr
+            WHERE request_id = :requestId
+            """,
+        nativeQuery = true
+    )
+    int setPNR(
+            @Param("requestId") String requestId,
+            @Param("pnr") String PNR
+    );
+
+    /***
+
+        Operation: MarkRefundPending
+
+        Moves a paid reservation whose seat could not be booked from
+        {@link ReservationState#PAYMENT_PENDING} to {@link ReservationState#REFUND_PENDING} and
+        makes it due for the relay right away.
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>Native SQL conditional update on the {@code reservations} table</li>
+                <li>{@link Param} for named parameter binding</li>
+                <li>{@link Modifying} for update execution</li>
+            </ul>
+
+        </p>
+
+        @param requestId the request identifier of the reservation
+
+        @param paymentId the identifier of the payment to refund
+
+        @param now the instant of the transition
+
+        @return {@code 1} if the reservation was moved, {@code 0} if it was no longer pending
+    */
+    @Modifying
+    @Transactional
+    @Query(
+        value = """
+            UPDATE reservations
+            SET state = 'REFUND_PENDING',
+                payment_id = :paymentId,
+                attempts = 0,
+                next_attempt_at = :now,
+                updated_at = :now
+            WHERE request_id = :requestId
+                AND state = 'PAYMENT_PENDING'
+            """,
+        nativeQuery = true
+    )
+    int markRefundPending(
+            @Param("requestId") String requestId,
+            @Param("paymentId") int paymentId,
+            @Param("now") Instant now
+    );
+
+    /***
+
+        Operation: MarkFailed
+
+        Moves a reservation whose charge was refused by the payment service from
+        {@link ReservationState#PAYMENT_PENDING} to {@link ReservationState#FAILED}.
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>Native SQL conditional update on the {@code reservations} table</li>
+                <li>{@link Param} for named parameter binding</li>
+                <li>{@link Modifying} for update execution</li>
+            </ul>
+
+        </p>
+
+        @param requestId the request identifier of the reservation
+
+        @param now the instant of the transition
+
+        @return {@code 1} if the reservation was moved, {@code 0} if it was no longer pending
+    */
+    @Modifying
+    @Transactional
+    @Query(
+        value = """
+            UPDATE reservations
+            SET state = 'FAILED',
+                updated_at = :now
+            WHERE request_id = :requestId
+                AND state = 'PAYMENT_PENDING'
+            """,
+        nativeQuery = true
+    )
+    int markFailed(
+            @Param("requestId") String requestId,
+            @Param("now") Instant now
+    );
+
+    /***
+
+        Operation: MarkRefunded
+
+        Moves a reservation from {@link ReservationState#REFUND_PENDING} to
+        {@link ReservationState#REFUNDED} once the payment service confirmed the refund.
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>Native SQL conditional update on the {@code reservations} table</li>
+                <li>{@link Param} for named parameter binding</li>
+                <li>{@link Modifying} for update execution</li>
+            </ul>
+
+        </p>
+
+        @param requestId the request identifier of the reservation
+
+        @param now the instant of the transition
+
+        @return {@code 1} if the reservation was moved, {@code 0} if it was not waiting for a refund
+    */
+    @Modifying
+    @Transactional
+    @Query(
+        value = """
+            UPDATE reservations
+            SET state = 'REFUNDED',
+                updated_at = :now
+            WHERE request_id = :requestId
+                AND state = 'REFUND_PENDING'
+            """,
+        nativeQuery = true
+    )
+    int markRefunded(
+            @Param("requestId") String requestId,
+            @Param("now") Instant now
+    );
+
+    /***
+
+        Operation: LeaseDue
+
+        Picks up to {@code limit} unfinished reservations whose next attempt is due and leases them
+        to the caller in one statement: their attempt counter is increased and their next attempt
+        is pushed back with exponential backoff. Rows locked by another instance are skipped, so
+        several relays never work on the same reservation, and a reservation that is not moved to
+        a final state by the caller simply comes due again after its backoff.
+
+        <p>
+
+            Usage:
+
+            <pre>
+                List&lt;Reservation&gt; due =
+                    reservationRepository.leaseDue(
+                        Instant.now(),
+                        AppConstants.RESERVATION_RETRY_BASE_DELAY.toSeconds(),
+                        AppConstants.RESERVATION_RELAY_BATCH_SIZE
+                    );
+            </pre>
+
+        </p>
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>Native SQL update with {@code FOR UPDATE SKIP LOCKED} and {@code RETURNING}</li>
+                <li>{@link Param} for named parameter binding</li>
+                <li>{@link Transactional} for committing the lease before the caller's remote calls</li>
+            </ul>
+
+        </p>
+
+        @param now the reference instant for due checks and backoff
+
+        @param retryBaseSeconds the backoff of the first retry, doubled on every further attempt
+
+        @param limit the maximum number of reservations to lease
+
+        @return the leased reservations, with their attempt counters already increased
+    */
+    @Transactional
+    @Query(
+        value = """
+            UPDATE reservations r
+            SET attempts = r.attempts + 1,
+                next_attempt_at = :now + make_interval(secs => :retryBaseSeconds * power(2, LEAST(r.attempts, 6)))
+            WHERE r.id IN (
+                SELECT id
+                FROM reservations
+                WHERE state IN ('PAYMENT_PENDING', 'REFUND_PENDING')
+                    AND next_attempt_at <= :now
+                ORDER BY next_attempt_at
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING r.*
+            """,
+        nativeQuery = true
+    )
+    List<Reservation> leaseDue(
+            @Param("now") Instant now,
+            @Param("retryBaseSeconds") long retryBaseSeconds,
+            @Param("limit") int limit
+    );
+}
@@ -4,12 +4,13 @@ import java.time.Instant;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.shubilet.expedition_service.dataTransferObjects.responses.forRepositories.SeatForCompanyRepoDTO;
-import com.shubilet.expedition_service.dataTransferObjects.responses.forRepositories.SeatForCustomerRepoDTO;
 import com.shubilet.expedition_service.models.Expedition;
 import com.shubilet.expedition_service.models.Seat;
 
@@ -17,6 +18,88 @@ import com.shubilet.expedition_service.models.Seat;
 @Repository
 public interface SeatRepository extends JpaRepository<Seat, Integer> {
     
+    /***
+
+        Operation: FindBookedSeatNos
+
+        Retrieves the numbers of all booked seats of the given expedition. Booked seats are
+        tracked by the occupancy bitmap stored on the {@link Expedition}; this query is only
+        needed to build that bitmap for expeditions created before it existed.
+
+        <p>
+
+            Usage:
+
+            <pre>
+                List&lt;Integer&gt; bookedSeatNos =
+                    seatRepository.findBookedSeatNos(expeditionId);
+            </pre>
+
+        </p>
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>Native SQL selection on the {@code seats} table</li>
+                <li>{@link Param} for named parameter binding</li>
+            </ul>
+
+        </p>
+
+        @param expeditionId the identifier of the expedition
+
+        @return the seat numbers of every booked seat of the expedition
+    */
+    @Query(
+        value = """
+            SELECT seat_no
+            FROM seats
+            WHERE expedition_id = :expeditionId
+                AND status = 'RESERVED'
+            """,
+        nativeQuery = true
+    )
+    List<Integer> findBookedSeatNos(@Param("expeditionId") int expeditionId);
+
+    /***
+
+        Operation: DeleteUnoccupiedSeats
+
+        Deletes, in one bulk statement, every seat row that is neither held nor booked and has
+        no ticket attached. Seats are created lazily on hold since the occupancy bitmap was
+        introduced, so such rows are leftovers of the former one-row-per-seat model and carry
+        no information that the virtual seat map does not already provide.
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>Native SQL bulk delete</li>
+                <li>{@link Modifying} for delete execution</li>
+                <li>{@link Transactional} to ensure atomic execution</li>
+            </ul>
+
+        </p>
+
+        @return the number of deleted seat rows
+    */
+    @Modifying
+    @Transactional
+    @Query(
+        value = """
+            DELETE FROM seats s
+            WHERE s.status = 'AVAILABLE'
+                AND NOT EXISTS (
+                    SELECT 1 FROM tickets t WHERE t.seat_id = s.id
+                )
+            """,
+        nativeQuery = true
+    )
+    int deleteUnoccupiedSeats();
+
     /***
 
         Operation: FindSeatsByExpeditionIdAndCompanyId
@@ -27,8 +110,10 @@ public interface SeatRepository extends JpaRepository<Seat, Integer> {
         The result is mapped directly into {@link SeatForCompanyRepoDTO} projection objects,
         providing a lightweight and efficient representation for company-facing views.
 
-        This query is typically used in company dashboards to inspect seat occupancy,
-        customer associations, and reservation status for a particular expedition.
+        Only materialised seats are returned, that is seats which are currently held or
+        booked; the remaining seats of the expedition are virtual and are filled in as
+        available by the seat service, so the cost of this query scales with bookings
+        rather than with capacity.
 
         <p>
 
@@ -63,8 +148,8 @@ public interface SeatRepository extends JpaRepository<Seat, Integer> {
 
         @param companyId the identifier of the company owning the expedition
 
-        @return a list of {@link SeatForCompanyRepoDTO} representing all seats of the expedition,
-        ordered by seat number
+        @return a list of {@link SeatForCompanyRepoDTO} representing the held and booked seats
+        of the expedition, ordered by seat number
     */
     @Query("""
         SELECT new com.shubilet.expedition_service.dataTransferObjects.responses.forRepositories.SeatForCompanyRepoDTO(
@@ -203,27 +288,33 @@ public interface SeatRepository extends JpaRepository<Seat, Integer> {
 
     /***
 
-        Operation: FindSeatsByExpeditionIdAndStatus
+        Operation: ClaimSeat
+
+        Atomically reserves the seat identified by the given expedition and seat number for
+        the specified customer, provided that the seat is currently held by that same
+        customer. The ownership check and the status change are performed by a single
+        conditional {@code UPDATE} statement, so two concurrent buyers can never both win
+        the same seat: the database row lock lets exactly one of them match the predicate.
+        A successful claim turns the customer's hold into a booking and clears its expiry.
+        Seat rows only exist once a seat has been held, so a seat must be held with
+        {@link #holdSeat(int, int, int, Instant, Instant)} before it can be claimed.
 
-        Retrieves seat information for customer-facing views by returning all seats
-        belonging to the specified expedition, provided that the expedition is still
-        active (date has not passed) and has remaining capacity. The result is mapped
-        into {@link SeatForCustomerRepoDTO} projections, exposing only the necessary
-        seat details such as seat number and current reservation status.
+        The identifier of the claimed seat is returned through {@code RETURNING}, which saves
+        the extra lookup that ticket generation would otherwise need. When no row matches
+        (seat not held, booked, or held by someone else) the method returns {@code null}.
 
-        This method is designed for read-only customer scenarios (e.g., seat selection
-        screens) and intentionally filters out past or fully booked expeditions to
-        prevent invalid reservation attempts.
+        This method must be invoked inside an active transaction.
 
         <p>
 
             Usage:
 
             <pre>
-                List&lt;SeatForCustomerRepoDTO&gt; seats =
-                    seatRepository.findSeatsByExpeditionIdAndStatus(
+                Integer seatId =
+                    seatRepository.claimSeat(
                         expeditionId,
-                        Instant.now()
+                        seatNo,
+                        customerId
                     );
             </pre>
 
@@ -234,40 +325,366 @@ public interface SeatRepository extends JpaRepository<Seat, Integer> {
             Uses:
 
             <ul>
-                <li>{@link Seat} as the underlying JPA entity</li>
-                <li>{@link Expedition} for expedition state filtering</li>
-                <li>{@link SeatForCustomerRepoDTO} as a lightweight projection</li>
-                <li>{@link Query} for custom JPQL selection</li>
+                <li>Native SQL conditional update with {@code RETURNING}</li>
                 <li>{@link Param} for named parameter binding</li>
-                <li>{@link Instant} for time-based expedition validation</li>
+                <li>{@link JpaRepository} for repository abstraction</li>
             </ul>
 
         </p>
 
-        @param expeditionId the identifier of the expedition whose seats will be retrieved
+        @param expeditionId the identifier of the expedition to which the seat belongs
 
-        @param now the current timestamp used to ensure the expedition has not yet started
+        @param seatNo the seat number within the expedition
+
+        @param customerId the identifier of the customer claiming the seat
 
-        @return a list of {@link SeatForCustomerRepoDTO} representing seats available
-        for customer visibility, ordered by seat number
+        @return the identifier of the claimed seat, or {@code null} if the seat could not be claimed
     */
-    @Query("""
-        SELECT new com.shubilet.expedition_service.dataTransferObjects.responses.forRepositories.SeatForCustomerRepoDTO(
-            s.expeditionId,
-            s.seatNo,
-            s.status
-        )
-        FROM Seat s
-        WHERE s.expeditionId IN (
-                SELECT e.id 
-                FROM Expedition e 
-                WHERE e.dateAndTime >= :now
-                    AND e.capacity > e.numberOfBookedSeats
+    @Query(
+        value = """
+            UPDATE seats
+            SET status = 'RESERVED',
+                customer_id = :customerId,
+                hold_expires_at = NULL
+            WHERE expedition_id = :expeditionId
+                AND seat_no = :seatNo
+                AND status = 'HELD'
+                AND customer_id = :customerId
+            RETURNING id
+            """,
+        nativeQuery = true
+    )
+    Integer claimSeat(
+            @Param("expeditionId") int expeditionId,
+            @Param("seatNo") int seatNo,
+            @Param("customerId") int customerId
+    );
+
+    /***
+
+        Operation: HoldSeat
+
+        Places a short-lived hold on the seat identified by the given expedition and seat number
+        on behalf of the specified customer. Seat rows are created lazily, so the hold is granted
+        by a single {@code INSERT ... ON CONFLICT DO UPDATE} whose source row is the owning
+        expedition: nothing is inserted unless the expedition exists, has not departed, still has
+        free capacity and actually has a seat with that number. If a row for the seat already
+        exists, it is only taken over when it is held by the same customer (the hold is refreshed)
+        or by someone whose hold has expired; booked seats are never touched.
+
+        Holding a seat before payment guarantees that at most one customer is charged for it,
+        while keeping the remote payment call outside of any database transaction. Held seats
+        are reported with {@code HELD} status in seat maps until they are booked, released, or
+        swept by the hold reaper.
+
+        This method must be invoked inside an active transaction.
+
+        <p>
+
+            Usage:
+
+            <pre>
+                Integer seatId =
+                    seatRepository.holdSeat(
+                        expeditionId,
+                        seatNo,
+                        customerId,
+                        now,
+                        now.plus(AppConstants.SEAT_HOLD_DURATION)
+                    );
+            </pre>
+
+        </p>
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>Native SQL {@code INSERT ... ON CONFLICT DO UPDATE} with {@code RETURNING}</li>
+                <li>{@link Param} for named parameter binding</li>
+                <li>{@link JpaRepository} for repository abstraction</li>
+            </ul>
+
+        </p>
+
+        @param expeditionId the identifier of the expedition to which the seat belongs
+
+        @param seatNo the seat number within the expedition
+
+        @param customerId the identifier of the customer requesting the hold
+
+        @param now the reference instant used for departure and hold expiry checks
+
+        @param expiresAt the instant at which the new hold expires
+
+        @return the identifier of the held seat, or {@code null} if the hold could not be placed
+    */
+    @Query(
+        value = """
+            INSERT INTO seats (id, expedition_id, seat_no, customer_id, status, hold_expires_at)
+            SELECT nextval('seats_id_seq'), e.id, :seatNo, :customerId, 'HELD', :expiresAt
+            FROM expeditions e
+            WHERE e.id = :expeditionId
+                AND :seatNo BETWEEN 1 AND e.capacity
+                AND e.date_and_time >= :now
+                AND e.capacity > e.number_of_booked_seats
+            ON CONFLICT (expedition_id, seat_no) DO UPDATE
+            SET customer_id = EXCLUDED.customer_id,
+                status = 'HELD',
+                hold_expires_at = EXCLUDED.hold_expires_at
+            WHERE seats.status = 'AVAILABLE'
+                OR (seats.status = 'HELD' AND (seats.customer_id = EXCLUDED.customer_id OR seats.hold_expires_at < :now))
+            RETURNING id
+            """,
+        nativeQuery = true
+    )
+    Integer holdSeat(
+            @Param("expeditionId") int expeditionId,
+            @Param("seatNo") int seatNo,
+            @Param("customerId") int customerId,
+            @Param("now") Instant now,
+            @Param("expiresAt") Instant expiresAt
+    );
+
+    /***
+
+        Operation: ReleaseHold
+
+        Releases the hold that the specified customer has on a seat, making the seat available
+        again. Since seats are virtual until they are held, releasing a hold deletes its seat
+        row. Seats that are booked or held by another customer are left untouched, so the
+        method is safe to call on any failure path of a purchase.
+
+        <p>
+
+            Usage:
+
+            <pre>
+                int released =
+                    seatRepository.releaseHold(
+                        expeditionId,
+                        seatNo,
+                        customerId
+                    );
+            </pre>
+
+        </p>
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>Native SQL conditional delete</li>
+                <li>{@link Modifying} for delete execution</li>
+                <li>{@link Transactional} to ensure atomic execution</li>
+            </ul>
+
+        </p>
+
+        @param expeditionId the identifier of the expedition to which the seat belongs
+
+        @param seatNo the seat number within the expedition
+
+        @param customerId the identifier of the customer who owns the hold
+
+        @return the number of released seats (0 if the customer held no such seat)
+    */
+    @Modifying
+    @Transactional
+    @Query(
+        value = """
+            DELETE FROM seats
+            WHERE expedition_id = :expeditionId
+                AND seat_no = :seatNo
+                AND customer_id = :customerId
+                AND status = 'HELD'
+            """,
+        nativeQuery = true
+    )
+    int releaseHold(
+            @Param("expeditionId") int expeditionId,
+            @Param("seatNo") int seatNo,
+            @Param("customerId") int customerId
+    );
+
+    /***
+
+        Operation: ReleaseHoldById
+
+        Releases one particular hold, identified by its seat row and its expiry. Refreshing a
+        hold keeps its row but moves its expiry, and a hold placed after an expired one was
+        swept gets a new row, so a hold that replaced the given one is never released by it.
+        Used by purchases that have to give back their own hold while the same customer may
+        already hold the seat again for another purchase.
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>Native SQL conditional delete</li>
+                <li>{@link Modifying} for delete execution</li>
+                <li>{@link Transactional} to ensure atomic execution</li>
+            </ul>
+
+        </p>
+
+        @param seatId the identifier of the held seat row
+
+        @param holdExpiresAt the expiry the hold was placed with
+
+        @return the number of released seats (0 if that hold no longer exists)
+    */
+    @Modifying
+    @Transactional
+    @Query(
+        value = """
+            DELETE FROM seats
+            WHERE id = :seatId
+                AND status = 'HELD'
+                AND hold_expires_at = :holdExpiresAt
+            """,
+        nativeQuery = true
+    )
+    int releaseHoldById(
+            @Param("seatId") int seatId,
+            @Param("holdExpiresAt") Instant holdExpiresAt
+    );
+
+    /***
+
+        Operation: ExistsHold
+
+        Checks whether one particular hold, identified by its seat row and its expiry as in
+        {@link #releaseHoldById(int, Instant)}, is still in place. A hold that was swept,
+        booked, refreshed or replaced by another customer's hold is reported as gone.
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>Native SQL existence check</li>
+                <li>{@link Param} for named parameter binding</li>
+            </ul>
+
+        </p>
+
+        @param seatId the identifier of the held seat row
+
+        @param holdExpiresAt the expiry the hold was placed with
+
+        @return {@code true} if the hold still exists, otherwise {@code false}
+    */
+    @Query(
+        value = """
+            SELECT EXISTS (
+                SELECT 1
+                FROM seats
+                WHERE id = :seatId
+                    AND status = 'HELD'
+                    AND hold_expires_at = :holdExpiresAt
             )
-            AND s.expeditionId = :expeditionId
-        ORDER BY s.seatNo ASC
-    """)
-    List<SeatForCustomerRepoDTO> findSeatsByExpeditionIdAndStatus(
+            """,
+        nativeQuery = true
+    )
+    boolean existsHold(
+            @Param("seatId") int seatId,
+            @Param("holdExpiresAt") Instant holdExpiresAt
+    );
+
+    /***
+
+        Operation: ReleaseExpiredHolds
+
+        Releases, in one bulk statement, every seat hold whose expiry has passed. This keeps
+        abandoned purchases from blocking seats and is triggered periodically by the seat hold
+        reaper. Released seats return to being virtual, so their rows are deleted. The partial
+        index on {@code hold_expires_at} keeps the scan limited to held seats.
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>Native SQL bulk delete</li>
+                <li>{@link Modifying} for delete execution</li>
+                <li>{@link Transactional} to ensure atomic execution</li>
+            </ul>
+
+        </p>
+
+        @param now the reference instant; holds expiring before it are released
+
+        @return the number of released seats
+    */
+    @Modifying
+    @Transactional
+    @Query(
+        value = """
+            DELETE FROM seats
+            WHERE status = 'HELD'
+                AND hold_expires_at < :now
+            """,
+        nativeQuery = true
+    )
+    int releaseExpiredHolds(@Param("now") Instant now);
+
+    /***
+
+        Operation: FindHeldSeatNos
+
+        Retrieves the numbers of the seats of the given expedition that are currently on hold
+        for an ongoing purchase. Booked seats are read from the occupancy bitmap of the
+        {@link Expedition} and all other seats are virtual, so together with this query a
+        complete customer seat map is built without one row per seat. Holds that have expired
+        but have not been swept yet are ignored, since they can be taken over.
+
+        <p>
+
+            Usage:
+
+            <pre>
+                List&lt;Integer&gt; heldSeatNos =
+                    seatRepository.findHeldSeatNos(
+                        expeditionId,
+                        Instant.now()
+                    );
+            </pre>
+
+        </p>
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>Native SQL selection on the {@code seats} table</li>
+                <li>{@link Param} for named parameter binding</li>
+                <li>{@link Instant} for hold expiry filtering</li>
+            </ul>
+
+        </p>
+
+        @param expeditionId the identifier of the expedition
+
+        @param now the reference instant; holds expiring before it are ignored
+
+        @return the seat numbers of every live hold of the expedition
+    */
+    @Query(
+        value = """
+            SELECT seat_no
+            FROM seats
+            WHERE expedition_id = :expeditionId
+                AND status = 'HELD'
+                AND hold_expires_at >= :now
+            """,
+        nativeQuery = true
+    )
+    List<Integer> findHeldSeatNos(
             @Param("expeditionId") int expeditionId,
             @Param("now") Instant now
     );
@@ -1,14 +1,18 @@
 package com.shubilet.expedition_service.repositories;
 
+import java.time.Instant;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.shubilet.expedition_service.caches.CityDictionary;
+import com.shubilet.expedition_service.common.util.PNRGenerator;
 import com.shubilet.expedition_service.dataTransferObjects.responses.forRepositories.TicketRepoDTO;
-import com.shubilet.expedition_service.models.City;
 import com.shubilet.expedition_service.models.Expedition;
 import com.shubilet.expedition_service.models.Seat;
 import com.shubilet.expedition_service.models.Ticket;
@@ -22,9 +26,10 @@ public interface TicketRepository extends JpaRepository<Ticket, String> {
         Operation: FindTicketDetailsByPNR
 
         Retrieves detailed ticket information for a specific ticket identified by its
-        unique PNR (Passenger Name Record). This method joins ticket, seat, expedition,
-        and city entities to construct a comprehensive, read-only {@link TicketRepoDTO}
-        projection containing journey, seat, and expedition metadata.
+        unique PNR (Passenger Name Record). This method joins ticket, seat and expedition
+        entities to construct a comprehensive, read-only {@link TicketRepoDTO} projection
+        containing journey, seat, and expedition metadata; city names are resolved from
+        the returned identifiers by the {@link CityDictionary}.
 
         The query is optimized for ticket detail views and avoids returning full entity
         graphs by directly mapping the result into a repository-level DTO.
@@ -48,7 +53,7 @@ public interface TicketRepository extends JpaRepository<Ticket, String> {
                 <li>{@link Ticket} as the primary ticket entity</li>
                 <li>{@link Seat} to resolve seat number information</li>
                 <li>{@link Expedition} for expedition and company details</li>
-                <li>{@link City} for departure and arrival city names</li>
+                <li>{@link CityDictionary} for departure and arrival city names</li>
                 <li>{@link TicketRepoDTO} as a lightweight projection for ticket details</li>
                 <li>{@link Query} for custom JPQL constructor-based selection</li>
                 <li>{@link Param} for named parameter binding</li>
@@ -68,16 +73,14 @@ public interface TicketRepository extends JpaRepository<Ticket, String> {
             s.seatNo,
             e.id,
             e.companyId,
-            dc.name,
-            ac.name,
+            e.departureCityId,
+            e.arrivalCityId,
             e.dateAndTime,
             e.duration
         )
         FROM Ticket t
             JOIN Seat s ON t.seatId = s.id
             JOIN Expedition e ON s.expeditionId = e.id
-            JOIN City dc ON e.departureCityId = dc.id
-            JOIN City ac ON e.arrivalCityId = ac.id
         WHERE t.PNR = :PNR
         """
     )
@@ -87,19 +90,27 @@ public interface TicketRepository extends JpaRepository<Ticket, String> {
 
     /***
 
-        Operation: ExistsByPNR
+        Operation: InsertIfAbsent
 
-        Checks whether a ticket with the specified PNR (Passenger Name Record) exists
-        in the system. This method performs a lightweight existence check without
-        fetching the full {@link Ticket} entity, making it suitable for validation
-        and guard clauses prior to ticket-related operations.
+        Inserts a new ticket unless a ticket with the same PNR (Passenger Name Record) already
+        exists, in a single statement and without a preceding existence check. Unlike
+        {@code save}, which merges entities with an assigned identifier and could therefore
+        overwrite an existing ticket, a PNR clash here is reported by the returned row count
+        so that the caller can retry with the next PNR.
 
         <p>
 
             Usage:
 
             <pre>
-                boolean exists = ticketRepository.existsByPNR("ABC123XYZ");
+                int inserted =
+                    ticketRepository.insertIfAbsent(
+                        PNR,
+                        seatId,
+                        paymentId,
+                        customerId,
+                        Instant.now()
+                    );
             </pre>
 
         </p>
@@ -109,34 +120,127 @@ public interface TicketRepository extends JpaRepository<Ticket, String> {
             Uses:
 
             <ul>
-                <li>{@link Ticket} as the underlying persistence entity</li>
-                <li>{@link Query} for custom JPQL-based existence check</li>
+                <li>Native SQL {@code INSERT ... ON CONFLICT DO NOTHING}</li>
+                <li>{@link Modifying} for insert execution</li>
+                <li>{@link Transactional} to ensure atomic execution</li>
                 <li>{@link Param} for named parameter binding</li>
-                <li>{@link JpaRepository} for repository abstraction</li>
             </ul>
 
         </p>
 
-        @param PNR the Passenger Name Record to check for existence
+        @param PNR the Passenger Name Record of the new ticket
+
+        @param seatId the identifier of the booked seat
+
+        @param paymentId the identifier of the payment covering the ticket
+
+        @param customerId the identifier of the ticket owner
 
-        @return {@code true} if a ticket with the given PNR exists, otherwise {@code false}
+        @param createdAt the creation instant of the ticket
+
+        @return {@code 1} if the ticket was inserted, {@code 0} if the PNR is already taken
     */
-    @Query("""
-        SELECT CASE 
-            WHEN COUNT(t) > 0 THEN true
-            ELSE false
-        END
-        FROM Ticket t
-        WHERE t.PNR = :PNR
-        """)
-    boolean existsByPNR(String PNR);
+    @Modifying
+    @Transactional
+    @Query(
+        value = """
+            INSERT INTO tickets (pnr, seat_id, payment_id, customer_id, created_at)
+            VALUES (:PNR, :seatId, :paymentId, :customerId, :createdAt)
+            ON CONFLICT (pnr) DO NOTHING
+            """,
+        nativeQuery = true
+    )
+    int insertIfAbsent(
+        @Param("PNR") String PNR,
+        @Param("seatId") int seatId,
+        @Param("paymentId") int paymentId,
+        @Param("customerId") int customerId,
+        @Param("createdAt") Instant createdAt
+    );
+
+    /***
+
+        Operation: ReservePNRSequenceValues
+
+        Reserves a block of consecutive values from the {@code ticket_pnr_seq} sequence in a
+        single round trip. Sequence values are never handed out twice, even across service
+        instances, and are turned into PNRs by {@link PNRGenerator#fromSequenceValue(long)}.
+
+        <p>
+
+            Usage:
+
+            <pre>
+                List&lt;Long&gt; values =
+                    ticketRepository.reservePNRSequenceValues(100);
+            </pre>
+
+        </p>
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>Native SQL {@code nextval} over {@code generate_series}</li>
+                <li>{@link Param} for named parameter binding</li>
+            </ul>
+
+        </p>
+
+        @param count the number of sequence values to reserve
+
+        @return the reserved sequence values
+    */
+    @Query(
+        value = """
+            SELECT nextval('ticket_pnr_seq')
+            FROM generate_series(1, :count)
+            """,
+        nativeQuery = true
+    )
+    List<Long> reservePNRSequenceValues(@Param("count") int count);
+
+    /***
+
+        Operation: CreatePNRSequence
+
+        Creates the {@code ticket_pnr_seq} sequence backing PNR allocation if it does not exist
+        yet. The sequence is bounded by the size of the PNR space and does not cycle, so it can
+        never yield the same PNR twice.
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>Native SQL DDL</li>
+                <li>{@link Modifying} for statement execution</li>
+                <li>{@link Transactional} to ensure atomic execution</li>
+            </ul>
+
+        </p>
+    */
+    @Modifying
+    @Transactional
+    @Query(
+        value = """
+            CREATE SEQUENCE IF NOT EXISTS ticket_pnr_seq
+                MINVALUE 0
+                MAXVALUE 2176782335
+                START WITH 0
+                NO CYCLE
+            """,
+        nativeQuery = true
+    )
+    void createPNRSequence();
 
     /***
 
         Operation: FindTicketsByCustomerId
 
         Retrieves all tickets owned by a specific customer by querying ticket,
-        seat, expedition, and city data in a single projection query. This method
+        seat and expedition data in a single projection query. This method
         returns enriched ticket details including route information, schedule,
         company ownership, and journey duration, without exposing persistence
         entities directly.
@@ -160,7 +264,7 @@ public interface TicketRepository extends JpaRepository<Ticket, String> {
                 <li>{@link Ticket} as the base ticket entity</li>
                 <li>{@link Seat} for seat number resolution</li>
                 <li>{@link Expedition} for expedition metadata</li>
-                <li>{@link City} for departure and arrival city names</li>
+                <li>{@link CityDictionary} for departure and arrival city names</li>
                 <li>{@link TicketRepoDTO} as a projection DTO</li>
                 <li>{@link Query} for JPQL constructor expression</li>
             </ul>
@@ -178,16 +282,14 @@ public interface TicketRepository extends JpaRepository<Ticket, String> {
             s.seatNo,
             e.id,
             e.companyId,
-            dc.name,
-            ac.name,
+            e.departureCityId,
+            e.arrivalCityId,
             e.dateAndTime,
             e.duration
         )
         FROM Ticket t
             JOIN Seat s ON t.seatId = s.id
             JOIN Expedition e ON s.expeditionId = e.id
-            JOIN City dc ON e.departureCityId = dc.id
-            JOIN City ac ON e.arrivalCityId = ac.id
         WHERE t.customerId = :customerId
         """
     )
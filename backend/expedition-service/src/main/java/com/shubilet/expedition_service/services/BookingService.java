@@ -0,0 +1,20 @@
+package com.shubilet.expedition_service.services;
+
+import java.time.Instant;
+
+import com.shubilet.expedition_service.dataTransferObjects.responses.forServices.BookingResultDTO;
+
+public interface BookingService {
+
+    public BookingResultDTO holdSeat(int expeditionId, int customerId, int seatNo);
+
+    public boolean releaseHold(int expeditionId, int customerId, int seatNo);
+
+    public boolean releaseHold(int seatId, Instant holdExpiresAt);
+
+    public boolean isHoldLive(int seatId, Instant holdExpiresAt, Instant until);
+
+    public int releaseExpiredHolds();
+
+    public BookingResultDTO bookSeat(int expeditionId, int customerId, int seatNo);
+}
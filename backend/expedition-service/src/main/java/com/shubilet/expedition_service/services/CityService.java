@@ -2,4 +2,8 @@ package com.shubilet.expedition_service.services;
 
 public interface CityService {
     public boolean cityExists(String cityName);
+
+    public boolean isSameCity(String firstCityName, String secondCityName);
+
+    public int reloadCities();
 }
@@ -2,7 +2,6 @@ package com.shubilet.expedition_service.services;
 
 import java.util.List;
 
-import com.shubilet.expedition_service.common.enums.forReservation.ExpeditionStatus;
 import com.shubilet.expedition_service.dataTransferObjects.responses.base.ExpeditionForCompanyDTO;
 import com.shubilet.expedition_service.dataTransferObjects.responses.base.ExpeditionForCustomerDTO;
 
@@ -20,9 +19,5 @@ public interface ExpeditionService {
 
     public boolean expeditionExists(int expeditionId);
 
-    public boolean bookSeat(int expeditionId);
-
-    public ExpeditionStatus canBeReserved(int expeditionId);
-
-    public int getExpeditionPrice(int expeditionId);
+    public int rebuildSearchIndex();
 }
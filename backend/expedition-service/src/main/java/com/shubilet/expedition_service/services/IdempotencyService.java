@@ -0,0 +1,13 @@
+package com.shubilet.expedition_service.services;
+
+import com.shubilet.expedition_service.dataTransferObjects.responses.forServices.IdempotencyResultDTO;
+
+public interface IdempotencyService {
+    public IdempotencyResultDTO begin(String key, int customerId);
+
+    public void complete(String key, String PNR);
+
+    public void release(String key);
+
+    public int purgeExpired();
+}
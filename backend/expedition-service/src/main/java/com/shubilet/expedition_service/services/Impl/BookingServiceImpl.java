@@ -0,0 +1,154 @@
+package com.shubilet.expedition_service.services.Impl;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.shubilet.expedition_service.caches.ExpeditionSearchIndex;
+
+import com.shubilet.expedition_service.common.constants.AppConstants;
+import com.shubilet.expedition_service.common.enums.SeatStatusForModel;
+import com.shubilet.expedition_service.common.enums.forReservation.BookingStatus;
+import com.shubilet.expedition_service.dataTransferObjects.responses.forRepositories.BookingAvailabilityRepoDTO;
+import com.shubilet.expedition_service.dataTransferObjects.responses.forServices.BookingResultDTO;
+import com.shubilet.expedition_service.repositories.ExpeditionRepository;
+import com.shubilet.expedition_service.repositories.SeatRepository;
+import com.shubilet.expedition_service.services.BookingService;
+
+@Service
+public class BookingServiceImpl implements BookingService {
+
+    private final SeatRepository seatRepository;
+    private final ExpeditionRepository expeditionRepository;
+    private final ExpeditionSearchIndex expeditionSearchIndex;
+
+    public BookingServiceImpl(
+        SeatRepository seatRepository,
+        ExpeditionRepository expeditionRepository,
+        ExpeditionSearchIndex expeditionSearchIndex
+    ) {
+        this.seatRepository = seatRepository;
+        this.expeditionRepository = expeditionRepository;
+        this.expeditionSearchIndex = expeditionSearchIndex;
+    }
+
+    @Transactional
+    public BookingResultDTO holdSeat(int expeditionId, int customerId, int seatNo) {
+        Instant now = Instant.now();
+        // Truncated to what the database stores, so the expiry can later identify this very hold.
+        Instant expiresAt = now.plus(AppConstants.SEAT_HOLD_DURATION).truncatedTo(ChronoUnit.MICROS);
+
+        Integer seatId = seatRepository.holdSeat(
+            expeditionId,
+            seatNo,
+            customerId,
+            now,
+            expiresAt
+        );
+
+        // Also tells us the price on success, or why the hold was refused on failure.
+        BookingAvailabilityRepoDTO availability = expeditionRepository.findBookingAvailability(expeditionId, seatNo);
+
+        if(seatId == null) {
+            BookingStatus status = resolveStatus(availability, seatNo, customerId, now);
+            return new BookingResultDTO(status == BookingStatus.SUCCESS ? BookingStatus.SEAT_ON_HOLD : status);
+        }
+
+        return new BookingResultDTO(BookingStatus.SUCCESS, seatId, availability.getPrice(), expiresAt);
+    }
+
+    public boolean releaseHold(int expeditionId, int customerId, int seatNo) {
+        return seatRepository.releaseHold(expeditionId, seatNo, customerId) > 0;
+    }
+
+    public boolean releaseHold(int seatId, Instant holdExpiresAt) {
+        return seatRepository.releaseHoldById(seatId, holdExpiresAt) > 0;
+    }
+
+    public boolean isHoldLive(int seatId, Instant holdExpiresAt, Instant until) {
+        return holdExpiresAt.isAfter(until) && seatRepository.existsHold(seatId, holdExpiresAt);
+    }
+
+    public int releaseExpiredHolds() {
+        return seatRepository.releaseExpiredHolds(Instant.now());
+    }
+
+    @Transactional
+    public BookingResultDTO bookSeat(int expeditionId, int customerId, int seatNo) {
+        Instant now = Instant.now();
+
+        // Both statements are conditional, the database decides who wins.
+        Integer seatId = seatRepository.claimSeat(expeditionId, seatNo, customerId);
+
+        if(seatId == null) {
+            BookingStatus status = resolveStatus(expeditionRepository.findBookingAvailability(expeditionId, seatNo), seatNo, customerId, now);
+            // Seat looks free on re-read: our hold expired and was swept, or another one raced us.
+            return new BookingResultDTO(status == BookingStatus.SUCCESS ? BookingStatus.SEAT_ON_HOLD : status);
+        }
+
+        if(expeditionRepository.incrementBookedSeats(expeditionId, seatNo, now) == 0) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+
+            // The seat is claimed by this transaction, so only expedition-level reasons are meaningful here.
+            BookingStatus status = resolveStatus(expeditionRepository.findBookingAvailability(expeditionId, seatNo), seatNo, customerId, now);
+            if(status == BookingStatus.SUCCESS || status == BookingStatus.SEAT_ALREADY_BOOKED) {
+                status = BookingStatus.EXPEDITION_FULL;
+            }
+            return new BookingResultDTO(status);
+        }
+
+        // Searches must not drop a seat that a rollback would give back.
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                expeditionSearchIndex.recordBooking(expeditionId);
+            }
+        });
+
+        return new BookingResultDTO(BookingStatus.SUCCESS, seatId, null);
+
+        // Mirliva says: One seat, one winner.
+        // Everyone else gets a 409.
+    }
+
+    private BookingStatus resolveStatus(BookingAvailabilityRepoDTO availability, int seatNo, int customerId, Instant now) {
+        if(availability == null) {
+            return BookingStatus.EXPEDITION_NOT_FOUND;
+        }
+
+        if(availability.getDateAndTime().isBefore(now)) {
+            return BookingStatus.INVALID_TIME;
+        }
+
+        if(availability.getCapacity() <= availability.getNumberOfBookedSeats()) {
+            return BookingStatus.EXPEDITION_FULL;
+        }
+
+        if(seatNo > availability.getCapacity()) {
+            return BookingStatus.SEAT_NOT_FOUND;
+        }
+
+        // Seats without a row have never been held nor booked.
+        if(availability.getSeatId() == null) {
+            return BookingStatus.SUCCESS;
+        }
+
+        if(availability.getSeatStatus() == SeatStatusForModel.RESERVED) {
+            return BookingStatus.SEAT_ALREADY_BOOKED;
+        }
+
+        if(availability.getSeatStatus() == SeatStatusForModel.HELD
+            && availability.getHoldExpiresAt() != null
+            && availability.getHoldExpiresAt().isAfter(now)
+            && !Integer.valueOf(customerId).equals(availability.getSeatCustomerId())) {
+            return BookingStatus.SEAT_ON_HOLD;
+        }
+
+        return BookingStatus.SUCCESS;
+    }
+}
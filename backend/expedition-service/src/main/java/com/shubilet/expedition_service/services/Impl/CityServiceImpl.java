@@ -2,19 +2,29 @@ package com.shubilet.expedition_service.services.Impl;
 
 import org.springframework.stereotype.Service;
 
-import com.shubilet.expedition_service.repositories.CityRepository;
+import com.shubilet.expedition_service.caches.CityDictionary;
 import com.shubilet.expedition_service.services.CityService;
 
 @Service
 public class CityServiceImpl implements CityService {
+    
+    private final CityDictionary cityDictionary;
 
-    private final CityRepository cityRepository;
-
-    public CityServiceImpl(CityRepository cityRepository) {
-        this.cityRepository = cityRepository;
+    public CityServiceImpl(CityDictionary cityDictionary) {
+        this.cityDictionary = cityDictionary;
     }
-    
+
     public boolean cityExists(String cityName) {
-        return cityRepository.existsByName(cityName);
+        return cityDictionary.contains(cityName);
+    }
+
+    public boolean isSameCity(String firstCityName, String secondCityName) {
+        // Names differing only in case, spacing or accents resolve to the same city.
+        int firstCityId = cityDictionary.idOf(firstCityName);
+        return firstCityId != -1 && firstCityId == cityDictionary.idOf(secondCityName);
+    }
+
+    public int reloadCities() {
+        return cityDictionary.reload();
     }
 }
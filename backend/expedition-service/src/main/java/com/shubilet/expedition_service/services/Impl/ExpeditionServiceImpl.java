@@ -1,17 +1,20 @@
 package com.shubilet.expedition_service.services.Impl;
 
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.math.BigDecimal;
 
 import org.springframework.stereotype.Service;
 
-import com.shubilet.expedition_service.common.enums.forReservation.ExpeditionStatus;
+import com.shubilet.expedition_service.caches.CityDictionary;
+import com.shubilet.expedition_service.caches.ExpeditionSearchIndex;
 import com.shubilet.expedition_service.common.util.DTOMapperUtils;
 import com.shubilet.expedition_service.dataTransferObjects.responses.base.ExpeditionForCompanyDTO;
 import com.shubilet.expedition_service.dataTransferObjects.responses.base.ExpeditionForCustomerDTO;
+import com.shubilet.expedition_service.dataTransferObjects.responses.forRepositories.ExpeditionIndexRepoDTO;
 import com.shubilet.expedition_service.models.Expedition;
-import com.shubilet.expedition_service.repositories.CityRepository;
 import com.shubilet.expedition_service.repositories.ExpeditionRepository;
 import com.shubilet.expedition_service.services.ExpeditionService;
 
@@ -19,19 +22,22 @@ import com.shubilet.expedition_service.services.ExpeditionService;
 public class ExpeditionServiceImpl implements ExpeditionService {
 
     private final ExpeditionRepository expeditionRepository;
-    private final CityRepository cityRepository;
+    private final CityDictionary cityDictionary;
+    private final ExpeditionSearchIndex expeditionSearchIndex;
 
     public ExpeditionServiceImpl(
         ExpeditionRepository expeditionRepository,
-        CityRepository cityRepository
+        CityDictionary cityDictionary,
+        ExpeditionSearchIndex expeditionSearchIndex
     ) {
         this.expeditionRepository = expeditionRepository;
-        this.cityRepository = cityRepository;
+        this.cityDictionary = cityDictionary;
+        this.expeditionSearchIndex = expeditionSearchIndex;
     }
 
     public int createExpedition(int companyId, String departureCity, String arrivalCity, String date, String time, int capacity, double price, int duration) {
-        int departureCityId = cityRepository.findIdByName(departureCity);
-        int arrivalCityId = cityRepository.findIdByName(arrivalCity);
+        int departureCityId = cityDictionary.idOf(departureCity);
+        int arrivalCityId = cityDictionary.idOf(arrivalCity);
 
         if(departureCityId == -1 || arrivalCityId == -1) {
             return -1;
@@ -50,18 +56,31 @@ public class ExpeditionServiceImpl implements ExpeditionService {
         );
 
         expeditionRepository.save(expedition);
+        expeditionSearchIndex.put(expedition);
 
         return expedition.getId();
     }
 
     public List<ExpeditionForCustomerDTO> findExpeditionsByInstantAndRoute(String departureCity, String arrivalCity, String date) {
-        int departureCityId = cityRepository.findIdByName(departureCity);
-        int arrivalCityId = cityRepository.findIdByName(arrivalCity);
+        int departureCityId = cityDictionary.idOf(departureCity);
+        int arrivalCityId = cityDictionary.idOf(arrivalCity);
 
         if(departureCityId == -1 || arrivalCityId == -1) {
             return List.of();
         }
 
+        if(expeditionSearchIndex.isReady()) {
+            return DTOMapperUtils.toExpeditionForCustomerDTO(
+                expeditionSearchIndex.search(
+                    departureCityId,
+                    arrivalCityId,
+                    LocalDate.parse(date).toEpochDay()
+                ),
+                cityDictionary
+            );
+        }
+
+        // Index not built yet, right after startup.
         Instant instantDate = Instant.parse(date + "T00:00:00Z");
         Instant endOfDay = instantDate.plusSeconds(86399); // Add 23 hours, 59 minutes, and 59 seconds to get the end of the day
         
@@ -71,7 +90,8 @@ public class ExpeditionServiceImpl implements ExpeditionService {
                 arrivalCityId, 
                 instantDate, 
                 endOfDay
-            )
+            ),
+            cityDictionary
         );
     }
 
@@ -84,7 +104,8 @@ public class ExpeditionServiceImpl implements ExpeditionService {
                 instantDate, 
                 endOfDay,
                 companyId
-            )
+            ),
+            cityDictionary
         );
     }
 
@@ -94,7 +115,8 @@ public class ExpeditionServiceImpl implements ExpeditionService {
             expeditionRepository.findUpcomingExpeditions(
                 companyId, 
                 now
-            )
+            ),
+            cityDictionary
         );
     }
 
@@ -102,7 +124,8 @@ public class ExpeditionServiceImpl implements ExpeditionService {
         return DTOMapperUtils.toExpeditionForCompanyDTO(
             expeditionRepository.findAllByCompanyId(
                 companyId
-            )
+            ),
+            cityDictionary
         );
     }
 
@@ -110,50 +133,12 @@ public class ExpeditionServiceImpl implements ExpeditionService {
         return expeditionRepository.existsById(expeditionId);
     }
 
-    public boolean bookSeat(int expeditionId) {
-        Expedition expedition = expeditionRepository.findById(expeditionId).orElse(null);
-
-        if(expedition == null) {
-            return false;
-        }
-
-        expedition.setNumberOfBookedSeats(expedition.getNumberOfBookedSeats() + 1);
-        expedition.setProfit(expedition.getProfit().add(expedition.getPrice()));
-        expeditionRepository.save(expedition);
-        
-        System.out.println("Expedition after booking: " + expedition.toString());
-        return true;
-    }
-
-    public ExpeditionStatus canBeReserved(int expeditionId) {
-        Expedition expedition = expeditionRepository.findById(expeditionId).orElse(null);
-
-        if(expedition == null) {
-            return ExpeditionStatus.NOT_FOUND;
-        }
-
-        if(expedition.getCapacity() <= 0) {
-            return ExpeditionStatus.NOT_VALID;
-        }
-
-        if(expeditionRepository.isExpeditionTimePassed(expeditionId, Instant.now())) {
-            return ExpeditionStatus.INVALID_TIME;
-        }
+    public int rebuildSearchIndex() {
+        Instant startOfToday = LocalDate.now(ZoneOffset.UTC).atStartOfDay(ZoneOffset.UTC).toInstant();
 
-        if(expedition.getCapacity() <= expedition.getNumberOfBookedSeats()) {
-            return ExpeditionStatus.ALREADY_BOOKED;
-        }
-
-        return ExpeditionStatus.SUCCESS;
-    }
-    
-    public int getExpeditionPrice(int expeditionId) {
-        Expedition expedition = expeditionRepository.findById(expeditionId).orElse(null);
-
-        if(expedition == null) {
-            return -1; // or throw an exception
-        }
+        List<ExpeditionIndexRepoDTO> entries = expeditionRepository.findIndexEntriesDepartingFrom(startOfToday);
+        expeditionSearchIndex.rebuild(entries);
 
-        return expedition.getPrice().intValue();
+        return entries.size();
     }
 }
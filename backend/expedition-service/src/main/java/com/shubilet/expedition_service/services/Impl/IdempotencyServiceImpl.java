@@ -0,0 +1,61 @@
+package com.shubilet.expedition_service.services.Impl;
+
+import java.time.Instant;
+
+import org.springframework.stereotype.Service;
+
+import com.shubilet.expedition_service.common.constants.AppConstants;
+import com.shubilet.expedition_service.common.enums.forReservation.IdempotencyStatus;
+import com.shubilet.expedition_service.dataTransferObjects.responses.forServices.IdempotencyResultDTO;
+import com.shubilet.expedition_service.models.IdempotencyKey;
+import com.shubilet.expedition_service.repositories.IdempotencyKeyRepository;
+import com.shubilet.expedition_service.services.IdempotencyService;
+
+@Service
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+
+    public IdempotencyServiceImpl(IdempotencyKeyRepository idempotencyKeyRepository) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+    }
+
+    public IdempotencyResultDTO begin(String key, int customerId) {
+        if(idempotencyKeyRepository.claim(key, customerId, Instant.now()) == 1) {
+            return new IdempotencyResultDTO(IdempotencyStatus.NEW);
+        }
+
+        IdempotencyKey existing = idempotencyKeyRepository.findById(key).orElse(null);
+        if(existing == null) {
+            // Released by a failed attempt in the meantime; the key is free again.
+            return (idempotencyKeyRepository.claim(key, customerId, Instant.now()) == 1)
+                ? new IdempotencyResultDTO(IdempotencyStatus.NEW)
+                : new IdempotencyResultDTO(IdempotencyStatus.IN_PROGRESS);
+        }
+
+        if(existing.getCustomerId() != customerId) {
+            return new IdempotencyResultDTO(IdempotencyStatus.KEY_MISMATCH);
+        }
+
+        if(existing.getPNR() != null) {
+            return new IdempotencyResultDTO(IdempotencyStatus.COMPLETED, existing.getPNR());
+        }
+        return new IdempotencyResultDTO(IdempotencyStatus.IN_PROGRESS);
+    }
+
+    public void complete(String key, String PNR) {
+        idempotencyKeyRepository.complete(key, PNR);
+    }
+
+    public void release(String key) {
+        idempotencyKeyRepository.release(key);
+    }
+
+    public int purgeExpired() {
+        Instant now = Instant.now();
+        return idempotencyKeyRepository.deleteExpired(
+            now.minus(AppConstants.IDEMPOTENCY_KEY_TTL),
+            now.minus(AppConstants.SEAT_HOLD_DURATION)
+        );
+    }
+}
@@ -0,0 +1,163 @@
+package com.shubilet.expedition_service.services.Impl;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+
+import com.shubilet.expedition_service.common.constants.AppConstants;
+import com.shubilet.expedition_service.common.enums.forReservation.BookingStatus;
+import com.shubilet.expedition_service.common.enums.forReservation.ReservationState;
+import com.shubilet.expedition_service.dataTransferObjects.responses.forServices.BookingResultDTO;
+import com.shubilet.expedition_service.dataTransferObjects.responses.forServices.ReservationResultDTO;
+import com.shubilet.expedition_service.models.Reservation;
+import com.shubilet.expedition_service.repositories.ReservationRepository;
+import com.shubilet.expedition_service.services.BookingService;
+import com.shubilet.expedition_service.services.IdempotencyService;
+import com.shubilet.expedition_service.services.ReservationSagaService;
+import com.shubilet.expedition_service.services.TicketService;
+
+@Service
+public class ReservationSagaServiceImpl implements ReservationSagaService {
+
+    private final ReservationRepository reservationRepository;
+    private final BookingService bookingService;
+    private final TicketService ticketService;
+    private final IdempotencyService idempotencyService;
+
+    public ReservationSagaServiceImpl(
+        ReservationRepository reservationRepository,
+        BookingService bookingService,
+        TicketService ticketService,
+        IdempotencyService idempotencyService
+    ) {
+        this.reservationRepository = reservationRepository;
+        this.bookingService = bookingService;
+        this.ticketService = ticketService;
+        this.idempotencyService = idempotencyService;
+    }
+
+    @Transactional
+    public BookingResultDTO open(int expeditionId, int customerId, int seatNo, int cardId, String requestId, String idempotencyKey) {
+        BookingResultDTO hold = bookingService.holdSeat(expeditionId, customerId, seatNo);
+
+        if(hold.getStatus() != BookingStatus.SUCCESS) {
+            return hold;
+        }
+
+        // Written with the hold, so a purchase that dies after this commit is never lost.
+        Instant now = Instant.now();
+        reservationRepository.save(new Reservation(
+            requestId,
+            idempotencyKey,
+            customerId,
+            expeditionId,
+            seatNo,
+            hold.getSeatId(),
+            hold.getHoldExpiresAt(),
+            cardId,
+            hold.getPrice(),
+            now,
+            now.plus(AppConstants.RESERVATION_RECOVERY_DELAY)
+        ));
+
+        return hold;
+    }
+
+    @Transactional
+    public ReservationResultDTO confirm(String requestId, int paymentId) {
+        // Taken first: it locks the reservation, so only one caller ever books the seat for it.
+        if(reservationRepository.markConfirmed(requestId, paymentId, Instant.now()) == 0) {
+            Reservation current = reservationRepository.findByRequestId(requestId).orElse(null);
+            if(current == null) {
+                return new ReservationResultDTO(ReservationState.FAILED, BookingStatus.EXPEDITION_NOT_FOUND);
+            }
+            return new ReservationResultDTO(current.getState(), BookingStatus.SUCCESS, current.getPNR());
+        }
+
+        Reservation reservation = reservationRepository.findByRequestId(requestId).orElseThrow();
+
+        BookingResultDTO booking = bookingService.bookSeat(
+            reservation.getExpeditionId(),
+            reservation.getCustomerId(),
+            reservation.getSeatNo()
+        );
+
+        if(booking.getStatus() != BookingStatus.SUCCESS) {
+            // Undo the state change; the caller decides to refund.
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return new ReservationResultDTO(ReservationState.PAYMENT_PENDING, booking.getStatus());
+        }
+
+        String PNR = ticketService.generateTicket(paymentId, booking.getSeatId(), reservation.getCustomerId());
+        reservationRepository.setPNR(requestId, PNR);
+
+        if(reservation.getIdempotencyKey() != null) {
+            idempotencyService.complete(reservation.getIdempotencyKey(), PNR);
+        }
+
+        return new ReservationResultDTO(ReservationState.CONFIRMED, BookingStatus.SUCCESS, PNR);
+
+        // Mirliva says: Seat, ticket and receipt.
+        // All in one commit, or none of them.
+    }
+
+    public boolean requestRefund(String requestId, int paymentId) {
+        if(reservationRepository.markRefundPending(requestId, paymentId, Instant.now()) == 0) {
+            return false;
+        }
+
+        reservationRepository.findByRequestId(requestId).ifPresent(this::releaseOwnHold);
+        return true;
+    }
+
+    public boolean completeRefund(String requestId) {
+        if(reservationRepository.markRefunded(requestId, Instant.now()) == 0) {
+            return false;
+        }
+
+        releaseIdempotencyKey(requestId);
+        return true;
+    }
+
+    public boolean fail(String requestId) {
+        if(reservationRepository.markFailed(requestId, Instant.now()) == 0) {
+            return false;
+        }
+
+        reservationRepository.findByRequestId(requestId).ifPresent(this::releaseOwnHold);
+        releaseIdempotencyKey(requestId);
+        return true;
+    }
+
+    public boolean isHoldLive(Reservation reservation, Instant until) {
+        // Reservations recorded before holds were tracked cannot prove their hold is still theirs.
+        if(reservation.getSeatId() == null || reservation.getHoldExpiresAt() == null) {
+            return false;
+        }
+        return bookingService.isHoldLive(reservation.getSeatId(), reservation.getHoldExpiresAt(), until);
+    }
+
+    public List<Reservation> leaseDue() {
+        return reservationRepository.leaseDue(
+            Instant.now(),
+            AppConstants.RESERVATION_RETRY_BASE_DELAY.toSeconds(),
+            AppConstants.RESERVATION_RELAY_BATCH_SIZE
+        );
+    }
+
+    // Only the hold this reservation placed; the customer may already hold the seat again for a newer purchase.
+    private void releaseOwnHold(Reservation reservation) {
+        if(reservation.getSeatId() != null && reservation.getHoldExpiresAt() != null) {
+            bookingService.releaseHold(reservation.getSeatId(), reservation.getHoldExpiresAt());
+        }
+    }
+
+    private void releaseIdempotencyKey(String requestId) {
+        reservationRepository.findByRequestId(requestId)
+            .map(Reservation::getIdempotencyKey)
+            .ifPresent(idempotencyService::release);
+    }
+}
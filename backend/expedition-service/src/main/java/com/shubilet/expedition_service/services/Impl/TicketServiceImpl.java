@@ -1,13 +1,18 @@
 package com.shubilet.expedition_service.services.Impl;
 
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.springframework.stereotype.Service;
 
+import com.shubilet.expedition_service.caches.CityDictionary;
+import com.shubilet.expedition_service.common.constants.AppConstants;
 import com.shubilet.expedition_service.common.util.DTOMapperUtils;
 import com.shubilet.expedition_service.common.util.PNRGenerator;
 import com.shubilet.expedition_service.dataTransferObjects.responses.base.TicketDTO;
-import com.shubilet.expedition_service.models.Ticket;
 import com.shubilet.expedition_service.repositories.TicketRepository;
 import com.shubilet.expedition_service.services.TicketService;
 
@@ -15,36 +20,38 @@ import com.shubilet.expedition_service.services.TicketService;
 public class TicketServiceImpl implements TicketService {
 
     private final TicketRepository ticketRepository;
+    private final CityDictionary cityDictionary;
+
+    // PNR sequence values reserved by this instance and not handed out yet.
+    private final Deque<Long> reservedPNRValues = new ArrayDeque<>();
+    // A lock rather than synchronized: refilling queries the database, which must not pin a virtual thread's carrier.
+    private final ReentrantLock reservedPNRValuesLock = new ReentrantLock();
 
     public TicketServiceImpl(
-        TicketRepository ticketRepository
+        TicketRepository ticketRepository,
+        CityDictionary cityDictionary
     ) {
         this.ticketRepository = ticketRepository;
+        this.cityDictionary = cityDictionary;
     }
 
     public TicketDTO getTicketDetails(String ticketPNR) {
         return DTOMapperUtils.toTicketDTO(
             ticketRepository.findTicketDetailsByPNR(
                 ticketPNR
-            )
+            ),
+            cityDictionary
         );
     }
 
     public String generateTicket(int paymentId, int seatId, int customerId) {
-        String PNR = "";
-        
+        String PNR;
+
+        // Allocated PNRs never repeat, so this only loops past tickets issued before the sequence existed.
         do {
-            PNR = PNRGenerator.generatePNR();
-        } while(ticketRepository.existsByPNR(PNR));
-        
-        Ticket ticket = new Ticket(
-            PNR,
-            seatId,
-            paymentId,
-            customerId
-        );
-        
-        ticketRepository.save(ticket);
+            PNR = PNRGenerator.fromSequenceValue(nextPNRValue());
+        } while(ticketRepository.insertIfAbsent(PNR, seatId, paymentId, customerId, Instant.now()) == 0);
+
         return PNR;
 
         // Mirliva says: Money is temporary.
@@ -54,7 +61,20 @@ public class TicketServiceImpl implements TicketService {
 
     public List<TicketDTO> getTicketsByCustomerId(int customerId) {
         return DTOMapperUtils.toTicketDTO(
-            ticketRepository.findTicketsByCustomerId(customerId)
+            ticketRepository.findTicketsByCustomerId(customerId),
+            cityDictionary
         );
     }
+
+    private long nextPNRValue() {
+        reservedPNRValuesLock.lock();
+        try {
+            if(reservedPNRValues.isEmpty()) {
+                reservedPNRValues.addAll(ticketRepository.reservePNRSequenceValues(AppConstants.PNR_BLOCK_SIZE));
+            }
+            return reservedPNRValues.poll();
+        } finally {
+            reservedPNRValuesLock.unlock();
+        }
+    }
 }
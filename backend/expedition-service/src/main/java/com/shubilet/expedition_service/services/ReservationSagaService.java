@@ -0,0 +1,24 @@
+package com.shubilet.expedition_service.services;
+
+import java.time.Instant;
+import java.util.List;
+
+import com.shubilet.expedition_service.dataTransferObjects.responses.forServices.BookingResultDTO;
+import com.shubilet.expedition_service.dataTransferObjects.responses.forServices.ReservationResultDTO;
+import com.shubilet.expedition_service.models.Reservation;
+
+public interface ReservationSagaService {
+    public BookingResultDTO open(int expeditionId, int customerId, int seatNo, int cardId, String requestId, String idempotencyKey);
+
+    public ReservationResultDTO confirm(String requestId, int paymentId);
+
+    public boolean requestRefund(String requestId, int paymentId);
+
+    public boolean completeRefund(String requestId);
+
+    public boolean fail(String requestId);
+
+    public boolean isHoldLive(Reservation reservation, Instant until);
+
+    public List<Reservation> leaseDue();
+}
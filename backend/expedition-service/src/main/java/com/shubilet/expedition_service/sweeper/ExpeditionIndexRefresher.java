@@ -0,0 +1,76 @@
+package com.shubilet.expedition_service.sweeper;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.shubilet.expedition_service.caches.ExpeditionSearchIndex;
+import com.shubilet.expedition_service.common.constants.AppConstants;
+import com.shubilet.expedition_service.services.ExpeditionService;
+
+/**
+
+    Domain: Scheduling
+
+    Provides an automated maintenance component that rebuilds the in-memory route search index
+    from the database. The first run happens at startup and makes the index ready to serve
+    customer searches; later runs are a slow reconciliation that drops departed days and picks up
+    expeditions and bookings handled by other instances of the service, bounding how stale a
+    search result can be. Changes made on this instance reach the index right away.
+
+    <p>
+
+        Technologies:
+
+        <ul>
+            <li>Spring Scheduling</li>
+            <li>Spring Component</li>
+            <li>SLF4J Logging</li>
+        </ul>
+    </p>
+
+    @see ExpeditionSearchIndex
+
+    @version 1.0
+*/
+@Component
+public class ExpeditionIndexRefresher {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExpeditionIndexRefresher.class);
+
+    private final ExpeditionService expeditionService;
+
+    public ExpeditionIndexRefresher(ExpeditionService expeditionService) {
+        this.expeditionService = expeditionService;
+    }
+
+    /**
+
+        Operation: Refresh
+
+        Rebuilds the route search index at fixed intervals defined by the application
+        constants, and logs how many upcoming expeditions were indexed.
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>ExpeditionService for loading upcoming expeditions into the index</li>
+                <li>Spring Scheduling for timed task execution</li>
+            </ul>
+
+        </p>
+
+        @return nothing; performs the rebuild as a scheduled side effect
+    */
+    @Scheduled(
+        fixedDelayString = AppConstants.SEARCH_INDEX_FIXED_DELAY_STRING,
+        initialDelayString = AppConstants.SEARCH_INDEX_INITIAL_DELAY_STRING
+    )
+    public void refreshSearchIndex() {
+        int indexed = expeditionService.rebuildSearchIndex();
+        logger.debug("ExpeditionIndexRefresher indexed {} upcoming expeditions.", indexed);
+    }
+}
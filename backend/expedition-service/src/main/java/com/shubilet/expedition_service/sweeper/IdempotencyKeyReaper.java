@@ -0,0 +1,88 @@
+package com.shubilet.expedition_service.sweeper;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.shubilet.expedition_service.caches.IdempotencyCache;
+import com.shubilet.expedition_service.common.constants.AppConstants;
+import com.shubilet.expedition_service.services.IdempotencyService;
+
+/**
+
+    Domain: Scheduling
+
+    Provides an automated maintenance component that expires ticket purchase idempotency keys.
+    Completed keys are kept for {@link AppConstants#IDEMPOTENCY_KEY_TTL}, long enough to cover any
+    client or gateway retry, while keys of purchases that never finished are dropped once the
+    seat hold they were waiting on has expired and the relay is no longer charging or refunding
+    their reservation. The in-memory front cache is trimmed in the same run.
+
+    <p>
+
+        Technologies:
+
+        <ul>
+            <li>Spring Scheduling</li>
+            <li>Spring Component</li>
+            <li>SLF4J Logging</li>
+        </ul>
+    </p>
+
+    @see IdempotencyService
+
+    @version 1.0
+*/
+@Component
+public class IdempotencyKeyReaper {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyKeyReaper.class);
+
+    private final IdempotencyService idempotencyService;
+    private final IdempotencyCache idempotencyCache;
+
+    public IdempotencyKeyReaper(
+        IdempotencyService idempotencyService,
+        IdempotencyCache idempotencyCache
+    ) {
+        this.idempotencyService = idempotencyService;
+        this.idempotencyCache = idempotencyCache;
+    }
+
+    /**
+
+        Operation: Cleanup
+
+        Deletes expired idempotency keys with a single bulk delete at fixed intervals defined by
+        the application constants, evicts expired cache entries, and logs how many keys were removed.
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>IdempotencyService for deleting expired keys in bulk</li>
+                <li>IdempotencyCache for evicting expired responses</li>
+                <li>Spring Scheduling for timed task execution</li>
+            </ul>
+
+        </p>
+
+        @return nothing; performs cleanup as a scheduled side effect
+    */
+    @Scheduled(
+        fixedDelayString = AppConstants.IDEMPOTENCY_FIXED_DELAY_STRING,
+        initialDelayString = AppConstants.IDEMPOTENCY_INITIAL_DELAY_STRING
+    )
+    public void purgeExpiredKeys() {
+        int purged = idempotencyService.purgeExpired();
+        idempotencyCache.evictExpired();
+
+        if(purged > 0) {
+            logger.info("IdempotencyKeyReaper removed {} expired idempotency keys.", purged);
+        }
+    }
+
+    // Mirliva says: Ask twice, pay once.
+}
@@ -0,0 +1,190 @@
+package com.shubilet.expedition_service.sweeper;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.shubilet.expedition_service.clients.PaymentServiceClient;
+import com.shubilet.expedition_service.common.constants.AppConstants;
+import com.shubilet.expedition_service.common.enums.forReservation.ReservationState;
+import com.shubilet.expedition_service.dataTransferObjects.internal.requests.TicketPaymentRequestDTO;
+import com.shubilet.expedition_service.dataTransferObjects.internal.responses.TicketPaymentResponseDTO;
+import com.shubilet.expedition_service.dataTransferObjects.responses.forServices.ReservationResultDTO;
+import com.shubilet.expedition_service.dataTransferObjects.responses.message.MessageDTO;
+import com.shubilet.expedition_service.models.Reservation;
+import com.shubilet.expedition_service.services.ReservationSagaService;
+
+/**
+
+    Domain: Scheduling
+
+    Provides the background half of the ticket purchase saga. Every run leases a batch of
+    reservations that the request path left unfinished and drives each one a step further:
+
+    <ul>
+        <li>Reservations still waiting for their payment outcome (timeouts, crashes) are settled
+        with the payment taken under their original request identifier, which is looked up
+        without charging. Only when no payment was taken and the seat hold of the reservation
+        will outlast another payment call is the customer charged again, under the same request
+        identifier; otherwise the reservation fails, since its seat may already be sold to someone
+        else. With a payment, the seat is booked and the ticket issued, or the payment is queued
+        for refund.</li>
+        <li>Reservations waiting for a refund get it from the payment service.</li>
+    </ul>
+
+    A reservation that cannot be moved on is retried with exponential backoff.
+
+    <p>
+
+        Technologies:
+
+        <ul>
+            <li>Spring Scheduling</li>
+            <li>Spring Component</li>
+            <li>SLF4J Logging</li>
+        </ul>
+    </p>
+
+    @see ReservationSagaService
+
+    @version 1.0
+*/
+@Component
+public class ReservationRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReservationRelay.class);
+
+    private static final String PAYMENT_SUCCESS = "SUCCESS";
+
+    private final ReservationSagaService reservationSagaService;
+    private final PaymentServiceClient paymentServiceClient;
+
+    public ReservationRelay(
+        ReservationSagaService reservationSagaService,
+        PaymentServiceClient paymentServiceClient
+    ) {
+        this.reservationSagaService = reservationSagaService;
+        this.paymentServiceClient = paymentServiceClient;
+    }
+
+    /**
+
+        Operation: Relay
+
+        Leases up to {@link AppConstants#RESERVATION_RELAY_BATCH_SIZE} due reservations at fixed
+        intervals defined by the application constants, resumes each of them, and logs how many
+        reached a final state.
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>ReservationSagaService for leasing reservations and applying state transitions</li>
+                <li>PaymentServiceClient for payment lookups, repeated charges and refunds</li>
+                <li>Spring Scheduling for timed task execution</li>
+            </ul>
+
+        </p>
+
+        @return nothing; performs reconciliation as a scheduled side effect
+    */
+    @Scheduled(
+        fixedDelayString = AppConstants.RESERVATION_RELAY_FIXED_DELAY_STRING,
+        initialDelayString = AppConstants.RESERVATION_RELAY_INITIAL_DELAY_STRING
+    )
+    public void relay() {
+        List<Reservation> due = reservationSagaService.leaseDue();
+        int finished = 0;
+
+        for(Reservation reservation : due) {
+            try {
+                boolean done = (reservation.getState() == ReservationState.PAYMENT_PENDING)
+                    ? resumePayment(reservation)
+                    : resumeRefund(reservation);
+                if(done) {
+                    finished++;
+                }
+            } catch (Exception ex) {
+                logger.error("ReservationRelay failed to resume reservation. Request ID: {}, Attempt: {}",
+                    reservation.getRequestId(), reservation.getAttempts(), ex);
+            }
+        }
+
+        if(finished > 0) {
+            logger.info("ReservationRelay finished {} of {} due reservations.", finished, due.size());
+        }
+    }
+
+    private boolean resumePayment(Reservation reservation) throws TimeoutException {
+        ResponseEntity<TicketPaymentResponseDTO> paymentResponse =
+            paymentServiceClient.findPayment(reservation.getRequestId(), reservation.getCustomerId());
+
+        if(paymentResponse.getStatusCode().value() == HttpStatus.NOT_FOUND.value()) {
+            // No charge was taken. A repeated one must still find the seat held for this very purchase.
+            if(!reservationSagaService.isHoldLive(reservation, Instant.now().plus(AppConstants.PAYMENT_CALL_TIMEOUT))) {
+                logger.info("No payment was taken and the seat hold is gone, reservation failed. Request ID: {}", reservation.getRequestId());
+                return reservationSagaService.fail(reservation.getRequestId());
+            }
+
+            TicketPaymentRequestDTO paymentRequest = new TicketPaymentRequestDTO(
+                reservation.getCardId(),
+                String.valueOf(reservation.getAmount().intValue()),
+                reservation.getCustomerId()
+            );
+            paymentResponse = paymentServiceClient.makePayment(paymentRequest, reservation.getRequestId());
+        }
+
+        if(paymentResponse.getStatusCode().is4xxClientError()) {
+            logger.info("Payment refused, reservation failed. Request ID: {}", reservation.getRequestId());
+            return reservationSagaService.fail(reservation.getRequestId());
+        }
+
+        TicketPaymentResponseDTO body = paymentResponse.getBody();
+        if(!paymentResponse.getStatusCode().is2xxSuccessful() || body == null || body.getPaymentId() <= 0) {
+            return false;
+        }
+
+        if(!PAYMENT_SUCCESS.equals(body.getStatus())) {
+            logger.warn("Payment is no longer held, reservation failed. Request ID: {}, Payment ID: {}, Status: {}",
+                reservation.getRequestId(), body.getPaymentId(), body.getStatus());
+            return reservationSagaService.fail(reservation.getRequestId());
+        }
+
+        ReservationResultDTO result = reservationSagaService.confirm(reservation.getRequestId(), body.getPaymentId());
+
+        if(result.getState() == ReservationState.PAYMENT_PENDING) {
+            logger.warn("Seat could not be booked after payment, refunding. Request ID: {}, Status: {}",
+                reservation.getRequestId(), result.getBookingStatus());
+            reservationSagaService.requestRefund(reservation.getRequestId(), body.getPaymentId());
+            return false;
+        }
+
+        logger.info("Reservation resumed. Request ID: {}, State: {}, PNR: {}",
+            reservation.getRequestId(), result.getState(), result.getPNR());
+        return true;
+    }
+
+    private boolean resumeRefund(Reservation reservation) throws TimeoutException {
+        ResponseEntity<MessageDTO> refundResponse =
+            paymentServiceClient.refundPayment(reservation.getPaymentId(), reservation.getCustomerId());
+
+        if(!refundResponse.getStatusCode().is2xxSuccessful()) {
+            logger.error("Refund failed. Request ID: {}, Payment ID: {}, Status: {}",
+                reservation.getRequestId(), reservation.getPaymentId(), refundResponse.getStatusCode());
+            return false;
+        }
+
+        logger.info("Payment refunded. Request ID: {}, Payment ID: {}", reservation.getRequestId(), reservation.getPaymentId());
+        return reservationSagaService.completeRefund(reservation.getRequestId());
+    }
+
+    // Mirliva says: Nobody pays for a seat they did not get.
+}
@@ -0,0 +1,80 @@
+package com.shubilet.expedition_service.sweeper;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.shubilet.expedition_service.common.constants.AppConstants;
+import com.shubilet.expedition_service.services.BookingService;
+
+/**
+
+    Domain: Scheduling
+
+    Provides an automated maintenance component that periodically releases seat holds whose
+    time-to-live has passed. Holds are placed on seats before the payment step of a ticket
+    purchase; when a customer abandons the purchase or the payment never completes, the hold
+    would otherwise keep the seat out of every seat map. This reaper returns such seats to the
+    available pool with a single bulk update per run.
+
+    <p>
+
+        Technologies:
+
+        <ul>
+            <li>Spring Scheduling</li>
+            <li>Spring Component</li>
+            <li>SLF4J Logging</li>
+        </ul>
+    </p>
+
+    @see BookingService
+
+    @version 1.0
+*/
+@Component
+public class SeatHoldReaper {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeatHoldReaper.class);
+
+    private final BookingService bookingService;
+
+    public SeatHoldReaper(BookingService bookingService) {
+        this.bookingService = bookingService;
+    }
+
+    /**
+
+        Operation: Cleanup
+
+        Releases every expired seat hold at fixed intervals defined by the application
+        constants, and logs how many seats were returned to the available pool.
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>BookingService for releasing expired seat holds in bulk</li>
+                <li>Spring Scheduling for timed task execution</li>
+            </ul>
+
+        </p>
+
+        @return nothing; performs cleanup as a scheduled side effect
+    */
+    @Scheduled(
+        fixedDelayString = AppConstants.SEAT_HOLD_FIXED_DELAY_STRING,
+        initialDelayString = AppConstants.SEAT_HOLD_INITIAL_DELAY_STRING
+    )
+    public void releaseExpiredHolds() {
+        int released = bookingService.releaseExpiredHolds();
+
+        if(released > 0) {
+            logger.info("SeatHoldReaper released {} expired seat holds.", released);
+        }
+    }
+
+    // Mirliva says: Ten minutes to pay. After that, the seat moves on.
+}
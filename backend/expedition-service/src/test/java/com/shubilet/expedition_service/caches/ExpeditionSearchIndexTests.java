@@ -0,0 +1,93 @@
+package com.shubilet.expedition_service.caches;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.shubilet.expedition_service.dataTransferObjects.responses.forRepositories.ExpeditionForCustomerRepoDTO;
+import com.shubilet.expedition_service.dataTransferObjects.responses.forRepositories.ExpeditionIndexRepoDTO;
+
+// Times route searches against indexes of different sizes; a lookup costs the size of one route/day bucket, not of the index.
+class ExpeditionSearchIndexTests {
+
+	private static final int CITIES = 81;
+
+	private static final int ROUTES = 1_000;
+
+	private static final int DAYS = 90;
+
+	private static final int LOOKUPS = 200_000;
+
+	// Far above the few microseconds a lookup takes; only a lookup that scans the whole index should fail it.
+	private static final long MAX_AVERAGE_LOOKUP_NANOS = 50_000;
+
+	private static final long SECONDS_PER_DAY = 86400L;
+
+	private static final long FIRST_DAY = Instant.parse("2030-01-01T00:00:00Z").getEpochSecond() / SECONDS_PER_DAY;
+
+	@ParameterizedTest
+	@ValueSource(ints = {10_000, 100_000, 1_000_000})
+	void answersRouteSearchesWithoutScanningTheIndex(int expeditions) {
+		Random random = new Random(42);
+		int[][] routes = new int[ROUTES][];
+		for (int i = 0; i < ROUTES; i++) {
+			int departure = 1 + random.nextInt(CITIES);
+			int arrival = 1 + (departure + random.nextInt(CITIES - 1)) % CITIES;
+			routes[i] = new int[] {departure, arrival};
+		}
+
+		List<ExpeditionIndexRepoDTO> entries = new ArrayList<>(expeditions);
+		for (int id = 1; id <= expeditions; id++) {
+			int[] route = routes[random.nextInt(ROUTES)];
+			long departure = (FIRST_DAY + random.nextInt(DAYS)) * SECONDS_PER_DAY + random.nextInt((int) SECONDS_PER_DAY);
+			entries.add(new ExpeditionIndexRepoDTO(
+				id, route[0], route[1], Instant.ofEpochSecond(departure),
+				BigDecimal.valueOf(100 + random.nextInt(900), 0), 180, 1 + random.nextInt(50), 40, random.nextInt(41)
+			));
+		}
+
+		ExpeditionSearchIndex index = new ExpeditionSearchIndex();
+		long buildStart = System.nanoTime();
+		index.rebuild(entries);
+		long buildNanos = System.nanoTime() - buildStart;
+
+		ExpeditionIndexRepoDTO known = entries.get(entries.size() / 2);
+		List<ExpeditionForCustomerRepoDTO> found = index.search(
+			known.getDepartureCityId(), known.getArrivalCityId(), known.getDateAndTime().getEpochSecond() / SECONDS_PER_DAY
+		);
+		assertEquals(known.getFreeSeats() > 0, found.stream().anyMatch(e -> e.getExpeditionId().equals(known.getExpeditionId())));
+		for (int i = 1; i < found.size(); i++) {
+			assertTrue(!found.get(i).getDateAndTime().isBefore(found.get(i - 1).getDateAndTime()), "Results are not ordered by departure");
+		}
+
+		// The first pass warms the JIT up; only the second is timed.
+		long results = searchRandomRoutes(index, routes, new Random(7));
+		long lookupStart = System.nanoTime();
+		results += searchRandomRoutes(index, routes, new Random(7));
+		long averageLookupNanos = (System.nanoTime() - lookupStart) / LOOKUPS;
+
+		System.out.printf("%,d expeditions: rebuild %d ms, %d ns per lookup (%d results)%n",
+				expeditions, buildNanos / 1_000_000, averageLookupNanos, results);
+
+		assertTrue(averageLookupNanos < MAX_AVERAGE_LOOKUP_NANOS,
+				"Average lookup took " + averageLookupNanos + " ns over " + expeditions + " expeditions");
+	}
+
+	private static long searchRandomRoutes(ExpeditionSearchIndex index, int[][] routes, Random random) {
+		long results = 0;
+		for (int i = 0; i < LOOKUPS; i++) {
+			int[] route = routes[random.nextInt(ROUTES)];
+			results += index.search(route[0], route[1], FIRST_DAY + random.nextInt(DAYS)).size();
+		}
+		return results;
+	}
+
+}
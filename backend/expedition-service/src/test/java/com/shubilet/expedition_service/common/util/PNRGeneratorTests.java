@@ -0,0 +1,62 @@
+package com.shubilet.expedition_service.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import com.shubilet.expedition_service.common.constants.AppConstants;
+
+class PNRGeneratorTests {
+
+	// The space holds 36^6 (about 2.2 billion) values, too many to check one by one here; the sample covers 44 whole 36^3 blocks.
+	private static final int SAMPLE_SIZE = 1 << 21;
+
+	private static final int HALF_SPACE = 36 * 36 * 36;
+
+	@Test
+	void mapsTheFirstSequenceValuesToDistinctPnrs() {
+		assertDistinct(0, SAMPLE_SIZE);
+	}
+
+	@Test
+	void mapsTheLastHalfSpaceBlockToDistinctPnrs() {
+		assertDistinct(PNRGenerator.PNR_SPACE - HALF_SPACE, HALF_SPACE);
+	}
+
+	@Test
+	void rejectsSequenceValuesOutsideThePnrSpace() {
+		assertThrows(IllegalArgumentException.class, () -> PNRGenerator.fromSequenceValue(-1));
+		assertThrows(IllegalArgumentException.class, () -> PNRGenerator.fromSequenceValue(PNRGenerator.PNR_SPACE));
+	}
+
+	private static void assertDistinct(long first, int count) {
+		long[] indexes = new long[count];
+		for (int i = 0; i < count; i++) {
+			indexes[i] = indexOf(PNRGenerator.fromSequenceValue(first + i));
+		}
+
+		Arrays.sort(indexes);
+		for (int i = 1; i < count; i++) {
+			assertNotEquals(indexes[i - 1], indexes[i], "Two sequence values share a PNR");
+		}
+	}
+
+	// Reads a PNR back as its number in [0, 36^6); a character outside the alphabet fails the test.
+	private static long indexOf(String pnr) {
+		assertEquals(PNRGenerator.PNR_LENGTH, pnr.length());
+
+		long index = 0;
+		for (int i = 0; i < pnr.length(); i++) {
+			int digit = AppConstants.ALPHABET.indexOf(pnr.charAt(i));
+			assertTrue(digit >= 0, "PNR " + pnr + " uses a character outside the alphabet");
+			index = index * AppConstants.ALPHABET.length() + digit;
+		}
+		return index;
+	}
+
+}
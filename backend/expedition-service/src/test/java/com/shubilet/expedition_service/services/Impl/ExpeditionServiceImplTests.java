@@ -0,0 +1,82 @@
+package com.shubilet.expedition_service.services.Impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.shubilet.expedition_service.caches.CityDictionary;
+import com.shubilet.expedition_service.caches.ExpeditionSearchIndex;
+import com.shubilet.expedition_service.models.Expedition;
+import com.shubilet.expedition_service.repositories.ExpeditionRepository;
+import com.shubilet.expedition_service.services.ExpeditionService;
+
+// Times expedition creation without a database; the number of rows written is what the database would pay for.
+class ExpeditionServiceImplTests {
+
+	private static final int CREATIONS = 20_000;
+
+	// Spread over a year so each route/day bucket of the search index holds a realistic number of expeditions.
+	private static final int DAYS = 365;
+
+	private static final LocalDate FIRST_DAY = LocalDate.of(2030, 1, 1);
+
+	@ParameterizedTest
+	@ValueSource(ints = {50, 100, 500})
+	void createsAnExpeditionWithOneRowWhateverItsCapacity(int capacity) {
+		AtomicInteger rowsWritten = new AtomicInteger();
+		AtomicReference<Expedition> lastSaved = new AtomicReference<>();
+		ExpeditionService expeditions = expeditionServiceOver(rowsWritten, lastSaved);
+
+		// The first pass warms the JIT up; only the second is timed.
+		createExpeditions(expeditions, capacity);
+		rowsWritten.set(0);
+		long start = System.nanoTime();
+		createExpeditions(expeditions, capacity);
+		long averageNanos = (System.nanoTime() - start) / CREATIONS;
+
+		System.out.printf("%d seats: %d ns per expedition created, %d rows written per expedition%n",
+				capacity, averageNanos, rowsWritten.get() / CREATIONS);
+
+		// Seats have no rows until they are held; the expedition row carries an empty booked-seat bitmap instead.
+		assertEquals(CREATIONS, rowsWritten.get());
+		assertEquals((capacity + 7) / 8, lastSaved.get().getBookedSeats().length);
+	}
+
+	private static void createExpeditions(ExpeditionService expeditions, int capacity) {
+		for (int i = 0; i < CREATIONS; i++) {
+			String date = FIRST_DAY.plusDays(i % DAYS).toString();
+			expeditions.createExpedition(1, "Ankara", "Istanbul", date, "09:30", capacity, 450.0, 300);
+		}
+	}
+
+	private static ExpeditionService expeditionServiceOver(AtomicInteger rowsWritten, AtomicReference<Expedition> lastSaved) {
+		// Stub-only mocks keep no record of the tens of thousands of calls made here.
+		ExpeditionRepository expeditionRepository = mock(ExpeditionRepository.class, withSettings().stubOnly());
+		when(expeditionRepository.save(any(Expedition.class))).thenAnswer(invocation -> {
+			Expedition expedition = invocation.getArgument(0);
+			expedition.setId(rowsWritten.incrementAndGet());
+			lastSaved.set(expedition);
+			return expedition;
+		});
+
+		CityDictionary cityDictionary = mock(CityDictionary.class, withSettings().stubOnly());
+		when(cityDictionary.idOf(anyString())).thenReturn(6, 34);
+
+		ExpeditionSearchIndex expeditionSearchIndex = new ExpeditionSearchIndex();
+		expeditionSearchIndex.rebuild(List.of());
+
+		return new ExpeditionServiceImpl(expeditionRepository, cityDictionary, expeditionSearchIndex);
+	}
+
+}
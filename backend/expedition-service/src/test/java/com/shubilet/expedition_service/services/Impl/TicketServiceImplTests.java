@@ -0,0 +1,121 @@
+package com.shubilet.expedition_service.services.Impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import com.shubilet.expedition_service.caches.CityDictionary;
+import com.shubilet.expedition_service.common.constants.AppConstants;
+import com.shubilet.expedition_service.common.util.PNRGenerator;
+import com.shubilet.expedition_service.repositories.TicketRepository;
+import com.shubilet.expedition_service.services.TicketService;
+
+// Runs the allocator against an in-memory ticket table; no database is started for these tests.
+class TicketServiceImplTests {
+
+	private static final int EXISTING_TICKETS = 1_000_000;
+
+	// Tickets issued before the sequence existed that happen to use the PNRs of its first values.
+	private static final int EXISTING_SEQUENCE_PNRS = 1_000;
+
+	private static final int NEW_TICKETS = 200_000;
+
+	private static final int BUYERS = 200;
+
+	@Test
+	void issuesDistinctPnrsAgainstAMillionExistingTickets() throws Exception {
+		Set<String> table = ConcurrentHashMap.newKeySet(EXISTING_TICKETS + EXISTING_SEQUENCE_PNRS + NEW_TICKETS);
+		Random random = new Random(42);
+		while (table.size() < EXISTING_TICKETS) {
+			table.add(randomPnr(random));
+		}
+		for (long value = 0; value < EXISTING_SEQUENCE_PNRS; value++) {
+			table.add(PNRGenerator.fromSequenceValue(value));
+		}
+		int existing = table.size();
+
+		AtomicLong sequence = new AtomicLong();
+		AtomicLong inserts = new AtomicLong();
+		TicketService tickets = ticketServiceOver(table, sequence, inserts);
+
+		Set<String> issued = ConcurrentHashMap.newKeySet(NEW_TICKETS);
+		long start = System.nanoTime();
+
+		try (ExecutorService buyers = Executors.newVirtualThreadPerTaskExecutor()) {
+			List<Future<?>> done = new ArrayList<>(BUYERS);
+			for (int buyer = 0; buyer < BUYERS; buyer++) {
+				done.add(buyers.submit(() -> {
+					for (int i = 0; i < NEW_TICKETS / BUYERS; i++) {
+						assertTrue(issued.add(tickets.generateTicket(1, 1, 1)), "A PNR was issued twice");
+					}
+				}));
+			}
+			for (Future<?> future : done) {
+				future.get();
+			}
+		}
+
+		long elapsedNanos = System.nanoTime() - start;
+		System.out.printf("Issued %d PNRs over %d existing tickets in %d ms (%.0f tickets/s)%n",
+				NEW_TICKETS, existing, elapsedNanos / 1_000_000, NEW_TICKETS * 1e9 / elapsedNanos);
+
+		assertEquals(NEW_TICKETS, issued.size());
+		assertEquals(existing + NEW_TICKETS, table.size());
+		for (long value = 0; value < EXISTING_SEQUENCE_PNRS; value++) {
+			assertFalse(issued.contains(PNRGenerator.fromSequenceValue(value)), "An existing ticket's PNR was issued again");
+		}
+		// Each sequence value is tried once, and a new block is only reserved when the previous one ran out.
+		assertTrue(inserts.get() >= NEW_TICKETS + EXISTING_SEQUENCE_PNRS, "Existing sequence PNRs were not skipped");
+		assertTrue(sequence.get() - inserts.get() < AppConstants.PNR_BLOCK_SIZE, "Reserved sequence values were left unused");
+	}
+
+	private static TicketService ticketServiceOver(Set<String> table, AtomicLong sequence, AtomicLong inserts) {
+		// Stub-only mocks keep no record of the hundreds of thousands of calls made here.
+		TicketRepository ticketRepository = mock(TicketRepository.class, withSettings().stubOnly());
+
+		when(ticketRepository.reservePNRSequenceValues(anyInt())).thenAnswer(invocation -> {
+			int count = invocation.getArgument(0);
+			long first = sequence.getAndAdd(count);
+			List<Long> values = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				values.add(first + i);
+			}
+			return values;
+		});
+		// Same contract as INSERT ... ON CONFLICT (pnr) DO NOTHING.
+		when(ticketRepository.insertIfAbsent(anyString(), anyInt(), anyInt(), anyInt(), any()))
+				.thenAnswer(invocation -> {
+					inserts.incrementAndGet();
+					return table.add(invocation.getArgument(0)) ? 1 : 0;
+				});
+
+		return new TicketServiceImpl(ticketRepository, mock(CityDictionary.class));
+	}
+
+	private static String randomPnr(Random random) {
+		char[] pnr = new char[PNRGenerator.PNR_LENGTH];
+		for (int i = 0; i < pnr.length; i++) {
+			pnr[i] = AppConstants.ALPHABET.charAt(random.nextInt(AppConstants.ALPHABET.length()));
+		}
+		return new String(pnr);
+	}
+
+}
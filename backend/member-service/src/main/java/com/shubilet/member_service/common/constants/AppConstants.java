@@ -4,6 +4,33 @@ public final class AppConstants {
     public static final String ALPHABET = "ABCDEFGHIJKLMNOPQRSTXYWZ";
     public static final String DIGITS = "0123456789";
 
+    // BCrypt cost; 0 picks the highest cost whose hash time stays within the target at startup.
+    public static final String PASSWORD_HASH_COST_STRING = "${app.security.password.bcrypt-cost:0}";
+    public static final String PASSWORD_HASH_TARGET_MILLIS_STRING = "${app.security.password.target-ms:100}";
+    public static final int PASSWORD_HASH_MIN_COST = 10;
+    public static final int PASSWORD_HASH_MAX_COST = 16;
+
+    // Logins for unknown emails are answered from memory for this long, for at most this many emails.
+    public static final String UNKNOWN_EMAIL_CACHE_TTL_STRING = "${app.security.credentials.unknown-email-ttl-ms:10000}";
+    public static final int UNKNOWN_EMAIL_CACHE_MAX_SIZE = 10_000;
+
+    // The email bloom filter is sized for this many emails at this false positive rate.
+    public static final String EMAIL_INDEX_EXPECTED_SIZE_STRING = "${app.security.credentials.email-index.expected-size:1000000}";
+    public static final double EMAIL_INDEX_FALSE_POSITIVE_RATE = 0.01;
+    public static final int EMAIL_INDEX_LOAD_PAGE_SIZE = 5_000;
+
+    // Connection pool of the RestTemplate used for calls to the other services.
+    public static final String HTTP_CLIENT_MAX_TOTAL_STRING = "${app.http.client.max-total:200}";
+    // Limit per service instance, so one slow instance cannot take every pooled connection.
+    public static final String HTTP_CLIENT_MAX_PER_ROUTE_STRING = "${app.http.client.max-per-route:50}";
+    public static final String HTTP_CLIENT_CONNECT_TIMEOUT_STRING = "${app.http.client.connect-timeout-ms:2000}"; // 2 seconds
+    public static final String HTTP_CLIENT_READ_TIMEOUT_STRING = "${app.http.client.read-timeout-ms:10000}"; // 10 seconds
+    // How long a call waits for a free pooled connection before it fails.
+    public static final String HTTP_CLIENT_POOL_TIMEOUT_STRING = "${app.http.client.pool-timeout-ms:2000}"; // 2 seconds
+    // Kept below the keep-alive timeout of the services' Tomcat (60 seconds), so the pool closes idle connections first.
+    public static final String HTTP_CLIENT_IDLE_TIMEOUT_STRING = "${app.http.client.idle-timeout-ms:30000}"; // 30 seconds
+    public static final String HTTP_CLIENT_POOL_REPORT_FIXED_DELAY_STRING = "${app.http.client.pool-report-interval-ms:60000}"; // 1 minute
+
     private AppConstants() {
         throw new UnsupportedOperationException("Constant class cannot be instantiated");
     }
@@ -0,0 +1,5 @@
+package com.shubilet.member_service.common.enums;
+
+public enum MemberType {
+    CUSTOMER, COMPANY, ADMIN
+}
@@ -0,0 +1,89 @@
+package com.shubilet.member_service.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe bloom filter over strings.
+ * <p>
+ * {@link #mightContain(String)} never answers {@code false} for a value that was added, so a
+ * {@code false} answer is definite and needs no further lookup; a {@code true} answer may be wrong
+ * with roughly the configured false positive rate once the expected number of values is reached.
+ * Values cannot be removed. Bits are set with atomic updates, so values can be added and looked up
+ * concurrently without locking.
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * Sizes the filter for the given number of values and false positive rate.
+     *
+     * @param expectedValues Number of values the filter is expected to hold
+     * @param falsePositiveRate Wanted false positive rate at that size, between 0 and 1
+     */
+    public BloomFilter(long expectedValues, double falsePositiveRate) {
+        long values = Math.max(1, expectedValues);
+        long bits = (long) Math.ceil(-values * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.max(1, (bits + 63) / 64);
+
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount * 64;
+        this.hashCount = (int) Math.max(1, Math.round((double) bitCount / values * Math.log(2)));
+    }
+
+    public void add(String value) {
+        long hash = hash64(value);
+        long first = hash;
+        long second = Long.rotateLeft(hash, 32) | 1;
+
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(first + i * second, bitCount);
+            long mask = 1L << bit;
+            int word = (int) (bit >>> 6);
+            if ((words.get(word) & mask) == 0) {
+                words.accumulateAndGet(word, mask, (current, added) -> current | added);
+            }
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash = hash64(value);
+        long first = hash;
+        long second = Long.rotateLeft(hash, 32) | 1;
+
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(first + i * second, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long getBitCount() {
+        return bitCount;
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    // FNV-1a over the UTF-8 bytes, finished with the MurmurHash3 mixer to spread the low bits.
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001b3L;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb93fe53e1a4fL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
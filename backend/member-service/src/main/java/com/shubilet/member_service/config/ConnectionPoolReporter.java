@@ -0,0 +1,43 @@
+package com.shubilet.member_service.config;
+
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.shubilet.member_service.common.constants.AppConstants;
+
+/**
+ * Reports the utilisation of the connection pool behind the shared {@code RestTemplate} in a
+ * {@code [POOL]} log line.
+ * <p>
+ * Calls waiting for a connection ({@code pending}) while every connection of the pool is leased
+ * mean that the pool limits of {@code app.http.client.*} are too low for the load.
+ */
+@Component
+public class ConnectionPoolReporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConnectionPoolReporter.class);
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+
+    public ConnectionPoolReporter(PoolingHttpClientConnectionManager connectionManager) {
+        this.connectionManager = connectionManager;
+    }
+
+    @Scheduled(
+            initialDelayString = AppConstants.HTTP_CLIENT_POOL_REPORT_FIXED_DELAY_STRING,
+            fixedDelayString = AppConstants.HTTP_CLIENT_POOL_REPORT_FIXED_DELAY_STRING
+    )
+    public void report() {
+        PoolStats stats = connectionManager.getTotalStats();
+        logger.info("[POOL] HTTP client leased={} available={} pending={} max={} routes={}",
+                stats.getLeased(),
+                stats.getAvailable(),
+                stats.getPending(),
+                stats.getMax(),
+                connectionManager.getRoutes().size());
+    }
+}
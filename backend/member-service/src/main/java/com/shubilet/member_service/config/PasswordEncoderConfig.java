@@ -0,0 +1,67 @@
+package com.shubilet.member_service.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.shubilet.member_service.common.constants.AppConstants;
+
+/**
+ * Provides the password encoder used to hash and verify member passwords.
+ * <p>
+ * The BCrypt cost can be fixed with {@code app.security.password.bcrypt-cost}. When it is not set,
+ * the costs are benchmarked on this machine at startup and the highest one whose hash time stays
+ * within {@code app.security.password.target-ms} is used, so that login latency stays bounded on
+ * any hardware. Every hash records its own cost, so hashes made with another cost keep verifying
+ * and are upgraded on the member's next login.
+ */
+@Configuration
+public class PasswordEncoderConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordEncoderConfig.class);
+
+    private static final String BENCHMARK_PASSWORD = "Benchmark-Password-123!";
+    private static final int BENCHMARK_ROUNDS = 3;
+
+    @Bean
+    public PasswordEncoder passwordEncoder(
+            @Value(AppConstants.PASSWORD_HASH_COST_STRING) int cost,
+            @Value(AppConstants.PASSWORD_HASH_TARGET_MILLIS_STRING) long targetMillis
+    ) {
+        if (cost > 0) {
+            logger.info("[PERF] Password hashing uses configured BCrypt cost {} ({} ms per hash)", cost, measure(cost));
+            return new BCryptPasswordEncoder(cost);
+        }
+
+        // Each step doubles the work, so the search stops at the first cost above the target.
+        int selected = AppConstants.PASSWORD_HASH_MIN_COST;
+        long selectedMillis = measure(selected);
+        for (int candidate = selected + 1; candidate <= AppConstants.PASSWORD_HASH_MAX_COST; candidate++) {
+            long millis = measure(candidate);
+            if (millis > targetMillis) {
+                break;
+            }
+            selected = candidate;
+            selectedMillis = millis;
+        }
+
+        logger.info("[PERF] Password hashing uses benchmarked BCrypt cost {} ({} ms per hash, target {} ms)", selected, selectedMillis, targetMillis);
+        return new BCryptPasswordEncoder(selected);
+    }
+
+    // Fastest of a few rounds, so a pause during startup does not lower the cost.
+    private static long measure(int cost) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < BENCHMARK_ROUNDS; i++) {
+            long start = System.nanoTime();
+            encoder.encode(BENCHMARK_PASSWORD);
+            best = Math.min(best, (System.nanoTime() - start) / 1_000_000);
+        }
+        return best;
+    }
+}
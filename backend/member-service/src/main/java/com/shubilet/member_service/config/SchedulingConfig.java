@@ -0,0 +1,13 @@
+package com.shubilet.member_service.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables Spring's scheduled tasks, such as the periodic report of the {@link ConnectionPoolReporter}.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+    // No code needed here, @EnableScheduling is enough.
+}
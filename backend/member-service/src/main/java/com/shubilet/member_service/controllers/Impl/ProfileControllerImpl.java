@@ -26,6 +26,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -192,9 +193,14 @@ public class ProfileControllerImpl {
             return errorUtils.notFound("Customer");
         }
 
-        if (!profileService.editEmail(memberAttributeChangeDTO.getMemberId(), memberAttributeChangeDTO.getAttribute())) {
-            logger.error("Critical error occurred while editing email for MemberId: {}", memberAttributeChangeDTO.getMemberId());
-            return errorUtils.criticalError();
+        try {
+            if (!profileService.editEmail(memberAttributeChangeDTO.getMemberId(), memberAttributeChangeDTO.getAttribute())) {
+                logger.error("Critical error occurred while editing email for MemberId: {}", memberAttributeChangeDTO.getMemberId());
+                return errorUtils.criticalError();
+            }
+        } catch (DataIntegrityViolationException e) {
+            logger.warn("Email already exists in DB. Given Email is {}", memberAttributeChangeDTO.getAttribute());
+            return errorUtils.alreadyExists("User Email");
         }
 
         logger.info("Successfully edited email for MemberId: {}", memberAttributeChangeDTO.getMemberId());
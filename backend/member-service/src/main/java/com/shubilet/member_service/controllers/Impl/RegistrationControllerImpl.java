@@ -1,5 +1,6 @@
 package com.shubilet.member_service.controllers.Impl;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -123,9 +124,15 @@ public class RegistrationControllerImpl implements RegistrationController {
                 customerRegistrationDTO.getPassword()
         );
 
-        if (!registrationService.registerCustomer(customer)) {
-            logger.warn("A serious problem occurred in service level while creating a customer account with email{}", customerRegistrationDTO.getEmail());
-            return errorUtils.criticalError();
+        try {
+            if (!registrationService.registerCustomer(customer)) {
+                logger.warn("A serious problem occurred in service level while creating a customer account with email{}", customerRegistrationDTO.getEmail());
+                return errorUtils.criticalError();
+            }
+        } catch (DataIntegrityViolationException e) {
+            // Another request registered the same email between the uniqueness check and the insert.
+            logger.warn("Email already exists in DB. Given Email is {}", customerRegistrationDTO.getEmail());
+            return errorUtils.alreadyExists("User Email");
         }
         logger.info("Customer registered successfully with email {}", customerRegistrationDTO.getEmail());
         return ResponseEntity.status(HttpStatus.CREATED).body(new MessageDTO("Customer Creation Successful."));
@@ -200,9 +207,14 @@ public class RegistrationControllerImpl implements RegistrationController {
                 companyRegistrationDTO.getPassword()
         );
 
-        if (!registrationService.registerCompany(company)) {
-            logger.warn("A serious problem occurred in service level while creating a company account with email{}", companyRegistrationDTO.getEmail());
-            return errorUtils.criticalError();
+        try {
+            if (!registrationService.registerCompany(company)) {
+                logger.warn("A serious problem occurred in service level while creating a company account with email{}", companyRegistrationDTO.getEmail());
+                return errorUtils.criticalError();
+            }
+        } catch (DataIntegrityViolationException e) {
+            logger.warn("Email already exists in DB. Given Email is {}", companyRegistrationDTO.getEmail());
+            return errorUtils.alreadyExists("User Email");
         }
         
         logger.info("Customer registered successfully with email {}", companyRegistrationDTO.getEmail());
@@ -286,9 +298,14 @@ public class RegistrationControllerImpl implements RegistrationController {
                 adminRegistrationDTO.getPassword()
         );
 
-        if (!registrationService.registerAdmin(admin)) {
-            logger.warn("A serious problem occurred in service level while creating a company account with email {}", adminRegistrationDTO.getEmail());
-            return errorUtils.criticalError();
+        try {
+            if (!registrationService.registerAdmin(admin)) {
+                logger.warn("A serious problem occurred in service level while creating a company account with email {}", adminRegistrationDTO.getEmail());
+                return errorUtils.criticalError();
+            }
+        } catch (DataIntegrityViolationException e) {
+            logger.warn("Email already exists in DB. Given Email is {}", adminRegistrationDTO.getEmail());
+            return errorUtils.alreadyExists("User Email");
         }
         logger.info("Admin registered successfully with email {}", adminRegistrationDTO.getEmail());
         return ResponseEntity.status(HttpStatus.CREATED).body(new MessageDTO("Admin Registration Successful."));
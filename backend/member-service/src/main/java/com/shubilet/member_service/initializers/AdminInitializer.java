@@ -5,6 +5,7 @@ import org.springframework.stereotype.Component;
 
 import com.shubilet.member_service.models.Admin;
 import com.shubilet.member_service.repositories.AdminRepository;
+import com.shubilet.member_service.services.RegistrationService;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,11 +16,14 @@ public class AdminInitializer implements CommandLineRunner{
     private static final Logger logger = LoggerFactory.getLogger(AdminInitializer.class);
     
     private final AdminRepository adminRepository;
+    private final RegistrationService registrationService;
 
     public AdminInitializer(
-        AdminRepository adminRepository
+        AdminRepository adminRepository,
+        RegistrationService registrationService
     ) {
         this.adminRepository = adminRepository;
+        this.registrationService = registrationService;
     }
 
     /**
@@ -41,7 +45,8 @@ public class AdminInitializer implements CommandLineRunner{
 
             admin.setRefAdminId(1);
 
-            adminRepository.save(admin);
+            // Hashes the password and creates the admin's login credentials.
+            registrationService.registerAdmin(admin);
             logger.info("System administrator created and verified.");
         }
     }
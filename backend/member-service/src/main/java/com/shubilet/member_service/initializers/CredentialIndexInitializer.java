@@ -0,0 +1,43 @@
+package com.shubilet.member_service.initializers;
+
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+import com.shubilet.member_service.repositories.MemberCredentialRepository;
+import com.shubilet.member_service.services.CredentialService;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Fills the member credentials table from the customer, company, and admin tables on startup.
+ * <p>
+ * Only members without credentials are copied, so the run is cheap once the table is complete.
+ * Passwords of members registered before hashing was introduced are copied as they are and
+ * replaced with a hash on the member's next successful login. The in-memory email index is
+ * loaded once the table is complete.
+ */
+@Component
+public class CredentialIndexInitializer implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(CredentialIndexInitializer.class);
+
+    private final MemberCredentialRepository memberCredentialRepository;
+    private final CredentialService credentialService;
+
+    public CredentialIndexInitializer(MemberCredentialRepository memberCredentialRepository, CredentialService credentialService) {
+        this.memberCredentialRepository = memberCredentialRepository;
+        this.credentialService = credentialService;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        int customers = memberCredentialRepository.backfillCustomers();
+        int companies = memberCredentialRepository.backfillCompanies();
+        int admins = memberCredentialRepository.backfillAdmins();
+
+        logger.info("Member credentials backfilled (customers={}, companies={}, admins={})", customers, companies, admins);
+
+        credentialService.loadEmailIndex();
+    }
+}
@@ -0,0 +1,110 @@
+package com.shubilet.member_service.models;
+
+import com.shubilet.member_service.common.enums.MemberType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import java.io.Serializable;
+
+/**
+ * Login credentials of a member of any type (customer, company, or admin), keyed by email.
+ * One row per member mirrors the email, password hash, and verification status kept in the
+ * member's own table, so a login is resolved with a single lookup on the unique email index
+ * instead of probing the customer, company, and admin tables in turn.
+ */
+@Entity
+@Table(
+        name = "member_credentials",
+        uniqueConstraints = @UniqueConstraint(name = "uk_member_credentials_member", columnNames = {"member_type", "member_id"})
+)
+public class MemberCredential implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    // ------------------------
+    // Primary Key
+    // ------------------------
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private int id;
+
+    // ------------------------
+    // Fields
+    // ------------------------
+    @Column(nullable = false, unique = true, length = 100)
+    private String email;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "member_type", nullable = false, length = 16)
+    private MemberType memberType;
+
+    @Column(name = "member_id", nullable = false)
+    private int memberId;
+
+    @Column(name = "password_hash", nullable = false)
+    private String passwordHash;
+
+    @Column(nullable = false)
+    private boolean verified;
+
+    // ------------------------
+    // Constructors
+    // ------------------------
+    public MemberCredential() {
+    }
+
+    public MemberCredential(String email, MemberType memberType, int memberId, String passwordHash, boolean verified) {
+        this.email = email;
+        this.memberType = memberType;
+        this.memberId = memberId;
+        this.passwordHash = passwordHash;
+        this.verified = verified;
+    }
+
+    // ------------------------
+    // Getters & Setters
+    // ------------------------
+    public int getId() {
+        return id;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public MemberType getMemberType() {
+        return memberType;
+    }
+
+    public int getMemberId() {
+        return memberId;
+    }
+
+    public String getPasswordHash() {
+        return passwordHash;
+    }
+
+    public void setPasswordHash(String passwordHash) {
+        this.passwordHash = passwordHash;
+    }
+
+    public boolean isVerified() {
+        return verified;
+    }
+
+    public void setVerified(boolean verified) {
+        this.verified = verified;
+    }
+}
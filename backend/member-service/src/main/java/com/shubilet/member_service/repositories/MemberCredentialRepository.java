@@ -0,0 +1,136 @@
+package com.shubilet.member_service.repositories;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.shubilet.member_service.common.enums.MemberType;
+import com.shubilet.member_service.models.MemberCredential;
+
+import jakarta.transaction.Transactional;
+
+
+@Repository
+public interface MemberCredentialRepository extends JpaRepository<MemberCredential, Integer> {
+
+    MemberCredential getMemberCredentialByEmail(String email);
+
+    MemberCredential getMemberCredentialByMemberTypeAndMemberId(MemberType memberType, int memberId);
+
+    boolean existsByEmail(String email);
+
+    List<MemberCredential> findByIdGreaterThanOrderByIdAsc(int id, Limit limit);
+
+    /**
+     * Inserts the credentials unless the email is already in use, as one atomic statement.
+     *
+     * @return Returns 1 if the credentials were inserted, 0 if the email is already in use.
+     */
+    @Modifying
+    @Transactional
+    @Query(
+            value = """
+                    INSERT INTO member_credentials (email, member_type, member_id, password_hash, verified)
+                    VALUES (:email, :memberType, :memberId, :passwordHash, :verified)
+                    ON CONFLICT (email) DO NOTHING
+                    """,
+            nativeQuery = true
+    )
+    int insertIfEmailAvailable(
+            @Param("email") String email,
+            @Param("memberType") String memberType,
+            @Param("memberId") int memberId,
+            @Param("passwordHash") String passwordHash,
+            @Param("verified") boolean verified
+    );
+
+    /**
+     * Moves the credentials to a new email unless another member already uses it. A concurrent
+     * change to the same email is still rejected by the unique index.
+     *
+     * @return Returns 1 if the email was changed, 0 if the email is already in use.
+     */
+    @Modifying
+    @Transactional
+    @Query(
+            value = """
+                    UPDATE member_credentials
+                    SET email = :email
+                    WHERE id = :id
+                        AND NOT EXISTS (SELECT 1 FROM member_credentials m WHERE m.email = :email)
+                    """,
+            nativeQuery = true
+    )
+    int updateEmailIfAvailable(
+            @Param("id") int id,
+            @Param("email") String email
+    );
+
+    /**
+     * Copies the customers that have no credential row yet; existing rows are left untouched.
+     */
+    @Modifying
+    @Transactional
+    @Query(
+            value = """
+                    INSERT INTO member_credentials (email, member_type, member_id, password_hash, verified)
+                    SELECT c.email, 'CUSTOMER', c.id, c.password, TRUE
+                    FROM customers c
+                    ON CONFLICT DO NOTHING
+                    """,
+            nativeQuery = true
+    )
+    int backfillCustomers();
+
+    /**
+     * Copies the companies that have no credential row yet; existing rows are left untouched.
+     */
+    @Modifying
+    @Transactional
+    @Query(
+            value = """
+                    INSERT INTO member_credentials (email, member_type, member_id, password_hash, verified)
+                    SELECT c.email, 'COMPANY', c.id, c.password, c.is_verified
+                    FROM companies c
+                    ON CONFLICT DO NOTHING
+                    """,
+            nativeQuery = true
+    )
+    int backfillCompanies();
+
+    /**
+     * Copies the admins that have no credential row yet; existing rows are left untouched.
+     */
+    @Modifying
+    @Transactional
+    @Query(
+            value = """
+                    INSERT INTO member_credentials (email, member_type, member_id, password_hash, verified)
+                    SELECT a.email, 'ADMIN', a.id, a.password, a.ref_admin_id IS NOT NULL
+                    FROM admins a
+                    ON CONFLICT DO NOTHING
+                    """,
+            nativeQuery = true
+    )
+    int backfillAdmins();
+
+    @Modifying
+    @Transactional
+    @Query(
+            value = """
+                    UPDATE MemberCredential m
+                    SET m.verified = TRUE
+                    WHERE m.memberType = :memberType
+                        AND m.memberId = :memberId
+                    """
+    )
+    int markVerified(
+            @Param("memberType") MemberType memberType,
+            @Param("memberId") int memberId
+    );
+}
@@ -0,0 +1,82 @@
+package com.shubilet.member_service.services;
+
+import org.springframework.dao.DuplicateKeyException;
+
+import com.shubilet.member_service.common.enums.MemberType;
+import com.shubilet.member_service.models.MemberCredential;
+
+public interface CredentialService {
+    /**
+     * Hashes a raw password with the configured password encoder.
+     *
+     * @param rawPassword Password as entered by the member
+     * @return Returns the hash to be stored.
+     */
+    String hash(String rawPassword);
+
+    /**
+     * Finds the credentials of the member with the given email with one indexed lookup.
+     * Emails that were recently looked up without a result are answered from memory.
+     *
+     * @param email Email value to be looked up
+     * @return Returns the credentials, or null if no member uses the email.
+     */
+    MemberCredential findByEmail(String email);
+
+    /**
+     * Checks whether any member uses the given email. Emails the in-memory email index has never
+     * seen are answered without a lookup; every other email costs one indexed lookup.
+     *
+     * @param email Email value to be checked
+     * @return Returns True if a member uses the email, False otherwise.
+     */
+    boolean isEmailInUse(String email);
+
+    /**
+     * Fills the in-memory email index from the credentials table. Until it has run, every email
+     * check is answered by the database.
+     *
+     * @return Returns the number of emails loaded.
+     */
+    int loadEmailIndex();
+
+    /**
+     * Checks a raw password against the stored credentials. Passwords stored before hashing was
+     * introduced, or hashed with a lower cost than the current one, are re-hashed on success.
+     *
+     * @param credential Credentials of the member
+     * @param rawPassword Password as entered by the member
+     * @return Returns True if the password matches, False otherwise.
+     */
+    boolean verify(MemberCredential credential, String rawPassword);
+
+    /**
+     * Creates the credentials of a newly registered member. The email is claimed with an atomic
+     * insert, so two members can never end up with the same email.
+     *
+     * @param memberType Type of the member
+     * @param memberId Id of the member in its own table
+     * @param email Email of the member
+     * @param passwordHash Hashed password of the member
+     * @param verified Whether the member may log in already
+     * @throws DuplicateKeyException if another member already uses the email
+     */
+    void register(MemberType memberType, int memberId, String email, String passwordHash, boolean verified);
+
+    /**
+     * Copies a changed email to the credentials of the member.
+     *
+     * @throws DuplicateKeyException if another member already uses the email
+     */
+    void updateEmail(MemberType memberType, int memberId, String email);
+
+    /**
+     * Copies a changed password hash to the credentials of the member.
+     */
+    void updatePasswordHash(MemberType memberType, int memberId, String passwordHash);
+
+    /**
+     * Marks the credentials of the member as verified.
+     */
+    void markVerified(MemberType memberType, int memberId);
+}
@@ -1,60 +1,40 @@
 package com.shubilet.member_service.services.Impl;
 
 import com.shubilet.member_service.dataTransferObjects.responses.MemberSessionDTO;
-import com.shubilet.member_service.models.Admin;
-import com.shubilet.member_service.models.Company;
-import com.shubilet.member_service.models.Customer;
-import com.shubilet.member_service.repositories.AdminRepository;
-import com.shubilet.member_service.repositories.CompanyRepository;
-import com.shubilet.member_service.repositories.CustomerRepository;
+import com.shubilet.member_service.models.MemberCredential;
 import com.shubilet.member_service.services.AuthService;
+import com.shubilet.member_service.services.CredentialService;
 import org.springframework.stereotype.Service;
 
 @Service
 public class AuthServiceImpl implements AuthService {
-    private final CustomerRepository customerRepository;
-    private final CompanyRepository companyRepository;
-    private final AdminRepository adminRepository;
+    private final CredentialService credentialService;
 
-    public AuthServiceImpl(CustomerRepository customerRepository, CompanyRepository companyRepository, AdminRepository adminRepository) {
-        this.customerRepository = customerRepository;
-        this.companyRepository = companyRepository;
-        this.adminRepository = adminRepository;
+    public AuthServiceImpl(CredentialService credentialService) {
+        this.credentialService = credentialService;
     }
 
     public MemberSessionDTO checkMemberCredentials(String email, String password) {
-        Object member;
-        member = customerRepository.getCustomerByEmail(email);
-        if (member != null) {
-            Customer customer = (Customer) member;
-            if (password.equals(customer.getPassword())) {
-                return new MemberSessionDTO(customer.getId(), "CUSTOMER");
-            }
+        MemberCredential credential = credentialService.findByEmail(email);
+        if (credential == null || !credentialService.verify(credential, password)) {
             return null;
         }
-        member = companyRepository.getCompanyByEmail(email);
-        if (member != null) {
-            Company company = (Company) member;
-            if (password.equals(company.getPassword())) {
-                if (!company.isVerified()) {
+
+        switch (credential.getMemberType()) {
+            case COMPANY:
+                if (!credential.isVerified()) {
                     return new MemberSessionDTO("Company is not verified yet.");
                 }
-                return new MemberSessionDTO(company.getId(), "COMPANY");
-            }
-            return null;
-        }
-        member = adminRepository.getAdminByEmail(email);
-        if (member != null) {
-            Admin admin = (Admin) member;
-            if (password.equals(admin.getPassword())) {
-                if (admin.getRefAdminId() == null){
+                break;
+            case ADMIN:
+                if (!credential.isVerified()) {
                     return new MemberSessionDTO("Admin is not verified yet.");
                 }
-                return new MemberSessionDTO(admin.getId(), "ADMIN");
-            }
-            return null;
+                break;
+            default:
+                break;
         }
-        return null;
+        return new MemberSessionDTO(credential.getMemberId(), credential.getMemberType().name());
     }
 
 }
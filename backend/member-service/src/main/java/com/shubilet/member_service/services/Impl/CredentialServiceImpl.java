@@ -0,0 +1,206 @@
+package com.shubilet.member_service.services.Impl;
+
+import com.shubilet.member_service.common.constants.AppConstants;
+import com.shubilet.member_service.common.enums.MemberType;
+import com.shubilet.member_service.common.util.BloomFilter;
+import com.shubilet.member_service.models.MemberCredential;
+import com.shubilet.member_service.repositories.AdminRepository;
+import com.shubilet.member_service.repositories.CompanyRepository;
+import com.shubilet.member_service.repositories.CustomerRepository;
+import com.shubilet.member_service.repositories.MemberCredentialRepository;
+import com.shubilet.member_service.services.CredentialService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+@Service
+public class CredentialServiceImpl implements CredentialService {
+    private static final Logger logger = LoggerFactory.getLogger(CredentialServiceImpl.class);
+
+    private static final Pattern BCRYPT_HASH = Pattern.compile("^\\$2[aby]?\\$\\d\\d\\$[./0-9A-Za-z]{53}$");
+
+    private final MemberCredentialRepository memberCredentialRepository;
+    private final CustomerRepository customerRepository;
+    private final CompanyRepository companyRepository;
+    private final AdminRepository adminRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final long unknownEmailTtlMillis;
+
+    // Emails recently looked up without a result, with the instant their entry expires.
+    private final Map<String, Long> unknownEmails = new ConcurrentHashMap<>();
+
+    // Every email in use, plus emails that were in use before a change; false answers are definite.
+    private final BloomFilter emailIndex;
+    private volatile boolean emailIndexLoaded;
+
+    public CredentialServiceImpl(
+            MemberCredentialRepository memberCredentialRepository,
+            CustomerRepository customerRepository,
+            CompanyRepository companyRepository,
+            AdminRepository adminRepository,
+            PasswordEncoder passwordEncoder,
+            @Value(AppConstants.UNKNOWN_EMAIL_CACHE_TTL_STRING) long unknownEmailTtlMillis,
+            @Value(AppConstants.EMAIL_INDEX_EXPECTED_SIZE_STRING) long emailIndexExpectedSize
+    ) {
+        this.memberCredentialRepository = memberCredentialRepository;
+        this.customerRepository = customerRepository;
+        this.companyRepository = companyRepository;
+        this.adminRepository = adminRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.unknownEmailTtlMillis = unknownEmailTtlMillis;
+        this.emailIndex = new BloomFilter(emailIndexExpectedSize, AppConstants.EMAIL_INDEX_FALSE_POSITIVE_RATE);
+    }
+
+    public String hash(String rawPassword) {
+        return passwordEncoder.encode(rawPassword);
+    }
+
+    public MemberCredential findByEmail(String email) {
+        long now = System.currentTimeMillis();
+
+        Long expiresAt = unknownEmails.get(email);
+        if (expiresAt != null) {
+            if (expiresAt > now) {
+                return null;
+            }
+            unknownEmails.remove(email, expiresAt);
+        }
+
+        MemberCredential credential = memberCredentialRepository.getMemberCredentialByEmail(email);
+        if (credential == null) {
+            // Bounded by dropping everything at once; the entries are short-lived anyway.
+            if (unknownEmails.size() >= AppConstants.UNKNOWN_EMAIL_CACHE_MAX_SIZE) {
+                unknownEmails.clear();
+            }
+            unknownEmails.put(email, now + unknownEmailTtlMillis);
+        }
+        return credential;
+    }
+
+    public boolean isEmailInUse(String email) {
+        // Emails registered on other instances are missing here; the atomic insert still rejects them.
+        if (emailIndexLoaded && !emailIndex.mightContain(email)) {
+            return false;
+        }
+        return memberCredentialRepository.existsByEmail(email);
+    }
+
+    public int loadEmailIndex() {
+        long start = System.currentTimeMillis();
+        int loaded = 0;
+        int afterId = 0;
+
+        List<MemberCredential> page;
+        do {
+            page = memberCredentialRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(AppConstants.EMAIL_INDEX_LOAD_PAGE_SIZE));
+            for (MemberCredential credential : page) {
+                emailIndex.add(credential.getEmail());
+                afterId = credential.getId();
+            }
+            loaded += page.size();
+        } while (page.size() == AppConstants.EMAIL_INDEX_LOAD_PAGE_SIZE);
+
+        emailIndexLoaded = true;
+        logger.info("[PERF] Email index loaded (emails={}, bits={}, hashes={}, ms={})",
+                loaded, emailIndex.getBitCount(), emailIndex.getHashCount(), System.currentTimeMillis() - start);
+        return loaded;
+    }
+
+    public boolean verify(MemberCredential credential, String rawPassword) {
+        String stored = credential.getPasswordHash();
+
+        // Stored before passwords were hashed: compare in constant time, then replace it with a hash.
+        if (!BCRYPT_HASH.matcher(stored).matches()) {
+            boolean matches = MessageDigest.isEqual(
+                    stored.getBytes(StandardCharsets.UTF_8),
+                    rawPassword.getBytes(StandardCharsets.UTF_8)
+            );
+            if (matches) {
+                rehash(credential, rawPassword);
+            }
+            return matches;
+        }
+
+        if (!passwordEncoder.matches(rawPassword, stored)) {
+            return false;
+        }
+
+        if (passwordEncoder.upgradeEncoding(stored)) {
+            rehash(credential, rawPassword);
+        }
+        return true;
+    }
+
+    public void register(MemberType memberType, int memberId, String email, String passwordHash, boolean verified) {
+        if (memberCredentialRepository.insertIfEmailAvailable(email, memberType.name(), memberId, passwordHash, verified) == 0) {
+            throw new DuplicateKeyException("Email is already in use: " + email);
+        }
+        emailIndex.add(email);
+        unknownEmails.remove(email);
+    }
+
+    public void updateEmail(MemberType memberType, int memberId, String email) {
+        MemberCredential credential = memberCredentialRepository.getMemberCredentialByMemberTypeAndMemberId(memberType, memberId);
+        if (credential == null) {
+            logger.warn("No credentials found for {} with id {} while changing email", memberType, memberId);
+            return;
+        }
+        if (email.equals(credential.getEmail())) {
+            return;
+        }
+        if (memberCredentialRepository.updateEmailIfAvailable(credential.getId(), email) == 0) {
+            throw new DuplicateKeyException("Email is already in use: " + email);
+        }
+        emailIndex.add(email);
+        unknownEmails.remove(email);
+    }
+
+    public void updatePasswordHash(MemberType memberType, int memberId, String passwordHash) {
+        MemberCredential credential = memberCredentialRepository.getMemberCredentialByMemberTypeAndMemberId(memberType, memberId);
+        if (credential == null) {
+            logger.warn("No credentials found for {} with id {} while changing password", memberType, memberId);
+            return;
+        }
+        credential.setPasswordHash(passwordHash);
+        memberCredentialRepository.save(credential);
+    }
+
+    public void markVerified(MemberType memberType, int memberId) {
+        memberCredentialRepository.markVerified(memberType, memberId);
+    }
+
+    private void rehash(MemberCredential credential, String rawPassword) {
+        String passwordHash = hash(rawPassword);
+
+        credential.setPasswordHash(passwordHash);
+        memberCredentialRepository.save(credential);
+
+        switch (credential.getMemberType()) {
+            case CUSTOMER -> customerRepository.findById(credential.getMemberId()).ifPresent(customer -> {
+                customer.setPassword(passwordHash);
+                customerRepository.save(customer);
+            });
+            case COMPANY -> companyRepository.findById(credential.getMemberId()).ifPresent(company -> {
+                company.setPassword(passwordHash);
+                companyRepository.save(company);
+            });
+            case ADMIN -> adminRepository.findById(credential.getMemberId()).ifPresent(admin -> {
+                admin.setPassword(passwordHash);
+                adminRepository.save(admin);
+            });
+        }
+
+        logger.info("Password of {} with id {} re-hashed", credential.getMemberType(), credential.getMemberId());
+    }
+}
@@ -1,6 +1,7 @@
 package com.shubilet.member_service.services.Impl;
 
 import com.shubilet.member_service.common.enums.Gender;
+import com.shubilet.member_service.common.enums.MemberType;
 import com.shubilet.member_service.models.Admin;
 import com.shubilet.member_service.models.Company;
 import com.shubilet.member_service.models.Customer;
@@ -9,7 +10,9 @@ import com.shubilet.member_service.repositories.AdminRepository;
 import com.shubilet.member_service.repositories.CompanyRepository;
 import com.shubilet.member_service.repositories.CustomerRepository;
 import com.shubilet.member_service.repositories.FavoriteCompanyRepository;
+import com.shubilet.member_service.services.CredentialService;
 import com.shubilet.member_service.services.ProfileService;
+import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -18,12 +21,14 @@ public class ProfileServiceImpl implements ProfileService {
     private final CompanyRepository companyRepository;
     private final AdminRepository adminRepository;
     private final FavoriteCompanyRepository favoriteCompanyRepository;
+    private final CredentialService credentialService;
 
-    public ProfileServiceImpl(CustomerRepository customerRepository, CompanyRepository companyRepository, AdminRepository adminRepository, FavoriteCompanyRepository favoriteCompanyRepository) {
+    public ProfileServiceImpl(CustomerRepository customerRepository, CompanyRepository companyRepository, AdminRepository adminRepository, FavoriteCompanyRepository favoriteCompanyRepository, CredentialService credentialService) {
         this.customerRepository = customerRepository;
         this.companyRepository = companyRepository;
         this.adminRepository = adminRepository;
         this.favoriteCompanyRepository = favoriteCompanyRepository;
+        this.credentialService = credentialService;
 
     }
 
@@ -58,17 +63,22 @@ public class ProfileServiceImpl implements ProfileService {
         return true;
     }
 
+    @Transactional
     public boolean editEmail(int customerId, String email) {
+        // Claims the email first, so a taken email is rejected before the customer row changes.
+        credentialService.updateEmail(MemberType.CUSTOMER, customerId, email);
         Customer customer = customerRepository.findById(customerId).orElse(null);
         customer.setEmail(email);
         customerRepository.save(customer);
         return true;
     }
 
+    @Transactional
     public boolean editPassword(int customerId, String password) {
         Customer customer = customerRepository.findById(customerId).orElse(null);
-        customer.setPassword(password);
+        customer.setPassword(credentialService.hash(password));
         customerRepository.save(customer);
+        credentialService.updatePasswordHash(MemberType.CUSTOMER, customerId, customer.getPassword());
         return true;
     }
 
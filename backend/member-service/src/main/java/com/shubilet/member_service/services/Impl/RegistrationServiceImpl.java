@@ -2,6 +2,8 @@ package com.shubilet.member_service.services.Impl;
 
 import org.springframework.stereotype.Service;
 
+import com.shubilet.member_service.common.enums.MemberType;
+import com.shubilet.member_service.services.CredentialService;
 import com.shubilet.member_service.services.RegistrationService;
 
 import com.shubilet.member_service.models.Company;
@@ -12,38 +14,48 @@ import com.shubilet.member_service.repositories.CustomerRepository;
 import com.shubilet.member_service.repositories.CompanyRepository;
 import com.shubilet.member_service.repositories.AdminRepository;
 
+import jakarta.transaction.Transactional;
+
 
 @Service
 public class RegistrationServiceImpl implements RegistrationService {
     private final CustomerRepository customerRepository;
     private final CompanyRepository companyRepository;
     private final AdminRepository adminRepository;
+    private final CredentialService credentialService;
 
-    public RegistrationServiceImpl(CustomerRepository customerRepository, CompanyRepository companyRepository, AdminRepository adminRepository) {
+    public RegistrationServiceImpl(CustomerRepository customerRepository, CompanyRepository companyRepository, AdminRepository adminRepository, CredentialService credentialService) {
         this.customerRepository = customerRepository;
         this.companyRepository = companyRepository;
         this.adminRepository = adminRepository;
+        this.credentialService = credentialService;
     }
 
+    @Transactional
     public boolean registerCustomer(Customer customer) {
+        customer.setPassword(credentialService.hash(customer.getPassword()));
         customerRepository.save(customer);
+        credentialService.register(MemberType.CUSTOMER, customer.getId(), customer.getEmail(), customer.getPassword(), true);
         return true;
     }
 
+    @Transactional
     public boolean registerCompany(Company company) {
+        company.setPassword(credentialService.hash(company.getPassword()));
         companyRepository.save(company);
+        credentialService.register(MemberType.COMPANY, company.getId(), company.getEmail(), company.getPassword(), company.isVerified());
         return true;
     }
 
+    @Transactional
     public boolean registerAdmin(Admin admin) {
+        admin.setPassword(credentialService.hash(admin.getPassword()));
         adminRepository.save(admin);
+        credentialService.register(MemberType.ADMIN, admin.getId(), admin.getEmail(), admin.getPassword(), admin.getRefAdminId() != null);
         return true;
     }
 
     public boolean isUserExistsByEmail(String email) {
-        return (customerRepository.isCustomerExistsByEmail(email) ||
-                companyRepository.isCompanyExistsByEmail(email) ||
-                adminRepository.isAdminExistsByEmail(email));
-
+        return credentialService.isEmailInUse(email);
     }
 }
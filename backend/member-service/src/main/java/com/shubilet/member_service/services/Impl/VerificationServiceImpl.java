@@ -1,5 +1,6 @@
 package com.shubilet.member_service.services.Impl;
 
+import com.shubilet.member_service.common.enums.MemberType;
 import com.shubilet.member_service.dataTransferObjects.responses.UnverifiedAdminDTO;
 import com.shubilet.member_service.dataTransferObjects.responses.UnverifiedAdminsDTO;
 import com.shubilet.member_service.dataTransferObjects.responses.UnverifiedCompaniesDTO;
@@ -8,7 +9,9 @@ import com.shubilet.member_service.models.Admin;
 import com.shubilet.member_service.models.Company;
 import com.shubilet.member_service.repositories.AdminRepository;
 import com.shubilet.member_service.repositories.CompanyRepository;
+import com.shubilet.member_service.services.CredentialService;
 import com.shubilet.member_service.services.VerificationService;
+import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
 
 import java.util.LinkedList;
@@ -19,10 +22,12 @@ import java.util.List;
 public class VerificationServiceImpl implements VerificationService {
     private CompanyRepository companyRepository;
     private AdminRepository adminRepository;
+    private CredentialService credentialService;
 
-    public VerificationServiceImpl(CompanyRepository companyRepository, AdminRepository adminRepository) {
+    public VerificationServiceImpl(CompanyRepository companyRepository, AdminRepository adminRepository, CredentialService credentialService) {
         this.companyRepository = companyRepository;
         this.adminRepository = adminRepository;
+        this.credentialService = credentialService;
     }
 
     public boolean isCompanyExists(int companyId) {
@@ -45,6 +50,7 @@ public class VerificationServiceImpl implements VerificationService {
 
     }
 
+    @Transactional
     public boolean markCompanyVerified(int adminId, int candidateCompanyId) {
         List<Company> company_result = companyRepository.getCompanyById(candidateCompanyId);
         if (company_result == null || company_result.isEmpty()) {
@@ -54,9 +60,11 @@ public class VerificationServiceImpl implements VerificationService {
         company.setVerified(true);
         company.setRefAdminId(adminId);
         companyRepository.save(company);
+        credentialService.markVerified(MemberType.COMPANY, candidateCompanyId);
         return true;
     }
 
+    @Transactional
     public boolean markAdminVerified(int adminId, int candidateAdminId) {
         Admin admin = adminRepository.getAdminById(candidateAdminId);
         if (admin == null) {
@@ -64,6 +72,7 @@ public class VerificationServiceImpl implements VerificationService {
         }
         admin.setRefAdminId(adminId);
         adminRepository.save(admin);
+        credentialService.markVerified(MemberType.ADMIN, candidateAdminId);
         return true;
     }
 
@@ -1,5 +1,7 @@
 package com.shubilet.member_service.services;
 
+import org.springframework.dao.DuplicateKeyException;
+
 import com.shubilet.member_service.models.Company;
 import com.shubilet.member_service.models.Customer;
 import com.shubilet.member_service.models.Admin;
@@ -11,6 +13,7 @@ public interface RegistrationService {
      *
      * @param customer Customer Model that going to be saved on DB
      * @return Returns True when operation is successful, false otherwise.
+     * @throws DuplicateKeyException if another member registered the email in the meantime
      */
     boolean registerCustomer(Customer customer);
 
@@ -19,6 +22,7 @@ public interface RegistrationService {
      *
      * @param company Company Model that going to be saved on DB
      * @return Returns True when operation is successful, false otherwise.
+     * @throws DuplicateKeyException if another member registered the email in the meantime
      */
     boolean registerCompany(Company company);
 
@@ -27,11 +31,13 @@ public interface RegistrationService {
      *
      * @param admin Admin Model that going to be saved on DB
      * @return Returns True when operation is successful, false otherwise.
+     * @throws DuplicateKeyException if another member registered the email in the meantime
      */
     boolean registerAdmin(Admin admin);
 
     /**
-     * Checks that is there any user with given email
+     * Checks that is there any user with given email, with a single lookup on the member
+     * credentials. Emails never seen by this instance are answered from memory.
      *
      * @param email Email value to be checked
      * @return Returns True if there are any customer with given email, False otherwise.
@@ -11,5 +11,6 @@ package com.shubilet.payment_service.common.enums;
 public enum PaymentStatus {
     PENDING,
     SUCCESS,
-    FAILED
+    FAILED,
+    REFUNDED
 }
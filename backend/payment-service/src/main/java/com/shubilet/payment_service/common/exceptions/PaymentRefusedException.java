@@ -0,0 +1,18 @@
+package com.shubilet.payment_service.common.exceptions;
+
+/**
+ * Thrown when a payment or refund request is refused, for example because the card
+ * does not exist, belongs to another customer or is inactive, or the amount is invalid.
+ *
+ * <p>
+ * A refusal is final: repeating the same request gives the same answer. Controllers
+ * answer it with HTTP 400, while any other {@link RuntimeException} is answered with
+ * HTTP 500, so that callers can tell a refused charge from one whose outcome is unknown.
+ * </p>
+ */
+public class PaymentRefusedException extends RuntimeException {
+
+    public PaymentRefusedException(String message) {
+        super(message);
+    }
+}
@@ -25,7 +25,10 @@
 
 package com.shubilet.payment_service.controllers;
 
+import com.shubilet.payment_service.dataTransferObjects.requests.CustomerIdRequestDTO;
+import com.shubilet.payment_service.dataTransferObjects.requests.PaymentRefundRequestDTO;
 import com.shubilet.payment_service.dataTransferObjects.requests.TicketPaymentRequestDTO;
+import com.shubilet.payment_service.dataTransferObjects.responses.MessageDTO;
 import com.shubilet.payment_service.dataTransferObjects.responses.TicketPaymentResponseDTO;
 import org.springframework.http.ResponseEntity;
 
@@ -47,6 +50,8 @@ public interface PaymentController {
      * any relevant transaction metadata.
      * </p>
      *
+     * @param requestId the optional request identifier; retries carrying the same
+     *                  identifier must not be charged twice
      * @param dto the request payload containing ticket and payment information
      * @return a {@link ResponseEntity} containing {@link TicketPaymentResponseDTO}
      *         with the result of the payment process
@@ -55,5 +60,35 @@ public interface PaymentController {
      * @see TicketPaymentResponseDTO
      */
 
-    ResponseEntity<TicketPaymentResponseDTO> makePayment(TicketPaymentRequestDTO dto);
+    ResponseEntity<TicketPaymentResponseDTO> makePayment(String requestId, TicketPaymentRequestDTO dto);
+
+    /**
+     * Looks up the payment taken for a request identifier without charging.
+     *
+     * <p>
+     * Lets a caller that lost the answer to a payment request learn whether the
+     * charge was taken before deciding to repeat it.
+     * </p>
+     *
+     * @param requestId the request identifier the payment was requested with
+     * @param dto the request payload containing the customer identifier
+     * @return a {@link ResponseEntity} containing the {@link TicketPaymentResponseDTO}
+     *         of the payment, or HTTP 404 if no payment was taken for the identifier
+     */
+    ResponseEntity<TicketPaymentResponseDTO> findPayment(String requestId, CustomerIdRequestDTO dto);
+
+    /**
+     * Refunds a previously completed ticket payment.
+     *
+     * <p>
+     * The operation is idempotent: refunding an already refunded payment
+     * succeeds without side effects.
+     * </p>
+     *
+     * @param dto the request payload containing the payment and customer identifiers
+     * @return a {@link ResponseEntity} containing a {@link MessageDTO} with the result
+     *
+     * @see PaymentRefundRequestDTO
+     */
+    ResponseEntity<MessageDTO> refundPayment(PaymentRefundRequestDTO dto);
 }
\ No newline at end of file
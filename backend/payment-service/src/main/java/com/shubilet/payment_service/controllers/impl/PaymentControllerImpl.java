@@ -9,9 +9,9 @@
  *
  * <p>
  * The controller follows a thin-controller design principle, containing no
- * payment logic or validation rules. Any {@link RuntimeException} raised during
- * request processing is handled locally to ensure a consistent error response
- * structure.
+ * payment logic or validation rules. Refusals ({@link PaymentRefusedException})
+ * are answered with HTTP 400 and any other {@link RuntimeException} with HTTP 500,
+ * both handled locally to ensure a consistent error response structure.
  * </p>
  *
  * <p>
@@ -31,15 +31,21 @@
 
 package com.shubilet.payment_service.controllers.impl;
 
+import com.shubilet.payment_service.common.exceptions.PaymentRefusedException;
 import com.shubilet.payment_service.controllers.PaymentController;
+import com.shubilet.payment_service.dataTransferObjects.requests.CustomerIdRequestDTO;
+import com.shubilet.payment_service.dataTransferObjects.requests.PaymentRefundRequestDTO;
 import com.shubilet.payment_service.dataTransferObjects.requests.TicketPaymentRequestDTO;
 import com.shubilet.payment_service.dataTransferObjects.responses.MessageDTO;
 import com.shubilet.payment_service.dataTransferObjects.responses.TicketPaymentResponseDTO;
 import com.shubilet.payment_service.services.PaymentService;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -63,34 +69,109 @@ public class PaymentControllerImpl implements PaymentController {
  * </p>
  *
  * <p>
+ * When an {@code X-Request-Id} header is present, a repeated request with the
+ * same identifier returns the original payment instead of charging again.
+ * </p>
+ *
+ * <p>
  * If the service layer completes the operation successfully, a
  * {@link TicketPaymentResponseDTO} is returned with HTTP 200 status.
  * Any {@link RuntimeException} thrown during processing is intercepted by the
  * local exception handler to produce a standardized error response.
  * </p>
  *
+ * @param requestId the optional request identifier used to deduplicate retries
  * @param dto the request payload containing ticket and payment information
  * @return a {@link ResponseEntity} containing {@link TicketPaymentResponseDTO}
  *         representing the result of the payment operation
  *
- * @see PaymentService#processTicketPayment(TicketPaymentRequestDTO)
+ * @see PaymentService#processTicketPayment(TicketPaymentRequestDTO, String)
  * @see #handleException(RuntimeException)
  */
 
     @Override
     @PostMapping
-    public ResponseEntity<TicketPaymentResponseDTO> makePayment(@RequestBody TicketPaymentRequestDTO dto) {
+    public ResponseEntity<TicketPaymentResponseDTO> makePayment(
+            @RequestHeader(value = "X-Request-Id", required = false) String requestId,
+            @RequestBody TicketPaymentRequestDTO dto) {
         // Servis hata fırlatırsa aşağıdaki handler yakalayacak
-        TicketPaymentResponseDTO response = paymentService.processTicketPayment(dto);
+        TicketPaymentResponseDTO response = paymentService.processTicketPayment(dto, requestId);
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Handles a lookup of the payment taken for a request identifier.
+     *
+     * <p>
+     * Nothing is charged. The payment is only returned to the customer who owns
+     * its card; a request identifier without a payment is answered with HTTP 404.
+     * </p>
+     *
+     * @param requestId the request identifier the payment was requested with
+     * @param dto the request payload containing the customer identifier
+     * @return a {@link ResponseEntity} containing the {@link TicketPaymentResponseDTO}
+     *         of the payment, or HTTP 404 without a body
+     *
+     * @see PaymentService#findPayment(String, Integer)
+     * @see #handleRefusal(RuntimeException)
+     */
+    @Override
+    @PostMapping("/lookup")
+    public ResponseEntity<TicketPaymentResponseDTO> findPayment(
+            @RequestHeader("X-Request-Id") String requestId,
+            @RequestBody CustomerIdRequestDTO dto) {
+        return paymentService.findPayment(requestId, dto.getCustomerId())
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Handles a refund request for a previously completed payment.
+     *
+     * <p>
+     * Delegates to the service layer, which verifies that the payment belongs to
+     * the given customer and marks it as refunded. Refunding an already refunded
+     * payment succeeds without any change, so callers may safely retry.
+     * </p>
+     *
+     * @param dto the request payload containing the payment and customer identifiers
+     * @return a {@link ResponseEntity} containing a {@link MessageDTO} confirming the refund
+     *
+     * @see PaymentService#refundPayment(PaymentRefundRequestDTO)
+     * @see #handleException(RuntimeException)
+     */
+    @Override
+    @PostMapping("/refund")
+    public ResponseEntity<MessageDTO> refundPayment(@RequestBody PaymentRefundRequestDTO dto) {
+        paymentService.refundPayment(dto);
+        return ResponseEntity.ok(new MessageDTO("Payment refunded successfully."));
+    }
+
+    /**
+     * Handles refusals of payment and refund requests.
+     *
+     * <p>
+     * A refusal (unknown, foreign or inactive card, invalid amount, malformed
+     * request, ...) is final, so it is answered with HTTP 400 and callers may
+     * release whatever they hold for the payment.
+     * </p>
+     *
+     * @param e the exception describing the refusal
+     * @return a {@link ResponseEntity} containing a {@link MessageDTO} with error
+     *         details
+     */
+    @ExceptionHandler({PaymentRefusedException.class, HttpMessageNotReadableException.class})
+    public ResponseEntity<MessageDTO> handleRefusal(RuntimeException e) {
+        return ResponseEntity.badRequest().body(new MessageDTO("Payment Failed: " + e.getMessage()));
+    }
+
     /**
      * Handles runtime exceptions thrown during payment processing.
      *
      * <p>
-     * This method intercepts any {@link RuntimeException} that occurs within the
-     * controller methods and constructs a standardized error response.
+     * Any other {@link RuntimeException}, such as a database failure, leaves the
+     * outcome of the request unknown to the caller, so it is answered with
+     * HTTP 500 and the caller is expected to retry with the same request identifier.
      * </p>
      *
      * @param e the runtime exception that was thrown
@@ -99,6 +180,6 @@ public class PaymentControllerImpl implements PaymentController {
      */
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<MessageDTO> handleException(RuntimeException e) {
-        return ResponseEntity.badRequest().body(new MessageDTO("Payment Failed: " + e.getMessage()));
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(new MessageDTO("Payment Failed: " + e.getMessage()));
     }
-}
\ No newline at end of file
+}
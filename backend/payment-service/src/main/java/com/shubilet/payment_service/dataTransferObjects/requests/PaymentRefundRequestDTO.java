@@ -0,0 +1,22 @@
+package com.shubilet.payment_service.dataTransferObjects.requests;
+
+import java.io.Serializable;
+
+public class PaymentRefundRequestDTO implements Serializable {
+
+    private Integer paymentId;
+    private Integer customerId; // Güvenlik kontrolü için şart
+
+    public PaymentRefundRequestDTO() {}
+
+    public PaymentRefundRequestDTO(Integer paymentId, Integer customerId) {
+        this.paymentId = paymentId;
+        this.customerId = customerId;
+    }
+
+    public Integer getPaymentId() { return paymentId; }
+    public void setPaymentId(Integer paymentId) { this.paymentId = paymentId; }
+
+    public Integer getCustomerId() { return customerId; }
+    public void setCustomerId(Integer customerId) { this.customerId = customerId; }
+}
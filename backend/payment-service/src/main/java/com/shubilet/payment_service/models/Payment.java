@@ -6,6 +6,8 @@ import jakarta.persistence.Id;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Column;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.PrePersist;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
@@ -13,6 +15,8 @@ import java.io.Serializable;
 import java.math.BigDecimal;
 import java.time.Instant;
 
+import com.shubilet.payment_service.common.enums.PaymentStatus;
+
 /**
  * Represents a payment transaction made by a user through a specific card.
  */
@@ -44,6 +48,15 @@ public class Payment implements Serializable {
     @Column(nullable = false, updatable = false)
     private Instant date;
 
+    // Rows written before statuses were tracked have no status and count as SUCCESS.
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = true, length = 20)
+    private PaymentStatus status = PaymentStatus.SUCCESS;
+
+    // X-Request-Id of the charge; a retried request with the same id returns this payment instead of charging again.
+    @Column(name = "request_id", nullable = true, updatable = false, unique = true, length = 64)
+    private String requestId;
+
     // ------------------------
     // Constructors
     // ------------------------
@@ -91,6 +104,20 @@ public class Payment implements Serializable {
         return date;
     }
 
+    public PaymentStatus getStatus() {
+        return status;
+    }
+    public void setStatus(PaymentStatus status) {
+        this.status = status;
+    }
+
+    public String getRequestId() {
+        return requestId;
+    }
+    public void setRequestId(String requestId) {
+        this.requestId = requestId;
+    }
+
     // ------------------------
     // Equality & HashCode
     // ------------------------
@@ -117,6 +144,7 @@ public class Payment implements Serializable {
                 ", cardId=" + cardId +
                 ", amount=" + amount +
                 ", date=" + date +
+                ", status=" + status +
                 '}';
     }
 }
@@ -2,8 +2,15 @@ package com.shubilet.payment_service.repositories;
 
 import com.shubilet.payment_service.models.Payment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Optional;
+
 /**
 
     Repository interface for Payment entities. Provides CRUD operations
@@ -13,6 +20,38 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface PaymentRepository extends JpaRepository<Payment, Integer> {
 
+    /**
+     * Returns the payment created for the given request identifier, if any.
+     *
+     * @param requestId the X-Request-Id the payment was made with
+     * @return the matching payment, or an empty optional
+     */
+    Optional<Payment> findByRequestId(String requestId);
+
+    /**
+     * Records a successful payment unless one with the same request identifier exists.
+     * Concurrent calls with the same identifier wait for each other, so exactly one of
+     * them inserts the row.
+     *
+     * @param cardId the identifier of the charged card
+     * @param amount the charged amount
+     * @param date the time of the payment
+     * @param status the status of the payment
+     * @param requestId the X-Request-Id the payment is made with
+     * @return 1 if the payment was recorded, 0 if the request identifier was already taken
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO payments (card_id, amount, date, status, request_id)
+            VALUES (:cardId, :amount, :date, :status, :requestId)
+            ON CONFLICT (request_id) DO NOTHING
+            """, nativeQuery = true)
+    int insertIfRequestIdAbsent(@Param("cardId") Integer cardId,
+                                @Param("amount") BigDecimal amount,
+                                @Param("date") Instant date,
+                                @Param("status") String status,
+                                @Param("requestId") String requestId);
+
     /**
      * Returns all payments that belong to the given customer.
      *
@@ -1,6 +1,8 @@
 package com.shubilet.payment_service.services.Impl;
 
 import com.shubilet.payment_service.common.enums.PaymentStatus;
+import com.shubilet.payment_service.common.exceptions.PaymentRefusedException;
+import com.shubilet.payment_service.dataTransferObjects.requests.PaymentRefundRequestDTO;
 import com.shubilet.payment_service.dataTransferObjects.requests.TicketPaymentRequestDTO;
 import com.shubilet.payment_service.dataTransferObjects.responses.TicketPaymentResponseDTO;
 import com.shubilet.payment_service.models.Card;
@@ -14,6 +16,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Optional;
 
 @Service
 @Transactional
@@ -31,31 +35,40 @@ public class PaymentServiceImpl implements PaymentService {
     }
 
     @Override
-    public TicketPaymentResponseDTO processTicketPayment(TicketPaymentRequestDTO requestDTO) {
+    public TicketPaymentResponseDTO processTicketPayment(TicketPaymentRequestDTO requestDTO, String requestId) {
         logger.info("Processing payment for Customer: {}, Card: {}, Raw Amount: {}", 
                 requestDTO.getCustomerId(), requestDTO.getCardId(), requestDTO.getAmount());
 
+        // --- 0. TEKRAR EDEN İSTEK KONTROLÜ ---
+        // A retried request (same X-Request-Id) gets the original payment back instead of a second charge.
+        if (requestId != null && !requestId.isBlank()) {
+            Optional<Payment> existing = paymentRepository.findByRequestId(requestId);
+            if (existing.isPresent()) {
+                return replay(existing.get(), requestDTO, requestId);
+            }
+        }
+
         // --- 1. KART VE MÜŞTERİ DOĞRULAMASI ---
         Card card = cardRepository.findById(requestDTO.getCardId())
                 .orElseThrow(() -> {
                     logger.error("Payment failed: Card not found ID: {}", requestDTO.getCardId());
-                    return new RuntimeException("Card not found with ID: " + requestDTO.getCardId());
+                    return new PaymentRefusedException("Card not found with ID: " + requestDTO.getCardId());
                 });
 
         if (!card.getCustomerId().equals(requestDTO.getCustomerId())) {
             logger.warn("Security Alert: Customer {} tried to use Card {} belonging to Customer {}", 
                     requestDTO.getCustomerId(), card.getId(), card.getCustomerId());
-            throw new RuntimeException("This card does not belong to the current customer!");
+            throw new PaymentRefusedException("This card does not belong to the current customer!");
         }
 
         if (!Boolean.TRUE.equals(card.getIsActive())) {
             logger.warn("Payment failed: Card {} is inactive.", card.getId());
-            throw new RuntimeException("Card is not active! Payment cannot be processed.");
+            throw new PaymentRefusedException("Card is not active! Payment cannot be processed.");
         }
 
         // --- 2. TUTAR KONTROLÜ ---
         if (requestDTO.getAmount() == null || requestDTO.getAmount().trim().isEmpty()) {
-            throw new RuntimeException("Payment amount cannot be empty!");
+            throw new PaymentRefusedException("Payment amount cannot be empty!");
         }
 
         BigDecimal amount;
@@ -66,29 +79,125 @@ public class PaymentServiceImpl implements PaymentService {
             
             if (amount.compareTo(BigDecimal.ZERO) <= 0) {
                 logger.error("Invalid payment amount: {}", amount);
-                throw new RuntimeException("Payment amount must be greater than zero!");
+                throw new PaymentRefusedException("Payment amount must be greater than zero!");
             }
             
         } catch (NumberFormatException e) {
             logger.error("Amount parsing error for value: {}", requestDTO.getAmount());
-            throw new RuntimeException("Invalid amount format! Please enter a valid number (e.g. 150.50)");
+            throw new PaymentRefusedException("Invalid amount format! Please enter a valid number (e.g. 150.50)");
         }
 
         // --- 3. ÖDEME ONAYI VE KAYIT ---
-        Payment payment = new Payment();
-        payment.setCardId(card.getId());
-        payment.setAmount(amount);
-        
-        Payment saved = paymentRepository.save(payment);
+        Payment saved;
+        if (requestId != null && !requestId.isBlank()) {
+            // A retry racing the original charge finds its row here instead of failing on the unique request_id.
+            int inserted = paymentRepository.insertIfRequestIdAbsent(
+                    card.getId(), amount, Instant.now(), PaymentStatus.SUCCESS.name(), requestId);
+            Payment payment = paymentRepository.findByRequestId(requestId)
+                    .orElseThrow(() -> new IllegalStateException("Payment not found for request ID: " + requestId));
+
+            if (inserted == 0) {
+                return replay(payment, requestDTO, requestId);
+            }
+            saved = payment;
+        } else {
+            Payment payment = new Payment();
+            payment.setCardId(card.getId());
+            payment.setAmount(amount);
+            payment.setStatus(PaymentStatus.SUCCESS);
+
+            saved = paymentRepository.save(payment);
+        }
         
         logger.info("Payment SUCCESS. Payment ID: {}, Amount: {}, Ticket Status: PENDING", saved.getId(), saved.getAmount());
 
+        return toResponseDTO(saved, "Payment completed successfully.");
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<TicketPaymentResponseDTO> findPayment(String requestId, Integer customerId) {
+        if (requestId == null || requestId.isBlank() || customerId == null) {
+            throw new PaymentRefusedException("Request ID and Customer ID are required!");
+        }
+
+        Optional<Payment> payment = paymentRepository.findByRequestId(requestId);
+        if (payment.isEmpty()) {
+            logger.info("No payment found for Request ID: {}", requestId);
+            return Optional.empty();
+        }
+
+        Card card = cardRepository.findById(payment.get().getCardId())
+                .orElseThrow(() -> new PaymentRefusedException("Card not found with ID: " + payment.get().getCardId()));
+
+        if (!card.getCustomerId().equals(customerId)) {
+            logger.warn("Security Alert: Customer {} looked up request {} of Customer {}",
+                    customerId, requestId, card.getCustomerId());
+            throw new PaymentRefusedException("This payment does not belong to the current customer!");
+        }
+
+        TicketPaymentResponseDTO responseDTO = toResponseDTO(payment.get(), "Payment found.");
+        responseDTO.setStatus(payment.get().getStatus().name());
+        return Optional.of(responseDTO);
+    }
+
+    @Override
+    public void refundPayment(PaymentRefundRequestDTO requestDTO) {
+        if (requestDTO.getPaymentId() == null || requestDTO.getCustomerId() == null) {
+            throw new PaymentRefusedException("Payment ID and Customer ID are required!");
+        }
+
+        logger.info("Processing refund for Customer: {}, Payment: {}", requestDTO.getCustomerId(), requestDTO.getPaymentId());
+
+        // --- 1. ÖDEME VE MÜŞTERİ DOĞRULAMASI ---
+        Payment payment = paymentRepository.findById(requestDTO.getPaymentId())
+                .orElseThrow(() -> {
+                    logger.error("Refund failed: Payment not found ID: {}", requestDTO.getPaymentId());
+                    return new PaymentRefusedException("Payment not found with ID: " + requestDTO.getPaymentId());
+                });
+
+        Card card = cardRepository.findById(payment.getCardId())
+                .orElseThrow(() -> new PaymentRefusedException("Card not found with ID: " + payment.getCardId()));
+
+        if (!card.getCustomerId().equals(requestDTO.getCustomerId())) {
+            logger.warn("Security Alert: Customer {} tried to refund Payment {} belonging to Customer {}",
+                    requestDTO.getCustomerId(), payment.getId(), card.getCustomerId());
+            throw new PaymentRefusedException("This payment does not belong to the current customer!");
+        }
+
+        // --- 2. İADE ---
+        // Refunds are retried by the caller until they succeed, so a second call is not an error.
+        if (payment.getStatus() == PaymentStatus.REFUNDED) {
+            logger.info("Payment {} is already refunded.", payment.getId());
+            return;
+        }
+
+        payment.setStatus(PaymentStatus.REFUNDED);
+        paymentRepository.save(payment);
+
+        logger.info("Payment REFUNDED. Payment ID: {}, Amount: {}", payment.getId(), payment.getAmount());
+    }
+
+    private TicketPaymentResponseDTO replay(Payment payment, TicketPaymentRequestDTO requestDTO, String requestId) {
+        Card card = cardRepository.findById(payment.getCardId())
+                .orElseThrow(() -> new PaymentRefusedException("Card not found with ID: " + payment.getCardId()));
+
+        if (!card.getCustomerId().equals(requestDTO.getCustomerId())) {
+            logger.warn("Security Alert: Customer {} replayed request {} of Customer {}",
+                    requestDTO.getCustomerId(), requestId, card.getCustomerId());
+            throw new PaymentRefusedException("This payment does not belong to the current customer!");
+        }
+
+        logger.info("Payment REPLAYED. Payment ID: {}, Request ID: {}", payment.getId(), requestId);
+        return toResponseDTO(payment, "Payment already completed.");
+    }
+
+    private TicketPaymentResponseDTO toResponseDTO(Payment payment, String message) {
         TicketPaymentResponseDTO responseDTO = new TicketPaymentResponseDTO();
         responseDTO.setStatus(PaymentStatus.SUCCESS.name());
-        responseDTO.setMessage("Payment completed successfully.");
-        responseDTO.setPaymentId(saved.getId());
+        responseDTO.setMessage(message);
+        responseDTO.setPaymentId(payment.getId());
         responseDTO.setTicketId("TICKET_PENDING");
-
         return responseDTO;
     }
 }
\ No newline at end of file
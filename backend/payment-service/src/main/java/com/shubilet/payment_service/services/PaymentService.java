@@ -1,14 +1,33 @@
 package com.shubilet.payment_service.services;
 
+import com.shubilet.payment_service.dataTransferObjects.requests.PaymentRefundRequestDTO;
 import com.shubilet.payment_service.dataTransferObjects.requests.TicketPaymentRequestDTO;
 import com.shubilet.payment_service.dataTransferObjects.responses.TicketPaymentResponseDTO;
 
+import java.util.Optional;
+
 public interface PaymentService {
 
     /**
      * Bilet ödeme işlemini gerçekleştirir.
+     * Aynı requestId ile tekrar gelen istek yeni bir ödeme almaz, ilk ödemeyi döner.
      * @param requestDTO Ödeme detayları (cardId, amount, customerId)
+     * @param requestId İsteğin X-Request-Id değeri (opsiyonel)
      * @return İşlem sonucu ve bilet durumu
      */
-    TicketPaymentResponseDTO processTicketPayment(TicketPaymentRequestDTO requestDTO);
+    TicketPaymentResponseDTO processTicketPayment(TicketPaymentRequestDTO requestDTO, String requestId);
+
+    /**
+     * Verilen requestId ile alınmış ödemeyi döner; yeni bir ödeme almaz.
+     * @param requestId Ödemenin alındığı X-Request-Id değeri
+     * @param customerId Ödemeyi sorgulayan müşteri
+     * @return Ödeme varsa sonucu, yoksa boş
+     */
+    Optional<TicketPaymentResponseDTO> findPayment(String requestId, Integer customerId);
+
+    /**
+     * Başarılı bir ödemeyi iade eder. Zaten iade edilmiş ödeme için tekrar çağrılabilir.
+     * @param requestDTO İade detayları (paymentId, customerId)
+     */
+    void refundPayment(PaymentRefundRequestDTO requestDTO);
 }
\ No newline at end of file
@@ -1,7 +1,6 @@
 package com.shubilet.security_service.common.constants;
 
 import java.time.Duration;
-import java.time.Instant;
 
 /**
 
@@ -20,7 +19,7 @@ import java.time.Instant;
 
         <ul>
             <li>Core Java constant management</li>
-            <li>{@code java.time.Instant} and {@code java.time.Duration} for time-based defaults</li>
+            <li>{@code java.time.Duration} for time-based defaults</li>
         </ul>
 
     </p>
@@ -40,9 +39,35 @@ public final class AppConstants {
     public static final int MAX_PAGE_SIZE = 100;
 
     public static final String ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
-    public static final Instant DEFAULT_SESSION_EXPIRATION_DURATION = Instant.now().plus(Duration.ofHours(24));
+    // Counted from the creation of each session.
+    public static final Duration SESSION_DURATION = Duration.ofHours(24);
 
-    public static final String FIXED_DELAY_STRING = "${app.sweeper.session.cleanup-interval-ms:300000}"; // 5 minutes
+    // Sessions a single user may hold at once; creating one more evicts the least recently used.
+    public static final String MAX_SESSIONS_PER_USER_STRING = "${app.session.max-per-user:5}";
+
+    public static final String FIXED_DELAY_STRING = "${app.sweeper.session.cleanup-interval-ms:60000}"; // 1 minute
     public static final String INITIAL_DELAY_STRING = "${app.sweeper.session.initial-delay-ms:60000}";  // 1 minute
+
+    // Session sweeper batches: sized between MIN and MAX to keep each batch near the target latency.
+    public static final int SWEEP_BATCH_SIZE_MIN = 100;
+    public static final int SWEEP_BATCH_SIZE_MAX = 10_000;
+    public static final int SWEEP_BATCH_SIZE_INITIAL = 1_000;
+    public static final long SWEEP_TARGET_BATCH_MILLIS = 200;
+    // Upper bound of one sweeper run; what is left is swept by the next run.
+    public static final long SWEEP_MAX_RUN_MILLIS = 10_000;
+    // The backlog is counted up to this value only.
+    public static final int SWEEP_BACKLOG_CAP = 100_000;
+
+    // Sessions read per page when the session store is warmed up at startup.
+    public static final int WARM_UP_PAGE_SIZE = 1_000;
+
+    // Largest number of session checks accepted by one batch check request.
+    public static final int MAX_CHECK_BATCH_SIZE = 256;
+
+    public static final long EXPIRY_WHEEL_TICK_MILLIS = 1000; // 1 second
+
+    public static final String WRITE_BEHIND_FIXED_DELAY_STRING = "${app.session.write-behind.interval-ms:1000}"; // 1 second
+    // A session change that still fails after this many flushes is dropped instead of blocking the queue.
+    public static final int WRITE_BEHIND_MAX_ATTEMPTS = 10;
     
 }
\ No newline at end of file
@@ -33,5 +33,6 @@ public final class SessionKeys {
     public static final String USER_ID = "userId";
     public static final String USER_TYPE = "userType";
     public static final String AUTH_CODE = "authCode";
+    public static final String TOKEN = "token";
 }
 
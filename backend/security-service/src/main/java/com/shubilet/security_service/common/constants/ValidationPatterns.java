@@ -1,14 +0,0 @@
-package com.shubilet.security_service.common.constants;
-
-import com.shubilet.security_service.common.regex.SessionKeyRegex;
-
-
-public final class ValidationPatterns {
-
-        private ValidationPatterns() {
-                throw new UnsupportedOperationException("Utility class");
-        }
-
-        public static final String SESSION_KEY_REGEX = 
-                SessionKeyRegex.build();
-}
\ No newline at end of file
@@ -0,0 +1,193 @@
+package com.shubilet.security_service.common.util;
+
+import java.security.SecureRandom;
+import java.util.Arrays;
+
+import com.shubilet.security_service.common.constants.AppConstants;
+
+/**
+
+    Domain: Security
+
+    Generates and validates the 39-character session keys handed out as session codes. A key is
+    32 characters from {@code AppConstants.ALPHABET} in eight dash-separated groups of four, where
+    the 1st, 5th, and 17th characters are digits that add up to 15. Both operations work on a
+    single character array in one pass, without regular expressions, string builders, or retry
+    loops:
+
+    <ul>
+        <li>the two leading check digits are drawn together from a precomputed table of the pairs
+        that leave a valid third digit, so no draw is ever rejected for its sum</li>
+        <li>random bytes come from a per-thread buffer that is refilled from that thread's own
+        {@link SecureRandom} a few hundred bytes at a time</li>
+        <li>validation checks the length, the dashes, the alphabet (through a lookup table), and
+        the check digit sum while scanning the key once</li>
+    </ul>
+
+    The key format is unchanged, so keys issued before this class existed keep validating.
+
+    <p>
+
+        Technologies:
+
+        <ul>
+            <li>Java Security {@code SecureRandom} for cryptographically strong randomness</li>
+            <li>Core Java arrays and {@link ThreadLocal}</li>
+        </ul>
+
+    </p>
+
+    @author Abdullah (Mirliva) GÜNDÜZ - https://github.com/MrMilriva
+
+    @version 1.0
+*/
+public final class SessionKeyCodec {
+
+    public static final int KEY_LENGTH = 39;
+
+    private static final int GROUP_LENGTH = 4;
+    private static final char SEPARATOR = '-';
+    private static final int CHECK_SUM = 15;
+
+    // Positions of the 1st, 5th, and 17th key characters once the dashes are counted.
+    private static final int FIRST_CHECK = 0;
+    private static final int SECOND_CHECK = 5;
+    private static final int THIRD_CHECK = 20;
+
+    private static final char[] ALPHABET = AppConstants.ALPHABET.toCharArray();
+    private static final boolean[] IN_ALPHABET = new boolean[128];
+
+    // Every (first, second) pair with digits 0-8 whose remainder to 15 is a single digit.
+    private static final int[] CHECK_PAIRS;
+
+    // Largest multiples of the table sizes that fit in a byte, so that the modulo stays unbiased.
+    private static final int ALPHABET_BOUND = 256 - 256 % ALPHABET.length;
+    private static final int PAIR_BOUND;
+
+    private static final int BUFFER_SIZE = 512;
+
+    static {
+        for (char c : ALPHABET) {
+            IN_ALPHABET[c] = true;
+        }
+
+        int[] pairs = new int[81];
+        int count = 0;
+        for (int first = 0; first <= 8; first++) {
+            for (int second = 0; second <= 8; second++) {
+                int third = CHECK_SUM - first - second;
+                if (third >= 0 && third <= 9) {
+                    pairs[count++] = first * 10 + second;
+                }
+            }
+        }
+        CHECK_PAIRS = Arrays.copyOf(pairs, count);
+        PAIR_BOUND = 256 - 256 % count;
+    }
+
+    private static final class RandomBuffer {
+        private final SecureRandom random = new SecureRandom();
+        private final byte[] bytes = new byte[BUFFER_SIZE];
+        private int position = BUFFER_SIZE;
+
+        private int next() {
+            if (position == BUFFER_SIZE) {
+                random.nextBytes(bytes);
+                position = 0;
+            }
+            return bytes[position++] & 0xFF;
+        }
+
+        // Uniform value in [0, size), given bound = largest multiple of size not above 256.
+        private int next(int size, int bound) {
+            int value;
+            do {
+                value = next();
+            } while (value >= bound);
+            return value % size;
+        }
+    }
+
+    private static final ThreadLocal<RandomBuffer> RANDOM = ThreadLocal.withInitial(RandomBuffer::new);
+
+    private SessionKeyCodec() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+
+        Operation: Generate
+
+        Produces a new random session key.
+
+        @return a 39-character key that passes {@link #isValid(CharSequence)}
+    */
+    public static String generate() {
+        RandomBuffer random = RANDOM.get();
+        char[] key = new char[KEY_LENGTH];
+
+        for (int i = 0; i < KEY_LENGTH; i++) {
+            if (i % (GROUP_LENGTH + 1) == GROUP_LENGTH) {
+                key[i] = SEPARATOR;
+            }
+            else if (i != FIRST_CHECK && i != SECOND_CHECK && i != THIRD_CHECK) {
+                key[i] = ALPHABET[random.next(ALPHABET.length, ALPHABET_BOUND)];
+            }
+        }
+
+        int pair = CHECK_PAIRS[random.next(CHECK_PAIRS.length, PAIR_BOUND)];
+        int first = pair / 10;
+        int second = pair % 10;
+
+        key[FIRST_CHECK] = (char) ('0' + first);
+        key[SECOND_CHECK] = (char) ('0' + second);
+        key[THIRD_CHECK] = (char) ('0' + CHECK_SUM - first - second);
+
+        return new String(key);
+    }
+
+    /**
+
+        Operation: Validate
+
+        Checks in a single pass whether the given value is a well-formed session key: 39
+        characters, dashes after every fourth key character, alphabet characters everywhere
+        else, and check digits at the 1st, 5th, and 17th key characters that add up to 15.
+
+        @param key the value to check
+
+        @return {@code true} if the value is a well-formed session key, otherwise {@code false}
+    */
+    public static boolean isValid(CharSequence key) {
+        if (key == null || key.length() != KEY_LENGTH) {
+            return false;
+        }
+
+        int sum = 0;
+
+        for (int i = 0; i < KEY_LENGTH; i++) {
+            char c = key.charAt(i);
+
+            if (i % (GROUP_LENGTH + 1) == GROUP_LENGTH) {
+                if (c != SEPARATOR) {
+                    return false;
+                }
+            }
+            else if (i == FIRST_CHECK || i == SECOND_CHECK || i == THIRD_CHECK) {
+                if (c < '0' || c > '9') {
+                    return false;
+                }
+                sum += c - '0';
+            }
+            else if (c >= IN_ALPHABET.length || !IN_ALPHABET[c]) {
+                return false;
+            }
+        }
+
+        return sum == CHECK_SUM;
+    }
+
+    // Mirliva says: Say my name.
+    // You're the session.
+    // You're goddamn right.
+}
@@ -2,7 +2,6 @@ package com.shubilet.security_service.common.util;
 
 
 
-import com.shubilet.security_service.common.constants.ValidationPatterns;
 import com.shubilet.security_service.common.enums.UserType;
 
 /****
@@ -61,19 +60,17 @@ public final class ValidationUtils {
         Operation: Validate
 
         Validates whether the provided session key conforms to the expected structural and
-        integrity requirements. The method first applies a regular expression check to ensure
-        correct formatting, then extracts the embedded validation digits from fixed positions
-        and verifies their checksum rule, where the sum of digits at positions 1, 6, and 21
-        must equal 15. This ensures both syntactic correctness and internal consistency of
-        the session key.
+        integrity requirements: correct formatting, and embedded validation digits at positions
+        1, 6, and 21 whose sum must equal 15. This ensures both syntactic correctness and internal
+        consistency of the session key. The check runs in a single pass over the key, without a
+        regular expression.
 
         <p>
 
             Uses:
 
             <ul>
-                <li>{@code ValidationPatterns.SESSION_KEY_REGEX} for structural format validation</li>
-                <li>{@code matches} helper for regex evaluation</li>
+                <li>{@link SessionKeyCodec} for the single-pass structure and checksum validation</li>
             </ul>
 
         </p>
@@ -84,15 +81,7 @@ public final class ValidationUtils {
         otherwise {@code false}
     */
     public static boolean isValidSessionKey(String sessionKey) {
-        // basic regex validation
-        if (!matches(sessionKey, ValidationPatterns.SESSION_KEY_REGEX)) return false;
-
-        // validation digits
-        int d1 = sessionKey.charAt(0) - '0';
-        int d5 = sessionKey.charAt(5) - '0';
-        int d17 = sessionKey.charAt(20) - '0';
-
-        return d1 + d5 + d17 == 15;
+        return SessionKeyCodec.isValid(sessionKey);
     }
 
     public static boolean isValidUserType(String userType) {
@@ -0,0 +1,42 @@
+package com.shubilet.security_service.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.shubilet.security_service.common.util.SessionTokenCodec;
+
+/**
+
+    Domain: Security
+
+    Enables the signed session token mode. When {@code app.session.token.enabled=true}, every
+    created session additionally carries a token signed with {@code app.session.token.secret},
+    which must be the same secret configured on the api-gateway. Without this property no
+    {@link SessionTokenCodec} bean exists and sessions are issued exactly as before.
+
+    <p>
+
+        Technologies:
+
+        <ul>
+            <li>Spring Framework Configuration</li>
+            <li>Spring Boot conditional configuration</li>
+        </ul>
+
+    </p>
+
+    @author Abdullah (Mirliva) GÜNDÜZ - https://github.com/MrMilriva
+
+    @version 1.0
+*/
+@Configuration
+@ConditionalOnProperty(name = "app.session.token.enabled", havingValue = "true")
+public class SessionTokenConfig {
+
+    @Bean
+    public SessionTokenCodec sessionTokenCodec(@Value("${app.session.token.secret:}") String secret) {
+        return new SessionTokenCodec(secret);
+    }
+}
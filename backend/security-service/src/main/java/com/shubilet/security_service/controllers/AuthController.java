@@ -1,6 +1,7 @@
 package com.shubilet.security_service.controllers;
 
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -8,8 +9,11 @@ import org.springframework.web.bind.annotation.RestController;
 import com.shubilet.security_service.controllers.Impl.AuthControllerImpl;
 import com.shubilet.security_service.dataTransferObjects.CookieDTO;
 import com.shubilet.security_service.dataTransferObjects.requests.LoginDTO;
+import com.shubilet.security_service.dataTransferObjects.requests.SessionCheckBatchDTO;
 import com.shubilet.security_service.dataTransferObjects.responses.CheckMessageDTO;
 import com.shubilet.security_service.dataTransferObjects.responses.MessageDTO;
+import com.shubilet.security_service.dataTransferObjects.responses.RevocationsDTO;
+import com.shubilet.security_service.dataTransferObjects.responses.SessionCheckBatchResultDTO;
 
 
 /****
@@ -157,6 +161,61 @@ public interface AuthController {
     @PostMapping("/logout")
     public ResponseEntity<MessageDTO> logout (CookieDTO session);
 
+    /****
+
+        Operation: LogoutAll
+
+        Defines the contract for terminating every session of a user at once ("logout everywhere"). The request carries
+        the attributes of one active session of the user, which authorizes the operation; every session of that user,
+        including this one, is then terminated and the returned cookie context has its session attributes cleared.
+
+        <p>
+
+            Usage:
+
+            <pre>
+
+                POST /api/auth/logoutAll
+
+                Request Body:
+                {
+                    "userId": "25",
+                    "userType": "CUSTOMER",
+                    "authCode": "existing-auth-code"
+                }
+
+                Response:
+                {
+                    "cookie": {
+                        "userId": null,
+                        "userType": null,
+                        "authCode": null
+                    },
+                    "message": "Logged out of all sessions."
+                }
+
+            </pre>
+        </p>
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>{@link CookieDTO} as the session/cookie carrier for userId, userType, and authCode</li>
+                <li>{@link MessageDTO} as the response wrapper including the cleared session context</li>
+                <li>{@link ResponseEntity} for HTTP-level response abstraction</li>
+            </ul>
+
+        </p>
+
+        @param session the session payload of an active session of the user
+
+        @return a response entity containing a {@link MessageDTO} with the cleared session context and a message
+    */
+    @PostMapping("/logoutAll")
+    public ResponseEntity<MessageDTO> logoutAll (CookieDTO session);
+
     /****
 
         Operation: Check
@@ -383,4 +442,124 @@ public interface AuthController {
     */
     @PostMapping("/checkCustomer")
     public ResponseEntity<CheckMessageDTO> checkCustomerSession (CookieDTO session);
+
+    /****
+
+        Operation: CheckBatch
+
+        Defines the contract for validating many role-scoped sessions with a single request. Each check carries the
+        session attributes and the user type it requires; the result of each check mirrors what {@code /checkAdmin},
+        {@code /checkCompany}, or {@code /checkCustomer} would have answered for it, including the HTTP status, and the
+        results are returned in request order. The api-gateway uses this endpoint to coalesce the session checks of
+        concurrent requests into one call.
+
+        <p>
+
+            Usage:
+
+            <pre>
+
+                POST /api/auth/checkBatch
+
+                Request Body:
+                {
+                    "checks": [
+                        {
+                            "cookie": {
+                                "userId": "25",
+                                "userType": "CUSTOMER",
+                                "authCode": "existing-auth-code"
+                            },
+                            "userType": "CUSTOMER"
+                        }
+                    ]
+                }
+
+                Response:
+                {
+                    "results": [
+                        {
+                            "status": 200,
+                            "cookie": {
+                                "userId": "25",
+                                "userType": "CUSTOMER",
+                                "authCode": "existing-auth-code"
+                            },
+                            "message": "Session is valid.",
+                            "userId": 25
+                        }
+                    ]
+                }
+
+            </pre>
+        </p>
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>{@link SessionCheckBatchDTO} as the list of session checks</li>
+                <li>{@link SessionCheckBatchResultDTO} as the list of per-check results</li>
+                <li>{@link ResponseEntity} for HTTP-level response abstraction</li>
+            </ul>
+
+        </p>
+
+        @param batch the session checks to perform
+
+        @return a response entity containing a {@link SessionCheckBatchResultDTO} with one result per check
+    */
+    @PostMapping("/checkBatch")
+    public ResponseEntity<SessionCheckBatchResultDTO> checkBatch (SessionCheckBatchDTO batch);
+
+    /****
+
+        Operation: Revocations
+
+        Defines the contract for reading the revocation list of signed session tokens incrementally. The api-gateway,
+        which validates signed tokens locally, polls this endpoint with the cursor of the last page it has read and
+        receives the sessions terminated since then, so that their tokens stop being accepted.
+
+        <p>
+
+            Usage:
+
+            <pre>
+
+                GET /api/auth/revocations?cursor=41
+
+                Response:
+                {
+                    "epoch": "5f0c1a7e-8d8b-4c43-9a57-0f8f3b0b6f21",
+                    "cursor": 42,
+                    "validAfter": 0,
+                    "revoked": [
+                        {
+                            "code": "revoked-auth-code",
+                            "expiresAt": 1760000000000
+                        }
+                    ]
+                }
+
+            </pre>
+        </p>
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>{@link RevocationsDTO} as the page of revoked sessions</li>
+                <li>{@link ResponseEntity} for HTTP-level response abstraction</li>
+            </ul>
+
+        </p>
+
+        @param cursor the cursor returned by the previous page, or 0 to read from the beginning
+
+        @return a response entity containing a {@link RevocationsDTO} with the sessions revoked after the cursor
+    */
+    @GetMapping("/revocations")
+    public ResponseEntity<RevocationsDTO> getRevocations (long cursor);
 }
@@ -1,15 +1,21 @@
 package com.shubilet.security_service.controllers.Impl;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 // Mirliva says: Authentication is just trust issues implemented in Java.
 
+import com.shubilet.security_service.common.constants.AppConstants;
 import com.shubilet.security_service.common.constants.SessionKeys;
 import com.shubilet.security_service.common.enums.SessionStatus;
 import com.shubilet.security_service.common.enums.UserType;
@@ -18,24 +24,29 @@ import com.shubilet.security_service.common.util.StringUtils;
 import com.shubilet.security_service.common.util.ValidationUtils;
 import com.shubilet.security_service.controllers.AuthController;
 import com.shubilet.security_service.dataTransferObjects.CookieDTO;
+import com.shubilet.security_service.dataTransferObjects.SessionLookupDTO;
 import com.shubilet.security_service.dataTransferObjects.requests.LoginDTO;
+import com.shubilet.security_service.dataTransferObjects.requests.SessionCheckBatchDTO;
+import com.shubilet.security_service.dataTransferObjects.requests.SessionCheckDTO;
 import com.shubilet.security_service.dataTransferObjects.requests.StatusDTO;
 import com.shubilet.security_service.dataTransferObjects.responses.CheckMessageDTO;
 import com.shubilet.security_service.dataTransferObjects.responses.MessageDTO;
+import com.shubilet.security_service.dataTransferObjects.responses.RevocationsDTO;
+import com.shubilet.security_service.dataTransferObjects.responses.SessionCheckBatchResultDTO;
+import com.shubilet.security_service.dataTransferObjects.responses.SessionCheckResultDTO;
 import com.shubilet.security_service.mapper.ResponseEntityMapper;
-import com.shubilet.security_service.services.AdminSessionService;
-import com.shubilet.security_service.services.CompanySessionService;
-import com.shubilet.security_service.services.CustomerSessionService;
+import com.shubilet.security_service.services.SessionService;
 
 /****
 
     Domain: Authentication
 
     Exposes REST endpoints to manage authentication session lifecycle for multiple user domains (ADMIN, COMPANY, CUSTOMER).
-    This controller coordinates session creation, logout, and session validity checks by delegating user-type-specific
-    operations to dedicated session services. It applies defensive validation of incoming request payloads and cookie-backed
-    session attributes, normalizes failures into consistent DTO-based responses, and proactively clears session attributes
-    on invalid, expired, or inconsistent states to prevent reuse of stale authentication data.
+    This controller coordinates session creation, logout, and session validity checks by delegating them, together with
+    the resolved user type, to a single session service that serves every user type through one code path. It applies
+    defensive validation of incoming request payloads and cookie-backed session attributes, normalizes failures into
+    consistent DTO-based responses, and proactively clears session attributes on invalid, expired, or inconsistent states
+    to prevent reuse of stale authentication data.
 
     <p>
 
@@ -50,9 +61,7 @@ import com.shubilet.security_service.services.CustomerSessionService;
 
     @author Abdullah (Mirliva) GÜNDÜZ - https://github.com/MrMilriva
 
-    @see AdminSessionService
-    @see CompanySessionService
-    @see CustomerSessionService
+    @see SessionService
 
     @version 2.0
 */
@@ -61,17 +70,10 @@ import com.shubilet.security_service.services.CustomerSessionService;
 public class AuthControllerImpl implements AuthController {
     private static final Logger logger = LoggerFactory.getLogger(AuthControllerImpl.class);
 
-    private final AdminSessionService adminSessionService;
-    private final CompanySessionService companySessionService;
-    private final CustomerSessionService customerSessionService;
-
-    public AuthControllerImpl(AdminSessionService adminSessionService,
-                            CompanySessionService companySessionService,
-                            CustomerSessionService customerSessionService
-                        ) {
-        this.adminSessionService = adminSessionService;
-        this.companySessionService = companySessionService;
-        this.customerSessionService = customerSessionService;
+    private final SessionService sessionService;
+
+    public AuthControllerImpl(SessionService sessionService) {
+        this.sessionService = sessionService;
     }
 
     /****
@@ -80,7 +82,7 @@ public class AuthControllerImpl implements AuthController {
 
         Creates an authenticated session for a user by validating the incoming {@link LoginDTO} payload and
         ensuring no active session already exists within the provided {@link CookieDTO}. Based on the provided user type,
-        delegates session creation to the corresponding session service and persists the resulting identifiers and
+        delegates session creation to the session service and persists the resulting identifiers and
         authorization code into the cookie-backed session attributes. Returns a {@link MessageDTO} containing the updated
         cookie context and a success message, or an error response when validation or session creation fails.
 
@@ -95,8 +97,7 @@ public class AuthControllerImpl implements AuthController {
                 <li>{@link StringUtils} for null/blank checks</li>
                 <li>{@link ValidationUtils} for user type validation</li>
                 <li>{@link UserType} for resolving the user type code to an enum</li>
-                <li>Session services{@link AdminSessionService}, {@link CompanySessionService}, {@link CustomerSessionService} (admin/company/customer) 
-                    for user-type-specific session creation</li>
+                <li>{@link SessionService} for session creation of the resolved user type</li>
                 <li>{@link Logger} for audit and diagnostic logging</li>
             </ul>
 
@@ -157,20 +158,13 @@ public class AuthControllerImpl implements AuthController {
         UserType userTypeEnum = UserType.fromCode(userType);
         ResponseEntity<CookieDTO> response = null;
     
-        if(userTypeEnum == UserType.ADMIN) {
-            response = adminSessionService.createSession(userId);
-        }
-        else if(userTypeEnum == UserType.COMPANY) {
-            response = companySessionService.createSession(userId);
-        }
-        else if(userTypeEnum == UserType.CUSTOMER) {
-            response = customerSessionService.createSession(userId);
-        }
-        else {
+        if(userTypeEnum == null) {
             logger.warn("Login failed for userId {}: user not found", userId);
             return errorUtils.notFound(session,"User");
         }
 
+        response = sessionService.createSession(userTypeEnum, userId);
+
         if(response == null) {
             logger.warn("Login failed for userId {}: missing response", userId);
             return errorUtils.criticalError(session);
@@ -195,6 +189,10 @@ public class AuthControllerImpl implements AuthController {
         session.setAttribute(SessionKeys.USER_TYPE, response.getBody().getUserType());
         session.setAttribute(SessionKeys.AUTH_CODE, response.getBody().getAuthCode());
 
+        if(!StringUtils.isNullOrBlank(response.getBody().getToken())) {
+            session.setAttribute(SessionKeys.TOKEN, response.getBody().getToken());
+        }
+
         logger.info("Login successful for userId {} as {}", userId, userType);
         return ResponseEntity.ok().body(new MessageDTO(session, "Login successful."));
     }
@@ -204,7 +202,7 @@ public class AuthControllerImpl implements AuthController {
         Operation: Logout
 
         Terminates an authenticated user session by validating the provided {@link CookieDTO} attributes and delegating
-        the logout operation to the appropriate user-type-specific session service. Clears the session cookie attributes
+        the logout operation to the session service for the resolved user type. Clears the session cookie attributes
         on invalid input, invalid auth code format, non-numeric userId, unknown user type, or when the backend session
         cannot be found/terminated. Returns a {@link MessageDTO} containing the cleared cookie context and a logout message
         upon success, or an error response describing the failure condition.
@@ -219,7 +217,7 @@ public class AuthControllerImpl implements AuthController {
                 <li>{@link StringUtils} for null/blank and numeric validations</li>
                 <li>{@link ValidationUtils} for auth code/session key validation</li>
                 <li>{@link UserType} for user type code comparisons</li>
-                <li>Session services{@link AdminSessionService}, {@link CompanySessionService}, {@link CustomerSessionService} for user-type-specific logout processing</li>
+                <li>{@link SessionService} for logout processing of every user type</li>
                 <li>{@link Logger} for audit and diagnostic logging</li>
             </ul>
 
@@ -270,42 +268,101 @@ public class AuthControllerImpl implements AuthController {
         }
 
         //STEP 3: Logical Processing
-        if(userType.equals(UserType.ADMIN.getCode())) {
-            ResponseEntity<Boolean> response = adminSessionService.logout(Integer.parseInt(userId), authCode);
+        UserType userTypeEnum = UserType.fromCode(userType);
 
-            if(!response.getStatusCode().is2xxSuccessful() || response.getBody() == null || !response.getBody()) {
-                clearSession(session);
-                logger.warn("Logout failed for admin userId {}", userId);
-                return errorUtils.sessionNotFound(session);
-            }
+        if(userTypeEnum == null) {
+            clearSession(session);
+            logger.warn("Logout failed due to invalid user type {}", userType);
+            return errorUtils.invalidSession(session);
         }
-        else if(userType.equals(UserType.COMPANY.getCode())) {
-            ResponseEntity<Boolean> response = companySessionService.logout(Integer.parseInt(userId), authCode);
 
-            if(!response.getStatusCode().is2xxSuccessful() || response.getBody() == null || !response.getBody()) {
-                clearSession(session);
-                logger.warn("Logout failed for company userId {}", userId);
-                return errorUtils.sessionNotFound(session);
-            }
+        ResponseEntity<Boolean> response = sessionService.logout(userTypeEnum, Integer.parseInt(userId), authCode);
+
+        if(!response.getStatusCode().is2xxSuccessful() || response.getBody() == null || !response.getBody()) {
+            clearSession(session);
+            logger.warn("Logout failed for {} userId {}", userTypeEnum, userId);
+            return errorUtils.sessionNotFound(session);
         }
-        else if(userType.equals(UserType.CUSTOMER.getCode())) {
-            ResponseEntity<Boolean> response = customerSessionService.logout(Integer.parseInt(userId), authCode);
 
-            if(!response.getStatusCode().is2xxSuccessful() || response.getBody() == null || !response.getBody()) {
-                clearSession(session);
-                logger.warn("Logout failed for customer userId {}", userId);
-                return errorUtils.sessionNotFound(session);
-            }
+        clearSession(session);
+        logger.info("Logout successful for userId {} of type {}", userId, userType);
+        return ResponseEntity.ok().body(new MessageDTO(session, "Logout successful."));
+    }
+
+    /****
+
+        Operation: LogoutAll
+
+        Terminates every session of the authenticated user, on every device, with one request. The provided
+        {@link CookieDTO} must describe a valid, active session, which proves that the caller owns the account; all sessions
+        of that user, including the current one, are then removed through the per-user session index and the cookie
+        attributes are cleared. Returns a {@link MessageDTO} containing the cleared cookie context, or an error response
+        when the session is missing, malformed, expired, or not found.
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>{@link ErrorUtils} for building {@link MessageDTO}-based error responses</li>
+                <li>{@code handleValidUserSession(...)} for common authenticated-session validation</li>
+                <li>{@code validateSessionStatus(...)} for confirming that the current session is active</li>
+                <li>{@link SessionService} for removing every session of the user</li>
+                <li>{@link Logger} for audit and diagnostic logging</li>
+            </ul>
+
+        </p>
+
+        @param session the cookie/session payload of the current session of the user
+
+        @return a response entity containing a {@link MessageDTO} with the cleared {@link CookieDTO} and a business message,
+        or an error response when the current session cannot be validated
+    */
+    @PostMapping("/logoutAll")
+    public ResponseEntity<MessageDTO> logoutAll(@RequestBody CookieDTO session) {
+        ErrorUtils errorUtils = new ErrorUtils(ErrorUtils.ConversionType.MESSAGE_DTO);
+
+        // STEP 1: Classic Validations
+        ResponseEntity<MessageDTO> response = handleValidUserSession(session);
+        if(!response.getStatusCode().is2xxSuccessful()) {
+            logger.warn("Logout from all sessions failed due to invalid user session");
+            return response;
         }
-        else {
+
+        String userId = (String) session.getAttribute(SessionKeys.USER_ID);
+        String userType = (String) session.getAttribute(SessionKeys.USER_TYPE);
+        String authCode = (String) session.getAttribute(SessionKeys.AUTH_CODE);
+
+        UserType userTypeEnum = UserType.fromCode(userType);
+
+        if(userTypeEnum == null) {
             clearSession(session);
-            logger.warn("Logout failed due to invalid user type {}", userType);
+            logger.warn("Logout from all sessions failed due to invalid user type {}", userType);
             return errorUtils.invalidSession(session);
         }
 
+        //STEP 2: The current session must be active
+        ResponseEntity<StatusDTO> checkResponse = sessionService.check(userTypeEnum, Integer.parseInt(userId), authCode);
+
+        ResponseEntity<MessageDTO> validationResponse = validateSessionStatus(checkResponse, session, userTypeEnum);
+
+        if(!validationResponse.getStatusCode().is2xxSuccessful()) {
+            logger.warn("Logout from all sessions failed for {} userId {}", userTypeEnum, userId);
+            return validationResponse;
+        }
+
+        //STEP 3: Logical Processing
+        ResponseEntity<Boolean> logoutResponse = sessionService.logoutAll(userTypeEnum, Integer.parseInt(userId));
+
         clearSession(session);
-        logger.info("Logout successful for userId {} of type {}", userId, userType);
-        return ResponseEntity.ok().body(new MessageDTO(session, "Logout successful."));
+
+        if(!logoutResponse.getStatusCode().is2xxSuccessful() || logoutResponse.getBody() == null || !logoutResponse.getBody()) {
+            logger.warn("Logout from all sessions failed for {} userId {}", userTypeEnum, userId);
+            return errorUtils.sessionNotFound(session);
+        }
+
+        logger.info("Logout from all sessions successful for userId {} of type {}", userId, userType);
+        return ResponseEntity.ok().body(new MessageDTO(session, "Logged out of all sessions."));
     }
 
     /****
@@ -314,7 +371,7 @@ public class AuthControllerImpl implements AuthController {
 
         Verifies whether the provided {@link CookieDTO} represents a valid and active authenticated session by performing
         defensive validation of required attributes (userId, userType, authCode) and delegating the verification to the
-        appropriate user-type-specific session service. Clears the session cookie attributes when the payload is malformed,
+        session service for the resolved user type. Clears the session cookie attributes when the payload is malformed,
         when the auth code format is invalid, when the userId is not numeric, or when the user type is unknown. Returns a
         {@link MessageDTO} indicating session validity on success, or an error response when the session is missing, invalid,
         expired, or cannot be confirmed.
@@ -329,9 +386,9 @@ public class AuthControllerImpl implements AuthController {
                 <li>{@link StringUtils} for null/blank checks and numeric validation</li>
                 <li>{@link ValidationUtils} for session key/auth code format validation</li>
                 <li>{@link UserType} for user type code comparisons</li>
-                <li>{@link StatusDTO} as the backend session status payload returned by session services</li>
+                <li>{@link StatusDTO} as the backend session status payload returned by the session service</li>
                 <li>{@code validateSessionStatus(...)} for normalizing backend status checks into {@link MessageDTO} responses</li>
-                <li>Session services{@link AdminSessionService}, {@link CompanySessionService}, {@link CustomerSessionService} (admin/company/customer) for user-type-specific session verification</li>
+                <li>{@link SessionService} for session verification of every user type</li>
                 <li>{@link Logger} for audit and diagnostic logging</li>
             </ul>
 
@@ -402,39 +459,20 @@ public class AuthControllerImpl implements AuthController {
             return errorUtils.invalidSession(session);
         }
 
-        if(userType.equals(UserType.ADMIN.getCode())) {
-            ResponseEntity<StatusDTO> response = adminSessionService.check(Integer.parseInt(userId), authCode);
-
-            ResponseEntity<MessageDTO> validationResponse = validateSessionStatus(response, session, UserType.ADMIN);
+        UserType userTypeEnum = UserType.fromCode(userType);
 
-            if(!validationResponse.getStatusCode().is2xxSuccessful()) {
-                logger.warn("Session check failed for admin userId {}", userId);
-                return validationResponse;
-            }
+        if(userTypeEnum == null) {
+            clearSession(session);
+            return errorUtils.invalidSession(session);
         }
-        else if(userType.equals(UserType.COMPANY.getCode())) {
-            ResponseEntity<StatusDTO> response = companySessionService.check(Integer.parseInt(userId), authCode);
-
-            ResponseEntity<MessageDTO> validationResponse = validateSessionStatus(response, session, UserType.COMPANY);
 
-            if(!validationResponse.getStatusCode().is2xxSuccessful()) {
-                logger.warn("Session check failed for company userId {}", userId);
-                return validationResponse;
-            }
-        }
-        else if(userType.equals(UserType.CUSTOMER.getCode())) {
-            ResponseEntity<StatusDTO> response = customerSessionService.check(Integer.parseInt(userId), authCode);
+        ResponseEntity<StatusDTO> response = sessionService.check(userTypeEnum, Integer.parseInt(userId), authCode);
 
-            ResponseEntity<MessageDTO> validationResponse = validateSessionStatus(response, session, UserType.CUSTOMER);
+        ResponseEntity<MessageDTO> validationResponse = validateSessionStatus(response, session, userTypeEnum);
 
-            if(!validationResponse.getStatusCode().is2xxSuccessful()) {
-                logger.warn("Session check failed for customer userId {}", userId);
-                return validationResponse;
-            }
-        }
-        else {
-            clearSession(session);
-            return errorUtils.invalidSession(session);
+        if(!validationResponse.getStatusCode().is2xxSuccessful()) {
+            logger.warn("Session check failed for {} userId {}", userTypeEnum, userId);
+            return validationResponse;
         }
 
         return ResponseEntity.ok().body(new MessageDTO(session, "Session is valid."));
@@ -446,7 +484,7 @@ public class AuthControllerImpl implements AuthController {
 
         Validates that the incoming {@link CookieDTO} represents an authenticated session and specifically enforces that the
         session belongs to an ADMIN user. Reuses shared session-validation logic to ensure required attributes are present
-        and consistent, then performs an admin-specific session status check via the admin session service. Maps generic
+        and consistent, then performs an admin-specific session status check via the session service. Maps generic
         {@link MessageDTO}-based validation outcomes into {@link CheckMessageDTO} responses and returns a payload containing
         the validated session context and the resolved admin userId when the session is confirmed as active.
 
@@ -459,10 +497,10 @@ public class AuthControllerImpl implements AuthController {
                 <li>{@code handleValidUserSession(...)} for common authenticated-session validation</li>
                 <li>{@link SessionKeys} for retrieving userId, userType, and authCode from the session carrier</li>
                 <li>{@link UserType} for enforcing ADMIN-only access</li>
-                <li>{@link StatusDTO} as the backend session status payload returned by the admin session service</li>
+                <li>{@link StatusDTO} as the backend session status payload returned by the session service</li>
                 <li>{@code validateSessionStatus(...)} for normalizing backend status checks into {@link MessageDTO} responses</li>
                 <li>{@link ResponseEntityMapper} for converting {@link MessageDTO} responses into {@link CheckMessageDTO} responses</li>
-                <li>{@link AdminSessionService} for admin-specific session verification</li>
+                <li>{@link SessionService} for admin session verification</li>
                 <li>{@link Logger} for audit and diagnostic logging</li>
             </ul>
 
@@ -493,7 +531,7 @@ public class AuthControllerImpl implements AuthController {
             return errorUtils.invalidSession(session);
         }
 
-        ResponseEntity<StatusDTO> checkResponse = adminSessionService.check(Integer.parseInt(userId), authCode);
+        ResponseEntity<StatusDTO> checkResponse = sessionService.check(UserType.ADMIN, Integer.parseInt(userId), authCode);
 
         ResponseEntity<MessageDTO> validationResponse = validateSessionStatus(checkResponse, session, UserType.ADMIN);
 
@@ -512,7 +550,7 @@ public class AuthControllerImpl implements AuthController {
 
         Validates that the incoming {@link CookieDTO} represents an authenticated session and enforces that the session
         belongs to a COMPANY user. Reuses shared session-validation logic to verify required session attributes are present
-        and consistent, then delegates to the company session service to confirm the session status using the resolved
+        and consistent, then delegates to the session service to confirm the session status using the resolved
         userId and authCode. Maps generic {@link MessageDTO}-based validation outcomes into {@link CheckMessageDTO} responses
         and returns a payload containing the validated session context and the resolved company userId when the session is
         confirmed as active.
@@ -526,10 +564,10 @@ public class AuthControllerImpl implements AuthController {
                 <li>{@code handleValidUserSession(...)} for common authenticated-session validation</li>
                 <li>{@link SessionKeys} for retrieving userId, userType, and authCode from the session carrier</li>
                 <li>{@link UserType} for enforcing COMPANY-only access</li>
-                <li>{@link StatusDTO} as the backend session status payload returned by the company session service</li>
+                <li>{@link StatusDTO} as the backend session status payload returned by the session service</li>
                 <li>{@code validateSessionStatus(...)} for normalizing backend status checks into {@link MessageDTO} responses</li>
                 <li>{@link ResponseEntityMapper} for converting {@link MessageDTO} responses into {@link CheckMessageDTO} responses</li>
-                <li>{@link CompanySessionService} for company-specific session verification</li>
+                <li>{@link SessionService} for company session verification</li>
                 <li>{@link Logger} for audit and diagnostic logging</li>
             </ul>
             
@@ -559,7 +597,7 @@ public class AuthControllerImpl implements AuthController {
             return errorUtils.invalidSession(session);
         }
 
-        ResponseEntity<StatusDTO> checkResponse = companySessionService.check(Integer.parseInt(userId), authCode);
+        ResponseEntity<StatusDTO> checkResponse = sessionService.check(UserType.COMPANY, Integer.parseInt(userId), authCode);
 
         ResponseEntity<MessageDTO> validationResponse = validateSessionStatus(checkResponse, session, UserType.COMPANY);
 
@@ -578,7 +616,7 @@ public class AuthControllerImpl implements AuthController {
 
         Validates that the incoming {@link CookieDTO} represents an authenticated session and enforces that the session
         belongs to a CUSTOMER user. Reuses shared session-validation logic to verify required session attributes are present
-        and consistent, then delegates to the customer session service to confirm the session status using the resolved
+        and consistent, then delegates to the session service to confirm the session status using the resolved
         userId and authCode. Maps generic {@link MessageDTO}-based validation outcomes into {@link CheckMessageDTO} responses
         and returns a payload containing the validated session context and the resolved customer userId when the session is
         confirmed as active.
@@ -592,10 +630,10 @@ public class AuthControllerImpl implements AuthController {
                 <li>{@code handleValidUserSession(...)} for common authenticated-session validation</li>
                 <li>{@link SessionKeys} for retrieving userId, userType, and authCode from the session carrier</li>
                 <li>{@link UserType} for enforcing CUSTOMER-only access</li>
-                <li>{@link StatusDTO} as the backend session status payload returned by the customer session service</li>
+                <li>{@link StatusDTO} as the backend session status payload returned by the session service</li>
                 <li>{@code validateSessionStatus(...)} for normalizing backend status checks into {@link MessageDTO} responses</li>
                 <li>{@link ResponseEntityMapper} for converting {@link MessageDTO} responses into {@link CheckMessageDTO} responses</li>
-                <li>{@link CustomerSessionService} for customer-specific session verification</li>
+                <li>{@link SessionService} for customer session verification</li>
                 <li>{@link Logger} for audit and diagnostic logging</li>
             </ul>
 
@@ -626,7 +664,7 @@ public class AuthControllerImpl implements AuthController {
             return errorUtils.invalidSession(session);
         }
 
-        ResponseEntity<StatusDTO> checkResponse = customerSessionService.check(Integer.parseInt(userId), authCode);
+        ResponseEntity<StatusDTO> checkResponse = sessionService.check(UserType.CUSTOMER, Integer.parseInt(userId), authCode);
 
         ResponseEntity<MessageDTO> validationResponse = validateSessionStatus(checkResponse, session, UserType.CUSTOMER);
 
@@ -639,7 +677,147 @@ public class AuthControllerImpl implements AuthController {
         return ResponseEntity.ok().body(new CheckMessageDTO(session, "Session is valid.", Integer.parseInt(userId)));
     }
 
+    /****
+
+        Operation: CheckBatch
+
+        Validates many role-scoped sessions with one request, so that the api-gateway can confirm the sessions of
+        concurrent requests together instead of calling {@code /checkAdmin}, {@code /checkCompany}, or
+        {@code /checkCustomer} once per request. Every check carries its {@link CookieDTO} and the user type it requires.
+        The checks first go through the same attribute and user type validation as the single check endpoints; the
+        remaining ones are then resolved together by the session service, which reads all of their session codes with one
+        lookup. Each result carries the HTTP status, session context, message, and userId that the matching single check
+        endpoint would have returned, in request order.
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>{@link ErrorUtils} for building {@link CheckMessageDTO}-based error responses</li>
+                <li>{@code handleValidUserSession(...)} for common authenticated-session validation</li>
+                <li>{@link SessionKeys} for retrieving userId, userType, and authCode from the session carrier</li>
+                <li>{@link SessionLookupDTO} for describing the sessions passed to the session service</li>
+                <li>{@code validateSessionStatus(...)} for normalizing session statuses into {@link MessageDTO} responses</li>
+                <li>{@link ResponseEntityMapper} for converting {@link MessageDTO} responses into {@link CheckMessageDTO} responses</li>
+                <li>{@link SessionService} for the batch session verification</li>
+                <li>{@link Logger} for audit and diagnostic logging</li>
+            </ul>
+
+        </p>
+
+        @param batch the session checks to perform, at most {@code AppConstants.MAX_CHECK_BATCH_SIZE} of them
+
+        @return a response entity containing a {@link SessionCheckBatchResultDTO} with one result per check, or a bad request
+        response when the batch is missing or too large
+    */
+    @PostMapping("/checkBatch")
+    public ResponseEntity<SessionCheckBatchResultDTO> checkBatch(@RequestBody SessionCheckBatchDTO batch) {
+        ErrorUtils errorUtils = new ErrorUtils(ErrorUtils.ConversionType.CHECK_MESSAGE_DTO);
+
+        if(batch == null || batch.getChecks() == null || batch.getChecks().size() > AppConstants.MAX_CHECK_BATCH_SIZE) {
+            logger.warn("Batch session check rejected due to missing or oversized batch");
+            return ResponseEntity.badRequest().body(new SessionCheckBatchResultDTO(List.of()));
+        }
+
+        List<SessionCheckDTO> checks = batch.getChecks();
+        List<ResponseEntity<CheckMessageDTO>> responses = new ArrayList<>(checks.size());
+        List<SessionLookupDTO> lookups = new ArrayList<>();
+        List<Integer> lookupIndexes = new ArrayList<>();
+
+        // STEP 1: Classic Validations, per check
+        for(int i = 0; i < checks.size(); i++) {
+            SessionCheckDTO check = checks.get(i);
+            CookieDTO session = check == null ? null : check.getCookie();
+            UserType requiredType = check == null ? null : UserType.fromCode(check.getUserType());
+
+            ResponseEntity<MessageDTO> response = handleValidUserSession(session);
+            if(!response.getStatusCode().is2xxSuccessful()) {
+                responses.add(ResponseEntityMapper.toCheckMessageDTOResponseEntity(response));
+                continue;
+            }
+
+            String userType = (String) session.getAttribute(SessionKeys.USER_TYPE);
+            if(requiredType == null || !userType.equals(requiredType.getCode())) {
+                logger.warn("Batch session check failed due to user type {}", userType);
+                responses.add(errorUtils.invalidSession(session));
+                continue;
+            }
+
+            String userId = (String) session.getAttribute(SessionKeys.USER_ID);
+            String authCode = (String) session.getAttribute(SessionKeys.AUTH_CODE);
+
+            responses.add(null);
+            lookups.add(new SessionLookupDTO(requiredType, Integer.parseInt(userId), authCode));
+            lookupIndexes.add(i);
+        }
+
+        // STEP 2: One lookup for every session that passed
+        List<SessionStatus> statuses = lookups.isEmpty() ? List.of() : sessionService.checkAll(lookups);
+
+        for(int j = 0; j < lookups.size(); j++) {
+            int index = lookupIndexes.get(j);
+            SessionLookupDTO lookup = lookups.get(j);
+            CookieDTO session = checks.get(index).getCookie();
+            SessionStatus status = statuses.get(j);
+
+            ResponseEntity<StatusDTO> checkResponse = status == SessionStatus.VALID
+                    ? ResponseEntity.ok(new StatusDTO(status))
+                    : ResponseEntity.badRequest().body(new StatusDTO(status));
+
+            ResponseEntity<MessageDTO> validationResponse = validateSessionStatus(checkResponse, session, lookup.getUserType());
+
+            if(!validationResponse.getStatusCode().is2xxSuccessful()) {
+                responses.set(index, ResponseEntityMapper.toCheckMessageDTOResponseEntity(validationResponse));
+                continue;
+            }
+
+            responses.set(index, ResponseEntity.ok().body(new CheckMessageDTO(session, "Session is valid.", lookup.getUserId())));
+        }
+
+        List<SessionCheckResultDTO> results = new ArrayList<>(responses.size());
+        for(ResponseEntity<CheckMessageDTO> response : responses) {
+            CheckMessageDTO body = response.getBody();
+            results.add(new SessionCheckResultDTO(
+                    response.getStatusCode().value(),
+                    body == null ? null : body.getCookie(),
+                    body == null ? null : body.getMessage(),
+                    body == null ? 0 : body.getUserId()
+            ));
+        }
+
+        logger.info("Batch session check completed for {} sessions ({} looked up)", checks.size(), lookups.size());
+        return ResponseEntity.ok().body(new SessionCheckBatchResultDTO(results));
+    }
+
+
+
+    /****
+
+        Operation: Revocations
+
+        Returns the sessions revoked after the given cursor, one page at a time, so that the api-gateway can keep its
+        local copy of the revocation list for signed session tokens up to date.
 
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>{@link SessionService} for reading the revocation list</li>
+                <li>{@link RevocationsDTO} as the page of revoked sessions</li>
+            </ul>
+
+        </p>
+
+        @param cursor the cursor returned by the previous page, or 0 to read from the beginning
+
+        @return a response entity containing a {@link RevocationsDTO} with the sessions revoked after the cursor
+    */
+    @GetMapping("/revocations")
+    public ResponseEntity<RevocationsDTO> getRevocations(@RequestParam(defaultValue = "0") long cursor) {
+        return ResponseEntity.ok(sessionService.getRevocations(Math.max(cursor, 0L)));
+    }
 
     ///HELPER METHODS START
 
@@ -648,8 +826,8 @@ public class AuthControllerImpl implements AuthController {
         Operation: Clear
 
         Removes all authentication-related attributes from the provided {@link CookieDTO} to fully invalidate the
-        current session context. This method clears the stored user identifier, user type, and authorization code
-        and is typically invoked during logout, session invalidation, or error-handling flows to ensure no stale
+        current session context. This method clears the stored user identifier, user type, authorization code, and
+        signed token and is typically invoked during logout, session invalidation, or error-handling flows to ensure no stale
         authentication data remains.
 
         <p>
@@ -670,6 +848,7 @@ public class AuthControllerImpl implements AuthController {
         session.removeAttribute(SessionKeys.USER_ID);
         session.removeAttribute(SessionKeys.USER_TYPE);
         session.removeAttribute(SessionKeys.AUTH_CODE);
+        session.removeAttribute(SessionKeys.TOKEN);
         logger.info("Session attributes cleared.");
     }
 
@@ -0,0 +1,41 @@
+package com.shubilet.security_service.dataTransferObjects;
+
+/**
+
+    Domain: Session
+
+    Describes one revoked session in the revocation list: the code its tokens are bound to and
+    the instant, in epoch milliseconds, after which those tokens expire on their own and the
+    entry can be forgotten.
+
+    <p>
+
+        Technologies:
+
+        <ul>
+            <li>Core Java DTO pattern</li>
+        </ul>
+
+    </p>
+
+    @author Abdullah (Mirliva) GÜNDÜZ - https://github.com/MrMilriva
+
+    @version 1.0
+*/
+public class RevokedSessionDTO {
+    private final String code;
+    private final long expiresAt;
+
+    public RevokedSessionDTO(String code, long expiresAt) {
+        this.code = code;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public long getExpiresAt() {
+        return expiresAt;
+    }
+}
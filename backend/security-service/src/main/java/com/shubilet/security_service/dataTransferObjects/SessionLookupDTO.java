@@ -0,0 +1,48 @@
+package com.shubilet.security_service.dataTransferObjects;
+
+import com.shubilet.security_service.common.enums.UserType;
+
+/**
+
+    Domain: Session
+
+    Identifies one session to be checked as part of a batch: the session code together with
+    the user type and user identifier the session is expected to belong to.
+
+    <p>
+
+        Technologies:
+
+        <ul>
+            <li>Core Java DTO pattern</li>
+        </ul>
+
+    </p>
+
+    @author Abdullah (Mirliva) GÜNDÜZ - https://github.com/MrMilriva
+
+    @version 1.0
+*/
+public class SessionLookupDTO {
+    private final UserType userType;
+    private final int userId;
+    private final String code;
+
+    public SessionLookupDTO(UserType userType, int userId, String code) {
+        this.userType = userType;
+        this.userId = userId;
+        this.code = code;
+    }
+
+    public UserType getUserType() {
+        return userType;
+    }
+
+    public int getUserId() {
+        return userId;
+    }
+
+    public String getCode() {
+        return code;
+    }
+}
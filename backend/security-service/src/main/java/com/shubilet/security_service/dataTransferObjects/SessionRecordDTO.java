@@ -0,0 +1,58 @@
+package com.shubilet.security_service.dataTransferObjects;
+
+import java.time.Instant;
+
+import com.shubilet.security_service.common.enums.UserType;
+
+/**
+
+    Domain: Session
+
+    Carries the fields needed to validate a session, as returned by the single-row lookup
+    of a session by its code: the code itself, the owning user, its user type, and the
+    expiration instant. The code lets records returned by a multi-code lookup be matched
+    back to the sessions that were asked for.
+
+    <p>
+
+        Technologies:
+
+        <ul>
+            <li>Core Java DTO pattern</li>
+        </ul>
+
+    </p>
+
+    @author Abdullah (Mirliva) GÜNDÜZ - https://github.com/MrMilriva
+
+    @version 1.0
+*/
+public class SessionRecordDTO {
+    private final String code;
+    private final int userId;
+    private final UserType userType;
+    private final Instant expiresAt;
+
+    public SessionRecordDTO(String code, int userId, UserType userType, Instant expiresAt) {
+        this.code = code;
+        this.userId = userId;
+        this.userType = userType;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public int getUserId() {
+        return userId;
+    }
+
+    public UserType getUserType() {
+        return userType;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+}
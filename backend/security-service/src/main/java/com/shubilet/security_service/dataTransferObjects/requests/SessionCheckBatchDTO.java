@@ -0,0 +1,22 @@
+package com.shubilet.security_service.dataTransferObjects.requests;
+
+import java.util.List;
+
+public class SessionCheckBatchDTO {
+    private List<SessionCheckDTO> checks;
+
+    public SessionCheckBatchDTO() {
+
+    }
+
+    public SessionCheckBatchDTO(List<SessionCheckDTO> checks) {
+        this.checks = checks;
+    }
+
+    public List<SessionCheckDTO> getChecks() {
+        return checks;
+    }
+    public void setChecks(List<SessionCheckDTO> checks) {
+        this.checks = checks;
+    }
+}
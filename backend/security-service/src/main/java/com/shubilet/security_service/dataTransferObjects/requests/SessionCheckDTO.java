@@ -0,0 +1,32 @@
+package com.shubilet.security_service.dataTransferObjects.requests;
+
+import com.shubilet.security_service.dataTransferObjects.CookieDTO;
+
+public class SessionCheckDTO {
+    private CookieDTO cookie;
+    // The user type the session must belong to: ADMIN, COMPANY, or CUSTOMER.
+    private String userType;
+
+    public SessionCheckDTO() {
+
+    }
+
+    public SessionCheckDTO(CookieDTO cookie, String userType) {
+        this.cookie = cookie;
+        this.userType = userType;
+    }
+
+    public CookieDTO getCookie() {
+        return cookie;
+    }
+    public void setCookie(CookieDTO cookie) {
+        this.cookie = cookie;
+    }
+
+    public String getUserType() {
+        return userType;
+    }
+    public void setUserType(String userType) {
+        this.userType = userType;
+    }
+}
@@ -0,0 +1,72 @@
+package com.shubilet.security_service.dataTransferObjects.responses;
+
+import java.util.List;
+
+import com.shubilet.security_service.dataTransferObjects.RevokedSessionDTO;
+
+/**
+
+    Domain: Session
+
+    Carries one page of the revocation list to the api-gateway. {@code epoch} identifies the
+    running security service instance; when it changes, sequence numbers restarted and the
+    reader must sync again from cursor 0. {@code cursor} is the sequence number of the last
+    entry in {@code revoked} and is passed back on the next request. Tokens issued before
+    {@code validAfter} must not be trusted locally, because every session existing at that
+    instant was dropped at once.
+
+    <p>
+
+        Technologies:
+
+        <ul>
+            <li>Core Java DTO pattern</li>
+        </ul>
+
+    </p>
+
+    @author Abdullah (Mirliva) GÜNDÜZ - https://github.com/MrMilriva
+
+    @version 1.0
+*/
+public class RevocationsDTO {
+    private String epoch;
+    private long cursor;
+    private long validAfter;
+    private List<RevokedSessionDTO> revoked;
+
+    public RevocationsDTO(String epoch, long cursor, long validAfter, List<RevokedSessionDTO> revoked) {
+        this.epoch = epoch;
+        this.cursor = cursor;
+        this.validAfter = validAfter;
+        this.revoked = revoked;
+    }
+
+    public String getEpoch() {
+        return epoch;
+    }
+    public void setEpoch(String epoch) {
+        this.epoch = epoch;
+    }
+
+    public long getCursor() {
+        return cursor;
+    }
+    public void setCursor(long cursor) {
+        this.cursor = cursor;
+    }
+
+    public long getValidAfter() {
+        return validAfter;
+    }
+    public void setValidAfter(long validAfter) {
+        this.validAfter = validAfter;
+    }
+
+    public List<RevokedSessionDTO> getRevoked() {
+        return revoked;
+    }
+    public void setRevoked(List<RevokedSessionDTO> revoked) {
+        this.revoked = revoked;
+    }
+}
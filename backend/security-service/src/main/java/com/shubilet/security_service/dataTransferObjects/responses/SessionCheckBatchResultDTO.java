@@ -0,0 +1,19 @@
+package com.shubilet.security_service.dataTransferObjects.responses;
+
+import java.util.List;
+
+public class SessionCheckBatchResultDTO {
+    // One result per requested check, in request order.
+    private List<SessionCheckResultDTO> results;
+
+    public SessionCheckBatchResultDTO(List<SessionCheckResultDTO> results) {
+        this.results = results;
+    }
+
+    public List<SessionCheckResultDTO> getResults() {
+        return results;
+    }
+    public void setResults(List<SessionCheckResultDTO> results) {
+        this.results = results;
+    }
+}
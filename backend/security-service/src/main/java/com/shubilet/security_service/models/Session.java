@@ -1,9 +1,12 @@
 package com.shubilet.security_service.models;
 
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.Table;
 import jakarta.persistence.Column;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.PrePersist;
@@ -12,16 +15,20 @@ import jakarta.validation.constraints.NotNull;
 import java.io.Serializable;
 import java.time.Instant;
 
+import com.shubilet.security_service.common.enums.UserType;
+
 /**
 
     Domain: Persistence
 
-    Represents the JPA entity used to persist and manage session records for customer users
-    within the authentication subsystem. Each session entry binds a customer identifier to a
-    unique session code, along with creation and expiration timestamps that determine the active
-    lifecycle of the session. Field-level validation helps ensure data integrity, while lifecycle
-    callbacks automatically initialize timestamps on persistence. Convenience methods such as
-    expiration checks assist higher-level services in enforcing session validity.
+    Represents the JPA entity used to persist session records of every user type within the
+    authentication subsystem. Each session entry binds a user identifier and its user type
+    (admin, company, or customer) to a unique session code, along with creation and expiration
+    timestamps that determine the active lifecycle of the session. Keeping all user types in
+    one table lets a session be resolved from its code alone, through the unique index on
+    {@code code}, with a single lookup, while the index on the user type and user identifier
+    finds the few sessions of one user without a scan. Field-level validation helps ensure data integrity,
+    while lifecycle callbacks automatically initialize timestamps on persistence.
 
     <p>
 
@@ -37,11 +44,14 @@ import java.time.Instant;
 
     @author Abdullah (Mirliva) GÜNDÜZ - https://github.com/MrMirliva
 
-    @version 1.0
+    @version 2.0
 */
 @Entity
-@Table(name = "customer_sessions")
-public class CustomerSession implements Serializable {
+@Table(
+    name = "sessions",
+    indexes = @Index(name = "idx_sessions_user", columnList = "user_type, user_id")
+)
+public class Session implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
@@ -56,8 +66,13 @@ public class CustomerSession implements Serializable {
     // Fields
     // ------------------------
     @NotNull
-    @Column(name = "customer_id", nullable = false)
-    private Integer customerId;
+    @Column(name = "user_id", nullable = false)
+    private Integer userId;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "user_type", nullable = false, length = 16)
+    private UserType userType;
 
     @NotBlank
     @Column(nullable = false, unique = true, length = 64)
@@ -72,11 +87,12 @@ public class CustomerSession implements Serializable {
     // ------------------------
     // Constructors
     // ------------------------
-    public CustomerSession() {
+    public Session() {
     }
 
-    public CustomerSession(Integer customerId, String code, Instant expiresAt) {
-        this.customerId = customerId;
+    public Session(Integer userId, UserType userType, String code, Instant expiresAt) {
+        this.userId = userId;
+        this.userType = userType;
         this.code = code;
         this.expiresAt = expiresAt;
     }
@@ -103,11 +119,18 @@ public class CustomerSession implements Serializable {
         this.id = id;
     }
 
-    public Integer getCustomerId() {
-        return customerId;
+    public Integer getUserId() {
+        return userId;
+    }
+    public void setUserId(Integer userId) {
+        this.userId = userId;
+    }
+
+    public UserType getUserType() {
+        return userType;
     }
-    public void setCustomerId(Integer customerId) {
-        this.customerId = customerId;
+    public void setUserType(UserType userType) {
+        this.userType = userType;
     }
 
     public String getCode() {
@@ -141,8 +164,8 @@ public class CustomerSession implements Serializable {
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
-        if (!(o instanceof CustomerSession)) return false;
-        CustomerSession that = (CustomerSession) o;
+        if (!(o instanceof Session)) return false;
+        Session that = (Session) o;
         return id == that.id && code.equals(that.code);
     }
 
@@ -156,9 +179,10 @@ public class CustomerSession implements Serializable {
     // ------------------------
     @Override
     public String toString() {
-        return "CustomerSession{" +
+        return "Session{" +
                 "id=" + id +
-                ", customerId=" + customerId +
+                ", userId=" + userId +
+                ", userType=" + userType +
                 ", code='" + code + '\'' +
                 ", createdAt=" + createdAt +
                 ", expiresAt=" + expiresAt +
@@ -0,0 +1,428 @@
+package com.shubilet.security_service.repositories;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.shubilet.security_service.common.enums.UserType;
+import com.shubilet.security_service.dataTransferObjects.SessionRecordDTO;
+import com.shubilet.security_service.models.Session;
+
+import jakarta.transaction.Transactional;
+
+@Repository
+public interface SessionRepository extends JpaRepository<Session, Integer> {
+
+    /***
+
+        Operation: FindRecordByCode
+
+        Resolves a session from its code alone and returns the owning user, its user type, and
+        the expiration instant. This is the only query needed to validate a session of any user
+        type: it is a single lookup on the unique index of {@code code}, and the caller compares
+        the returned owner and expiration itself instead of issuing separate existence and
+        expiration queries.
+
+        <p>
+
+            Usage:
+
+            <pre>
+                Optional&lt;SessionRecordDTO&gt; record =
+                    sessionRepository.findRecordByCode("ABC123XYZ");
+            </pre>
+
+        </p>
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>{@link Session} as the underlying JPA entity</li>
+                <li>JPQL constructor expression for projecting into {@link SessionRecordDTO}</li>
+                <li>{@link Param} for named parameter binding</li>
+            </ul>
+
+        </p>
+
+        @param code the session code to resolve
+
+        @return an {@link Optional} containing the session record, or {@link Optional#empty()} if
+        no session uses the given code
+    */
+    @Query("""
+        SELECT new com.shubilet.security_service.dataTransferObjects.SessionRecordDTO(s.code, s.userId, s.userType, s.expiresAt)
+        FROM Session s
+        WHERE s.code = :code
+    """)
+    Optional<SessionRecordDTO> findRecordByCode(@Param("code") String code);
+
+    /***
+
+        Operation: FindRecordsByCodes
+
+        Resolves many sessions from their codes with a single {@code WHERE code IN (...)} query
+        on the unique index of {@code code}. This is the batch form of {@link #findRecordByCode},
+        used to validate a batch of session checks in one round trip; codes that do not belong to
+        any session are simply absent from the result.
+
+        <p>
+
+            Usage:
+
+            <pre>
+                List&lt;SessionRecordDTO&gt; records =
+                    sessionRepository.findRecordsByCodes(List.of("ABC123XYZ", "DEF456UVW"));
+            </pre>
+
+        </p>
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>{@link Session} as the underlying JPA entity</li>
+                <li>JPQL constructor expression for projecting into {@link SessionRecordDTO}</li>
+                <li>{@link Param} for named parameter binding</li>
+            </ul>
+
+        </p>
+
+        @param codes the session codes to resolve
+
+        @return the records of the sessions that exist, in no particular order
+    */
+    @Query("""
+        SELECT new com.shubilet.security_service.dataTransferObjects.SessionRecordDTO(s.code, s.userId, s.userType, s.expiresAt)
+        FROM Session s
+        WHERE s.code IN :codes
+    """)
+    List<SessionRecordDTO> findRecordsByCodes(@Param("codes") Collection<String> codes);
+
+    /**
+
+        Operation: Lookup
+
+        Determines whether a session of any user type exists that uses the specified session code.
+        This query checks the persistence layer to ensure uniqueness of session codes,
+        typically during session creation workflows to avoid collisions with existing
+        sessions.
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>JPA query for session code existence checking</li>
+            </ul>
+
+        </p>
+
+        @param code the session code whose existence is being checked
+
+        @return {@code true} if a session with the given code exists, otherwise {@code false}
+    */
+    @Query("""
+        SELECT COUNT(s) > 0
+        FROM Session s
+        WHERE s.code = :code
+    """)
+    boolean hasCode(@Param("code") String code);
+
+    /***
+
+        Operation: ExistsByUser
+
+        Checks whether at least one session exists for the specified user. The lookup is served
+        by the {@code (user_type, user_id)} index without loading any {@link Session} entity.
+
+        <p>
+
+            Usage:
+
+            <pre>
+                boolean hasActiveSession =
+                    sessionRepository.existsByUser(UserType.CUSTOMER, 25);
+            </pre>
+
+        </p>
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>{@link Session} as the underlying JPA entity</li>
+                <li>{@link Query} for custom JPQL execution</li>
+                <li>{@link Param} for named parameter binding</li>
+            </ul>
+
+        </p>
+
+        @param userType the type of the user
+
+        @param userId the identifier of the user
+
+        @return {@code true} if a session exists for the given user, otherwise {@code false}
+    */
+    @Query("""
+        SELECT COUNT(s) > 0
+        FROM Session s
+        WHERE s.userType = :userType
+            AND s.userId = :userId
+    """)
+    boolean existsByUser(@Param("userType") UserType userType, @Param("userId") int userId);
+
+    /**
+
+        Operation: FindCodesByUser
+
+        Returns the codes of every session of the given user, newest first, through the index on
+        the user type and user identifier. A user holds only a few sessions, so the result stays
+        small; it is used to cap the sessions of a user and to log a user out everywhere.
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>JPA query over the {@code (user_type, user_id)} index</li>
+            </ul>
+
+        </p>
+
+        @param userType the type of the user owning the sessions
+
+        @param userId the identifier of the user owning the sessions
+
+        @return the session codes of the user, ordered from the newest to the oldest session
+    */
+    @Query("""
+        SELECT s.code
+        FROM Session s
+        WHERE s.userType = :userType
+            AND s.userId = :userId
+        ORDER BY s.createdAt DESC
+    """)
+    List<String> findCodesByUser(@Param("userType") UserType userType, @Param("userId") int userId);
+
+    /***
+
+        Operation: DeleteByCodeAndUser
+
+        Deletes the session with the given code if it belongs to the given user. This method is
+        typically invoked during logout operations to invalidate a specific session.
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>JPQL conditional delete on the {@link Session} entity</li>
+                <li>{@link Transactional} to ensure atomic delete behavior</li>
+            </ul>
+
+        </p>
+
+        @param code the session code to delete
+
+        @param userType the type of the user owning the session
+
+        @param userId the identifier of the user owning the session
+
+        @return the number of deleted session records (0 if no matching session exists)
+    */
+    @Modifying
+    @Transactional
+    @Query("""
+        DELETE FROM Session s
+        WHERE s.code = :code
+            AND s.userType = :userType
+            AND s.userId = :userId
+    """)
+    int deleteByCodeAndUser(
+            @Param("code") String code,
+            @Param("userType") UserType userType,
+            @Param("userId") int userId
+    );
+
+    /***
+
+        Operation: DeleteByCodes
+
+        Deletes every session whose code is contained in the given collection with a single
+        statement. This method is used by the session write-behind to apply a batch of logouts
+        at once instead of issuing one delete per session.
+
+        <p>
+
+            Usage:
+
+            <pre>
+                int deletedCount =
+                    sessionRepository.deleteByCodes(List.of("ABC123XYZ", "DEF456UVW"));
+            </pre>
+
+        </p>
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>Native SQL query for bulk deletion by session code</li>
+                <li>{@link Transactional} to ensure atomic delete behavior</li>
+            </ul>
+
+        </p>
+
+        @param codes the session codes to delete
+
+        @return the number of deleted session records
+    */
+    @Modifying
+    @Transactional
+    @Query(
+        value = """
+                DELETE FROM sessions
+                WHERE code IN (:codes)
+                """,
+        nativeQuery = true
+    )
+    int deleteByCodes(@Param("codes") Collection<String> codes);
+
+    /**
+
+        Operation: Cleanup
+
+        Deletes at most {@code limit} session records whose expiration timestamps have already
+        passed, oldest first, for every user type at once. The rows are picked through the
+        {@code expires_at} index, so every call touches a bounded number of rows: it holds its
+        locks briefly and writes a bounded amount of WAL, however large the backlog is. Rows
+        locked by a concurrent transaction are skipped rather than waited for. It is called
+        repeatedly by the session sweeper until no expired rows remain.
+
+        <p>
+
+            Usage:
+
+            <pre>
+                int deletedCount = sessionRepository.deleteExpiredBatch(1000);
+            </pre>
+
+        </p>
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>Native SQL query for removing expired session records in bounded batches</li>
+                <li>Spring Transaction management for ensuring atomic execution</li>
+            </ul>
+
+        </p>
+
+        @param limit the maximum number of session records to delete
+
+        @return the number of deleted session records
+    */
+    @Modifying
+    @Transactional
+    @Query(
+        value = """
+                DELETE FROM sessions
+                WHERE id IN (
+                    SELECT id
+                    FROM sessions
+                    WHERE expires_at < NOW()
+                    ORDER BY expires_at
+                    LIMIT :limit
+                    FOR UPDATE SKIP LOCKED
+                )
+                """,
+        nativeQuery = true
+    )
+    int deleteExpiredBatch(@Param("limit") int limit);
+
+    /**
+
+        Operation: CountExpired
+
+        Counts the expired session records still waiting to be swept, stopping at {@code cap} so
+        that measuring a large backlog stays as cheap as sweeping one batch of it.
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>Native SQL query over the {@code expires_at} index</li>
+            </ul>
+
+        </p>
+
+        @param cap the maximum value to count up to
+
+        @return the number of expired session records, or {@code cap} if there are at least that many
+    */
+    @Query(
+        value = """
+                SELECT COUNT(*)
+                FROM (
+                    SELECT 1
+                    FROM sessions
+                    WHERE expires_at < NOW()
+                    LIMIT :cap
+                ) expired
+                """,
+        nativeQuery = true
+    )
+    int countExpired(@Param("cap") int cap);
+
+    /**
+
+        Operation: FindActivePage
+
+        Reads one page of the sessions that have not expired yet, ordered by identifier and
+        starting after the given one. Paging by key keeps every page an index range scan of the
+        same cost, however many pages were read before it, so the whole table can be streamed
+        into memory at startup without holding it in a single result.
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>Native SQL query over the primary key</li>
+            </ul>
+
+        </p>
+
+        @param afterId the identifier of the last session of the previous page, or 0 for the first page
+
+        @param limit the maximum number of sessions to return
+
+        @return the next active sessions, in ascending identifier order
+    */
+    @Query(
+        value = """
+                SELECT *
+                FROM sessions
+                WHERE id > :afterId
+                AND expires_at > NOW()
+                ORDER BY id
+                LIMIT :limit
+                """,
+        nativeQuery = true
+    )
+    List<Session> findActivePage(@Param("afterId") int afterId, @Param("limit") int limit);
+}
@@ -0,0 +1,215 @@
+package com.shubilet.security_service.services.Impl;
+
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import com.shubilet.security_service.common.constants.AppConstants;
+import com.shubilet.security_service.common.enums.SessionStatus;
+import com.shubilet.security_service.common.enums.UserType;
+import com.shubilet.security_service.common.util.SessionKeyCodec;
+import com.shubilet.security_service.common.util.SessionTokenCodec;
+import com.shubilet.security_service.dataTransferObjects.CookieDTO;
+import com.shubilet.security_service.dataTransferObjects.SessionLookupDTO;
+import com.shubilet.security_service.dataTransferObjects.requests.StatusDTO;
+import com.shubilet.security_service.dataTransferObjects.responses.RevocationsDTO;
+import com.shubilet.security_service.services.SessionService;
+import com.shubilet.security_service.store.RevocationLog;
+import com.shubilet.security_service.store.SessionStore;
+
+
+@Service
+public class SessionServiceImpl implements SessionService {
+    private final SessionStore sessionStore;
+    private final RevocationLog revocationLog;
+    // Null unless the signed token mode is enabled.
+    private final SessionTokenCodec sessionTokenCodec;
+    private final int maxSessionsPerUser;
+
+    public SessionServiceImpl(
+            SessionStore sessionStore,
+            RevocationLog revocationLog,
+            ObjectProvider<SessionTokenCodec> sessionTokenCodec,
+            @Value(AppConstants.MAX_SESSIONS_PER_USER_STRING) int maxSessionsPerUser
+    ) {
+        this.sessionStore = sessionStore;
+        this.revocationLog = revocationLog;
+        this.sessionTokenCodec = sessionTokenCodec.getIfAvailable();
+        this.maxSessionsPerUser = maxSessionsPerUser;
+    }
+
+    public ResponseEntity<CookieDTO> createSession(UserType userType, int userId) {
+        String code = "";
+
+        while (true) {
+            code = SessionKeyCodec.generate();
+            if (!sessionStore.hasCode(code)) {
+                break;
+            }
+        }
+
+        long now = System.currentTimeMillis();
+        long expiresAt = now + AppConstants.SESSION_DURATION.toMillis();
+
+        sessionStore.save(userType, userId, code, expiresAt);
+
+        // The new session is the most recently used one, so it is never evicted here.
+        for(String evicted : sessionStore.evictLeastRecentlyUsed(userType, userId, maxSessionsPerUser)) {
+            revoke(evicted);
+        }
+
+        String token = sessionTokenCodec == null ? null : sessionTokenCodec.encode(userType, userId, code, now, expiresAt);
+
+        return ResponseEntity.ok(new CookieDTO(String.valueOf(userId), userType.getCode(), code, token));
+    }
+
+    /**
+
+        Operation: Logout
+
+        Performs a logout operation by verifying the existence of a session associated
+        with the given identifier and removing it from the persistence layer. Returns
+        a boolean value indicating whether the logout was successfully completed,
+        responding with HTTP 404 when the session does not exist. In token mode the session
+        is also added to the revocation list, so the gateway stops accepting its token.
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>SessionStore for removing the session record</li>
+                <li>RevocationLog for revoking the signed token of the session</li>
+            </ul>
+
+        </p>
+
+        @param userType the type of the user owning the session
+
+        @param id the identifier of the user owning the session
+
+        @param code the session code of the session to be terminated
+
+        @return a response entity containing a boolean result indicating logout success
+    */
+    public ResponseEntity<Boolean> logout(UserType userType, int id, String code) {
+        if (!sessionStore.remove(userType, id, code)) {
+            return ResponseEntity.status(404).body(false);
+        }
+
+        revoke(code);
+
+        return ResponseEntity.ok(true);
+    }
+
+    /**
+
+        Operation: Logout All
+
+        Terminates every session of the given user at once, through the per-user session index
+        instead of a scan of all sessions. Responds with HTTP 404 when the user has no session.
+        In token mode every terminated session is also added to the revocation list.
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>SessionStore for removing the sessions of the user</li>
+                <li>RevocationLog for revoking the signed tokens of the sessions</li>
+            </ul>
+
+        </p>
+
+        @param userType the type of the user owning the sessions
+
+        @param userId the identifier of the user owning the sessions
+
+        @return a response entity containing a boolean result indicating logout success
+    */
+    public ResponseEntity<Boolean> logoutAll(UserType userType, int userId) {
+        List<String> removed = sessionStore.removeAll(userType, userId);
+
+        if(removed.isEmpty()) {
+            return ResponseEntity.status(404).body(false);
+        }
+
+        for(String code : removed) {
+            revoke(code);
+        }
+
+        return ResponseEntity.ok(true);
+    }
+
+    /**
+
+        Operation: Validate
+
+        Checks the validity of a session of any user type by confirming the existence of a matching
+        session record and verifying whether the session has expired. Returns an appropriate
+        status response indicating whether the session is valid or the specific reason for
+        failure.
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>SessionStore for a single lookup covering existence and expiration</li>
+            </ul>
+
+        </p>
+
+        @param userType the type of the user whose session is being validated
+
+        @param userId the identifier of the user whose session is being validated
+
+        @param code the session code used to verify the session record
+
+        @return a response entity containing the session validation status
+    */
+    public ResponseEntity<StatusDTO> check(UserType userType, int userId, String code) {
+        SessionStatus status = sessionStore.check(userType, userId, code);
+
+        if(status != SessionStatus.VALID) {
+            return ResponseEntity.badRequest().body(new StatusDTO(status));
+        }
+
+        return ResponseEntity.ok(new StatusDTO(SessionStatus.VALID));
+    }
+
+    public List<SessionStatus> checkAll(List<SessionLookupDTO> lookups) {
+        return sessionStore.checkAll(lookups);
+    }
+
+    public boolean hasSession(UserType userType, int userId) {
+        return sessionStore.hasSession(userType, userId);
+    }
+
+    public int warmUpSessions(int pageSize) {
+        return sessionStore.warmUp(pageSize);
+    }
+
+    public int cleanExpiredSessions(int limit) {
+        revocationLog.prune();
+        return sessionStore.removeExpired(limit);
+    }
+
+    public int countExpiredSessions(int cap) {
+        return sessionStore.countExpired(cap);
+    }
+
+    public RevocationsDTO getRevocations(long cursor) {
+        return revocationLog.since(cursor);
+    }
+
+    private void revoke(String code) {
+        if(sessionTokenCodec != null) {
+            // The exact expiration is not kept here; no token of this session can outlive a full session duration.
+            revocationLog.revoke(code, System.currentTimeMillis() + AppConstants.SESSION_DURATION.toMillis());
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.shubilet.security_service.services;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+
+import com.shubilet.security_service.common.enums.SessionStatus;
+import com.shubilet.security_service.common.enums.UserType;
+import com.shubilet.security_service.dataTransferObjects.CookieDTO;
+import com.shubilet.security_service.dataTransferObjects.SessionLookupDTO;
+import com.shubilet.security_service.dataTransferObjects.requests.StatusDTO;
+import com.shubilet.security_service.dataTransferObjects.responses.RevocationsDTO;
+
+
+public interface SessionService {
+
+    public ResponseEntity<CookieDTO> createSession(UserType userType, int userId);
+
+    public ResponseEntity<Boolean> logout(UserType userType, int id, String code);
+
+    public ResponseEntity<Boolean> logoutAll(UserType userType, int userId);
+
+    /**
+
+        Operation: Validate
+
+        Validates a session of any user type by verifying that a session associated with the
+        given user and token exists and is still active. The result is returned as a
+        structured {@code StatusDTO} indicating whether the session is valid or the reason
+        for failure, such as missing or expired session data.
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>SessionStore for session existence checking and expiration evaluation</li>
+            </ul>
+
+        </p>
+
+        @param userType the type of the user whose session is being validated
+        @param id the identifier of the user whose session is being validated
+        @param token the session token used to verify the session record
+
+        @return a response entity containing the session validation status
+    */
+    public ResponseEntity<StatusDTO> check(UserType userType, int id, String token);
+
+    /**
+
+        Operation: Validate Batch
+
+        Validates many sessions at once, so that the api-gateway can confirm the sessions of
+        concurrent requests with one call instead of one call per request. The store resolves
+        the whole batch in a single lookup where it can.
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>SessionStore for checking the batch of sessions</li>
+            </ul>
+
+        </p>
+
+        @param lookups the sessions to validate
+
+        @return the status of every session, in the order of {@code lookups}
+    */
+    public List<SessionStatus> checkAll(List<SessionLookupDTO> lookups);
+
+
+    public boolean hasSession(UserType userType, int userId);
+
+    /**
+
+        Operation: Warm Up Sessions
+
+        Loads the sessions that are still valid from the underlying data store into the session
+        store at startup, so that a restart of the security service does not log users out.
+        Expired sessions are not loaded; they are left to the session sweeper.
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>SessionStore for streaming the valid sessions into memory</li>
+            </ul>
+
+        </p>
+
+        @param pageSize the number of sessions read per page
+
+        @return the number of loaded sessions
+    */
+    public int warmUpSessions(int pageSize);
+
+    /**
+
+        Operation: Clean Expired Sessions
+
+        Removes at most {@code limit} session records that have surpassed their expiration
+        timestamps from the underlying data store. Bounding every call keeps each delete short,
+        so that a large backlog of expired sessions is worked off in batches by the session
+        sweeper instead of by one long statement.
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>SessionStore for deleting a bounded batch of expired sessions</li>
+                <li>RevocationLog for forgetting revocations of expired tokens</li>
+            </ul>
+
+        </p>
+
+        @param limit the maximum number of session records to remove
+
+        @return the number of removed session records
+    */
+    public int cleanExpiredSessions(int limit);
+
+    /**
+
+        Operation: Count Expired Sessions
+
+        Returns the number of expired session records still waiting to be removed, counted at
+        most up to {@code cap}.
+
+        @param cap the maximum value to count up to
+
+        @return the size of the expired session backlog, or {@code cap} if it is at least that large
+    */
+    public int countExpiredSessions(int cap);
+
+    /**
+
+        Operation: Read Revocations
+
+        Returns the sessions revoked after the given position of the revocation list, so that
+        the api-gateway can reject their signed tokens without asking for every request.
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>RevocationLog for the incremental read of revoked sessions</li>
+            </ul>
+
+        </p>
+
+        @param cursor the position of the last revocation the caller has already seen
+
+        @return the next page of the revocation list
+    */
+    public RevocationsDTO getRevocations(long cursor);
+}
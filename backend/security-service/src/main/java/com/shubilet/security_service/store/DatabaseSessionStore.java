@@ -0,0 +1,142 @@
+package com.shubilet.security_service.store;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.shubilet.security_service.common.enums.SessionStatus;
+import com.shubilet.security_service.common.enums.UserType;
+import com.shubilet.security_service.dataTransferObjects.SessionLookupDTO;
+import com.shubilet.security_service.dataTransferObjects.SessionRecordDTO;
+import com.shubilet.security_service.models.Session;
+import com.shubilet.security_service.repositories.SessionRepository;
+
+/**
+
+    Domain: Session
+
+    Keeps sessions in the {@code sessions} table only, for deployments where several security
+    service instances must share their sessions. Selected with {@code app.session.store=database}.
+    Every session check is a single lookup of the session code on its unique index, which
+    returns the owner and expiration in one round trip for every user type; a batch of checks
+    is resolved with a single {@code WHERE code IN (...)} lookup. The sessions of one user are
+    found through the index on the user type and user identifier; as the table does not track
+    when a session was last used, the per-user cap evicts the oldest sessions first.
+
+    <p>
+
+        Technologies:
+
+        <ul>
+            <li>Spring Component</li>
+            <li>Spring Data JPA</li>
+        </ul>
+
+    </p>
+
+    @see InMemorySessionStore
+
+    @author Abdullah (Mirliva) GÜNDÜZ - https://github.com/MrMilriva
+
+    @version 1.0
+*/
+@Component
+@ConditionalOnProperty(name = "app.session.store", havingValue = "database")
+public class DatabaseSessionStore implements SessionStore {
+
+    private final SessionRepository sessionRepository;
+
+    public DatabaseSessionStore(SessionRepository sessionRepository) {
+        this.sessionRepository = sessionRepository;
+    }
+
+    public void save(UserType userType, int userId, String code, long expiresAt) {
+        sessionRepository.save(new Session(userId, userType, code, Instant.ofEpochMilli(expiresAt)));
+    }
+
+    public SessionStatus check(UserType userType, int userId, String code) {
+        return statusOf(sessionRepository.findRecordByCode(code).orElse(null), userType, userId, Instant.now());
+    }
+
+    public List<SessionStatus> checkAll(List<SessionLookupDTO> lookups) {
+        Set<String> codes = new HashSet<>();
+        for(SessionLookupDTO lookup : lookups) {
+            codes.add(lookup.getCode());
+        }
+
+        Map<String, SessionRecordDTO> records = new HashMap<>();
+        if(!codes.isEmpty()) {
+            for(SessionRecordDTO record : sessionRepository.findRecordsByCodes(codes)) {
+                records.put(record.getCode(), record);
+            }
+        }
+
+        Instant now = Instant.now();
+        List<SessionStatus> statuses = new ArrayList<>(lookups.size());
+        for(SessionLookupDTO lookup : lookups) {
+            statuses.add(statusOf(records.get(lookup.getCode()), lookup.getUserType(), lookup.getUserId(), now));
+        }
+        return statuses;
+    }
+
+    public boolean remove(UserType userType, int userId, String code) {
+        return sessionRepository.deleteByCodeAndUser(code, userType, userId) > 0;
+    }
+
+    public List<String> evictLeastRecentlyUsed(UserType userType, int userId, int keep) {
+        // The table does not track use, so the oldest sessions go first.
+        List<String> codes = sessionRepository.findCodesByUser(userType, userId);
+
+        if(codes.size() <= keep) {
+            return List.of();
+        }
+
+        List<String> evicted = new ArrayList<>(codes.subList(keep, codes.size()));
+        sessionRepository.deleteByCodes(evicted);
+        return evicted;
+    }
+
+    public List<String> removeAll(UserType userType, int userId) {
+        List<String> codes = sessionRepository.findCodesByUser(userType, userId);
+
+        if(!codes.isEmpty()) {
+            sessionRepository.deleteByCodes(codes);
+        }
+        return codes;
+    }
+
+    public boolean hasCode(String code) {
+        return sessionRepository.hasCode(code);
+    }
+
+    public boolean hasSession(UserType userType, int userId) {
+        return sessionRepository.existsByUser(userType, userId);
+    }
+
+    public int removeExpired(int limit) {
+        return sessionRepository.deleteExpiredBatch(limit);
+    }
+
+    public int countExpired(int cap) {
+        return sessionRepository.countExpired(cap);
+    }
+
+    private static SessionStatus statusOf(SessionRecordDTO record, UserType userType, int userId, Instant now) {
+        if(record == null || record.getUserType() != userType || record.getUserId() != userId) {
+            return SessionStatus.NOT_FOUND;
+        }
+
+        if(!record.getExpiresAt().isAfter(now)) {
+            return SessionStatus.EXPIRED;
+        }
+
+        return SessionStatus.VALID;
+    }
+}
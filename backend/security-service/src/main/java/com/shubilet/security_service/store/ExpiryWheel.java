@@ -0,0 +1,175 @@
+package com.shubilet.security_service.store;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+
+    Domain: Session
+
+    Hierarchical timing wheel that tells when keys reach their deadline, so expiring sessions can
+    be evicted close to their expiration instead of by periodic full scans. Time is divided into
+    ticks; the wheel has {@value #LEVELS} levels of {@value #SLOTS} slots, where one slot of a level
+    spans a full turn of the level below it. A deadline is placed on the lowest level that can hold
+    it and moves down one level each time the slot above it comes due, so scheduling is O(1) and
+    every tick only touches the keys that are due, whatever the number of scheduled keys.
+
+    With one-second ticks the levels span about one minute, one hour, three days, and half a year;
+    later deadlines wait in the top level and are placed again when it turns. The wheel is not
+    thread-safe on its own; its methods synchronize on the instance.
+
+    <p>
+
+        Technologies:
+
+        <ul>
+            <li>Core Java collections</li>
+        </ul>
+
+    </p>
+
+    @see InMemorySessionStore
+
+    @author Abdullah (Mirliva) GÜNDÜZ - https://github.com/MrMilriva
+
+    @version 1.0
+*/
+public class ExpiryWheel {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+
+    private static final class Timer {
+        private final String key;
+        private final long deadlineTick;
+
+        private Timer(String key, long deadlineTick) {
+            this.key = key;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+
+    private final long tickMillis;
+    private final List<List<Timer>> slots = new ArrayList<>(LEVELS * SLOTS);
+    // Deadlines that were already due when they were scheduled; returned by the next advance.
+    private List<Timer> overdue = new ArrayList<>();
+
+    private long currentTick;
+    private int size;
+
+    public ExpiryWheel(long tickMillis, long nowMillis) {
+        this.tickMillis = tickMillis;
+        this.currentTick = nowMillis / tickMillis;
+
+        for(int i = 0; i < LEVELS * SLOTS; i++) {
+            slots.add(new ArrayList<>());
+        }
+    }
+
+    /**
+
+        Operation: Schedule
+
+        Schedules a key to be returned by {@link #advance(long)} once the given deadline has passed.
+
+        @param key the key to schedule
+
+        @param deadlineMillis the deadline in epoch milliseconds
+    */
+    public synchronized void schedule(String key, long deadlineMillis) {
+        // Rounded up, so a key is never reported before its deadline.
+        place(new Timer(key, (deadlineMillis + tickMillis - 1) / tickMillis));
+        size++;
+    }
+
+    /**
+
+        Operation: Advance
+
+        Moves the wheel forward to the given instant and returns the keys whose deadlines have
+        passed on the way.
+
+        @param nowMillis the current instant in epoch milliseconds
+
+        @return the keys that are due, in no particular order
+    */
+    public synchronized List<String> advance(long nowMillis) {
+        List<String> due = new ArrayList<>();
+        long targetTick = nowMillis / tickMillis;
+
+        for(Timer timer : overdue) {
+            due.add(timer.key);
+        }
+        overdue = new ArrayList<>();
+
+        while(currentTick < targetTick) {
+            currentTick++;
+
+            // Bring the timers of every higher slot that has just come due down to the lower levels.
+            for(int level = 1; level < LEVELS; level++) {
+                if((currentTick & ((1L << (SLOT_BITS * level)) - 1)) != 0) {
+                    break;
+                }
+                for(Timer timer : takeSlot(level, slotOf(currentTick, level))) {
+                    place(timer);
+                }
+            }
+
+            for(Timer timer : takeSlot(0, slotOf(currentTick, 0))) {
+                due.add(timer.key);
+            }
+
+            // Timers cascaded into the current tick land in the overdue list.
+            for(Timer timer : overdue) {
+                due.add(timer.key);
+            }
+            overdue.clear();
+        }
+
+        size -= due.size();
+        return due;
+    }
+
+    /**
+     * Returns the number of scheduled keys that have not been returned yet.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    private void place(Timer timer) {
+        long delta = timer.deadlineTick - currentTick;
+
+        if(delta <= 0) {
+            overdue.add(timer);
+            return;
+        }
+
+        for(int level = 0; level < LEVELS; level++) {
+            if(delta < (1L << (SLOT_BITS * (level + 1)))) {
+                slots.get(level * SLOTS + slotOf(timer.deadlineTick, level)).add(timer);
+                return;
+            }
+        }
+
+        // Beyond the range of the wheel: park it in the farthest top-level slot and place it again from there.
+        long parkedTick = currentTick + (1L << (SLOT_BITS * LEVELS)) - 1;
+        slots.get((LEVELS - 1) * SLOTS + slotOf(parkedTick, LEVELS - 1)).add(timer);
+    }
+
+    private List<Timer> takeSlot(int level, int slot) {
+        int index = level * SLOTS + slot;
+        List<Timer> timers = slots.get(index);
+        if(timers.isEmpty()) {
+            return timers;
+        }
+        slots.set(index, new ArrayList<>());
+        return timers;
+    }
+
+    private static int slotOf(long tick, int level) {
+        return (int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK);
+    }
+}
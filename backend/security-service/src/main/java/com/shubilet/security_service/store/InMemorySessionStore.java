@@ -0,0 +1,286 @@
+package com.shubilet.security_service.store;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.shubilet.security_service.common.constants.AppConstants;
+import com.shubilet.security_service.common.enums.SessionStatus;
+import com.shubilet.security_service.common.enums.UserType;
+import com.shubilet.security_service.models.Session;
+
+/**
+
+    Domain: Session
+
+    Keeps every active session in memory, keyed by session code, so that session checks, which
+    are issued for nearly every request passing through the gateway, are answered with a single
+    hash lookup instead of database queries. Each entry holds the owning user and its expiration
+    instant as a primitive epoch-millisecond value.
+
+    The database is not consulted on reads. Every change is handed to {@link SessionWriteBehind},
+    which persists it asynchronously, so the session table acts as a recovery log rather than as
+    the primary store. This is the default store; {@code app.session.store=database} selects
+    {@link DatabaseSessionStore} instead.
+
+    This store requires a single security service instance. A session created or removed on one
+    instance is not known to another, which answers {@link SessionStatus#NOT_FOUND} for it, and
+    the gateway then clears the user's cookie. Deployments that run several instances behind the
+    load-balanced gateway must use {@link DatabaseSessionStore}.
+
+    At startup the unexpired rows of the session table are streamed back into memory page by
+    page, so a restart keeps every active session valid.
+
+    A second map indexes the session codes of every user, in least recently used order, so that
+    the sessions of one user are found, capped, or all removed without scanning every session.
+    A user has only a handful of sessions, so these operations take constant time.
+
+    Every saved session is also scheduled on an {@link ExpiryWheel}, and the entries that reach
+    their expiration are evicted from memory within one wheel tick. Expired rows of the session
+    table are left to the session sweeper, which deletes them in bounded batches.
+
+    <p>
+
+        Technologies:
+
+        <ul>
+            <li>Spring Component</li>
+            <li>Java Concurrency ({@link ConcurrentHashMap})</li>
+            <li>Spring Scheduling</li>
+        </ul>
+
+    </p>
+
+    @see SessionWriteBehind
+
+    @author Abdullah (Mirliva) GÜNDÜZ - https://github.com/MrMilriva
+
+    @version 1.0
+*/
+@Component
+@ConditionalOnProperty(name = "app.session.store", havingValue = "memory", matchIfMissing = true)
+public class InMemorySessionStore implements SessionStore {
+
+    private record UserKey(UserType userType, int userId) {}
+
+    private static final class SessionEntry {
+        private final UserKey owner;
+        private final long expiresAt;
+
+        private SessionEntry(UserKey owner, long expiresAt) {
+            this.owner = owner;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean belongsTo(UserType userType, int userId) {
+            return owner.userType() == userType && owner.userId() == userId;
+        }
+    }
+
+    private final Map<String, SessionEntry> sessions = new ConcurrentHashMap<>();
+    // Codes of each user in access order, least recently used first; only changed inside compute calls.
+    private final Map<UserKey, LinkedHashMap<String, Boolean>> userIndex = new ConcurrentHashMap<>();
+    private final ExpiryWheel expiryWheel = new ExpiryWheel(AppConstants.EXPIRY_WHEEL_TICK_MILLIS, System.currentTimeMillis());
+    private final SessionWriteBehind writeBehind;
+
+    public InMemorySessionStore(SessionWriteBehind writeBehind) {
+        this.writeBehind = writeBehind;
+    }
+
+    public void save(UserType userType, int userId, String code, long expiresAt) {
+        UserKey owner = new UserKey(userType, userId);
+        sessions.put(code, new SessionEntry(owner, expiresAt));
+        index(owner, code);
+        expiryWheel.schedule(code, expiresAt);
+        writeBehind.enqueueSave(userType, userId, code, expiresAt);
+    }
+
+    public SessionStatus check(UserType userType, int userId, String code) {
+        SessionEntry entry = sessions.get(code);
+
+        if(entry == null || !entry.belongsTo(userType, userId)) {
+            return SessionStatus.NOT_FOUND;
+        }
+
+        if(entry.expiresAt <= System.currentTimeMillis()) {
+            return SessionStatus.EXPIRED;
+        }
+
+        // Marks the session as the most recently used one of its user.
+        userIndex.computeIfPresent(entry.owner, (owner, codes) -> {
+            codes.get(code);
+            return codes;
+        });
+
+        return SessionStatus.VALID;
+    }
+
+    public boolean remove(UserType userType, int userId, String code) {
+        SessionEntry entry = sessions.get(code);
+
+        // Conditional removal, so a concurrent logout of the same session is reported only once.
+        if(entry == null || !entry.belongsTo(userType, userId) || !sessions.remove(code, entry)) {
+            return false;
+        }
+
+        unindex(entry.owner, code);
+        writeBehind.enqueueDelete(userType, code);
+        return true;
+    }
+
+    public List<String> evictLeastRecentlyUsed(UserType userType, int userId, int keep) {
+        UserKey owner = new UserKey(userType, userId);
+        List<String> evicted = new ArrayList<>();
+
+        userIndex.computeIfPresent(owner, (key, codes) -> {
+            Iterator<String> iterator = codes.keySet().iterator();
+            while(codes.size() > keep && iterator.hasNext()) {
+                evicted.add(iterator.next());
+                iterator.remove();
+            }
+            return codes.isEmpty() ? null : codes;
+        });
+
+        return drop(owner, evicted);
+    }
+
+    public List<String> removeAll(UserType userType, int userId) {
+        UserKey owner = new UserKey(userType, userId);
+        LinkedHashMap<String, Boolean> codes = userIndex.remove(owner);
+
+        if(codes == null) {
+            return List.of();
+        }
+
+        return drop(owner, new ArrayList<>(codes.keySet()));
+    }
+
+    public boolean hasCode(String code) {
+        return sessions.containsKey(code);
+    }
+
+    public boolean hasSession(UserType userType, int userId) {
+        return userIndex.containsKey(new UserKey(userType, userId));
+    }
+
+    public int removeExpired(int limit) {
+        return writeBehind.deleteExpired(limit);
+    }
+
+    public int countExpired(int cap) {
+        return writeBehind.countExpired(cap);
+    }
+
+    /**
+
+        Operation: Warm Up
+
+        Streams the unexpired sessions of the session table into memory, one page at a time and
+        in identifier order, and schedules their expirations on the wheel. The rows are already
+        persisted, so nothing is queued for the write-behind. An entry created since startup is
+        never replaced by a loaded one.
+
+        @param pageSize the number of sessions read per page
+
+        @return the number of loaded sessions
+    */
+    public int warmUp(int pageSize) {
+        int loaded = 0;
+        int afterId = 0;
+
+        while(true) {
+            List<Session> page = writeBehind.loadActive(afterId, pageSize);
+
+            for(Session session : page) {
+                long expiresAt = session.getExpiresAt().toEpochMilli();
+                UserKey owner = new UserKey(session.getUserType(), session.getUserId());
+                SessionEntry entry = new SessionEntry(owner, expiresAt);
+
+                if(sessions.putIfAbsent(session.getCode(), entry) == null) {
+                    index(owner, session.getCode());
+                    expiryWheel.schedule(session.getCode(), expiresAt);
+                    loaded++;
+                }
+                afterId = session.getId();
+            }
+
+            if(page.size() < pageSize) {
+                return loaded;
+            }
+        }
+    }
+
+    /**
+
+        Operation: Evict
+
+        Advances the expiry wheel to the current time and evicts the sessions that have expired on
+        the way. A session that was removed in the meantime, or whose code now belongs to a newer
+        session, is left untouched.
+
+        @return the number of evicted sessions
+    */
+    @Scheduled(fixedDelay = AppConstants.EXPIRY_WHEEL_TICK_MILLIS)
+    public int evictExpired() {
+        long now = System.currentTimeMillis();
+        int evicted = 0;
+
+        for(String code : expiryWheel.advance(now)) {
+            SessionEntry entry = sessions.get(code);
+            if(entry != null && entry.expiresAt <= now && sessions.remove(code, entry)) {
+                unindex(entry.owner, code);
+                evicted++;
+            }
+        }
+
+        return evicted;
+    }
+
+    /**
+     * Returns the number of expiration deadlines still pending on the expiry wheel.
+     */
+    public int pendingExpirations() {
+        return expiryWheel.size();
+    }
+
+    private void index(UserKey owner, String code) {
+        userIndex.compute(owner, (key, codes) -> {
+            if(codes == null) {
+                codes = new LinkedHashMap<>(4, 0.75f, true);
+            }
+            codes.put(code, Boolean.TRUE);
+            return codes;
+        });
+    }
+
+    private void unindex(UserKey owner, String code) {
+        userIndex.computeIfPresent(owner, (key, codes) -> {
+            codes.remove(code);
+            return codes.isEmpty() ? null : codes;
+        });
+    }
+
+    // Removes the given sessions of a user that are still stored and returns the codes of those removed.
+    private List<String> drop(UserKey owner, List<String> codes) {
+        List<String> removed = new ArrayList<>(codes.size());
+
+        for(String code : codes) {
+            SessionEntry entry = sessions.get(code);
+            if(entry != null && entry.owner.equals(owner) && sessions.remove(code, entry)) {
+                writeBehind.enqueueDelete(owner.userType(), code);
+                removed.add(code);
+            }
+        }
+
+        return removed;
+    }
+
+    // Mirliva says: The fastest query is the one you never send.
+}
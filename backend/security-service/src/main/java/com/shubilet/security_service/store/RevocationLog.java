@@ -0,0 +1,114 @@
+package com.shubilet.security_service.store;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+import com.shubilet.security_service.dataTransferObjects.RevokedSessionDTO;
+import com.shubilet.security_service.dataTransferObjects.responses.RevocationsDTO;
+
+/**
+
+    Domain: Session
+
+    Records the sessions that were terminated while their signed tokens are still within their
+    lifetime, so that the api-gateway, which validates tokens locally, can stop accepting them.
+    Entries are numbered with an increasing sequence number and read incrementally: a reader
+    passes the last sequence number it has seen and receives only the newer entries. Entries are
+    forgotten once the tokens they revoke have expired on their own, which keeps the list as
+    small as the number of logouts within one session lifetime.
+
+    The log lives in memory only. Each instance start gets a new epoch, which tells readers that
+    the sequence numbers restarted and that they must read the log again from the beginning.
+    Sessions survive restarts but the logouts recorded by the previous instance do not, so tokens
+    issued before the instance started are reported as not to be trusted locally; checks of
+    those sessions go to the security service until their tokens are replaced.
+
+    <p>
+
+        Technologies:
+
+        <ul>
+            <li>Spring Component</li>
+            <li>Java Concurrency ({@link ConcurrentSkipListMap}, {@link AtomicLong})</li>
+        </ul>
+
+    </p>
+
+    @author Abdullah (Mirliva) GÜNDÜZ - https://github.com/MrMilriva
+
+    @version 1.0
+*/
+@Component
+public class RevocationLog {
+
+    private static final int PAGE_SIZE = 1000;
+
+    private final String epoch = UUID.randomUUID().toString();
+    private final AtomicLong sequence = new AtomicLong();
+    private final ConcurrentNavigableMap<Long, RevokedSessionDTO> entries = new ConcurrentSkipListMap<>();
+
+    // Revocations of the previous instance are lost, so its tokens must be confirmed remotely.
+    private final long validAfter = System.currentTimeMillis();
+
+    /**
+
+        Operation: Revoke
+
+        Appends a revoked session to the log.
+
+        @param code the code of the terminated session
+
+        @param expiresAt the instant, in epoch milliseconds, after which the tokens of the session expire anyway
+    */
+    public synchronized void revoke(String code, long expiresAt) {
+        // Numbers are taken and published under one lock, so readers never skip a lower one.
+        entries.put(sequence.incrementAndGet(), new RevokedSessionDTO(code, expiresAt));
+    }
+
+    /**
+
+        Operation: Read
+
+        Returns the entries recorded after the given sequence number, at most one page at a time.
+
+        @param cursor the sequence number of the last entry the reader has already seen
+
+        @return the next page of the revocation list
+    */
+    public RevocationsDTO since(long cursor) {
+        List<RevokedSessionDTO> page = new ArrayList<>();
+        long last = cursor;
+
+        for(Map.Entry<Long, RevokedSessionDTO> entry : entries.tailMap(cursor, false).entrySet()) {
+            if(page.size() == PAGE_SIZE) {
+                break;
+            }
+            page.add(entry.getValue());
+            last = entry.getKey();
+        }
+
+        return new RevocationsDTO(epoch, last, validAfter, page);
+    }
+
+    /**
+
+        Operation: Prune
+
+        Forgets the entries whose tokens have expired and returns how many were removed.
+    */
+    public int prune() {
+        long now = System.currentTimeMillis();
+        int before = entries.size();
+
+        entries.values().removeIf(entry -> entry.getExpiresAt() <= now);
+
+        return before - entries.size();
+    }
+}
@@ -0,0 +1,175 @@
+package com.shubilet.security_service.store;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.shubilet.security_service.common.enums.SessionStatus;
+import com.shubilet.security_service.common.enums.UserType;
+import com.shubilet.security_service.dataTransferObjects.SessionLookupDTO;
+
+/**
+
+    Domain: Session
+
+    Defines the storage contract behind the admin, company, and customer session services.
+    A session is identified by its code and carries the owning user type, the user identifier,
+    and an expiration instant expressed in epoch milliseconds. Implementations decide where
+    sessions live and how they are persisted; the session services only depend on this
+    interface, so the storage strategy can be replaced without touching them.
+
+    <p>
+
+        Technologies:
+
+        <ul>
+            <li>Core Java interface abstraction</li>
+        </ul>
+
+    </p>
+
+    @see InMemorySessionStore
+
+    @see DatabaseSessionStore
+
+    @author Abdullah (Mirliva) GÜNDÜZ - https://github.com/MrMilriva
+
+    @version 1.0
+*/
+public interface SessionStore {
+
+    /**
+
+        Operation: Save
+
+        Stores a new session for the given user.
+
+        @param userType the type of the user owning the session
+
+        @param userId the identifier of the user owning the session
+
+        @param code the unique session code
+
+        @param expiresAt the expiration instant of the session in epoch milliseconds
+    */
+    void save(UserType userType, int userId, String code, long expiresAt);
+
+    /**
+
+        Operation: Validate
+
+        Checks whether a session with the given code exists for the given user and is still active.
+
+        @param userType the type of the user owning the session
+
+        @param userId the identifier of the user owning the session
+
+        @param code the session code to check
+
+        @return {@link SessionStatus#VALID}, {@link SessionStatus#EXPIRED}, or {@link SessionStatus#NOT_FOUND}
+    */
+    SessionStatus check(UserType userType, int userId, String code);
+
+    /**
+
+        Operation: Validate Batch
+
+        Checks many sessions at once. The default implementation checks them one by one, which
+        suits stores that answer from memory; stores backed by a remote system should resolve
+        the whole batch in a single round trip.
+
+        @param lookups the sessions to check
+
+        @return the status of every session, in the order of {@code lookups}
+    */
+    default List<SessionStatus> checkAll(List<SessionLookupDTO> lookups) {
+        List<SessionStatus> statuses = new ArrayList<>(lookups.size());
+        for(SessionLookupDTO lookup : lookups) {
+            statuses.add(check(lookup.getUserType(), lookup.getUserId(), lookup.getCode()));
+        }
+        return statuses;
+    }
+
+    /**
+
+        Operation: Remove
+
+        Removes the session with the given code if it belongs to the given user.
+
+        @param userType the type of the user owning the session
+
+        @param userId the identifier of the user owning the session
+
+        @param code the session code to remove
+
+        @return {@code true} if a session was removed, otherwise {@code false}
+    */
+    boolean remove(UserType userType, int userId, String code);
+
+    /**
+
+        Operation: Evict
+
+        Keeps at most {@code keep} sessions of the given user and removes the others, least
+        recently used first.
+
+        @param userType the type of the user owning the sessions
+
+        @param userId the identifier of the user owning the sessions
+
+        @param keep the number of sessions the user may keep
+
+        @return the codes of the removed sessions
+    */
+    List<String> evictLeastRecentlyUsed(UserType userType, int userId, int keep);
+
+    /**
+
+        Operation: Remove All
+
+        Removes every session of the given user.
+
+        @param userType the type of the user owning the sessions
+
+        @param userId the identifier of the user owning the sessions
+
+        @return the codes of the removed sessions
+    */
+    List<String> removeAll(UserType userType, int userId);
+
+    /**
+     * Returns whether any session, of any user type, already uses the given code.
+     */
+    boolean hasCode(String code);
+
+    /**
+     * Returns whether the given user has at least one stored session.
+     */
+    boolean hasSession(UserType userType, int userId);
+
+    /**
+     * Removes at most {@code limit} expired sessions of every user type from persistent storage
+     * and returns how many were removed.
+     */
+    int removeExpired(int limit);
+
+    /**
+     * Returns the number of expired sessions waiting to be removed, counting at most up to {@code cap}.
+     */
+    int countExpired(int cap);
+
+    /**
+
+        Operation: Warm Up
+
+        Loads the unexpired sessions kept in persistent storage into the store, so that sessions
+        created before a restart stay valid after it. Stores that read persistent storage directly
+        have nothing to load.
+
+        @param pageSize the number of sessions read per page
+
+        @return the number of loaded sessions
+    */
+    default int warmUp(int pageSize) {
+        return 0;
+    }
+}
@@ -0,0 +1,238 @@
+package com.shubilet.security_service.store;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.shubilet.security_service.common.constants.AppConstants;
+import com.shubilet.security_service.common.enums.UserType;
+import com.shubilet.security_service.models.Session;
+import com.shubilet.security_service.repositories.SessionRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+
+    Domain: Persistence
+
+    Persists session changes made in {@link InMemorySessionStore} asynchronously. Created and
+    removed sessions are queued in memory and written to the session table in batches at fixed
+    intervals, so neither login nor logout waits for the database. Within a batch only the last
+    change of a session is written, and a session that is created and removed before the batch
+    is flushed never reaches the database at all.
+
+    Each batch is written in one transaction. When a batch cannot be written, its changes are
+    written one by one instead, so a single bad row cannot hold back the others. A change that
+    still fails is put back at the head of the queue and retried on the next run, at most
+    {@link AppConstants#WRITE_BEHIND_MAX_ATTEMPTS} times; after that it is dropped and logged,
+    which only costs the session its persistence, not its validity in memory. Pending changes
+    are flushed once more when the application shuts down.
+
+    <p>
+
+        Technologies:
+
+        <ul>
+            <li>Spring Scheduling</li>
+            <li>Spring Data JPA</li>
+            <li>Spring Transaction management ({@link TransactionTemplate})</li>
+            <li>Java Concurrency ({@link LinkedBlockingDeque})</li>
+            <li>SLF4J Logging</li>
+        </ul>
+
+    </p>
+
+    @author Abdullah (Mirliva) GÜNDÜZ - https://github.com/MrMilriva
+
+    @version 1.0
+*/
+@Component
+@ConditionalOnProperty(name = "app.session.store", havingValue = "memory", matchIfMissing = true)
+public class SessionWriteBehind {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionWriteBehind.class);
+
+    private record PendingWrite(boolean delete, UserType userType, int userId, String code, long expiresAt, int attempts) {
+
+        PendingWrite retried() {
+            return new PendingWrite(delete, userType, userId, code, expiresAt, attempts + 1);
+        }
+    }
+
+    private final BlockingDeque<PendingWrite> queue = new LinkedBlockingDeque<>();
+
+    private final SessionRepository sessionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public SessionWriteBehind(SessionRepository sessionRepository, TransactionTemplate transactionTemplate) {
+        this.sessionRepository = sessionRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * Queues a created session for insertion.
+     */
+    public void enqueueSave(UserType userType, int userId, String code, long expiresAt) {
+        queue.add(new PendingWrite(false, userType, userId, code, expiresAt, 0));
+    }
+
+    /**
+     * Queues a removed session for deletion.
+     */
+    public void enqueueDelete(UserType userType, String code) {
+        queue.add(new PendingWrite(true, userType, 0, code, 0L, 0));
+    }
+
+    /**
+
+        Operation: Flush
+
+        Drains the queue and writes the collected changes with one insert batch and one delete
+        statement, falling back to one transaction per change when the batch fails. Runs at fixed
+        intervals defined by the application constants.
+
+        <p>
+
+            Uses:
+
+            <ul>
+                <li>SessionRepository for batched writes</li>
+                <li>Spring Scheduling for timed task execution</li>
+            </ul>
+
+        </p>
+
+        @return nothing; persists queued session changes as a scheduled side effect
+    */
+    @Scheduled(
+        fixedDelayString = AppConstants.WRITE_BEHIND_FIXED_DELAY_STRING,
+        initialDelayString = AppConstants.WRITE_BEHIND_FIXED_DELAY_STRING
+    )
+    public synchronized void flush() {
+        List<PendingWrite> batch = new ArrayList<>();
+        queue.drainTo(batch);
+
+        if(batch.isEmpty()) {
+            return;
+        }
+
+        // Last change per code wins; a save cancelled by a later delete is dropped entirely.
+        Map<String, PendingWrite> latest = new LinkedHashMap<>();
+        for(PendingWrite write : batch) {
+            PendingWrite previous = latest.get(write.code());
+            if(write.delete() && previous != null && !previous.delete()) {
+                latest.remove(write.code());
+            }
+            else {
+                latest.put(write.code(), write);
+            }
+        }
+
+        List<Session> saves = new ArrayList<>();
+        List<String> deletes = new ArrayList<>();
+
+        for(PendingWrite write : latest.values()) {
+            if(write.delete()) {
+                deletes.add(write.code());
+            }
+            else {
+                saves.add(toSession(write));
+            }
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if(!saves.isEmpty()) {
+                    sessionRepository.saveAll(saves);
+                }
+                if(!deletes.isEmpty()) {
+                    sessionRepository.deleteByCodes(deletes);
+                }
+            });
+        } catch (Exception ex) {
+            logger.warn("Session write-behind batch of {} changes failed, writing them one by one", latest.size(), ex);
+            flushOneByOne(latest.values());
+            return;
+        }
+
+        logger.debug("Session write-behind flushed {} changes", latest.size());
+    }
+
+    private void flushOneByOne(Collection<PendingWrite> writes) {
+        List<PendingWrite> failed = new ArrayList<>();
+
+        for(PendingWrite write : writes) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    if(write.delete()) {
+                        sessionRepository.deleteByCodes(List.of(write.code()));
+                    }
+                    else {
+                        sessionRepository.save(toSession(write));
+                    }
+                });
+            } catch (Exception ex) {
+                PendingWrite retry = write.retried();
+                if(retry.attempts() >= AppConstants.WRITE_BEHIND_MAX_ATTEMPTS) {
+                    logger.error("Session write-behind dropped a {} of a {} session after {} attempts",
+                        write.delete() ? "delete" : "save", write.userType(), retry.attempts(), ex);
+                }
+                else {
+                    failed.add(retry);
+                }
+            }
+        }
+
+        if(!failed.isEmpty()) {
+            logger.error("Session write-behind failed, {} changes will be retried", failed.size());
+            for(int i = failed.size() - 1; i >= 0; i--) {
+                queue.addFirst(failed.get(i));
+            }
+        }
+    }
+
+    private static Session toSession(PendingWrite write) {
+        return new Session(write.userId(), write.userType(), write.code(), Instant.ofEpochMilli(write.expiresAt()));
+    }
+
+    /**
+     * Deletes at most {@code limit} expired sessions from the database and returns how many were deleted.
+     */
+    public int deleteExpired(int limit) {
+        return sessionRepository.deleteExpiredBatch(limit);
+    }
+
+    /**
+     * Counts the expired sessions left in the database, up to {@code cap}.
+     */
+    public int countExpired(int cap) {
+        return sessionRepository.countExpired(cap);
+    }
+
+    /**
+     * Reads the next page of unexpired sessions from the database, after the given identifier.
+     */
+    public List<Session> loadActive(int afterId, int limit) {
+        return sessionRepository.findActivePage(afterId, limit);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // Mirliva says: Write now, persist later.
+    // Procrastination, but with a queue.
+}
@@ -6,9 +6,7 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import com.shubilet.security_service.common.constants.AppConstants;
-import com.shubilet.security_service.services.AdminSessionService;
-import com.shubilet.security_service.services.CompanySessionService;
-import com.shubilet.security_service.services.CustomerSessionService;
+import com.shubilet.security_service.services.SessionService;
 
 /**
 
@@ -22,6 +20,12 @@ import com.shubilet.security_service.services.CustomerSessionService;
     capabilities, it triggers cleanup operations at intervals defined in the
     application constants while logging the lifecycle of each cleanup cycle.
 
+    Expired sessions are deleted in bounded batches rather than with one unbounded statement,
+    so no single delete holds its locks or writes WAL for long, whatever the size of the
+    backlog. The batch size adapts to the measured batch latency, batches are separated by a
+    pause as long as the previous batch took, and each run stops after a fixed time budget,
+    leaving the remaining backlog to the next run.
+
     <p>
 
         Technologies:
@@ -33,31 +37,27 @@ import com.shubilet.security_service.services.CustomerSessionService;
         </ul>
     </p>
 
-    @see AdminSessionService
-
-    @see CompanySessionService
+    @see SessionService
 
-    @see CustomerSessionService
+    @see SweepMetrics
 
-    @version 1.0
+    @version 2.0
 */
 @Component
 public class SessionSweeper {
 
     private static final Logger logger = LoggerFactory.getLogger(SessionSweeper.class);
 
-    private final AdminSessionService adminSessionService;
-    private final CompanySessionService companySessionService;
-    private final CustomerSessionService customerSessionService;
-
-    public SessionSweeper(
-            AdminSessionService adminSessionService,
-            CompanySessionService companySessionService,
-            CustomerSessionService customerSessionService
-    ) {
-        this.adminSessionService = adminSessionService;
-        this.companySessionService = companySessionService;
-        this.customerSessionService = customerSessionService;
+    private final SessionService sessionService;
+    private final SweepMetrics sweepMetrics;
+
+    // Carried over between runs, so each run starts from the size the previous one settled on.
+    private int batchSize = AppConstants.SWEEP_BATCH_SIZE_INITIAL;
+
+    public SessionSweeper(SessionService sessionService, SweepMetrics sweepMetrics) {
+        this.sessionService = sessionService;
+        this.sweepMetrics = sweepMetrics;
+        this.sweepMetrics.setBatchSize(batchSize);
     }
 
     /**
@@ -68,17 +68,20 @@ public class SessionSweeper {
         admin, company, and customer session domains. This method is triggered at fixed
         intervals defined by the application constants and logs both the start and
         completion of the sweep. It ensures system hygiene by delegating cleanup tasks
-        to the corresponding session services, preventing accumulation of stale session
+        to the session service, preventing accumulation of stale session
         data.
 
+        Batches are run until one comes back partially filled, meaning the backlog is cleared, or
+        until the time budget of the run is used up. The rows swept, the batch latencies, and the
+        remaining backlog are recorded in {@link SweepMetrics} and logged after the run.
+
         <p>
 
             Uses:
 
             <ul>
-                <li>AdminSessionService for removing expired admin sessions</li>
-                <li>CompanySessionService for removing expired company sessions</li>
-                <li>CustomerSessionService for removing expired customer sessions</li>
+                <li>SessionService for removing bounded batches of expired sessions of every user type</li>
+                <li>SweepMetrics for recording the sweep figures</li>
                 <li>Spring Scheduling for timed task execution</li>
             </ul>
 
@@ -93,13 +96,68 @@ public class SessionSweeper {
     public void sweepExpiredSessions() {
         logger.info("SessionSweeper started - cleaning expired sessions...");
 
-        adminSessionService.cleanExpiredSessions();
-        companySessionService.cleanExpiredSessions();
-        customerSessionService.cleanExpiredSessions();
+        long runDeadline = System.currentTimeMillis() + AppConstants.SWEEP_MAX_RUN_MILLIS;
+        int swept = 0;
+        int runBatches = 0;
+        boolean backlogLeft;
+
+        while(true) {
+            int limit = batchSize;
+
+            long start = System.nanoTime();
+            int rows = sessionService.cleanExpiredSessions(limit);
+            long millis = (System.nanoTime() - start) / 1_000_000;
+
+            sweepMetrics.recordBatch(rows, millis);
+            swept += rows;
+            runBatches++;
+
+            backlogLeft = rows == limit;
+            adaptBatchSize(millis, backlogLeft);
+
+            if(!backlogLeft || System.currentTimeMillis() + millis >= runDeadline) {
+                break;
+            }
+
+            // Give the database as much idle time as the batch took.
+            try {
+                Thread.sleep(Math.max(millis, 1L));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        // A partially filled last batch means nothing was left to sweep; count only otherwise.
+        int backlog = backlogLeft ? sessionService.countExpiredSessions(AppConstants.SWEEP_BACKLOG_CAP) : 0;
+        sweepMetrics.setBacklog(backlog);
+        sweepMetrics.setBatchSize(batchSize);
+
+        logger.info("[SWEEP] rows={} batches={} lastBatchMs={} maxBatchMs={} batchSize={} backlog={} totalRows={}",
+                swept,
+                runBatches,
+                sweepMetrics.getLastBatchMillis(),
+                sweepMetrics.getMaxBatchMillis(),
+                batchSize,
+                backlog,
+                sweepMetrics.getRowsSwept());
 
         logger.info("SessionSweeper completed - session cleanup finished.");
     }
 
+    /**
+     * Halves the batch size when a batch is slower than the target and doubles it when a full
+     * batch took less than half of the target, within the configured bounds.
+     */
+    private void adaptBatchSize(long millis, boolean full) {
+        if(millis > AppConstants.SWEEP_TARGET_BATCH_MILLIS) {
+            batchSize = Math.max(AppConstants.SWEEP_BATCH_SIZE_MIN, batchSize / 2);
+        }
+        else if(full && millis < AppConstants.SWEEP_TARGET_BATCH_MILLIS / 2) {
+            batchSize = Math.min(AppConstants.SWEEP_BATCH_SIZE_MAX, batchSize * 2);
+        }
+    }
+
     // Mirliva says: Some sessions just need to be... cleaned.
     // No witnesses. No logs. Just peace.
 }
@@ -0,0 +1,74 @@
+package com.shubilet.security_service.sweeper;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import com.shubilet.security_service.common.constants.AppConstants;
+import com.shubilet.security_service.services.SessionService;
+
+
+/**
+
+    Domain: Startup
+
+    Restores the session state of the previous run during application startup instead of wiping
+    it, so that restarting the security service, including a rolling restart, keeps every user
+    logged in and does not send a wave of re-logins to the member service. Expired session records
+    are purged first, in bounded batches; whatever is left after the sweep budget is taken over by
+    the session sweeper. The sessions that are still valid are then streamed into the session
+    store page by page.
+
+    The work runs once all singletons are created, before the web server starts accepting requests,
+    so no session check is answered from a half-loaded store.
+
+    <p>
+
+        Technologies:
+
+        <ul>
+            <li>Spring {@code SmartInitializingSingleton} for startup execution</li>
+            <li>Spring Component model</li>
+            <li>SLF4J for startup logging</li>
+        </ul>
+
+    </p>
+
+    @see SessionSweeper
+
+    @author Abdullah (Mirliva) GÜNDÜZ - https://github.com/MrMilriva
+
+    @version 2.0
+*/
+@Component
+public class StartupSessionLoader implements SmartInitializingSingleton {
+    private static final Logger logger = LoggerFactory.getLogger(StartupSessionLoader.class);
+
+    private final SessionService sessionService;
+
+    public StartupSessionLoader(SessionService sessionService) {
+        this.sessionService = sessionService;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long startedAt = System.currentTimeMillis();
+        long deadline = startedAt + AppConstants.SWEEP_MAX_RUN_MILLIS;
+
+        logger.info("Restoring sessions on startup...");
+
+        int purged = 0;
+        int removed;
+        do {
+            removed = sessionService.cleanExpiredSessions(AppConstants.SWEEP_BATCH_SIZE_MAX);
+            purged += removed;
+        } while(removed == AppConstants.SWEEP_BATCH_SIZE_MAX && System.currentTimeMillis() < deadline);
+
+        int loaded = sessionService.warmUpSessions(AppConstants.WARM_UP_PAGE_SIZE);
+
+        logger.info("[WARMUP] loaded={} purged={} ms={}", loaded, purged, System.currentTimeMillis() - startedAt);
+    }
+
+    // Mirliva says: Fresh start? No. Same sessions, same drama, zero re-logins.
+}
@@ -0,0 +1,85 @@
+package com.shubilet.security_service.sweeper;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+/**
+
+    Domain: Scheduling
+
+    Collects the figures that describe how the session sweeper keeps up with expiring sessions:
+    the rows swept and batches run in total, the latency of the last and of the slowest batch,
+    the current batch size, and the expired rows still waiting after the last run. The sweeper
+    updates these values after every batch and reports them in a {@code [SWEEP]} log line after
+    every run, next to the {@code [PERF]} lines of the request timing aspect.
+
+    <p>
+
+        Technologies:
+
+        <ul>
+            <li>Spring Component</li>
+            <li>Java Concurrency ({@link AtomicLong})</li>
+        </ul>
+
+    </p>
+
+    @see SessionSweeper
+
+    @author Abdullah (Mirliva) GÜNDÜZ - https://github.com/MrMilriva
+
+    @version 1.0
+*/
+@Component
+public class SweepMetrics {
+
+    private final AtomicLong rowsSwept = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong lastBatchMillis = new AtomicLong();
+    private final AtomicLong maxBatchMillis = new AtomicLong();
+    private final AtomicLong batchSize = new AtomicLong();
+    private final AtomicLong backlog = new AtomicLong();
+
+    /**
+     * Records one executed batch.
+     */
+    public void recordBatch(int rows, long millis) {
+        rowsSwept.addAndGet(rows);
+        batches.incrementAndGet();
+        lastBatchMillis.set(millis);
+        maxBatchMillis.accumulateAndGet(millis, Math::max);
+    }
+
+    public void setBatchSize(int size) {
+        batchSize.set(size);
+    }
+
+    public void setBacklog(int rows) {
+        backlog.set(rows);
+    }
+
+    public long getRowsSwept() {
+        return rowsSwept.get();
+    }
+
+    public long getBatches() {
+        return batches.get();
+    }
+
+    public long getLastBatchMillis() {
+        return lastBatchMillis.get();
+    }
+
+    public long getMaxBatchMillis() {
+        return maxBatchMillis.get();
+    }
+
+    public long getBatchSize() {
+        return batchSize.get();
+    }
+
+    public long getBacklog() {
+        return backlog.get();
+    }
+}
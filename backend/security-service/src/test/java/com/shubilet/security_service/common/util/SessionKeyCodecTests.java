@@ -0,0 +1,133 @@
+package com.shubilet.security_service.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.security.SecureRandom;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.shubilet.security_service.common.constants.AppConstants;
+
+// Compares the codec with the generator and regex it replaced, both for the keys they accept and for speed.
+class SessionKeyCodecTests {
+
+	private static final int KEYS = 100_000;
+
+	private static final int OPERATIONS = 200_000;
+
+	@Test
+	void acceptsTheSameKeysAsTheRegexPath() {
+		for (int i = 0; i < KEYS; i++) {
+			assertTrue(SessionKeyCodec.isValid(LegacySessionKeys.generate()), "The codec rejected a legacy key");
+			assertTrue(LegacySessionKeys.isValid(SessionKeyCodec.generate()), "The regex path rejected a codec key");
+		}
+
+		// Changing one character at a time exercises the dash, check digit, alphabet and check sum rules.
+		String characters = AppConstants.ALPHABET + "-_a9 ";
+		Random random = new Random(42);
+		for (int i = 0; i < KEYS; i++) {
+			char[] key = SessionKeyCodec.generate().toCharArray();
+			key[random.nextInt(key.length)] = characters.charAt(random.nextInt(characters.length()));
+			String mutated = new String(key);
+			assertEquals(LegacySessionKeys.isValid(mutated), SessionKeyCodec.isValid(mutated), mutated);
+		}
+		assertEquals(LegacySessionKeys.isValid(null), SessionKeyCodec.isValid(null));
+		assertEquals(LegacySessionKeys.isValid(""), SessionKeyCodec.isValid(""));
+	}
+
+	@Test
+	void generatesAndValidatesFasterThanTheRegexPath() {
+		// The first pass of each warms the JIT up; only the second is timed.
+		regexPath();
+		long regexNanos = regexPath();
+		codecPath();
+		long codecNanos = codecPath();
+
+		System.out.printf("generate + validate: regex path %d ns/op, codec %d ns/op (%.1fx)%n",
+				regexNanos / OPERATIONS, codecNanos / OPERATIONS, (double) regexNanos / codecNanos);
+
+		assertTrue(codecNanos < regexNanos, "The codec was not faster than the regex path");
+	}
+
+	private static long regexPath() {
+		long start = System.nanoTime();
+		for (int i = 0; i < OPERATIONS; i++) {
+			assertTrue(LegacySessionKeys.isValid(LegacySessionKeys.generate()));
+		}
+		return System.nanoTime() - start;
+	}
+
+	private static long codecPath() {
+		long start = System.nanoTime();
+		for (int i = 0; i < OPERATIONS; i++) {
+			assertTrue(SessionKeyCodec.isValid(SessionKeyCodec.generate()));
+		}
+		return System.nanoTime() - start;
+	}
+
+	// SessionKeyGenerator.generate and ValidationUtils.isValidSessionKey as they were before the codec.
+	private static final class LegacySessionKeys {
+
+		private static final SecureRandom RANDOM = new SecureRandom();
+
+		private static final String ALPHABET = AppConstants.ALPHABET;
+
+		private static final int RAW_LENGTH = 32;
+
+		private static final String CC = "[" + ALPHABET + "]";
+
+		private static final String REGEX = "^\\d" + CC + "{3}-" +
+				"\\d" + CC + "{3}-" +
+				CC + "{4}-" +
+				CC + "{4}-" +
+				"\\d" + CC + "{3}-" +
+				CC + "{4}-" +
+				CC + "{4}-" +
+				CC + "{4}$";
+
+		static String generate() {
+			char[] raw = new char[RAW_LENGTH];
+
+			int d1, d5, d17;
+			while (true) {
+				d1 = RANDOM.nextInt(9);
+				d5 = RANDOM.nextInt(9);
+				d17 = 15 - (d1 + d5);
+				if (d17 >= 0 && d17 <= 9) {
+					break;
+				}
+			}
+
+			raw[0] = (char) ('0' + d1);
+			raw[4] = (char) ('0' + d5);
+			raw[16] = (char) ('0' + d17);
+
+			for (int i = 0; i < RAW_LENGTH; i++) {
+				if (i == 0 || i == 4 || i == 16) continue;
+				raw[i] = ALPHABET.charAt(RANDOM.nextInt(ALPHABET.length()));
+			}
+
+			StringBuilder formatted = new StringBuilder();
+			for (int i = 0; i < RAW_LENGTH; i++) {
+				formatted.append(raw[i]);
+				if ((i + 1) % 4 == 0 && i != RAW_LENGTH - 1) {
+					formatted.append('-');
+				}
+			}
+			return formatted.toString();
+		}
+
+		static boolean isValid(String sessionKey) {
+			if (sessionKey == null || !sessionKey.matches(REGEX)) return false;
+
+			int d1 = sessionKey.charAt(0) - '0';
+			int d5 = sessionKey.charAt(5) - '0';
+			int d17 = sessionKey.charAt(20) - '0';
+
+			return d1 + d5 + d17 == 15;
+		}
+	}
+
+}
@@ -30,6 +30,9 @@ CREATE TABLE expeditions (
 
                              company_id INTEGER NOT NULL,
 
+                             -- One bit per seat, set once the seat is booked
+                             booked_seats BYTEA,
+
                              CONSTRAINT fk_expedition_departure_city
                                  FOREIGN KEY (departure_city_id)
                                      REFERENCES cities(id)
@@ -43,6 +46,8 @@ CREATE TABLE expeditions (
 
 -- ============================
 -- Seats
+-- Rows exist only for held or booked seats,
+-- every other seat is implied by the capacity
 -- ============================
 CREATE TABLE seats (
                        id SERIAL PRIMARY KEY,
@@ -51,6 +56,7 @@ CREATE TABLE seats (
                        seat_no INTEGER NOT NULL,
                        customer_id INTEGER,
                        status VARCHAR(50) NOT NULL,
+                       hold_expires_at TIMESTAMPTZ,
 
                        CONSTRAINT fk_seat_expedition
                            FOREIGN KEY (expedition_id)
@@ -61,6 +67,11 @@ CREATE TABLE seats (
                            UNIQUE (expedition_id, seat_no)
 );
 
+-- Lets the hold reaper find expired holds without scanning every seat
+CREATE INDEX idx_seats_hold_expires_at
+    ON seats (hold_expires_at)
+    WHERE status = 'HELD';
+
 -- ============================
 -- Tickets
 -- ============================
@@ -77,3 +88,59 @@ CREATE TABLE tickets (
                                  REFERENCES seats(id)
                                  ON DELETE CASCADE
 );
+
+-- PNRs are derived from this sequence, bounded by the 36^6 code space
+CREATE SEQUENCE ticket_pnr_seq
+    MINVALUE 0
+    MAXVALUE 2176782335
+    START WITH 0
+    NO CYCLE;
+
+-- ============================
+-- Idempotency Keys
+-- ============================
+-- Outcome of ticket purchases by client-supplied key; a NULL pnr means the purchase has not finished
+CREATE TABLE idempotency_keys (
+                                  idempotency_key VARCHAR(64) PRIMARY KEY,
+
+                                  customer_id INTEGER NOT NULL,
+                                  pnr VARCHAR(6),
+                                  created_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+-- Lets the idempotency reaper find expired keys without scanning the whole table
+CREATE INDEX idx_idempotency_keys_created_at
+    ON idempotency_keys (created_at);
+
+CREATE TABLE reservations (
+                              id SERIAL PRIMARY KEY,
+                              request_id VARCHAR(64) NOT NULL UNIQUE,
+                              idempotency_key VARCHAR(64),
+
+                              customer_id INTEGER NOT NULL,
+                              expedition_id INTEGER NOT NULL,
+                              seat_no INTEGER NOT NULL,
+                              -- The hold placed for the purchase: its seat row and its expiry tell it apart from later holds
+                              seat_id INTEGER,
+                              hold_expires_at TIMESTAMPTZ,
+                              card_id INTEGER NOT NULL,
+                              amount NUMERIC(10,2) NOT NULL,
+
+                              state VARCHAR(20) NOT NULL,
+                              payment_id INTEGER,
+                              pnr VARCHAR(6),
+
+                              attempts INTEGER NOT NULL DEFAULT 0,
+                              next_attempt_at TIMESTAMPTZ NOT NULL,
+                              created_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+                              updated_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+
+                              CONSTRAINT fk_reservations_expedition
+                                  FOREIGN KEY (expedition_id)
+                                      REFERENCES expeditions(id)
+);
+
+-- Lets the reservation relay find unfinished reservations without scanning finished ones
+CREATE INDEX idx_reservations_due
+    ON reservations (next_attempt_at)
+    WHERE state IN ('PAYMENT_PENDING', 'REFUND_PENDING');
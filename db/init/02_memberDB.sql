@@ -94,3 +94,22 @@ CREATE TABLE favorite_companies
     CONSTRAINT uq_customer_company_favorite
         UNIQUE (customer_id, company_id)
 );
+
+-- ============================
+-- Member Credentials
+-- ============================
+-- Login credentials of every member type, kept in step with the tables above; a login is a single lookup by email.
+-- The unique email index backs ON CONFLICT (email) in the registration insert and the backfills.
+CREATE TABLE member_credentials
+(
+    id            SERIAL PRIMARY KEY,
+
+    email         VARCHAR(100) NOT NULL UNIQUE,
+    member_type   VARCHAR(16)  NOT NULL,
+    member_id     INTEGER      NOT NULL,
+    password_hash TEXT         NOT NULL,
+    verified      BOOLEAN      NOT NULL,
+
+    CONSTRAINT uk_member_credentials_member
+        UNIQUE (member_type, member_id)
+);
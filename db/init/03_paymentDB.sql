@@ -27,6 +27,10 @@ CREATE TABLE payments
     amount  NUMERIC(10, 2) NOT NULL CHECK (amount >= 0),
     date    TIMESTAMP      NOT NULL DEFAULT CURRENT_TIMESTAMP,
 
+    status     VARCHAR(20) DEFAULT 'SUCCESS',
+    -- X-Request-Id of the charge; retries with the same id are not charged again
+    request_id VARCHAR(64) UNIQUE,
+
     CONSTRAINT fk_payments_card
         FOREIGN KEY (card_id)
             REFERENCES cards (id)
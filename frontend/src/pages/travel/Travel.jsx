@@ -492,7 +492,7 @@ export default function Travel() {
                                                                         key={seat.seatNo}
                                                                         type="button"
                                                                         className={`seat ${seat.status.toLowerCase()} ${selectedSeat === seat.seatNo ? "selected" : ""}`}
-                                                                        disabled={seat.status === "RESERVED"}
+                                                                        disabled={seat.status !== "AVAILABLE"}
                                                                         onClick={() => onSelectSeat(seat.seatNo)}
                                                                     >
                                                                         {seat.seatNo}